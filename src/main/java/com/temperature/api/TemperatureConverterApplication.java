@@ -1,5 +1,6 @@
 package com.temperature.api;
 
+import com.temperature.api.batch.ArchiveConversionCommand;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -10,7 +11,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * - Convertir de Celsius a Fahrenheit
  * - Convertir de Fahrenheit a Celsius
  * 
- * Incluye una interfaz web sencilla para interactuar con la API.
+ * Incluye una interfaz web sencilla para interactuar con la API y un modo de línea
+ * de comandos ({@code convert-archive}) para convertir archivos de lecturas completos.
  * 
  * @author Sistema de Conversión de Temperaturas
  * @version 1.0.0
@@ -20,10 +22,16 @@ public class TemperatureConverterApplication {
 
     /**
      * Método principal que inicia la aplicación Spring Boot.
+     * 
+     * Si el primer argumento es {@code convert-archive} se ejecuta la conversión de
+     * archivos sin arrancar el contexto de Spring ni el servidor web.
      *
      * @param args argumentos de línea de comandos
      */
     public static void main(String[] args) {
+        if (ArchiveConversionCommand.matches(args)) {
+            System.exit(ArchiveConversionCommand.run(args, System.out, System.err));
+        }
         SpringApplication.run(TemperatureConverterApplication.class, args);
     }
 }
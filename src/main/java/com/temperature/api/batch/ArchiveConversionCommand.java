@@ -0,0 +1,111 @@
+package com.temperature.api.batch;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.service.TemperatureConversionService;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Modo de línea de comandos para convertir archivos de lecturas sin arrancar el servidor.
+ *
+ * Uso:
+ * <pre>
+ * java -jar temperature-converter-api.jar convert-archive \
+ *     --input=lecturas.bin --output=convertidas.bin \
+ *     --direction=celsius-to-fahrenheit [--format=binary|text] \
+ *     [--byte-order=little|big] [--threads=N]
+ * </pre>
+ *
+ * Por defecto el formato es binario little-endian y se usa un hilo por procesador.
+ */
+public final class ArchiveConversionCommand {
+
+    /**
+     * Primer argumento que activa este modo.
+     */
+    public static final String NAME = "convert-archive";
+
+    private static final String USAGE = "Uso: " + NAME + " --input=<archivo> --output=<archivo> "
+            + "--direction=celsius-to-fahrenheit|fahrenheit-to-celsius [--format=binary|text] "
+            + "[--byte-order=little|big] [--threads=N]";
+
+    private ArchiveConversionCommand() {
+    }
+
+    /**
+     * Indica si los argumentos solicitan este modo.
+     *
+     * @param args argumentos de línea de comandos
+     * @return {@code true} si el primer argumento es {@value #NAME}
+     */
+    public static boolean matches(String[] args) {
+        return args.length > 0 && NAME.equals(args[0]);
+    }
+
+    /**
+     * Ejecuta la conversión descrita por los argumentos.
+     *
+     * @param args argumentos de línea de comandos (el primero es {@value #NAME})
+     * @param out  salida para el resumen
+     * @param err  salida para los errores
+     * @return código de salida del proceso (0 si la conversión terminó)
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        try {
+            Map<String, String> options = parseOptions(args);
+            Path input = Path.of(required(options, "input"));
+            Path output = Path.of(required(options, "output"));
+            ConversionDirection direction = ConversionDirection.fromString(required(options, "direction"));
+            ArchiveConversionJob.Format format = ArchiveConversionJob.Format.valueOf(
+                    options.getOrDefault("format", "binary").toUpperCase(Locale.ROOT));
+            ByteOrder byteOrder = "big".equalsIgnoreCase(options.get("byte-order"))
+                    ? ByteOrder.BIG_ENDIAN
+                    : ByteOrder.LITTLE_ENDIAN;
+            int threads = Integer.parseInt(options.getOrDefault("threads",
+                    String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+            ArchiveConversionJob job = new ArchiveConversionJob(new TemperatureConversionService(), threads);
+            ArchiveConversionJob.Result result = job.convert(input, output, direction, format, byteOrder);
+
+            double seconds = result.elapsedNanos() / 1e9;
+            out.printf(Locale.ROOT, "%d registros (%d inválidos) en %.3f s: %.0f registros/s, %.1f MB/s de entrada%n",
+                    result.records(), result.invalid(), seconds,
+                    result.records() / seconds, result.bytesRead() / seconds / (1024 * 1024));
+            return 0;
+        } catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            err.println(USAGE);
+            return 2;
+        } catch (IOException ex) {
+            err.println("Error de E/S: " + ex.getMessage());
+            return 1;
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Argumento no reconocido: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Falta el argumento --" + name);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,397 @@
+package com.temperature.api.batch;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.service.TemperatureConversionService;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Conversión de archivos de lecturas completos sin pasar por la API HTTP.
+ *
+ * El archivo de entrada se proyecta en memoria ({@link FileChannel#map}) por tramos de
+ * registros y cada tramo se convierte en un hilo distinto, escribiendo directamente en
+ * la región equivalente del archivo de salida, también proyectado. Como todos los
+ * registros tienen el mismo tamaño, la posición de cada resultado se calcula sin
+ * coordinación entre hilos. Cada tramo se convierte por bloques de {@value #BLOCK_SIZE}
+ * valores con {@link TemperatureConversionService#convertArray} (vectorial si está
+ * disponible), sin crear objetos por valor.
+ *
+ * Formatos admitidos:
+ * - {@link Format#BINARY}: doubles IEEE 754 consecutivos (8 bytes por valor); la salida
+ *   usa el mismo orden de bytes y escribe NaN en los valores inválidos.
+ * - {@link Format#TEXT}: una lectura por línea, todas las líneas con el mismo ancho
+ *   (alineadas con espacios); la salida usa líneas de ancho fijo con 2 decimales y
+ *   {@code NaN} en los valores inválidos o ilegibles.
+ *
+ * Los resultados son idénticos a los de {@link TemperatureConversionService}: se aplican
+ * la misma validación y el mismo redondeo.
+ */
+public class ArchiveConversionJob {
+
+    /**
+     * Tamaño máximo de cada tramo proyectado en memoria.
+     */
+    static final int DEFAULT_CHUNK_BYTES = 64 * 1024 * 1024;
+
+    /**
+     * Valores convertidos por cada llamada a {@link TemperatureConversionService#convertArray}.
+     */
+    static final int BLOCK_SIZE = 4096;
+
+    /**
+     * Ancho mínimo de las líneas de salida en texto: el resultado más largo posible
+     * ({@code 18032.00}) más el salto de línea.
+     */
+    static final int MIN_TEXT_OUTPUT_WIDTH = 9;
+
+    /**
+     * Ancho máximo de línea admitido en la entrada de texto.
+     */
+    static final int MAX_TEXT_WIDTH = 64;
+
+    private static final byte[] NAN_TEXT = "NaN".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Potencias de 10 representables exactamente como double.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Formato de los registros del archivo.
+     */
+    public enum Format {
+        BINARY,
+        TEXT
+    }
+
+    /**
+     * Resumen de una conversión.
+     *
+     * @param records      registros procesados
+     * @param invalid      registros inválidos (escritos como NaN)
+     * @param bytesRead    bytes leídos de la entrada
+     * @param bytesWritten bytes escritos en la salida
+     * @param elapsedNanos duración total
+     */
+    public record Result(long records, long invalid, long bytesRead, long bytesWritten, long elapsedNanos) {
+    }
+
+    private final TemperatureConversionService conversionService;
+    private final int threads;
+    private final int chunkBytes;
+
+    /**
+     * Crea el trabajo con el número de hilos indicado.
+     *
+     * @param conversionService servicio de conversión de temperaturas
+     * @param threads           hilos de conversión
+     */
+    public ArchiveConversionJob(TemperatureConversionService conversionService, int threads) {
+        this(conversionService, threads, DEFAULT_CHUNK_BYTES);
+    }
+
+    ArchiveConversionJob(TemperatureConversionService conversionService, int threads, int chunkBytes) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("El número de hilos debe ser al menos 1");
+        }
+        this.conversionService = conversionService;
+        this.threads = threads;
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * Convierte el archivo de entrada y escribe el resultado en el de salida.
+     *
+     * @param input     archivo de entrada
+     * @param output    archivo de salida (se crea o se sobrescribe)
+     * @param direction sentido de la conversión
+     * @param format    formato de los registros
+     * @param byteOrder orden de bytes de los doubles en formato binario
+     * @return resumen de la conversión
+     * @throws IOException              si falla la lectura o la escritura
+     * @throws IllegalArgumentException si el tamaño del archivo no encaja con el formato
+     */
+    public Result convert(Path input, Path output, ConversionDirection direction, Format format,
+                          ByteOrder byteOrder) throws IOException {
+        long start = System.nanoTime();
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long inputSize = in.size();
+            Layout layout = format == Format.BINARY
+                    ? binaryLayout(inputSize)
+                    : textLayout(in, inputSize);
+            long outputSize = layout.records() * layout.outputWidth();
+
+            try (RandomAccessFile file = new RandomAccessFile(output.toFile(), "rw")) {
+                file.setLength(outputSize);
+            }
+
+            long invalid;
+            try (FileChannel out = FileChannel.open(output, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                invalid = convertChunks(in, inputSize, out, layout, direction, byteOrder);
+            }
+            return new Result(layout.records(), invalid, inputSize, outputSize, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Reparte los registros en tramos y los convierte en paralelo.
+     */
+    private long convertChunks(FileChannel in, long inputSize, FileChannel out, Layout layout,
+                               ConversionDirection direction, ByteOrder byteOrder) throws IOException {
+        long recordsPerChunk = Math.max(1, chunkBytes / Math.max(layout.inputWidth(), layout.outputWidth()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> chunks = new ArrayList<>();
+            for (long first = 0; first < layout.records(); first += recordsPerChunk) {
+                long from = first;
+                long to = Math.min(layout.records(), first + recordsPerChunk);
+                chunks.add(executor.submit(() -> convertChunk(in, inputSize, out, layout, direction, byteOrder, from, to)));
+            }
+
+            long invalid = 0;
+            for (Future<Long> chunk : chunks) {
+                invalid += chunk.get();
+            }
+            return invalid;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Conversión interrumpida", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Convierte los registros {@code [from, to)} y devuelve cuántos fueron inválidos.
+     */
+    private long convertChunk(FileChannel in, long inputSize, FileChannel out, Layout layout,
+                              ConversionDirection direction, ByteOrder byteOrder,
+                              long from, long to) throws IOException {
+        long inputOffset = from * layout.inputWidth();
+        long inputLength = Math.min(inputSize - inputOffset, (to - from) * layout.inputWidth());
+        MappedByteBuffer source = in.map(FileChannel.MapMode.READ_ONLY, inputOffset, inputLength);
+        MappedByteBuffer target = out.map(FileChannel.MapMode.READ_WRITE,
+                from * layout.outputWidth(), (to - from) * layout.outputWidth());
+
+        int count = (int) (to - from);
+        double[] values = new double[Math.min(count, BLOCK_SIZE)];
+        double[] results = new double[values.length];
+        long invalid = 0;
+
+        if (layout.format() == Format.BINARY) {
+            DoubleBuffer sourceValues = source.order(byteOrder).asDoubleBuffer();
+            DoubleBuffer targetValues = target.order(byteOrder).asDoubleBuffer();
+            for (int first = 0; first < count; first += values.length) {
+                int length = Math.min(values.length, count - first);
+                sourceValues.get(first, values, 0, length);
+                invalid += conversionService.convertArray(direction, values, results, length);
+                targetValues.put(first, results, 0, length);
+            }
+        } else {
+            int inputWidth = layout.inputWidth();
+            int outputWidth = layout.outputWidth();
+            int limit = source.limit();
+            for (int first = 0; first < count; first += values.length) {
+                int length = Math.min(values.length, count - first);
+                for (int i = 0; i < length; i++) {
+                    int offset = (first + i) * inputWidth;
+                    values[i] = parseFixedWidth(source, offset, Math.min(offset + inputWidth, limit));
+                }
+                invalid += conversionService.convertArray(direction, values, results, length);
+                for (int i = 0; i < length; i++) {
+                    writeFixedWidth(target, (first + i) * outputWidth, outputWidth, results[i]);
+                }
+            }
+        }
+
+        target.force();
+        return invalid;
+    }
+
+    private static Layout binaryLayout(long inputSize) {
+        if (inputSize % Double.BYTES != 0) {
+            throw new IllegalArgumentException(String.format(
+                    "El archivo binario debe contener un número entero de doubles (%d bytes)", inputSize));
+        }
+        return new Layout(Format.BINARY, inputSize / Double.BYTES, Double.BYTES, Double.BYTES);
+    }
+
+    /**
+     * Deduce el ancho de línea a partir de la primera línea del archivo.
+     */
+    private static Layout textLayout(FileChannel in, long inputSize) throws IOException {
+        if (inputSize == 0) {
+            return new Layout(Format.TEXT, 0, 1, MIN_TEXT_OUTPUT_WIDTH);
+        }
+
+        MappedByteBuffer head = in.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(inputSize, MAX_TEXT_WIDTH));
+        int width = -1;
+        for (int i = 0; i < head.limit(); i++) {
+            if (head.get(i) == '\n') {
+                width = i + 1;
+                break;
+            }
+        }
+        if (width < 0) {
+            if (inputSize >= MAX_TEXT_WIDTH) {
+                throw new IllegalArgumentException(String.format(
+                        "La primera línea supera el ancho máximo de %d bytes", MAX_TEXT_WIDTH));
+            }
+            // Una sola línea sin salto final
+            width = (int) inputSize + 1;
+        }
+
+        // Se admite que la última línea no termine en salto de línea
+        long remainder = inputSize % width;
+        if (remainder != 0 && remainder != width - 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Todas las líneas deben tener %d bytes (incluido el salto de línea)", width));
+        }
+        long records = (inputSize + width - 1) / width;
+        return new Layout(Format.TEXT, records, width, Math.max(width, MIN_TEXT_OUTPUT_WIDTH));
+    }
+
+    /**
+     * Lee un número decimal ASCII del rango {@code [start, end)} ignorando espacios y saltos de línea.
+     *
+     * Los valores con hasta 15 dígitos significativos se calculan con una única división
+     * exacta, que da el mismo double que {@link Double#parseDouble}; el resto de formas
+     * (exponentes, NaN, demasiados dígitos) se delegan en él.
+     *
+     * @return el valor leído, o NaN si la línea está vacía o no es un número
+     */
+    static double parseFixedWidth(ByteBuffer buffer, int start, int end) {
+        while (start < end && isBlank(buffer.get(start))) {
+            start++;
+        }
+        while (end > start && isBlank(buffer.get(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return Double.NaN;
+        }
+
+        int position = start;
+        boolean negative = false;
+        byte first = buffer.get(position);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            position++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; position < end; position++) {
+            byte current = buffer.get(position);
+            if (current >= '0' && current <= '9') {
+                mantissa = mantissa * 10 + (current - '0');
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (current == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                break;
+            }
+        }
+
+        if (position == end && digits > 0 && digits <= 15 && scale < POWERS_OF_TEN.length) {
+            double value = mantissa / POWERS_OF_TEN[Math.max(scale, 0)];
+            return negative ? -value : value;
+        }
+        return parseSlow(buffer, start, end);
+    }
+
+    private static double parseSlow(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        try {
+            return Double.parseDouble(new String(bytes, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException ex) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Escribe un valor con 2 decimales alineado a la derecha en {@code width - 1} bytes,
+     * seguido de un salto de línea.
+     */
+    static void writeFixedWidth(ByteBuffer buffer, int offset, int width, double value) {
+        int position = offset + width - 1;
+        buffer.put(position--, (byte) '\n');
+
+        if (Double.isNaN(value)) {
+            for (int i = NAN_TEXT.length - 1; i >= 0; i--) {
+                buffer.put(position--, NAN_TEXT[i]);
+            }
+        } else {
+            // Los resultados ya están redondeados a 2 decimales
+            long hundredths = Math.round(value * 100.0);
+            boolean negative = hundredths < 0;
+            long remaining = Math.abs(hundredths);
+            int length = Math.max(3, digitCount(remaining)) + 1 + (negative ? 1 : 0);
+            if (length > width - 1) {
+                throw new IllegalStateException("El valor " + value + " no cabe en " + (width - 1) + " caracteres");
+            }
+            for (int digit = 0; digit < 3 || remaining > 0; digit++) {
+                if (digit == 2) {
+                    buffer.put(position--, (byte) '.');
+                }
+                buffer.put(position--, (byte) ('0' + remaining % 10));
+                remaining /= 10;
+            }
+            if (negative) {
+                buffer.put(position--, (byte) '-');
+            }
+        }
+
+        while (position >= offset) {
+            buffer.put(position--, (byte) ' ');
+        }
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private static boolean isBlank(byte value) {
+        return value == ' ' || value == '\t' || value == '\r' || value == '\n';
+    }
+
+    /**
+     * Geometría de los registros de entrada y salida.
+     */
+    private record Layout(Format format, long records, int inputWidth, int outputWidth) {
+    }
+}
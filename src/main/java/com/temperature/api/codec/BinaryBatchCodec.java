@@ -0,0 +1,184 @@
+package com.temperature.api.codec;
+
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.service.TemperatureConversionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Formato binario columnar para conversiones por lotes.
+ *
+ * Evita el coste de leer y escribir números en JSON: los valores viajan como
+ * {@code double} IEEE 754 little-endian y se convierten directamente del cuerpo de la
+ * petición al de la respuesta con {@link TemperatureConversionService#convertLittleEndian},
+ * sin copias intermedias.
+ *
+ * Petición ({@value #REQUEST_HEADER_SIZE} bytes de cabecera):
+ * <pre>
+ * offset 0  byte    versión ({@value #VERSION})
+ * offset 1  byte    sentido: ordinal de {@link ConversionDirection}
+ *                   (0 = celsius-to-fahrenheit, 1 = fahrenheit-to-celsius, 2 = celsius-to-kelvin, ...)
+ * offset 2  short   reservado (0)
+ * offset 4  int     número de valores (n)
+ * offset 8  double  valores[n]
+ * </pre>
+ *
+ * Respuesta ({@value #RESPONSE_HEADER_SIZE} bytes de cabecera):
+ * <pre>
+ * offset 0   byte    versión
+ * offset 1   byte    sentido
+ * offset 2   short   reservado (0)
+ * offset 4   int     número de valores (n)
+ * offset 8   int     número de valores inválidos
+ * offset 12  int     reservado (0)
+ * offset 16  double  resultados[n] (NaN en las posiciones inválidas)
+ * ...        byte    mapa de bits de inválidos, ceil(n / 8) bytes, bit (i % 8) del byte i / 8
+ * </pre>
+ */
+@Component
+public class BinaryBatchCodec {
+
+    public static final byte VERSION = 1;
+
+    public static final int REQUEST_HEADER_SIZE = 8;
+
+    public static final int RESPONSE_HEADER_SIZE = 16;
+
+    /**
+     * Código de error para cuerpos binarios mal formados.
+     */
+    public static final String INVALID_BINARY_BATCH = "INVALID_BINARY_BATCH";
+
+    private static final VarHandle DOUBLE_LE =
+            MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final VarHandle INT_LE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final TemperatureConversionService conversionService;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param conversionService servicio de conversión de temperaturas
+     */
+    @Autowired
+    public BinaryBatchCodec(TemperatureConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
+    /**
+     * Convierte un lote binario y devuelve la respuesta binaria.
+     *
+     * @param request  cuerpo de la petición
+     * @param maxCount número máximo de valores admitidos
+     * @return cuerpo de la respuesta
+     * @throws TemperatureConversionException si el cuerpo está mal formado o excede el máximo
+     */
+    public byte[] convert(byte[] request, int maxCount) {
+        if (request.length < REQUEST_HEADER_SIZE || request[0] != VERSION) {
+            throw invalid("Cabecera binaria ausente o versión no soportada");
+        }
+        ConversionDirection direction = directionOf(request[1]);
+        int count = (int) INT_LE.get(request, 4);
+        if (count < 0 || (long) request.length != REQUEST_HEADER_SIZE + (long) count * Double.BYTES) {
+            throw invalid(String.format("El cuerpo debe contener %d bytes de cabecera y 8 bytes por valor",
+                    REQUEST_HEADER_SIZE));
+        }
+        if (count > maxCount) {
+            throw new TemperatureConversionException(
+                    String.format("El lote contiene %d valores y el máximo permitido es %d", count, maxCount),
+                    "BATCH_TOO_LARGE", count, maxCount);
+        }
+
+        int bitmapOffset = RESPONSE_HEADER_SIZE + count * Double.BYTES;
+        byte[] response = new byte[bitmapOffset + bitmapSize(count)];
+        int invalid = conversionService.convertLittleEndian(direction, request, REQUEST_HEADER_SIZE,
+                response, RESPONSE_HEADER_SIZE, count);
+        if (invalid > 0) {
+            for (int i = 0, offset = RESPONSE_HEADER_SIZE; i < count; i++, offset += Double.BYTES) {
+                // Un resultado válido nunca es NaN
+                if (Double.isNaN((double) DOUBLE_LE.get(response, offset))) {
+                    response[bitmapOffset + (i >>> 3)] |= (byte) (1 << (i & 7));
+                }
+            }
+        }
+
+        response[0] = VERSION;
+        response[1] = request[1];
+        INT_LE.set(response, 4, count);
+        INT_LE.set(response, 8, invalid);
+        return response;
+    }
+
+    /**
+     * Codifica una petición binaria (útil para clientes y pruebas).
+     *
+     * @param direction sentido de la conversión
+     * @param values    valores a convertir
+     * @return cuerpo de la petición
+     */
+    public static byte[] encodeRequest(ConversionDirection direction, double[] values) {
+        byte[] request = new byte[REQUEST_HEADER_SIZE + values.length * Double.BYTES];
+        request[0] = VERSION;
+        request[1] = (byte) direction.ordinal();
+        INT_LE.set(request, 4, values.length);
+        for (int i = 0, offset = REQUEST_HEADER_SIZE; i < values.length; i++, offset += Double.BYTES) {
+            DOUBLE_LE.set(request, offset, values[i]);
+        }
+        return request;
+    }
+
+    /**
+     * Decodifica una respuesta binaria (útil para clientes y pruebas).
+     *
+     * @param response cuerpo de la respuesta
+     * @return resultados y posiciones inválidas
+     */
+    public static DecodedBatch decodeResponse(byte[] response) {
+        ConversionDirection direction = directionOf(response[1]);
+        int count = (int) INT_LE.get(response, 4);
+        double[] values = new double[count];
+        for (int i = 0, offset = RESPONSE_HEADER_SIZE; i < count; i++, offset += Double.BYTES) {
+            values[i] = (double) DOUBLE_LE.get(response, offset);
+        }
+
+        int bitmapOffset = RESPONSE_HEADER_SIZE + count * Double.BYTES;
+        BitSet invalid = BitSet.valueOf(Arrays.copyOfRange(response, bitmapOffset,
+                bitmapOffset + bitmapSize(count)));
+        return new DecodedBatch(direction, values, invalid);
+    }
+
+    private static int bitmapSize(int count) {
+        return (count + 7) >>> 3;
+    }
+
+    private static ConversionDirection directionOf(byte code) {
+        ConversionDirection[] directions = ConversionDirection.values();
+        if (code < 0 || code >= directions.length) {
+            throw invalid("Sentido de conversión desconocido: " + code);
+        }
+        return directions[code];
+    }
+
+    private static TemperatureConversionException invalid(String message) {
+        return new TemperatureConversionException(message, INVALID_BINARY_BATCH);
+    }
+
+    /**
+     * Respuesta binaria decodificada.
+     *
+     * @param direction sentido de la conversión
+     * @param values    resultados (NaN en las posiciones inválidas)
+     * @param invalid   posiciones con valores inválidos
+     */
+    public record DecodedBatch(ConversionDirection direction, double[] values, BitSet invalid) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.temperature.api.codec;
+
+import com.temperature.api.model.TemperatureConversionResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Escribe las respuestas de conversión con {@link ConversionResponseJsonWriter} en lugar
+ * de Jackson.
+ *
+ * Spring Boot coloca los beans {@code HttpMessageConverter} por delante de los
+ * convertidores por defecto, así que este se elige para {@code application/json} y el
+ * resto de tipos siguen usando Jackson. Solo escribe: los cuerpos de entrada se leen como
+ * hasta ahora.
+ */
+@Component
+public class ConversionResponseHttpMessageConverter
+        extends AbstractHttpMessageConverter<TemperatureConversionResponse> {
+
+    public ConversionResponseHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TemperatureConversionResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected TemperatureConversionResponse readInternal(Class<? extends TemperatureConversionResponse> clazz,
+                                                         HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Conversor de solo escritura", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(TemperatureConversionResponse response, HttpOutputMessage outputMessage)
+            throws IOException {
+        outputMessage.getBody().write(ConversionResponseJsonWriter.write(response));
+    }
+}
@@ -0,0 +1,280 @@
+package com.temperature.api.codec;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.model.TemperatureConversionResponse;
+import com.temperature.api.model.TemperatureUnit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Serializador JSON escrito a mano para {@link TemperatureConversionResponse}.
+ *
+ * Produce exactamente los mismos bytes que el {@code ObjectMapper} de la aplicación
+ * ({@code default-property-inclusion: non_null}): mismos campos en el mismo orden,
+ * los nulos se omiten y los números con el formato de {@link Double#toString(double)}.
+ * A diferencia de Jackson no usa reflexión ni crea objetos intermedios:
+ * <ul>
+ *   <li>los nombres de campo, unidades y fórmulas conocidas se codifican a UTF-8 una sola vez;</li>
+ *   <li>los números se escriben dígito a dígito sobre el buffer con {@link DoubleFormatter},
+ *       sin pasar por un {@code String}.</li>
+ * </ul>
+ * En Java 17 y 18 {@code Double.toString} emite a veces un dígito de más; en esos casos
+ * aislados la salida es el decimal más corto (el mismo que escribe Jackson desde Java 19).
+ */
+public final class ConversionResponseJsonWriter {
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] ORIGINAL_VALUE = fieldName("originalValue");
+    private static final byte[] ORIGINAL_UNIT = fieldName("originalUnit");
+    private static final byte[] CONVERTED_VALUE = fieldName("convertedValue");
+    private static final byte[] CONVERTED_UNIT = fieldName("convertedUnit");
+    private static final byte[] FORMULA = fieldName("formula");
+    private static final byte[] TIMESTAMP = fieldName("timestamp");
+
+    /**
+     * Cadenas habituales (nombres de unidad y fórmulas) ya escapadas y codificadas.
+     */
+    private static final String[] KNOWN_STRINGS;
+    private static final byte[][] KNOWN_STRING_BYTES;
+
+    static {
+        TemperatureUnit[] units = TemperatureUnit.values();
+        ConversionDirection[] directions = ConversionDirection.values();
+        KNOWN_STRINGS = new String[units.length + directions.length];
+        for (int i = 0; i < units.length; i++) {
+            KNOWN_STRINGS[i] = units[i].getDisplayName();
+        }
+        for (int i = 0; i < directions.length; i++) {
+            KNOWN_STRINGS[units.length + i] = directions[i].getFormula();
+        }
+        KNOWN_STRING_BYTES = new byte[KNOWN_STRINGS.length][];
+        for (int i = 0; i < KNOWN_STRINGS.length; i++) {
+            KNOWN_STRING_BYTES[i] = quote(KNOWN_STRINGS[i]);
+        }
+    }
+
+    /**
+     * Límite superior del camino rápido: a partir de 10^7 {@link Double#toString(double)}
+     * usa notación científica.
+     */
+    private static final double PLAIN_NOTATION_LIMIT = 1e7;
+
+    /**
+     * Tamaño inicial del buffer; suficiente para cualquier respuesta de conversión.
+     */
+    private static final int INITIAL_CAPACITY = 160;
+
+    /**
+     * Byte que cierra el objeto JSON (lo que sigue al timestamp).
+     */
+    public static final byte OBJECT_END = '}';
+
+    private ConversionResponseJsonWriter() {
+    }
+
+    /**
+     * Serializa la respuesta completa.
+     *
+     * @param response respuesta de conversión
+     * @return cuerpo JSON en UTF-8
+     */
+    public static byte[] write(TemperatureConversionResponse response) {
+        Output output = writeFields(response);
+        output.writeLong(response.getTimestamp());
+        output.write(OBJECT_END);
+        return output.toByteArray();
+    }
+
+    /**
+     * Serializa la respuesta hasta el valor del timestamp, sin incluirlo.
+     *
+     * El cuerpo completo es el prefijo, el timestamp y {@link #OBJECT_END}; así la caché
+     * de respuestas puede insertar la hora actual sin volver a serializar.
+     *
+     * @param response respuesta de conversión
+     * @return bytes anteriores al valor del timestamp
+     */
+    public static byte[] writePrefix(TemperatureConversionResponse response) {
+        return writeFields(response).toByteArray();
+    }
+
+    private static Output writeFields(TemperatureConversionResponse response) {
+        Output output = new Output(INITIAL_CAPACITY);
+        output.write((byte) '{');
+        writeNumberField(output, ORIGINAL_VALUE, response.getOriginalValue());
+        writeStringField(output, ORIGINAL_UNIT, response.getOriginalUnit());
+        writeNumberField(output, CONVERTED_VALUE, response.getConvertedValue());
+        writeStringField(output, CONVERTED_UNIT, response.getConvertedUnit());
+        writeStringField(output, FORMULA, response.getFormula());
+        // El timestamp es primitivo, por lo que siempre se incluye
+        writeFieldName(output, TIMESTAMP);
+        return output;
+    }
+
+    private static void writeNumberField(Output output, byte[] name, Double value) {
+        if (value != null) {
+            writeFieldName(output, name);
+            writeDouble(output, value);
+        }
+    }
+
+    private static void writeStringField(Output output, byte[] name, String value) {
+        if (value != null) {
+            writeFieldName(output, name);
+            output.write(encodedString(value));
+        }
+    }
+
+    private static void writeFieldName(Output output, byte[] name) {
+        if (output.size > 1) {
+            output.write((byte) ',');
+        }
+        output.write(name);
+    }
+
+    /**
+     * Escribe el número con el texto de {@link Double#toString(double)}.
+     *
+     * Si el valor es exactamente el double más cercano a un decimal con como mucho
+     * 2 decimales, ese decimal es el más corto que lo identifica y se escribe desde las
+     * centésimas; el resto pasa por el formateador general de {@link DoubleFormatter}.
+     */
+    static void writeDouble(Output output, double value) {
+        output.ensureCapacity(DoubleFormatter.MAX_LENGTH + 2);
+        double magnitude = Math.abs(value);
+        if (magnitude < PLAIN_NOTATION_LIMIT && value != 0.0) {
+            long hundredths = Math.round(magnitude * 100);
+            if (hundredths / 100.0 == magnitude) {
+                output.size = DoubleFormatter.writeHundredths(value < 0 ? -hundredths : hundredths,
+                        output.buffer, output.size);
+                return;
+            }
+        }
+        if (Double.isFinite(value)) {
+            output.size = DoubleFormatter.writeShortest(value, output.buffer, output.size);
+        } else {
+            // Jackson escribe NaN e infinitos como cadenas (QUOTE_NON_NUMERIC_NUMBERS)
+            output.buffer[output.size++] = '"';
+            output.size = DoubleFormatter.writeShortest(value, output.buffer, output.size);
+            output.buffer[output.size++] = '"';
+        }
+    }
+
+    private static byte[] encodedString(String value) {
+        for (int i = 0; i < KNOWN_STRINGS.length; i++) {
+            if (KNOWN_STRINGS[i] == value) {
+                return KNOWN_STRING_BYTES[i];
+            }
+        }
+        for (int i = 0; i < KNOWN_STRINGS.length; i++) {
+            if (KNOWN_STRINGS[i].equals(value)) {
+                return KNOWN_STRING_BYTES[i];
+            }
+        }
+        return quote(value);
+    }
+
+    private static byte[] fieldName(String name) {
+        byte[] quoted = quote(name);
+        byte[] field = Arrays.copyOf(quoted, quoted.length + 1);
+        field[quoted.length] = ':';
+        return field;
+    }
+
+    /**
+     * Codifica la cadena entre comillas con las reglas de escape de Jackson: comillas,
+     * barra invertida, caracteres de control y sustitutos UTF-16; el resto se emite en
+     * UTF-8 sin escapar.
+     */
+    static byte[] quote(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\b' -> escaped.append("\\b");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\f' -> escaped.append("\\f");
+                case '\r' -> escaped.append("\\r");
+                default -> {
+                    if (c < 0x20 || Character.isSurrogate(c)) {
+                        // Jackson escapa también los pares sustitutos en lugar de combinarlos
+                        escaped.append("\\u");
+                        for (int shift = 12; shift >= 0; shift -= 4) {
+                            escaped.append((char) HEX[(c >> shift) & 0xF]);
+                        }
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.append('"').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Buffer de bytes ampliable sin sincronización.
+     */
+    static final class Output {
+
+        private byte[] buffer;
+        private int size;
+
+        Output(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        void write(byte value) {
+            ensureCapacity(1);
+            buffer[size++] = value;
+        }
+
+        void write(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeAscii(String value) {
+            ensureCapacity(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                buffer[size++] = (byte) value.charAt(i);
+            }
+        }
+
+        void writeLong(long value) {
+            if (value == Long.MIN_VALUE) {
+                writeAscii(Long.toString(value));
+                return;
+            }
+            if (value < 0) {
+                write((byte) '-');
+                value = -value;
+            }
+            int digits = 1;
+            for (long remaining = value / 10; remaining > 0; remaining /= 10) {
+                digits++;
+            }
+            ensureCapacity(digits);
+            for (int position = size + digits - 1; position >= size; position--) {
+                buffer[position] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            size += digits;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+}
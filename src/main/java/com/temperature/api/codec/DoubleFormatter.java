@@ -0,0 +1,299 @@
+package com.temperature.api.codec;
+
+import java.math.BigInteger;
+
+/**
+ * Escritura de {@code double} en ASCII directamente sobre un {@code byte[]}.
+ *
+ * Dos caminos:
+ * <ul>
+ *   <li>{@link #writeHundredths}: valores en centésimas (los resultados de conversión, con
+ *       {@code DECIMAL_PRECISION = 2}) a partir de un {@code long} escalado;</li>
+ *   <li>{@link #writeShortest}: cualquier {@code double} con el decimal más corto que lo
+ *       identifica (algoritmo Schubfach de R. Giulietti), con el formato de
+ *       {@link Double#toString(double)}.</li>
+ * </ul>
+ * Desde Java 19 {@code Double.toString} usa este mismo algoritmo, así que la salida coincide
+ * carácter a carácter; en versiones anteriores {@code Double.toString} puede emitir algún
+ * dígito de más en casos aislados y aquí se emite el valor más corto, que se lee igual.
+ */
+final class DoubleFormatter {
+
+    /**
+     * Máximo de bytes que escribe cualquiera de los métodos.
+     */
+    static final int MAX_LENGTH = 24;
+
+    private static final int PRECISION = 53;
+    private static final int MIN_EXPONENT = -1074;
+    private static final long HIDDEN_BIT = 1L << (PRECISION - 1);
+    private static final long SIGNIFICAND_MASK = HIDDEN_BIT - 1;
+    private static final int EXPONENT_MASK = 0x7FF;
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    /**
+     * Menor significando subnormal que no necesita un dígito extra de precisión.
+     */
+    private static final long MIN_FULL_SUBNORMAL = 3;
+
+    /**
+     * Rango de exponentes decimales de la tabla de potencias de 10.
+     */
+    private static final int MIN_K = -324;
+    private static final int MAX_K = 292;
+
+    /**
+     * {@code g = floor(10^-k × 2^-r) + 1} con {@code 2^125 <= g < 2^126}, partido en los
+     * 63 bits altos y los 63 bits bajos.
+     */
+    private static final long[] G_HIGH = new long[MAX_K - MIN_K + 1];
+    private static final long[] G_LOW = new long[G_HIGH.length];
+
+    static {
+        BigInteger ten = BigInteger.TEN;
+        for (int k = MIN_K; k <= MAX_K; k++) {
+            int r = floorLog2Pow10(-k) - 125;
+            // floor(10^-k / 2^r) calculado de forma exacta según el signo de cada exponente
+            BigInteger numerator = -k >= 0 ? ten.pow(-k) : BigInteger.ONE;
+            BigInteger denominator = -k >= 0 ? BigInteger.ONE : ten.pow(k);
+            if (r >= 0) {
+                denominator = denominator.shiftLeft(r);
+            } else {
+                numerator = numerator.shiftLeft(-r);
+            }
+            BigInteger g = numerator.divide(denominator).add(BigInteger.ONE);
+            G_HIGH[k - MIN_K] = g.shiftRight(63).longValue();
+            G_LOW[k - MIN_K] = g.longValue() & MASK_63;
+        }
+    }
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        long power = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    private DoubleFormatter() {
+    }
+
+    /**
+     * Escribe {@code hundredths / 100} como lo haría {@link Double#toString(double)}: al menos
+     * un decimal y sin ceros finales ({@code 7700 -> 77.0}, {@code 7705 -> 77.05}).
+     *
+     * Solo es válido en notación normal, es decir, si el valor absoluto está en [10^-3, 10^7)
+     * o es cero positivo.
+     *
+     * @param hundredths valor escalado por 100
+     * @param buffer     destino
+     * @param position   posición de escritura
+     * @return posición siguiente al último byte escrito
+     */
+    static int writeHundredths(long hundredths, byte[] buffer, int position) {
+        if (hundredths < 0) {
+            buffer[position++] = '-';
+            hundredths = -hundredths;
+        }
+        position = writeDigits(hundredths / 100, buffer, position);
+        buffer[position++] = '.';
+        int fraction = (int) (hundredths % 100);
+        buffer[position++] = (byte) ('0' + fraction / 10);
+        if (fraction % 10 != 0) {
+            buffer[position++] = (byte) ('0' + fraction % 10);
+        }
+        return position;
+    }
+
+    /**
+     * Escribe el decimal más corto que vuelve a leerse como {@code value}, con el formato
+     * de {@link Double#toString(double)} (notación científica fuera de [10^-3, 10^7)).
+     *
+     * @param value    valor a escribir
+     * @param buffer   destino (al menos {@link #MAX_LENGTH} bytes libres)
+     * @param position posición de escritura
+     * @return posición siguiente al último byte escrito
+     */
+    static int writeShortest(double value, byte[] buffer, int position) {
+        long bits = Double.doubleToRawLongBits(value);
+        long t = bits & SIGNIFICAND_MASK;
+        int biasedExponent = (int) (bits >>> (PRECISION - 1)) & EXPONENT_MASK;
+
+        if (biasedExponent == EXPONENT_MASK) {
+            return writeAscii(t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity", buffer, position);
+        }
+        if (bits < 0) {
+            buffer[position++] = '-';
+        }
+        if (biasedExponent != 0) {
+            int mq = -MIN_EXPONENT + 1 - biasedExponent;
+            long c = HIDDEN_BIT | t;
+            // Enteros exactos menores que 2^53: sus dígitos ya son la representación más corta
+            if (0 < mq && mq < PRECISION) {
+                long integer = c >> mq;
+                if (integer << mq == c) {
+                    return writeDecimal(integer, 0, buffer, position);
+                }
+            }
+            return toDecimal(-mq, c, 0, buffer, position);
+        }
+        if (t != 0) {
+            return t < MIN_FULL_SUBNORMAL
+                    ? toDecimal(MIN_EXPONENT, 10 * t, -1, buffer, position)
+                    : toDecimal(MIN_EXPONENT, t, 0, buffer, position);
+        }
+        return writeAscii("0.0", buffer, position);
+    }
+
+    /**
+     * Núcleo de Schubfach para {@code c × 2^q}: elige el decimal más corto dentro del
+     * intervalo de redondeo y, si hay varios, el más cercano (empates a par).
+     */
+    private static int toDecimal(int q, long c, int dk, byte[] buffer, int position) {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        // El intervalo es asimétrico cuando c es potencia de 2 (salvo en el mínimo exponente)
+        if (c != HIDDEN_BIT || q == MIN_EXPONENT) {
+            cbl = cb - 2;
+            k = floorLog10Pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = floorLog10ThreeQuartersPow2(q);
+        }
+        int h = q + floorLog2Pow10(-k) + 2;
+
+        long gHigh = G_HIGH[k - MIN_K];
+        long gLow = G_LOW[k - MIN_K];
+
+        long vb = roundToOdd(gHigh, gLow, cb << h);
+        long vbl = roundToOdd(gHigh, gLow, cbl << h);
+        long vbr = roundToOdd(gHigh, gLow, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // Candidatos con un dígito menos: s' × 10 y (s' + 1) × 10
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return writeDecimal(upin ? sp10 : tp10, k, buffer, position);
+            }
+        }
+
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return writeDecimal(uin ? s : t, k + dk, buffer, position);
+        }
+        long cmp = vb - (s + t << 1);
+        return writeDecimal(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, buffer, position);
+    }
+
+    /**
+     * Producto {@code g × cp / 2^127} redondeado a impar.
+     */
+    private static long roundToOdd(long gHigh, long gLow, long cp) {
+        long x1 = Math.multiplyHigh(gLow, cp);
+        long y0 = gHigh * cp;
+        long y1 = Math.multiplyHigh(gHigh, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /**
+     * Escribe {@code f × 10^e} (f positivo) con las reglas de formato de {@link Double#toString(double)}.
+     */
+    private static int writeDecimal(long f, int e, byte[] buffer, int position) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        int length = digitCount(f);
+        // Exponente de la primera cifra en notación científica
+        int scientific = length + e - 1;
+
+        if (scientific >= 0 && scientific < 7) {
+            if (e >= 0) {
+                position = writeDigits(f, buffer, position);
+                for (int i = 0; i < e; i++) {
+                    buffer[position++] = '0';
+                }
+                buffer[position++] = '.';
+                buffer[position++] = '0';
+                return position;
+            }
+            long divisor = POWERS_OF_TEN[-e];
+            position = writeDigits(f / divisor, buffer, position);
+            buffer[position++] = '.';
+            return writePaddedDigits(f % divisor, -e, buffer, position);
+        }
+        if (scientific < 0 && scientific >= -3) {
+            buffer[position++] = '0';
+            buffer[position++] = '.';
+            for (int i = -1; i > scientific; i--) {
+                buffer[position++] = '0';
+            }
+            return writeDigits(f, buffer, position);
+        }
+
+        long divisor = POWERS_OF_TEN[length - 1];
+        buffer[position++] = (byte) ('0' + f / divisor);
+        buffer[position++] = '.';
+        position = length > 1
+                ? writePaddedDigits(f % divisor, length - 1, buffer, position)
+                : writeAscii("0", buffer, position);
+        buffer[position++] = 'E';
+        if (scientific < 0) {
+            buffer[position++] = '-';
+            scientific = -scientific;
+        }
+        return writeDigits(scientific, buffer, position);
+    }
+
+    private static int writeDigits(long value, byte[] buffer, int position) {
+        return writePaddedDigits(value, digitCount(value), buffer, position);
+    }
+
+    private static int writePaddedDigits(long value, int digits, byte[] buffer, int position) {
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + digits;
+    }
+
+    private static int writeAscii(String text, byte[] buffer, int position) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer[position++] = (byte) text.charAt(i);
+        }
+        return position;
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+    private static int floorLog10Pow2(int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    private static int floorLog10ThreeQuartersPow2(int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    private static int floorLog2Pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+}
@@ -0,0 +1,52 @@
+package com.temperature.api.codec;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversión de {@code String} a {@code Double} para variables de ruta y parámetros.
+ *
+ * Sustituye al conversor por defecto de Spring con la misma semántica (se eliminan todos
+ * los espacios y la cadena vacía es {@code null}) pero usando {@link FastDoubleParser}.
+ * Un texto inválido lanza la misma {@link NumberFormatException}, que Spring traduce a
+ * {@code MethodArgumentTypeMismatchException} como hasta ahora.
+ */
+@Component
+public class FastDoubleConverter implements Converter<String, Double> {
+
+    @Override
+    public Double convert(String source) {
+        if (source.isEmpty()) {
+            return null;
+        }
+        return parse(source);
+    }
+
+    /**
+     * Interpreta el texto como lo hace Spring con un {@code Double}: sin espacios en
+     * ninguna posición y con las reglas de {@link Double#parseDouble(String)}.
+     *
+     * @param text texto de la variable o parámetro
+     * @return valor representado
+     * @throws NumberFormatException si el texto no es un número válido
+     */
+    public static double parse(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return FastDoubleParser.parseDouble(stripWhitespace(text));
+            }
+        }
+        return FastDoubleParser.parseDouble(text);
+    }
+
+    private static String stripWhitespace(String text) {
+        StringBuilder stripped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                stripped.append(c);
+            }
+        }
+        return stripped.toString();
+    }
+}
@@ -0,0 +1,36 @@
+package com.temperature.api.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.NumberDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Deserializador de {@code Double} que lee los números decimales con {@link FastDoubleParser}
+ * directamente sobre el buffer del parser JSON, sin crear un {@code String}.
+ *
+ * Los demás tokens (enteros, cadenas, booleanos...) se delegan en el deserializador
+ * estándar de Jackson, de modo que las reglas de coerción y los errores no cambian.
+ */
+public class FastDoubleDeserializer extends StdScalarDeserializer<Double> {
+
+    private static final JsonDeserializer<Double> DEFAULT =
+            new NumberDeserializers.DoubleDeserializer(Double.class, null);
+
+    public FastDoubleDeserializer() {
+        super(Double.class);
+    }
+
+    @Override
+    public Double deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+            return FastDoubleParser.parseDouble(
+                    parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        return DEFAULT.deserialize(parser, context);
+    }
+}
@@ -0,0 +1,259 @@
+package com.temperature.api.codec;
+
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+
+/**
+ * Conversión de texto decimal a {@code double} sin crear objetos intermedios.
+ *
+ * Acepta exactamente lo mismo que {@link Double#parseDouble(String)} y devuelve el mismo
+ * valor bit a bit. Las entradas habituales (signo, dígitos, punto, exponente y sufijo
+ * {@code d}/{@code f}, con hasta 19 dígitos significativos) se resuelven en el camino rápido:
+ * <ol>
+ *   <li>Clinger: si la mantisa cabe en 53 bits y el exponente en [-22, 22], basta una
+ *       multiplicación o división exacta por una potencia de 10;</li>
+ *   <li>Eisel-Lemire: producto de 128 bits por una tabla de potencias de 5 truncadas,
+ *       válido salvo en los casos ambiguos que el propio algoritmo detecta.</li>
+ * </ol>
+ * Todo lo demás ({@code NaN}, {@code Infinity}, hexadecimales, subnormales, más de 19
+ * dígitos, casos ambiguos y entradas inválidas) se delega en {@link Double#parseDouble},
+ * que también produce la {@link NumberFormatException} de siempre.
+ */
+public final class FastDoubleParser {
+
+    private static final int MAX_SIGNIFICANT_DIGITS = 19;
+
+    private static final int SMALLEST_POWER_OF_TEN = -342;
+    private static final int LARGEST_POWER_OF_TEN = 308;
+
+    /**
+     * Mayor exponente decimal con potencia de 10 exacta en un double.
+     */
+    private static final int MAX_EXACT_POWER_OF_TEN = 22;
+
+    private static final double[] EXACT_POWERS_OF_TEN = new double[MAX_EXACT_POWER_OF_TEN + 1];
+
+    /**
+     * 5^q normalizado a 128 bits (truncado): 64 bits altos y 64 bits bajos, indexados
+     * por {@code q - SMALLEST_POWER_OF_TEN}.
+     */
+    private static final long[] POWER_OF_FIVE_HIGH = new long[LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1];
+    private static final long[] POWER_OF_FIVE_LOW = new long[POWER_OF_FIVE_HIGH.length];
+
+    static {
+        double power = 1;
+        for (int i = 0; i <= MAX_EXACT_POWER_OF_TEN; i++) {
+            EXACT_POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+
+        // Misma construcción que las tablas de referencia de fast_float
+        BigInteger five = BigInteger.valueOf(5);
+        for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+            BigInteger value;
+            if (q < 0) {
+                BigInteger power5 = five.pow(-q);
+                int z = power5.subtract(BigInteger.ONE).bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                value = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+            } else {
+                value = five.pow(q);
+            }
+            int excess = value.bitLength() - 128;
+            value = excess > 0 ? value.shiftRight(excess) : value.shiftLeft(-excess);
+            POWER_OF_FIVE_HIGH[q - SMALLEST_POWER_OF_TEN] = value.shiftRight(64).longValue();
+            POWER_OF_FIVE_LOW[q - SMALLEST_POWER_OF_TEN] = value.longValue();
+        }
+    }
+
+    private FastDoubleParser() {
+    }
+
+    /**
+     * Equivalente a {@link Double#parseDouble(String)}.
+     *
+     * @param text texto a convertir
+     * @return valor representado
+     * @throws NumberFormatException si el texto no es un número válido
+     */
+    public static double parseDouble(CharSequence text) {
+        double value = parseFast(text, 0, text.length());
+        return Double.isNaN(value) ? Double.parseDouble(text.toString()) : value;
+    }
+
+    /**
+     * Equivalente a {@link Double#parseDouble(String)} sobre un fragmento de un array.
+     *
+     * @param chars  caracteres
+     * @param offset posición del primer carácter
+     * @param length número de caracteres
+     * @return valor representado
+     * @throws NumberFormatException si el texto no es un número válido
+     */
+    public static double parseDouble(char[] chars, int offset, int length) {
+        double value = parseFast(CharBuffer.wrap(chars, offset, length), 0, length);
+        return Double.isNaN(value) ? Double.parseDouble(new String(chars, offset, length)) : value;
+    }
+
+    /**
+     * Camino rápido; devuelve NaN cuando hay que delegar en {@link Double#parseDouble}.
+     */
+    private static double parseFast(CharSequence text, int start, int end) {
+        // Double.parseDouble ignora los caracteres de control y espacios de los extremos
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start < end && isTypeSuffix(text.charAt(end - 1))) {
+            end--;
+        }
+
+        int position = start;
+        boolean negative = false;
+        if (position < end && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+            negative = text.charAt(position) == '-';
+            position++;
+        }
+
+        long significand = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int exponent = 0;
+        for (; position < end && isDigit(text.charAt(position)); position++, digits++) {
+            int digit = text.charAt(position) - '0';
+            if (significantDigits > 0 || digit != 0) {
+                significand = significand * 10 + digit;
+                significantDigits++;
+            }
+        }
+        if (position < end && text.charAt(position) == '.') {
+            position++;
+            for (; position < end && isDigit(text.charAt(position)); position++, digits++) {
+                int digit = text.charAt(position) - '0';
+                if (significantDigits > 0 || digit != 0) {
+                    significand = significand * 10 + digit;
+                    significantDigits++;
+                }
+                exponent--;
+            }
+        }
+        if (digits == 0 || significantDigits > MAX_SIGNIFICANT_DIGITS) {
+            return Double.NaN;
+        }
+
+        if (position < end && (text.charAt(position) == 'e' || text.charAt(position) == 'E')) {
+            position++;
+            boolean negativeExponent = false;
+            if (position < end && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+                negativeExponent = text.charAt(position) == '-';
+                position++;
+            }
+            if (position == end) {
+                return Double.NaN;
+            }
+            int explicitExponent = 0;
+            for (; position < end && isDigit(text.charAt(position)); position++) {
+                // Se satura: por encima de este valor el resultado ya es 0 o infinito
+                if (explicitExponent < 100_000) {
+                    explicitExponent = explicitExponent * 10 + (text.charAt(position) - '0');
+                }
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (position != end) {
+            return Double.NaN;
+        }
+
+        return toDouble(negative, significand, exponent);
+    }
+
+    /**
+     * Valor más cercano a {@code ±significand × 10^exponent} (significand sin signo, hasta
+     * 19 dígitos), o NaN si no se puede decidir sin aritmética de precisión arbitraria.
+     */
+    static double toDouble(boolean negative, long significand, int exponent) {
+        if (significand == 0 || exponent < SMALLEST_POWER_OF_TEN) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (exponent > LARGEST_POWER_OF_TEN) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+
+        // Clinger: ambos operandos son exactos, así que el único redondeo es el de la operación
+        if (Math.abs(exponent) <= MAX_EXACT_POWER_OF_TEN && Long.compareUnsigned(significand, 1L << 53) <= 0) {
+            double value = significand;
+            value = exponent < 0 ? value / EXACT_POWERS_OF_TEN[-exponent] : value * EXACT_POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+
+        return eiselLemire(negative, significand, exponent);
+    }
+
+    private static double eiselLemire(boolean negative, long significand, int exponent) {
+        int index = exponent - SMALLEST_POWER_OF_TEN;
+        long factorHigh = POWER_OF_FIVE_HIGH[index];
+
+        // floor(log2(10^exponent)) + sesgo del exponente + 64
+        long binaryExponent = (((152170L + 65536L) * exponent) >> 16) + 1024 + 63;
+        int leadingZeros = Long.numberOfLeadingZeros(significand);
+        long shifted = significand << leadingZeros;
+
+        long upper = unsignedMultiplyHigh(shifted, factorHigh);
+        long lower = shifted * factorHigh;
+
+        // Los 9 bits descartados están todos a 1: hace falta la segunda mitad de la tabla
+        if ((upper & 0x1FF) == 0x1FF && Long.compareUnsigned(lower + shifted, lower) < 0) {
+            long factorLow = POWER_OF_FIVE_LOW[index];
+            long productLow = shifted * factorLow;
+            long productMiddle = lower + unsignedMultiplyHigh(shifted, factorLow);
+            if (Long.compareUnsigned(productMiddle, lower) < 0) {
+                upper++;
+            }
+            if (productMiddle + 1 == 0 && (upper & 0x1FF) == 0x1FF
+                    && Long.compareUnsigned(productLow + shifted, productLow) < 0) {
+                return Double.NaN;
+            }
+            lower = productMiddle;
+        }
+
+        long upperBit = upper >>> 63;
+        long mantissa = upper >>> (upperBit + 9);
+        leadingZeros += (int) (1 ^ upperBit);
+
+        // Posible empate exacto entre dos doubles: no se puede decidir aquí
+        if (lower == 0 && (upper & 0x1FF) == 0 && (mantissa & 3) == 1) {
+            return Double.NaN;
+        }
+
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (1L << 53)) {
+            mantissa = 1L << 52;
+            leadingZeros--;
+        }
+        mantissa &= ~(1L << 52);
+
+        long realExponent = binaryExponent - leadingZeros;
+        // Subnormales e infinitos se dejan a Double.parseDouble
+        if (realExponent < 1 || realExponent > 2046) {
+            return Double.NaN;
+        }
+
+        long bits = mantissa | realExponent << 52 | (negative ? 1L << 63 : 0L);
+        return Double.longBitsToDouble(bits);
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isTypeSuffix(char c) {
+        return c == 'd' || c == 'D' || c == 'f' || c == 'F';
+    }
+}
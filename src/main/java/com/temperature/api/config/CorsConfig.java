@@ -4,6 +4,7 @@ import java.util.Arrays;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -17,6 +18,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * lo cual es necesario cuando la interfaz web se sirve desde un origen diferente.
  */
 @Configuration
+@Profile("!reactive")
 public class CorsConfig implements WebMvcConfigurer {
 
     /**
@@ -30,6 +32,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 .allowedOriginPatterns("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag")
                 .allowCredentials(false)
                 .maxAge(3600);
     }
@@ -41,6 +44,18 @@ public class CorsConfig implements WebMvcConfigurer {
      */
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/**", apiCorsConfiguration());
+
+        return source;
+    }
+
+    /**
+     * Configuración CORS de las rutas /api/**, compartida con el perfil reactivo.
+     *
+     * @return configuración CORS de la API
+     */
+    public static CorsConfiguration apiCorsConfiguration() {
         CorsConfiguration configuration = new CorsConfiguration();
 
         // Permitir todos los orígenes en desarrollo (cambiar en producción)
@@ -54,12 +69,12 @@ public class CorsConfig implements WebMvcConfigurer {
         // Headers permitidos
         configuration.setAllowedHeaders(Arrays.asList(
                 "Origin", "Content-Type", "Accept", "Authorization",
-                "Access-Control-Request-Method", "Access-Control-Request-Headers"
+                "Access-Control-Request-Method", "Access-Control-Request-Headers", "If-None-Match"
         ));
 
         // Headers expuestos al cliente
         configuration.setExposedHeaders(Arrays.asList(
-                "Access-Control-Allow-Origin", "Access-Control-Allow-Credentials"
+                "Access-Control-Allow-Origin", "Access-Control-Allow-Credentials", "ETag"
         ));
 
         // No permitir credenciales para mayor seguridad
@@ -68,9 +83,6 @@ public class CorsConfig implements WebMvcConfigurer {
         // Tiempo de cache para preflight requests
         configuration.setMaxAge(3600L);
 
-        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
-        source.registerCorsConfiguration("/api/**",configuration);
-
-        return source;
+        return configuration;
     }
 }
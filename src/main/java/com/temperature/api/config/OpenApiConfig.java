@@ -6,6 +6,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.api.controller.ApiStatusDocuments;
+import com.temperature.api.controller.PrecomputedJsonDocument;
+
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
@@ -53,4 +57,16 @@ public class OpenApiConfig {
                                 .description("Servidor de desarrollo")
                 ));
     }
+
+    /**
+     * Documento de /api/temperature/info, serializado una vez con el título, la versión
+     * y la licencia de la documentación OpenAPI.
+     *
+     * @param objectMapper mapper configurado de la aplicación
+     * @return documento precalculado con su ETag
+     */
+    @Bean
+    public PrecomputedJsonDocument apiInfoDocument(ObjectMapper objectMapper) {
+        return PrecomputedJsonDocument.of(objectMapper, ApiStatusDocuments.info(customOpenAPI().getInfo()));
+    }
 }
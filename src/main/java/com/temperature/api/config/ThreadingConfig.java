@@ -0,0 +1,49 @@
+package com.temperature.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuración del modelo de hilos con el que Tomcat atiende las peticiones.
+ * 
+ * El modo de hilos virtuales es opcional y se activa con
+ * {@code spring.threads.virtual.enabled=true} (variable de entorno
+ * {@code VIRTUAL_THREADS_ENABLED}). Spring Boot solo lo aplica si la JVM es Java 21
+ * o superior; en otro caso se mantiene el pool de hilos de plataforma y se avisa al arrancar.
+ */
+@Configuration
+@Profile("!reactive")
+public class ThreadingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    private final Environment environment;
+
+    public ThreadingConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Registra el modo de hilos efectivo una vez arrancada la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void logThreadingMode() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Peticiones atendidas con hilos virtuales");
+        } else if (requested) {
+            log.warn("Se solicitaron hilos virtuales pero la JVM es Java {}; se requiere Java 21 o superior. "
+                    + "Se usa el pool de hilos de plataforma", Runtime.version().feature());
+        } else {
+            log.info("Peticiones atendidas con el pool de hilos de plataforma (máximo {})",
+                    environment.getProperty("server.tomcat.threads.max", "200"));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.temperature.api.controller;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.service.TemperatureConversionService;
+import io.swagger.v3.oas.models.info.Info;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Documentos de información de la API.
+ * 
+ * Los comparten el controlador MVC y los handlers del perfil reactivo para que
+ * /info devuelva el mismo JSON en ambos runtimes. El documento de /info se construye
+ * una vez al arrancar y se publica como {@link PrecomputedJsonDocument}. El documento de /health lo mantiene
+ * {@link com.temperature.api.service.ConversionHealthIndicator}.
+ */
+public final class ApiStatusDocuments {
+
+    private ApiStatusDocuments() {
+    }
+
+    /**
+     * Construye el documento con las constantes, fórmulas y endpoints de la API.
+     *
+     * @param apiInfo título, versión y licencia publicados en la documentación OpenAPI
+     * @return documento de información
+     */
+    public static Map<String, Object> info(Info apiInfo) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("name", apiInfo.getTitle());
+        info.put("description", "API REST para conversión entre Celsius, Fahrenheit, Kelvin y Rankine");
+        info.put("version", apiInfo.getVersion());
+        if (apiInfo.getLicense() != null) {
+            Map<String, String> license = new LinkedHashMap<>();
+            license.put("name", apiInfo.getLicense().getName());
+            license.put("url", apiInfo.getLicense().getUrl());
+            info.put("license", license);
+        }
+
+        Map<String, String> formulas = new LinkedHashMap<>();
+        for (ConversionDirection direction : ConversionDirection.values()) {
+            formulas.put(formulaKey(direction), direction.getFormula());
+        }
+        info.put("formulas", formulas);
+
+        info.put("constants", TemperatureConversionService.CONVERSION_CONSTANTS);
+
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        endpoints.put("GET /api/temperature/convert?from={unit}&to={unit}&value={value}",
+                "Convertir entre dos unidades cualesquiera");
+        endpoints.put("POST /api/temperature/convert/batch?from={unit}&to={unit}",
+                "Convertir un lote entre dos unidades cualesquiera");
+        endpoints.put("GET /api/temperature/celsius-to-fahrenheit/{value}", "Convertir Celsius a Fahrenheit");
+        endpoints.put("GET /api/temperature/fahrenheit-to-celsius/{value}", "Convertir Fahrenheit a Celsius");
+        endpoints.put("POST /api/temperature/celsius-to-fahrenheit", "Convertir Celsius a Fahrenheit (JSON)");
+        endpoints.put("POST /api/temperature/fahrenheit-to-celsius", "Convertir Fahrenheit a Celsius (JSON)");
+        endpoints.put("POST /api/temperature/batch/celsius-to-fahrenheit", "Convertir un lote de Celsius a Fahrenheit");
+        endpoints.put("POST /api/temperature/batch/fahrenheit-to-celsius", "Convertir un lote de Fahrenheit a Celsius");
+        endpoints.put("POST /api/temperature/batch", "Convertir un lote en el sentido indicado");
+        endpoints.put("POST /api/temperature/batch/binary", "Convertir un lote en formato binario");
+        endpoints.put("GET /api/temperature/health", "Estado de la API");
+        endpoints.put("GET /api/temperature/info", "Información de la API");
+        endpoints.put("POST /api/sensors/readings", "Ingerir lecturas de sensores");
+        endpoints.put("GET /api/sensors/{deviceId}/windows?window={1m|1h}", "Agregados por ventana de un dispositivo");
+        endpoints.put("GET /api/sensors/{deviceId}/series?step={step}&unit={unit}",
+                "Serie reducida de un dispositivo sobre las lecturas persistidas");
+        endpoints.put("GET /api/sensors/{deviceId}/rollups?step={step}&unit={unit}",
+                "Serie de un dispositivo sobre los resúmenes de 1m, 1h y 1d");
+        endpoints.put("GET /api/sensors/memory", "Memoria de los agregados por ventana");
+        info.put("endpoints", endpoints);
+        return info;
+    }
+
+    /**
+     * Clave de la fórmula en el documento: el segmento de ruta en camelCase
+     * (celsius-to-fahrenheit → celsiusToFahrenheit).
+     */
+    private static String formulaKey(ConversionDirection direction) {
+        String segment = direction.getPathSegment();
+        StringBuilder key = new StringBuilder(segment.length());
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '-' && i + 1 < segment.length()) {
+                key.append(Character.toUpperCase(segment.charAt(++i)));
+            } else {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+}
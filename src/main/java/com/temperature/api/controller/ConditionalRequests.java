@@ -0,0 +1,52 @@
+package com.temperature.api.controller;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.service.TemperatureConversionService;
+
+/**
+ * Utilidades para peticiones HTTP condicionales (If-None-Match).
+ * 
+ * Se resuelven antes de invocar al servicio o a la serialización JSON, de modo
+ * que una revalidación con éxito solo cuesta comparar cadenas.
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Indica si la cabecera If-None-Match coincide con el ETag indicado.
+     * 
+     * Usa la comparación débil que exige RFC 9110 para If-None-Match: el prefijo
+     * {@code W/} de las etiquetas recibidas se ignora. Admite listas separadas por
+     * comas y el comodín {@code *}.
+     *
+     * @param ifNoneMatch valor de la cabecera If-None-Match (puede ser nulo)
+     * @param eTag        ETag de la representación actual, entre comillas
+     * @return true si el cliente ya tiene la representación actual
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        if (ifNoneMatch.trim().equals("*")) {
+            return true;
+        }
+        // Las etiquetas van entre comillas, por lo que la búsqueda no puede coincidir a medias
+        return ifNoneMatch.contains(eTag);
+    }
+
+    /**
+     * Calcula el ETag fuerte de una conversión a partir del sentido, los bits exactos
+     * de la entrada y la versión de las fórmulas.
+     *
+     * @param direction sentido de la conversión
+     * @param value     temperatura en la unidad de origen
+     * @return ETag entre comillas
+     */
+    public static String conversionETag(ConversionDirection direction, double value) {
+        return "\"" + direction.getPathSegment()
+                + "-" + Long.toHexString(Double.doubleToLongBits(value))
+                + "-v" + TemperatureConversionService.FORMULA_VERSION + "\"";
+    }
+}
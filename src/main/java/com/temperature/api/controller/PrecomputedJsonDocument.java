@@ -0,0 +1,123 @@
+package com.temperature.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Documento JSON estático serializado una sola vez al arrancar.
+ *
+ * Pensado para endpoints de metadatos que no cambian durante la vida del proceso
+ * (p. ej. /info): guarda los bytes, un ETag fuerte derivado de su contenido y las
+ * respuestas 200 y 304 ya construidas, de modo que atender una petición no serializa
+ * ni reserva memoria. Los clientes deben revalidar ({@code Cache-Control: no-cache}),
+ * así que tras un despliegue reciben el documento nuevo en la siguiente petición.
+ *
+ * Los bytes de {@link #body()} se comparten entre todas las respuestas y no deben
+ * modificarse.
+ */
+public final class PrecomputedJsonDocument {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache();
+
+    private final byte[] body;
+    private final String eTag;
+    private final ResponseEntity<byte[]> okResponse;
+    private final ResponseEntity<byte[]> notModifiedResponse;
+
+    private PrecomputedJsonDocument(byte[] body, String eTag) {
+        this.body = body;
+        this.eTag = eTag;
+        this.okResponse = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+        this.notModifiedResponse = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CACHE_CONTROL)
+                .build();
+    }
+
+    /**
+     * Serializa un documento con el ObjectMapper de la aplicación.
+     *
+     * @param objectMapper mapper configurado de la aplicación
+     * @param document     documento a publicar (no se conserva la referencia)
+     * @return documento precalculado
+     * @throws IllegalStateException si el documento no se puede serializar
+     */
+    public static PrecomputedJsonDocument of(ObjectMapper objectMapper, Object document) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(document);
+            return new PrecomputedJsonDocument(body, contentETag(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el documento estático", e);
+        }
+    }
+
+    /**
+     * @return cuerpo JSON en UTF-8 (compartido, no modificar)
+     */
+    public byte[] body() {
+        return body;
+    }
+
+    /**
+     * @return ETag fuerte del cuerpo, entre comillas
+     */
+    public String eTag() {
+        return eTag;
+    }
+
+    /**
+     * @return política de caché HTTP de los documentos estáticos
+     */
+    public CacheControl cacheControl() {
+        return CACHE_CONTROL;
+    }
+
+    /**
+     * Indica si el cliente ya tiene este documento.
+     *
+     * @param ifNoneMatch cabecera If-None-Match (puede ser nula)
+     * @return true si se debe responder 304
+     */
+    public boolean isCurrent(String ifNoneMatch) {
+        return ConditionalRequests.matches(ifNoneMatch, eTag);
+    }
+
+    /**
+     * Devuelve la respuesta ya construida que corresponde a la petición.
+     *
+     * @param ifNoneMatch cabecera If-None-Match (puede ser nula)
+     * @return 304 si el cliente tiene la versión actual; en otro caso 200 con el documento
+     */
+    public ResponseEntity<byte[]> toResponseEntity(String ifNoneMatch) {
+        return isCurrent(ifNoneMatch) ? notModifiedResponse : okResponse;
+    }
+
+    /**
+     * ETag fuerte con los primeros 64 bits del SHA-256 del cuerpo.
+     */
+    private static String contentETag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            StringBuilder eTag = new StringBuilder(18).append('"');
+            for (int i = 0; i < 8; i++) {
+                eTag.append(Character.forDigit((digest[i] >> 4) & 0xF, 16))
+                        .append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return eTag.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Todas las JVM deben incluir SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.temperature.api.controller;
+
+import com.temperature.api.model.RollupSeriesResponse;
+import com.temperature.api.model.SensorIngestRequest;
+import com.temperature.api.model.SensorIngestResponse;
+import com.temperature.api.model.SensorSeriesResponse;
+import com.temperature.api.model.SensorWindowsResponse;
+import com.temperature.api.service.SensorIngestionService;
+import com.temperature.api.service.SensorSeriesService;
+import com.temperature.api.service.SensorWindowAggregator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Controlador REST para la telemetría de sensores.
+ *
+ * Los dispositivos envían lecturas en cualquier unidad; se convierten a Celsius, se
+ * persisten en el registro en disco y se acumulan en agregados por ventanas fijas de
+ * 1 minuto y de 1 hora (mínimo, máximo y media), consultables sin recorrer las lecturas.
+ * Las series con cualquier paso y unidad se calculan sobre las lecturas persistidas, y las
+ * de meses o años sobre sus resúmenes precalculados de 1 minuto, 1 hora y 1 día.
+ *
+ * Endpoints disponibles:
+ * - POST /api/sensors/readings
+ * - GET /api/sensors/{deviceId}/windows?window=1m|1h&from=&to=
+ * - GET /api/sensors/{deviceId}/series?from=&to=&step=5m&unit=C
+ * - GET /api/sensors/{deviceId}/rollups?from=&to=&step=1h&unit=C
+ * - GET /api/sensors/memory
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/sensors")
+@Tag(name = "Sensor Telemetry", description = "Ingesta de lecturas de sensores y agregados por ventana en Celsius")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SensorController {
+
+    private final SensorIngestionService ingestionService;
+    private final SensorWindowAggregator aggregator;
+    private final SensorSeriesService seriesService;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param ingestionService ingesta de lecturas
+     * @param aggregator       agregados por dispositivo y ventana
+     * @param seriesService    series reducidas sobre las lecturas persistidas
+     */
+    @Autowired
+    public SensorController(SensorIngestionService ingestionService, SensorWindowAggregator aggregator,
+                            SensorSeriesService seriesService) {
+        this.ingestionService = ingestionService;
+        this.aggregator = aggregator;
+        this.seriesService = seriesService;
+    }
+
+    /**
+     * Ingiere un lote de lecturas de sensores.
+     *
+     * @param request array JSON de lecturas (o un objeto con el campo 'readings')
+     * @return número de lecturas aceptadas y errores por índice
+     */
+    @PostMapping("/readings")
+    @Operation(
+            summary = "Ingerir lecturas de sensores",
+            description = "Acepta lecturas (deviceId, timestamp en ms, value, unit), las convierte a Celsius, las " +
+                    "persiste en el registro en disco y las incorpora a los agregados de 1 minuto y 1 hora. Las " +
+                    "lecturas inválidas se reportan por índice sin hacer fallar el lote"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote procesado (puede contener errores por lectura)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SensorIngestResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Cuerpo inválido, lote demasiado grande o lectura en el futuro",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<SensorIngestResponse> ingest(
+            @Parameter(description = "Lecturas de sensores", required = true)
+            @Valid @RequestBody SensorIngestRequest request) {
+
+        return ResponseEntity.ok(ingestionService.ingest(request.getReadings()));
+    }
+
+    /**
+     * Obtiene los agregados por ventana de un dispositivo.
+     *
+     * @param deviceId identificador del dispositivo
+     * @param window   tamaño de las ventanas (1m o 1h)
+     * @param from     inicio del intervalo (ms desde la época, opcional)
+     * @param to       fin del intervalo (ms desde la época, opcional)
+     * @return ventanas con lecturas en orden cronológico
+     */
+    @GetMapping("/{deviceId}/windows")
+    @Operation(
+            summary = "Consultar agregados por ventana",
+            description = "Devuelve mínimo, máximo y media en Celsius de cada ventana conservada del dispositivo " +
+                    "que se solapa con [from, to). El coste es constante por ventana"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Agregados del dispositivo",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SensorWindowsResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Ventana no válida o dispositivo sin lecturas",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<SensorWindowsResponse> getWindows(
+            @Parameter(description = "Identificador del dispositivo", example = "thermo-1")
+            @PathVariable String deviceId,
+            @Parameter(description = "Tamaño de las ventanas", example = "1m")
+            @RequestParam(defaultValue = "1m") String window,
+            @Parameter(description = "Inicio del intervalo (ms desde la época)")
+            @RequestParam(required = false) Long from,
+            @Parameter(description = "Fin del intervalo (ms desde la época)")
+            @RequestParam(required = false) Long to) {
+
+        return ResponseEntity.ok(
+                aggregator.getWindows(deviceId, SensorWindowAggregator.resolveWindow(window), from, to));
+    }
+
+    /**
+     * Obtiene la serie reducida de un dispositivo a partir de las lecturas persistidas.
+     *
+     * @param deviceId identificador del dispositivo
+     * @param from     inicio del intervalo (ms desde la época, opcional; por defecto 24 horas antes de 'to')
+     * @param to       fin del intervalo (ms desde la época, opcional; por defecto ahora)
+     * @param step     duración de cada tramo (p. ej. 30s, 5m, 1h)
+     * @param unit     unidad de los valores
+     * @return tramos con lecturas en orden cronológico
+     */
+    @GetMapping("/{deviceId}/series")
+    @Operation(
+            summary = "Consultar serie reducida",
+            description = "Divide [from, to) en tramos de 'step' y devuelve mínimo, máximo, media y última " +
+                    "lectura de cada tramo en la unidad pedida. Se calcula en una pasada por el registro en " +
+                    "disco; los segmentos sin lecturas del dispositivo en el intervalo se descartan por su índice"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Serie del dispositivo",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SensorSeriesResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Paso, unidad o intervalo no válidos, demasiados " +
+                    "tramos, dispositivo sin lecturas o registro desactivado",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<SensorSeriesResponse> getSeries(
+            @Parameter(description = "Identificador del dispositivo", example = "thermo-1")
+            @PathVariable String deviceId,
+            @Parameter(description = "Inicio del intervalo (ms desde la época)")
+            @RequestParam(required = false) Long from,
+            @Parameter(description = "Fin del intervalo (ms desde la época)")
+            @RequestParam(required = false) Long to,
+            @Parameter(description = "Duración de cada tramo", example = "5m")
+            @RequestParam(defaultValue = SensorSeriesService.DEFAULT_STEP) String step,
+            @Parameter(description = "Unidad de los valores", example = "C")
+            @RequestParam(defaultValue = "C") String unit) {
+
+        return ResponseEntity.ok(seriesService.query(deviceId, from, to, step, unit));
+    }
+
+    /**
+     * Obtiene la serie de un dispositivo a partir de los resúmenes precalculados.
+     *
+     * @param deviceId identificador del dispositivo
+     * @param from     inicio del intervalo (ms desde la época, opcional; por defecto 30 días antes de 'to',
+     *                 limitado a la retención del nivel usado)
+     * @param to       fin del intervalo (ms desde la época, opcional; por defecto ahora)
+     * @param step     duración de cada tramo, múltiplo de 1 minuto (p. ej. 15m, 1h, 1d, 7d)
+     * @param unit     unidad de los valores
+     * @return tramos con lecturas en orden cronológico
+     */
+    @GetMapping("/{deviceId}/rollups")
+    @Operation(
+            summary = "Consultar serie de resúmenes",
+            description = "Divide [from, to) en tramos de 'step' y devuelve número de lecturas, mínimo, máximo y " +
+                    "media de cada tramo en la unidad pedida, a partir del nivel de resumen más grueso (1d, 1h " +
+                    "o 1m) cuya duración divide al paso. Pensado para intervalos de meses o años"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Serie del dispositivo",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RollupSeriesResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Paso, unidad o intervalo no válidos, inicio " +
+                    "anterior a la retención del nivel, demasiados tramos, dispositivo sin lecturas o resúmenes " +
+                    "desactivados",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<RollupSeriesResponse> getRollups(
+            @Parameter(description = "Identificador del dispositivo", example = "thermo-1")
+            @PathVariable String deviceId,
+            @Parameter(description = "Inicio del intervalo (ms desde la época)")
+            @RequestParam(required = false) Long from,
+            @Parameter(description = "Fin del intervalo (ms desde la época)")
+            @RequestParam(required = false) Long to,
+            @Parameter(description = "Duración de cada tramo", example = "1h")
+            @RequestParam(defaultValue = SensorSeriesService.DEFAULT_ROLLUP_STEP) String step,
+            @Parameter(description = "Unidad de los valores", example = "C")
+            @RequestParam(defaultValue = "C") String unit) {
+
+        return ResponseEntity.ok(seriesService.queryRollups(deviceId, from, to, step, unit));
+    }
+
+    /**
+     * Obtiene el uso de memoria de los agregados.
+     *
+     * @return dispositivos, memoria por dispositivo y total
+     */
+    @GetMapping("/memory")
+    @Operation(
+            summary = "Uso de memoria de los agregados",
+            description = "Memoria fija reservada por dispositivo, memoria total y máximo según " +
+                    "app.sensors.max-devices"
+    )
+    @ApiResponse(responseCode = "200", description = "Informe de memoria")
+    public ResponseEntity<Map<String, Object>> getMemory() {
+        return ResponseEntity.ok(aggregator.getMemoryReport());
+    }
+}
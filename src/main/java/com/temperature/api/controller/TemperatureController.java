@@ -1,7 +1,14 @@
 package com.temperature.api.controller;
 
+import com.temperature.api.codec.BinaryBatchCodec;
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.BatchConversionRequest;
+import com.temperature.api.model.BatchConversionResponse;
+import com.temperature.api.model.ConversionDirection;
 import com.temperature.api.model.TemperatureConversionRequest;
 import com.temperature.api.model.TemperatureConversionResponse;
+import com.temperature.api.service.ConversionHealthIndicator;
+import com.temperature.api.service.ConversionResponseCache;
 import com.temperature.api.service.TemperatureConversionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,50 +19,118 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.Map;
 
 /**
  * Controlador REST para las operaciones de conversión de temperatura.
  * 
  * Este controlador expone endpoints para convertir temperaturas entre
- * Celsius y Fahrenheit, proporcionando una API RESTful completa con
- * documentación OpenAPI/Swagger.
+ * Celsius, Fahrenheit, Kelvin y Rankine, proporcionando una API RESTful completa con
+ * documentación OpenAPI/Swagger. Los endpoints de Celsius y Fahrenheit son atajos de
+ * los genéricos /convert y /convert/batch para un sentido fijo.
  * 
  * Endpoints disponibles:
+ * - GET /api/temperature/convert?from=&to=&value=
+ * - POST /api/temperature/convert/batch?from=&to=
  * - GET /api/temperature/celsius-to-fahrenheit/{value}
  * - GET /api/temperature/fahrenheit-to-celsius/{value}
  * - POST /api/temperature/celsius-to-fahrenheit
  * - POST /api/temperature/fahrenheit-to-celsius
+ * - POST /api/temperature/batch/celsius-to-fahrenheit
+ * - POST /api/temperature/batch/fahrenheit-to-celsius
+ * - POST /api/temperature/batch
+ * - POST /api/temperature/batch/binary
  * - GET /api/temperature/health
+ * - GET /api/temperature/info
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/temperature")
-@Tag(name = "Temperature Conversion", description = "API para conversión de temperaturas entre Celsius y Fahrenheit")
+@Tag(name = "Temperature Conversion", description = "API para conversión de temperaturas entre Celsius, Fahrenheit, Kelvin y Rankine")
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class TemperatureController {
 
     private final TemperatureConversionService conversionService;
 
+    /**
+     * Caché de respuestas serializadas para los endpoints GET.
+     */
+    private final ConversionResponseCache responseCache;
+
+    /**
+     * Códec del formato binario de lotes.
+     */
+    private final BinaryBatchCodec binaryBatchCodec;
+
+    /**
+     * Última verificación del servicio, refrescada en segundo plano.
+     */
+    private final ConversionHealthIndicator healthIndicator;
+
+    /**
+     * Documento de /info, serializado al arrancar.
+     */
+    private final PrecomputedJsonDocument apiInfoDocument;
+
+    /**
+     * Número máximo de valores aceptados en una petición por lotes.
+     */
+    private final int maxBatchSize;
+
+    /**
+     * Política de caché HTTP para las conversiones GET (deterministas para cada entrada).
+     */
+    private final CacheControl conversionCacheControl;
+
     /**
      * Constructor con inyección de dependencias.
      *
      * @param conversionService servicio de conversión de temperaturas
+     * @param responseCache     caché de respuestas para los endpoints GET
+     * @param binaryBatchCodec  códec del formato binario de lotes
+     * @param healthIndicator   verificación periódica del servicio
+     * @param apiInfoDocument   documento precalculado de /info
+     * @param maxBatchSize      número máximo de valores por lote
+     * @param cacheMaxAge       segundos que clientes y CDN pueden reutilizar una conversión GET
      */
     @Autowired
-    public TemperatureController(TemperatureConversionService conversionService) {
+    public TemperatureController(TemperatureConversionService conversionService,
+                                 ConversionResponseCache responseCache,
+                                 BinaryBatchCodec binaryBatchCodec,
+                                 ConversionHealthIndicator healthIndicator,
+                                 @Qualifier("apiInfoDocument") PrecomputedJsonDocument apiInfoDocument,
+                                 @Value("${app.batch.max-size:100000}") int maxBatchSize,
+                                 @Value("${app.http-cache.max-age:86400}") long cacheMaxAge) {
         this.conversionService = conversionService;
+        this.responseCache = responseCache;
+        this.binaryBatchCodec = binaryBatchCodec;
+        this.healthIndicator = healthIndicator;
+        this.apiInfoDocument = apiInfoDocument;
+        this.maxBatchSize = maxBatchSize;
+        this.conversionCacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAge)).cachePublic();
     }
 
     /**
      * Convierte una temperatura de Celsius a Fahrenheit usando parámetro de path.
+     * 
+     * La respuesta se sirve desde la caché de respuestas serializadas cuando está disponible
+     * e incluye un ETag fuerte y Cache-Control; si el cliente envía un If-None-Match que
+     * coincide se responde 304 sin invocar al servicio.
      *
-     * @param celsius temperatura en grados Celsius
-     * @return respuesta con la conversión realizada
+     * @param celsius     temperatura en grados Celsius
+     * @param ifNoneMatch cabecera If-None-Match opcional
+     * @return respuesta JSON con la conversión realizada, o 304 si no ha cambiado
      */
     @GetMapping("/celsius-to-fahrenheit/{celsius}")
     @Operation(
@@ -71,19 +146,25 @@ public class TemperatureController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor",
                     content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<TemperatureConversionResponse> celsiusToFahrenheitPath(
+    public ResponseEntity<byte[]> celsiusToFahrenheitPath(
             @Parameter(description = "Temperatura en grados Celsius", example = "25.0", required = true)
-            @PathVariable Double celsius) {
+            @PathVariable Double celsius,
+            @Parameter(description = "ETag de una respuesta anterior para revalidarla")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        TemperatureConversionResponse response = conversionService.celsiusToFahrenheit(celsius);
-        return ResponseEntity.ok(response);
+        return cacheableConversion(ConversionDirection.CELSIUS_TO_FAHRENHEIT, celsius, ifNoneMatch);
     }
 
     /**
      * Convierte una temperatura de Fahrenheit a Celsius usando parámetro de path.
+     * 
+     * La respuesta se sirve desde la caché de respuestas serializadas cuando está disponible
+     * e incluye un ETag fuerte y Cache-Control; si el cliente envía un If-None-Match que
+     * coincide se responde 304 sin invocar al servicio.
      *
-     * @param fahrenheit temperatura en grados Fahrenheit
-     * @return respuesta con la conversión realizada
+     * @param fahrenheit  temperatura en grados Fahrenheit
+     * @param ifNoneMatch cabecera If-None-Match opcional
+     * @return respuesta JSON con la conversión realizada, o 304 si no ha cambiado
      */
     @GetMapping("/fahrenheit-to-celsius/{fahrenheit}")
     @Operation(
@@ -99,12 +180,81 @@ public class TemperatureController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor",
                     content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<TemperatureConversionResponse> fahrenheitToCelsiusPath(
+    public ResponseEntity<byte[]> fahrenheitToCelsiusPath(
             @Parameter(description = "Temperatura en grados Fahrenheit", example = "77.0", required = true)
-            @PathVariable Double fahrenheit) {
+            @PathVariable Double fahrenheit,
+            @Parameter(description = "ETag de una respuesta anterior para revalidarla")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        TemperatureConversionResponse response = conversionService.fahrenheitToCelsius(fahrenheit);
-        return ResponseEntity.ok(response);
+        return cacheableConversion(ConversionDirection.FAHRENHEIT_TO_CELSIUS, fahrenheit, ifNoneMatch);
+    }
+
+    /**
+     * Convierte una temperatura entre dos unidades cualesquiera.
+     * 
+     * Aplica la misma caché de respuestas y la misma semántica de ETag y Cache-Control que
+     * los endpoints GET de un sentido fijo.
+     *
+     * @param from        unidad de origen (nombre, inicial o símbolo)
+     * @param to          unidad de destino (nombre, inicial o símbolo)
+     * @param value       temperatura en la unidad de origen
+     * @param ifNoneMatch cabecera If-None-Match opcional
+     * @return respuesta JSON con la conversión realizada, o 304 si no ha cambiado
+     */
+    @GetMapping("/convert")
+    @Operation(
+            summary = "Convertir entre dos unidades",
+            description = "Convierte una temperatura entre Celsius, Fahrenheit, Kelvin y Rankine. Las unidades " +
+                    "se indican por nombre, inicial o símbolo (celsius, C, °C, kelvin, K, ...)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Conversión realizada exitosamente",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TemperatureConversionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unidad no válida, valor ausente o temperatura fuera de rango",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<byte[]> convert(
+            @Parameter(description = "Unidad de origen", example = "kelvin", required = true)
+            @RequestParam(required = false) String from,
+            @Parameter(description = "Unidad de destino", example = "celsius", required = true)
+            @RequestParam(required = false) String to,
+            @Parameter(description = "Temperatura en la unidad de origen", example = "300.0", required = true)
+            @RequestParam(required = false) Double value,
+            @Parameter(description = "ETag de una respuesta anterior para revalidarla")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        ConversionDirection direction = TemperatureConversionService.resolveDirection(from, to);
+        if (value == null) {
+            throw new TemperatureConversionException("El parámetro 'value' es requerido", "MISSING_VALUE");
+        }
+        return cacheableConversion(direction, value, ifNoneMatch);
+    }
+
+    /**
+     * Resuelve una conversión GET aplicando la semántica de caché HTTP.
+     *
+     * @param direction   sentido de la conversión
+     * @param value       temperatura en la unidad de origen
+     * @param ifNoneMatch cabecera If-None-Match (puede ser nula)
+     * @return 304 si el cliente tiene la versión actual; en otro caso 200 con el cuerpo JSON
+     */
+    private ResponseEntity<byte[]> cacheableConversion(ConversionDirection direction, double value,
+                                                       String ifNoneMatch) {
+        String eTag = ConditionalRequests.conversionETag(direction, value);
+        if (ConditionalRequests.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(conversionCacheControl)
+                    .build();
+        }
+
+        byte[] body = responseCache.getResponseBody(direction, value);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(conversionCacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     /**
@@ -159,9 +309,174 @@ public class TemperatureController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Convierte un lote de temperaturas de Celsius a Fahrenheit.
+     *
+     * @param request array de valores u objeto con la lista de valores
+     * @return resultados alineados por índice y errores por elemento
+     */
+    @PostMapping("/batch/celsius-to-fahrenheit")
+    @Operation(
+            summary = "Convertir un lote de Celsius a Fahrenheit",
+            description = "Acepta un array JSON de valores (o un objeto con el campo 'values') y devuelve los resultados " +
+                    "en el mismo orden. Los valores inválidos se reportan por índice sin hacer fallar el lote"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote procesado (puede contener errores por elemento)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchConversionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vacío, nulo o demasiado grande",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<BatchConversionResponse> celsiusToFahrenheitBatch(
+            @Parameter(description = "Valores de temperatura en Celsius", required = true)
+            @Valid @RequestBody BatchConversionRequest request) {
+
+        return processBatch(ConversionDirection.CELSIUS_TO_FAHRENHEIT, request);
+    }
+
+    /**
+     * Convierte un lote de temperaturas de Fahrenheit a Celsius.
+     *
+     * @param request array de valores u objeto con la lista de valores
+     * @return resultados alineados por índice y errores por elemento
+     */
+    @PostMapping("/batch/fahrenheit-to-celsius")
+    @Operation(
+            summary = "Convertir un lote de Fahrenheit a Celsius",
+            description = "Acepta un array JSON de valores (o un objeto con el campo 'values') y devuelve los resultados " +
+                    "en el mismo orden. Los valores inválidos se reportan por índice sin hacer fallar el lote"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote procesado (puede contener errores por elemento)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchConversionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vacío, nulo o demasiado grande",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<BatchConversionResponse> fahrenheitToCelsiusBatch(
+            @Parameter(description = "Valores de temperatura en Fahrenheit", required = true)
+            @Valid @RequestBody BatchConversionRequest request) {
+
+        return processBatch(ConversionDirection.FAHRENHEIT_TO_CELSIUS, request);
+    }
+
+    /**
+     * Convierte un lote de temperaturas entre dos unidades cualesquiera.
+     *
+     * @param from    unidad de origen (nombre, inicial o símbolo)
+     * @param to      unidad de destino (nombre, inicial o símbolo)
+     * @param request array de valores u objeto con la lista de valores
+     * @return resultados alineados por índice y errores por elemento
+     */
+    @PostMapping("/convert/batch")
+    @Operation(
+            summary = "Convertir un lote entre dos unidades",
+            description = "Acepta un array JSON de valores (o un objeto con el campo 'values') y los convierte entre " +
+                    "las unidades indicadas en 'from' y 'to'. Los valores inválidos se reportan por índice sin hacer " +
+                    "fallar el lote"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote procesado (puede contener errores por elemento)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchConversionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unidad no válida, lote vacío o demasiado grande",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<BatchConversionResponse> convertBatchBetweenUnits(
+            @Parameter(description = "Unidad de origen", example = "fahrenheit", required = true)
+            @RequestParam(required = false) String from,
+            @Parameter(description = "Unidad de destino", example = "kelvin", required = true)
+            @RequestParam(required = false) String to,
+            @Parameter(description = "Valores de temperatura en la unidad de origen", required = true)
+            @Valid @RequestBody BatchConversionRequest request) {
+
+        return processBatch(TemperatureConversionService.resolveDirection(from, to), request);
+    }
+
+    /**
+     * Convierte un lote de temperaturas en el sentido indicado en el cuerpo.
+     *
+     * @param request objeto con el sentido ('direction') y la lista de valores
+     * @return resultados alineados por índice y errores por elemento
+     */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Convertir un lote en el sentido indicado",
+            description = "Acepta un objeto con los campos 'direction' (p. ej. celsius-to-fahrenheit o kelvin-to-rankine) " +
+                    "y 'values'. Los valores inválidos se reportan por índice sin hacer fallar el lote"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote procesado (puede contener errores por elemento)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BatchConversionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Sentido ausente, lote vacío o demasiado grande",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<BatchConversionResponse> convertBatch(
+            @Parameter(description = "Sentido y valores de temperatura a convertir", required = true)
+            @Valid @RequestBody BatchConversionRequest request) {
+
+        if (request.getDirection() == null) {
+            throw new TemperatureConversionException(
+                    "El sentido de conversión ('direction') es requerido", "MISSING_DIRECTION");
+        }
+        return processBatch(request.getDirection(), request);
+    }
+
+    /**
+     * Convierte un lote en formato binario (double little-endian).
+     * 
+     * Evita el análisis y la escritura de números en JSON; los valores inválidos se
+     * devuelven como NaN y se señalan en un mapa de bits. El formato está descrito
+     * en {@link BinaryBatchCodec}. Los errores de la petición se devuelven en JSON.
+     *
+     * @param body cuerpo binario con cabecera (versión, sentido, número de valores) y valores
+     * @return cuerpo binario con los resultados y el mapa de bits de inválidos
+     */
+    @PostMapping(path = "/batch/binary", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(
+            summary = "Convertir un lote en formato binario",
+            description = "Acepta una cabecera de 8 bytes (versión, sentido, número de valores) seguida de doubles " +
+                    "little-endian, y devuelve los resultados en el mismo formato con un mapa de bits de inválidos"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote procesado (los inválidos se marcan en el mapa de bits)",
+                    content = @Content(mediaType = "application/octet-stream")),
+            @ApiResponse(responseCode = "400", description = "Cuerpo mal formado o lote demasiado grande",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<byte[]> convertBinaryBatch(@RequestBody byte[] body) {
+        byte[] response = binaryBatchCodec.convert(body, maxBatchSize);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(response);
+    }
+
+    /**
+     * Valida el tamaño del lote y delega la conversión en el servicio.
+     *
+     * @param direction sentido de la conversión
+     * @param request   petición con los valores
+     * @return respuesta con los resultados del lote
+     */
+    private ResponseEntity<BatchConversionResponse> processBatch(ConversionDirection direction,
+                                                                 BatchConversionRequest request) {
+        int size = request.getValues().size();
+        if (size > maxBatchSize) {
+            throw new TemperatureConversionException(
+                    String.format("El lote contiene %d valores y el máximo permitido es %d", size, maxBatchSize),
+                    "BATCH_TOO_LARGE", size, maxBatchSize);
+        }
+
+        BatchConversionResponse response = conversionService.convertBatch(direction, request.getValues());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Endpoint de salud para verificar que la API está funcionando.
      *
+     * Devuelve la última verificación periódica del servicio sin convertir nada, por lo que
+     * las sondas frecuentes no añaden carga; "timestamp" es el instante de esa verificación.
+     *
      * @return información del estado de la API
      */
     @GetMapping("/health")
@@ -172,28 +487,20 @@ public class TemperatureController {
     @ApiResponse(responseCode = "200", description = "API funcionando correctamente",
             content = @Content(mediaType = "application/json"))
     public ResponseEntity<Map<String, Object>> healthCheck() {
-        Map<String, Object> health = new HashMap<>();
-        health.put("status", "UP");
-        health.put("service", "Temperature Conversion API");
-        health.put("version", "1.0.0");
-        health.put("timestamp", System.currentTimeMillis());
-
-        // Verificar el servicio con una conversión simple
-        try {
-            conversionService.celsiusToFahrenheit(0.0);
-            health.put("serviceCheck", "OK");
-        } catch (Exception e) {
-            health.put("serviceCheck", "ERROR");
-            health.put("error", e.getMessage());
-            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(health);
+        ConversionHealthIndicator.SelfTestResult health = healthIndicator.getLastResult();
+        if (!health.ok()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(health.document());
         }
-
-        return ResponseEntity.ok(health);
+        return ResponseEntity.ok(health.document());
     }
 
     /**
      * Obtiene información sobre las constantes y límites de la API.
      *
+     * El documento no cambia mientras el proceso está en marcha: se sirven los bytes
+     * serializados al arrancar con su ETag, y un If-None-Match coincidente recibe 304.
+     *
+     * @param ifNoneMatch cabecera If-None-Match opcional
      * @return información sobre los límites de temperatura
      */
     @GetMapping("/info")
@@ -201,30 +508,14 @@ public class TemperatureController {
             summary = "Información de la API",
             description = "Obtiene información sobre las constantes, límites y fórmulas utilizadas en la API"
     )
-    @ApiResponse(responseCode = "200", description = "Información obtenida exitosamente",
-            content = @Content(mediaType = "application/json"))
-    public ResponseEntity<Map<String, Object>> getApiInfo() {
-        Map<String, Object> info = new HashMap<>();
-        info.put("name", "Temperature Conversion API");
-        info.put("description", "API REST para conversión entre Celsius y Fahrenheit");
-        info.put("version", "1.0.0");
-
-        Map<String, String> formulas = new HashMap<>();
-        formulas.put("celsiusToFahrenheit", "F = (C × 9/5) + 32");
-        formulas.put("fahrenheitToCelsius", "C = (F - 32) × 5/9");
-        info.put("formulas", formulas);
-
-        info.put("constants", conversionService.getConversionConstants());
-
-        Map<String, String> endpoints = new HashMap<>();
-        endpoints.put("GET /api/temperature/celsius-to-fahrenheit/{value}", "Convertir Celsius a Fahrenheit");
-        endpoints.put("GET /api/temperature/fahrenheit-to-celsius/{value}", "Convertir Fahrenheit a Celsius");
-        endpoints.put("POST /api/temperature/celsius-to-fahrenheit", "Convertir Celsius a Fahrenheit (JSON)");
-        endpoints.put("POST /api/temperature/fahrenheit-to-celsius", "Convertir Fahrenheit a Celsius (JSON)");
-        endpoints.put("GET /api/temperature/health", "Estado de la API");
-        endpoints.put("GET /api/temperature/info", "Información de la API");
-        info.put("endpoints", endpoints);
-
-        return ResponseEntity.ok(info);
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Información obtenida exitosamente",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "304", description = "El cliente ya tiene el documento actual")
+    })
+    public ResponseEntity<byte[]> getApiInfo(
+            @Parameter(description = "ETag de una respuesta anterior para revalidarla")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return apiInfoDocument.toResponseEntity(ifNoneMatch);
     }
 }
@@ -0,0 +1,94 @@
+package com.temperature.api.controller;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.service.NdjsonConversionProcessor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * Controlador REST para conversiones en streaming con formato NDJSON.
+ * 
+ * Pensado para cargas masivas (backfills) que no caben en memoria: el cuerpo se
+ * lee línea a línea y cada resultado se escribe en la respuesta a medida que se
+ * calcula. Los errores se reportan por línea sin abortar el procesamiento.
+ * 
+ * Endpoints disponibles:
+ * - POST /api/temperature/stream/celsius-to-fahrenheit
+ * - POST /api/temperature/stream/fahrenheit-to-celsius
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/temperature/stream")
+@Tag(name = "Temperature Streaming", description = "Conversión de grandes volúmenes de lecturas en formato NDJSON")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class TemperatureStreamController {
+
+    private final NdjsonConversionProcessor processor;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param processor procesador de conversiones NDJSON
+     */
+    @Autowired
+    public TemperatureStreamController(NdjsonConversionProcessor processor) {
+        this.processor = processor;
+    }
+
+    /**
+     * Convierte un flujo NDJSON de temperaturas de Celsius a Fahrenheit.
+     *
+     * @param request  petición con el cuerpo NDJSON
+     * @param response respuesta donde se escriben los resultados NDJSON
+     * @throws IOException si falla la lectura o la escritura del flujo
+     */
+    @PostMapping(path = "/celsius-to-fahrenheit",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Convertir un flujo NDJSON de Celsius a Fahrenheit",
+            description = "Lee una lectura por línea (número u objeto con el campo 'value') y escribe una línea de " +
+                    "resultado o de error por cada una, con memoria acotada independientemente del tamaño del cuerpo"
+    )
+    @ApiResponse(responseCode = "200", description = "Flujo procesado (puede contener errores por línea)")
+    public void celsiusToFahrenheitStream(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        stream(ConversionDirection.CELSIUS_TO_FAHRENHEIT, request, response);
+    }
+
+    /**
+     * Convierte un flujo NDJSON de temperaturas de Fahrenheit a Celsius.
+     *
+     * @param request  petición con el cuerpo NDJSON
+     * @param response respuesta donde se escriben los resultados NDJSON
+     * @throws IOException si falla la lectura o la escritura del flujo
+     */
+    @PostMapping(path = "/fahrenheit-to-celsius",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Convertir un flujo NDJSON de Fahrenheit a Celsius",
+            description = "Lee una lectura por línea (número u objeto con el campo 'value') y escribe una línea de " +
+                    "resultado o de error por cada una, con memoria acotada independientemente del tamaño del cuerpo"
+    )
+    @ApiResponse(responseCode = "200", description = "Flujo procesado (puede contener errores por línea)")
+    public void fahrenheitToCelsiusStream(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        stream(ConversionDirection.FAHRENHEIT_TO_CELSIUS, request, response);
+    }
+
+    private void stream(ConversionDirection direction, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        processor.process(direction, request.getInputStream(), response.getOutputStream());
+    }
+}
@@ -0,0 +1,122 @@
+package com.temperature.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Construye los cuerpos JSON de error de la API.
+ * 
+ * Lo comparten {@link GlobalExceptionHandler} (Spring MVC) y el manejador de errores
+ * del perfil reactivo, de modo que los clientes reciben exactamente la misma
+ * estructura independientemente del runtime que atendió la petición.
+ */
+public final class ErrorResponses {
+
+    private ErrorResponses() {
+    }
+
+    /**
+     * Cuerpo de error para excepciones de conversión.
+     *
+     * @param ex   excepción de conversión
+     * @param path ruta de la petición
+     * @return cuerpo de error (400)
+     */
+    public static Map<String, Object> conversionError(TemperatureConversionException ex, String path) {
+        Map<String, Object> errorResponse = base(HttpStatus.BAD_REQUEST, ex.getMessage(), path);
+        errorResponse.put("errorCode", ex.getErrorCode());
+        if (ex.getErrorArgs().length > 0) {
+            errorResponse.put("errorArgs", ex.getErrorArgs());
+        }
+        return errorResponse;
+    }
+
+    /**
+     * Cuerpo de error para temperaturas inválidas.
+     *
+     * @param ex   excepción de temperatura inválida
+     * @param path ruta de la petición
+     * @return cuerpo de error (400)
+     */
+    public static Map<String, Object> invalidTemperature(InvalidTemperatureException ex, String path) {
+        Map<String, Object> errorResponse = base(HttpStatus.BAD_REQUEST, ex.getMessage(), path);
+        errorResponse.put("errorCode", ex.getErrorCode());
+        errorResponse.put("invalidValue", ex.getInvalidValue());
+        errorResponse.put("unit", ex.getUnit());
+        return errorResponse;
+    }
+
+    /**
+     * Cuerpo de error para fallos de Bean Validation.
+     *
+     * @param validationErrors mensajes de validación por campo
+     * @param path             ruta de la petición
+     * @return cuerpo de error (400)
+     */
+    public static Map<String, Object> validationError(Map<String, String> validationErrors, String path) {
+        Map<String, Object> errorResponse = base(HttpStatus.BAD_REQUEST, "Datos de entrada inválidos", path);
+        errorResponse.put("validationErrors", validationErrors);
+        errorResponse.put("errorCode", "VALIDATION_ERROR");
+        return errorResponse;
+    }
+
+    /**
+     * Cuerpo de error para parámetros con un tipo incorrecto.
+     *
+     * @param name         nombre del parámetro
+     * @param requiredType tipo esperado (puede ser nulo)
+     * @param value        valor recibido
+     * @param path         ruta de la petición
+     * @return cuerpo de error (400)
+     */
+    public static Map<String, Object> typeMismatch(String name, Class<?> requiredType, Object value, String path) {
+        String message = String.format("El parámetro '%s' debe ser de tipo %s, pero se recibió: '%s'",
+                name,
+                requiredType != null ? requiredType.getSimpleName() : "desconocido",
+                value);
+
+        Map<String, Object> errorResponse = base(HttpStatus.BAD_REQUEST, message, path);
+        errorResponse.put("errorCode", "TYPE_MISMATCH_ERROR");
+        errorResponse.put("parameterName", name);
+        errorResponse.put("providedValue", value);
+        return errorResponse;
+    }
+
+    /**
+     * Cuerpo de error para excepciones no controladas.
+     *
+     * @param ex   excepción genérica
+     * @param path ruta de la petición
+     * @return cuerpo de error (500)
+     */
+    public static Map<String, Object> internalError(Exception ex, String path) {
+        Map<String, Object> errorResponse = base(HttpStatus.INTERNAL_SERVER_ERROR, "Error interno del servidor", path);
+        errorResponse.put("errorCode", "INTERNAL_SERVER_ERROR");
+
+        // En ambiente de desarrollo, incluir detalles técnicos
+        // En producción, estos detalles no deberían exponerse
+        errorResponse.put("technicalMessage", ex.getMessage());
+        return errorResponse;
+    }
+
+    /**
+     * Crea la estructura base de respuesta de error.
+     *
+     * @param status  código de estado HTTP
+     * @param message mensaje de error
+     * @param path    ruta de la petición que causó el error
+     * @return mapa con la estructura base del error
+     */
+    public static Map<String, Object> base(HttpStatus status, String message, String path) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", status.value());
+        errorResponse.put("error", status.getReasonPhrase());
+        errorResponse.put("message", message);
+        errorResponse.put("path", path);
+        return errorResponse;
+    }
+}
@@ -1,5 +1,8 @@
 package com.temperature.api.exception;
 
+import com.temperature.api.service.ConversionMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -10,7 +13,6 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,10 +21,24 @@ import java.util.Map;
  * 
  * Esta clase centraliza el manejo de todas las excepciones de la aplicación,
  * proporcionando respuestas HTTP consistentes y mensajes de error informativos.
+ * Los cuerpos de error se construyen con {@link ErrorResponses}.
  */
 @ControllerAdvice
+@Profile("!reactive")
 public class GlobalExceptionHandler {
 
+    private final ConversionMetrics metrics;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param metrics métricas donde se cuentan los errores por código
+     */
+    @Autowired
+    public GlobalExceptionHandler(ConversionMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Maneja excepciones específicas de conversión de temperatura.
      *
@@ -34,17 +50,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, Object>> handleTemperatureConversionException(
             TemperatureConversionException ex, HttpServletRequest request) {
 
-        Map<String, Object> errorResponse = createBaseErrorResponse(
-                HttpStatus.BAD_REQUEST,
-                ex.getMessage(),
-                request.getRequestURI()
-        );
-
-        errorResponse.put("errorCode", ex.getErrorCode());
-        if (ex.getErrorArgs().length > 0) {
-            errorResponse.put("errorArgs", ex.getErrorArgs());
-        }
-
+        metrics.recordRequestError(ex.getErrorCode());
+        Map<String, Object> errorResponse = ErrorResponses.conversionError(ex, request.getRequestURI());
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
@@ -59,16 +66,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, Object>> handleInvalidTemperatureException(
             InvalidTemperatureException ex, HttpServletRequest request) {
 
-        Map<String, Object> errorResponse = createBaseErrorResponse(
-                HttpStatus.BAD_REQUEST,
-                ex.getMessage(),
-                request.getRequestURI()
-        );
-
-        errorResponse.put("errorCode", ex.getErrorCode());
-        errorResponse.put("invalidValue", ex.getInvalidValue());
-        errorResponse.put("unit", ex.getUnit());
-
+        metrics.recordRequestError(ex.getErrorCode());
+        Map<String, Object> errorResponse = ErrorResponses.invalidTemperature(ex, request.getRequestURI());
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
@@ -83,12 +82,6 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, Object>> handleValidationException(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
 
-        Map<String, Object> errorResponse = createBaseErrorResponse(
-                HttpStatus.BAD_REQUEST,
-                "Datos de entrada inválidos",
-                request.getRequestURI()
-        );
-
         BindingResult bindingResult = ex.getBindingResult();
         Map<String, String> validationErrors = new HashMap<>();
 
@@ -96,9 +89,8 @@ public class GlobalExceptionHandler {
             validationErrors.put(fieldError.getField(), fieldError.getDefaultMessage());
         }
 
-        errorResponse.put("validationErrors", validationErrors);
-        errorResponse.put("errorCode", "VALIDATION_ERROR");
-
+        metrics.recordRequestError("VALIDATION_ERROR");
+        Map<String, Object> errorResponse = ErrorResponses.validationError(validationErrors, request.getRequestURI());
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
@@ -113,21 +105,9 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, Object>> handleTypeMismatchException(
             MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
 
-        String message = String.format("El parámetro '%s' debe ser de tipo %s, pero se recibió: '%s'",
-                ex.getName(),
-                ex.getRequiredType() != null ? ex.getRequiredType().getSimpleName() : "desconocido",
-                ex.getValue());
-
-        Map<String, Object> errorResponse = createBaseErrorResponse(
-                HttpStatus.BAD_REQUEST,
-                message,
-                request.getRequestURI()
-        );
-
-        errorResponse.put("errorCode", "TYPE_MISMATCH_ERROR");
-        errorResponse.put("parameterName", ex.getName());
-        errorResponse.put("providedValue", ex.getValue());
-
+        metrics.recordRequestError("TYPE_MISMATCH_ERROR");
+        Map<String, Object> errorResponse = ErrorResponses.typeMismatch(
+                ex.getName(), ex.getRequiredType(), ex.getValue(), request.getRequestURI());
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
@@ -142,36 +122,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, Object>> handleGenericException(
             Exception ex, HttpServletRequest request) {
 
-        Map<String, Object> errorResponse = createBaseErrorResponse(
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                "Error interno del servidor",
-                request.getRequestURI()
-        );
-
-        errorResponse.put("errorCode", "INTERNAL_SERVER_ERROR");
-
-        // En ambiente de desarrollo, incluir detalles técnicos
-        // En producción, estos detalles no deberían exponerse
-        errorResponse.put("technicalMessage", ex.getMessage());
-
+        metrics.recordRequestError("INTERNAL_SERVER_ERROR");
+        Map<String, Object> errorResponse = ErrorResponses.internalError(ex, request.getRequestURI());
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
-
-    /**
-     * Crea la estructura base de respuesta de error.
-     *
-     * @param status  código de estado HTTP
-     * @param message mensaje de error
-     * @param path    ruta de la petición que causó el error
-     * @return mapa con la estructura base del error
-     */
-    private Map<String, Object> createBaseErrorResponse(HttpStatus status, String message, String path) {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now());
-        errorResponse.put("status", status.value());
-        errorResponse.put("error", status.getReasonPhrase());
-        errorResponse.put("message", message);
-        errorResponse.put("path", path);
-        return errorResponse;
-    }
 }
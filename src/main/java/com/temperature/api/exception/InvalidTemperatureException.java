@@ -19,11 +19,39 @@ public class InvalidTemperatureException extends TemperatureConversionException
      * @param message      mensaje descriptivo del error
      */
     public InvalidTemperatureException(Double invalidValue, String unit, String message) {
-        super(message, "INVALID_TEMPERATURE_VALUE", invalidValue, unit);
+        this(invalidValue, unit, message, true);
+    }
+
+    /**
+     * Constructor que permite omitir la traza de la pila.
+     *
+     * @param invalidValue       valor de temperatura inválido
+     * @param unit               unidad de la temperatura
+     * @param message            mensaje descriptivo del error
+     * @param writableStackTrace false para no capturar la traza de la pila
+     */
+    private InvalidTemperatureException(Double invalidValue, String unit, String message,
+                                        boolean writableStackTrace) {
+        super(message, "INVALID_TEMPERATURE_VALUE", writableStackTrace, new Object[]{invalidValue, unit});
         this.invalidValue = invalidValue;
         this.unit = unit;
     }
 
+    /**
+     * Crea una excepción sin traza de la pila.
+     * 
+     * Las instancias sin traza son inmutables y pueden reutilizarse entre hilos
+     * cuando el mensaje no depende del valor recibido.
+     *
+     * @param value   valor de temperatura inválido
+     * @param unit    unidad de la temperatura
+     * @param message mensaje descriptivo del error
+     * @return nueva instancia de la excepción
+     */
+    public static InvalidTemperatureException withoutStackTrace(Double value, String unit, String message) {
+        return new InvalidTemperatureException(value, unit, message, false);
+    }
+
     /**
      * Crea una excepción para temperatura por debajo del cero absoluto.
      *
@@ -34,7 +62,7 @@ public class InvalidTemperatureException extends TemperatureConversionException
     public static InvalidTemperatureException belowAbsoluteZero(Double value, String unit) {
         String message = String.format("La temperatura %.2f%s está por debajo del cero absoluto. " +
                 "El cero absoluto es -273.15°C (-459.67°F).", value, unit);
-        return new InvalidTemperatureException(value, unit, message);
+        return withoutStackTrace(value, unit, message);
     }
 
     /**
@@ -48,7 +76,7 @@ public class InvalidTemperatureException extends TemperatureConversionException
     public static InvalidTemperatureException exceedsMaximum(Double value, String unit, Double maxLimit) {
         String message = String.format("La temperatura %.2f%s excede el límite máximo de %.1f grados.",
                 value, unit, maxLimit);
-        return new InvalidTemperatureException(value, unit, message);
+        return withoutStackTrace(value, unit, message);
     }
 
     /**
@@ -47,6 +47,25 @@ public class TemperatureConversionException extends RuntimeException {
         this.errorArgs = errorArgs != null ? errorArgs : new Object[0];
     }
 
+    /**
+     * Constructor que permite omitir la traza de la pila.
+     * 
+     * Las excepciones de validación se producen por datos de entrada incorrectos y
+     * no por fallos del programa, por lo que la traza no aporta información y su
+     * captura domina el coste de rechazar un valor.
+     *
+     * @param message            mensaje descriptivo del error
+     * @param errorCode          código específico del error
+     * @param writableStackTrace false para no capturar la traza de la pila
+     * @param errorArgs          argumentos adicionales para el error
+     */
+    protected TemperatureConversionException(String message, String errorCode, boolean writableStackTrace,
+                                             Object[] errorArgs) {
+        super(message, null, false, writableStackTrace);
+        this.errorCode = errorCode;
+        this.errorArgs = errorArgs != null ? errorArgs : new Object[0];
+    }
+
     /**
      * Obtiene el código específico del error.
      *
@@ -0,0 +1,74 @@
+package com.temperature.api.model;
+
+/**
+ * Tamaños de ventana para los agregados de lecturas de sensores.
+ *
+ * Las ventanas son fijas y consecutivas (tumbling) y están alineadas con la época:
+ * una lectura con timestamp {@code t} pertenece a la ventana que empieza en
+ * {@code floor(t / duración) × duración}.
+ */
+public enum AggregationWindow {
+
+    ONE_MINUTE("1m", 60_000L),
+    ONE_HOUR("1h", 3_600_000L);
+
+    private final String label;
+    private final long durationMillis;
+
+    /**
+     * Constructor del enum.
+     *
+     * @param label          etiqueta corta usada en la API (p. ej. "1m")
+     * @param durationMillis duración de la ventana en milisegundos
+     */
+    AggregationWindow(String label, long durationMillis) {
+        this.label = label;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * @return etiqueta corta usada en la API
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return duración de la ventana en milisegundos
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Calcula el inicio de la ventana que contiene un instante.
+     *
+     * @param timestamp instante en milisegundos desde la época
+     * @return inicio de la ventana en milisegundos desde la época
+     */
+    public long windowStart(long timestamp) {
+        return Math.floorDiv(timestamp, durationMillis) * durationMillis;
+    }
+
+    /**
+     * Obtiene la ventana a partir de su etiqueta o de su nombre.
+     *
+     * @param window etiqueta ("1m", "1h") o nombre del enum
+     * @return ventana correspondiente
+     * @throws IllegalArgumentException si la ventana no es válida
+     */
+    public static AggregationWindow fromString(String window) {
+        if (window == null || window.trim().isEmpty()) {
+            throw new IllegalArgumentException("La ventana de agregación no puede estar vacía");
+        }
+
+        String value = window.trim();
+        for (AggregationWindow candidate : values()) {
+            if (candidate.label.equalsIgnoreCase(value) || candidate.name().equalsIgnoreCase(value)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Ventana de agregación no válida: " + window
+                + ". Valores permitidos: 1m, 1h");
+    }
+}
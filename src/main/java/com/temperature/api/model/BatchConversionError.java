@@ -0,0 +1,82 @@
+package com.temperature.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Error de validación de un elemento concreto dentro de un lote.
+ * 
+ * Permite identificar por índice qué lecturas fallaron sin invalidar el resto.
+ */
+public class BatchConversionError {
+
+    /**
+     * Posición del elemento en el array de entrada (base 0).
+     */
+    @JsonProperty("index")
+    private int index;
+
+    /**
+     * Código específico del error.
+     */
+    @JsonProperty("errorCode")
+    private String errorCode;
+
+    /**
+     * Mensaje descriptivo del error.
+     */
+    @JsonProperty("message")
+    private String message;
+
+    /**
+     * Constructor por defecto requerido para la serialización JSON.
+     */
+    public BatchConversionError() {
+    }
+
+    /**
+     * Constructor completo.
+     *
+     * @param index     posición del elemento inválido
+     * @param errorCode código del error
+     * @param message   mensaje descriptivo
+     */
+    public BatchConversionError(int index, String errorCode, String message) {
+        this.index = index;
+        this.errorCode = errorCode;
+        this.message = message;
+    }
+
+    // Getters y Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchConversionError{" +
+                "index=" + index +
+                ", errorCode='" + errorCode + '\'' +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,84 @@
+package com.temperature.api.model;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO (Data Transfer Object) para las peticiones de conversión por lotes.
+ * 
+ * Acepta dos formas en el cuerpo JSON:
+ * - Un array de valores: {@code [25.0, 30.5, -999]}
+ * - Un objeto con los valores y, opcionalmente, el sentido:
+ *   {@code {"direction": "celsius-to-fahrenheit", "values": [25.0, 30.5]}}
+ * 
+ * Los valores no se validan aquí de forma individual: cada elemento inválido se
+ * reporta por su índice en la respuesta sin hacer fallar el resto del lote.
+ */
+public class BatchConversionRequest {
+
+    /**
+     * Sentido de la conversión. Es opcional cuando la ruta ya lo determina.
+     */
+    private ConversionDirection direction;
+
+    /**
+     * Valores de temperatura a convertir (se admiten nulos, que se reportan como error).
+     */
+    @NotNull(message = "La lista de valores es requerida")
+    private List<Double> values;
+
+    /**
+     * Constructor por defecto requerido para la deserialización JSON.
+     */
+    public BatchConversionRequest() {
+    }
+
+    /**
+     * Constructor con parámetros para crear una petición por lotes.
+     *
+     * @param direction sentido de la conversión
+     * @param values    valores a convertir
+     */
+    public BatchConversionRequest(ConversionDirection direction, List<Double> values) {
+        this.direction = direction;
+        this.values = values;
+    }
+
+    /**
+     * Crea una petición a partir de un array JSON de valores.
+     *
+     * @param values valores a convertir
+     * @return nueva petición sin sentido explícito
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static BatchConversionRequest ofValues(List<Double> values) {
+        return new BatchConversionRequest(null, values);
+    }
+
+    public ConversionDirection getDirection() {
+        return direction;
+    }
+
+    public void setDirection(ConversionDirection direction) {
+        this.direction = direction;
+    }
+
+    public List<Double> getValues() {
+        return values;
+    }
+
+    public void setValues(List<Double> values) {
+        this.values = values;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchConversionRequest{" +
+                "direction=" + direction +
+                ", values=" + (values != null ? values.size() + " elementos" : "null") +
+                '}';
+    }
+}
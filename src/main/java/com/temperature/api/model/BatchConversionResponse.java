@@ -0,0 +1,164 @@
+package com.temperature.api.model;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * DTO (Data Transfer Object) para las respuestas de conversión por lotes.
+ * 
+ * Los resultados se devuelven como un array compacto en el mismo orden que la
+ * entrada; los elementos inválidos aparecen como {@code null} en {@code results}
+ * y se detallan por índice en {@code errors}.
+ */
+public class BatchConversionResponse {
+
+    /**
+     * Sentido de la conversión aplicada.
+     */
+    @JsonProperty("direction")
+    private ConversionDirection direction;
+
+    /**
+     * Unidad de temperatura original (Celsius o Fahrenheit).
+     */
+    @JsonProperty("originalUnit")
+    private String originalUnit;
+
+    /**
+     * Unidad de temperatura convertida (Celsius o Fahrenheit).
+     */
+    @JsonProperty("convertedUnit")
+    private String convertedUnit;
+
+    /**
+     * Número total de elementos recibidos.
+     */
+    @JsonProperty("count")
+    private int count;
+
+    /**
+     * Número de elementos que no pudieron convertirse.
+     */
+    @JsonProperty("errorCount")
+    private int errorCount;
+
+    /**
+     * Valores convertidos, alineados por índice con la entrada.
+     */
+    @JsonProperty("results")
+    private List<Double> results;
+
+    /**
+     * Errores por índice (se omite cuando no hay errores).
+     */
+    @JsonProperty("errors")
+    private List<BatchConversionError> errors;
+
+    /**
+     * Timestamp de cuando se realizó la conversión.
+     */
+    @JsonProperty("timestamp")
+    private long timestamp;
+
+    /**
+     * Constructor por defecto requerido para la serialización JSON.
+     */
+    public BatchConversionResponse() {
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Constructor completo para crear una respuesta por lotes.
+     *
+     * @param direction sentido de la conversión
+     * @param results   valores convertidos (null en los índices inválidos)
+     * @param errors    errores por índice, o null si no hubo errores
+     */
+    public BatchConversionResponse(ConversionDirection direction, List<Double> results,
+                                   List<BatchConversionError> errors) {
+        this();
+        this.direction = direction;
+        this.originalUnit = direction.getSourceUnit().getDisplayName();
+        this.convertedUnit = direction.getTargetUnit().getDisplayName();
+        this.count = results.size();
+        this.errorCount = errors != null ? errors.size() : 0;
+        this.results = results;
+        this.errors = errors;
+    }
+
+    // Getters y Setters
+    public ConversionDirection getDirection() {
+        return direction;
+    }
+
+    public void setDirection(ConversionDirection direction) {
+        this.direction = direction;
+    }
+
+    public String getOriginalUnit() {
+        return originalUnit;
+    }
+
+    public void setOriginalUnit(String originalUnit) {
+        this.originalUnit = originalUnit;
+    }
+
+    public String getConvertedUnit() {
+        return convertedUnit;
+    }
+
+    public void setConvertedUnit(String convertedUnit) {
+        this.convertedUnit = convertedUnit;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public void setErrorCount(int errorCount) {
+        this.errorCount = errorCount;
+    }
+
+    public List<Double> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Double> results) {
+        this.results = results;
+    }
+
+    public List<BatchConversionError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<BatchConversionError> errors) {
+        this.errors = errors;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchConversionResponse{" +
+                "direction=" + direction +
+                ", count=" + count +
+                ", errorCount=" + errorCount +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -0,0 +1,199 @@
+package com.temperature.api.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * Enumeración que representa los sentidos de conversión soportados por la API.
+ * 
+ * Cada sentido conoce la unidad de origen, la unidad de destino, la fórmula
+ * utilizada y el segmento de ruta con el que se expone en los endpoints. Hay un
+ * sentido por cada par ordenado de unidades distintas; los dos primeros conservan
+ * su posición porque el formato binario de lotes los identifica por ordinal.
+ */
+public enum ConversionDirection {
+
+    /**
+     * Conversión de grados Celsius a grados Fahrenheit.
+     */
+    CELSIUS_TO_FAHRENHEIT(TemperatureUnit.CELSIUS, TemperatureUnit.FAHRENHEIT,
+            "F = (C × 9/5) + 32", "celsius-to-fahrenheit"),
+
+    /**
+     * Conversión de grados Fahrenheit a grados Celsius.
+     */
+    FAHRENHEIT_TO_CELSIUS(TemperatureUnit.FAHRENHEIT, TemperatureUnit.CELSIUS,
+            "C = (F - 32) × 5/9", "fahrenheit-to-celsius"),
+
+    /**
+     * Conversión de grados Celsius a kelvin.
+     */
+    CELSIUS_TO_KELVIN(TemperatureUnit.CELSIUS, TemperatureUnit.KELVIN,
+            "K = C + 273.15", "celsius-to-kelvin"),
+
+    /**
+     * Conversión de kelvin a grados Celsius.
+     */
+    KELVIN_TO_CELSIUS(TemperatureUnit.KELVIN, TemperatureUnit.CELSIUS,
+            "C = K - 273.15", "kelvin-to-celsius"),
+
+    /**
+     * Conversión de grados Celsius a grados Rankine.
+     */
+    CELSIUS_TO_RANKINE(TemperatureUnit.CELSIUS, TemperatureUnit.RANKINE,
+            "R = C × 9/5 + 491.67", "celsius-to-rankine"),
+
+    /**
+     * Conversión de grados Rankine a grados Celsius.
+     */
+    RANKINE_TO_CELSIUS(TemperatureUnit.RANKINE, TemperatureUnit.CELSIUS,
+            "C = R × 5/9 - 273.15", "rankine-to-celsius"),
+
+    /**
+     * Conversión de grados Fahrenheit a kelvin.
+     */
+    FAHRENHEIT_TO_KELVIN(TemperatureUnit.FAHRENHEIT, TemperatureUnit.KELVIN,
+            "K = (F + 459.67) × 5/9", "fahrenheit-to-kelvin"),
+
+    /**
+     * Conversión de kelvin a grados Fahrenheit.
+     */
+    KELVIN_TO_FAHRENHEIT(TemperatureUnit.KELVIN, TemperatureUnit.FAHRENHEIT,
+            "F = K × 9/5 - 459.67", "kelvin-to-fahrenheit"),
+
+    /**
+     * Conversión de grados Fahrenheit a grados Rankine.
+     */
+    FAHRENHEIT_TO_RANKINE(TemperatureUnit.FAHRENHEIT, TemperatureUnit.RANKINE,
+            "R = F + 459.67", "fahrenheit-to-rankine"),
+
+    /**
+     * Conversión de grados Rankine a grados Fahrenheit.
+     */
+    RANKINE_TO_FAHRENHEIT(TemperatureUnit.RANKINE, TemperatureUnit.FAHRENHEIT,
+            "F = R - 459.67", "rankine-to-fahrenheit"),
+
+    /**
+     * Conversión de kelvin a grados Rankine.
+     */
+    KELVIN_TO_RANKINE(TemperatureUnit.KELVIN, TemperatureUnit.RANKINE,
+            "R = K × 9/5", "kelvin-to-rankine"),
+
+    /**
+     * Conversión de grados Rankine a kelvin.
+     */
+    RANKINE_TO_KELVIN(TemperatureUnit.RANKINE, TemperatureUnit.KELVIN,
+            "K = R × 5/9", "rankine-to-kelvin");
+
+    /**
+     * Sentido para cada par (origen, destino), indexado por ordinal; nulo en la diagonal.
+     */
+    private static final ConversionDirection[][] BY_UNITS =
+            new ConversionDirection[TemperatureUnit.values().length][TemperatureUnit.values().length];
+
+    static {
+        for (ConversionDirection direction : values()) {
+            BY_UNITS[direction.sourceUnit.ordinal()][direction.targetUnit.ordinal()] = direction;
+        }
+    }
+
+    private final TemperatureUnit sourceUnit;
+    private final TemperatureUnit targetUnit;
+    private final String formula;
+    private final String pathSegment;
+
+    /**
+     * Constructor del enum.
+     *
+     * @param sourceUnit  unidad de la temperatura de entrada
+     * @param targetUnit  unidad de la temperatura convertida
+     * @param formula     fórmula utilizada (para fines educativos)
+     * @param pathSegment segmento de ruta usado en los endpoints
+     */
+    ConversionDirection(TemperatureUnit sourceUnit, TemperatureUnit targetUnit,
+                        String formula, String pathSegment) {
+        this.sourceUnit = sourceUnit;
+        this.targetUnit = targetUnit;
+        this.formula = formula;
+        this.pathSegment = pathSegment;
+    }
+
+    /**
+     * Obtiene la unidad de la temperatura de entrada.
+     *
+     * @return unidad de origen
+     */
+    public TemperatureUnit getSourceUnit() {
+        return sourceUnit;
+    }
+
+    /**
+     * Obtiene la unidad de la temperatura convertida.
+     *
+     * @return unidad de destino
+     */
+    public TemperatureUnit getTargetUnit() {
+        return targetUnit;
+    }
+
+    /**
+     * Obtiene la fórmula utilizada para la conversión.
+     *
+     * @return fórmula de conversión
+     */
+    public String getFormula() {
+        return formula;
+    }
+
+    /**
+     * Obtiene el segmento de ruta asociado (ej: celsius-to-fahrenheit).
+     *
+     * @return segmento de ruta
+     */
+    public String getPathSegment() {
+        return pathSegment;
+    }
+
+    /**
+     * Obtiene el sentido que convierte entre dos unidades.
+     *
+     * @param sourceUnit unidad de origen
+     * @param targetUnit unidad de destino
+     * @return sentido de conversión
+     * @throws IllegalArgumentException si ambas unidades son la misma
+     */
+    public static ConversionDirection of(TemperatureUnit sourceUnit, TemperatureUnit targetUnit) {
+        ConversionDirection direction = BY_UNITS[sourceUnit.ordinal()][targetUnit.ordinal()];
+        if (direction == null) {
+            throw new IllegalArgumentException("Las unidades de origen y destino deben ser distintas: "
+                    + sourceUnit.getDisplayName());
+        }
+        return direction;
+    }
+
+    /**
+     * Convierte una cadena de texto al sentido de conversión correspondiente.
+     * Acepta tanto el nombre del enum como el segmento de ruta.
+     *
+     * @param direction cadena con el sentido de conversión
+     * @return el sentido de conversión correspondiente
+     * @throws IllegalArgumentException si el sentido no es válido
+     */
+    @JsonCreator
+    public static ConversionDirection fromString(String direction) {
+        if (direction == null || direction.trim().isEmpty()) {
+            throw new IllegalArgumentException("El sentido de conversión no puede estar vacío");
+        }
+
+        String normalized = direction.trim();
+        for (ConversionDirection candidate : values()) {
+            if (candidate.name().equalsIgnoreCase(normalized)
+                    || candidate.pathSegment.equalsIgnoreCase(normalized)) {
+                return candidate;
+            }
+        }
+
+        throw new IllegalArgumentException("Sentido de conversión no válido: " + direction +
+                ". Los sentidos válidos son de la forma <origen>-to-<destino> con las unidades " +
+                "celsius, fahrenheit, kelvin y rankine (ej: celsius-to-fahrenheit)");
+    }
+}
@@ -0,0 +1,126 @@
+package com.temperature.api.model;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * DTO (Data Transfer Object) con la serie de un dispositivo construida a partir de los
+ * resúmenes precalculados.
+ */
+public class RollupSeriesResponse {
+
+    /**
+     * Identificador del dispositivo.
+     */
+    @JsonProperty("deviceId")
+    private final String deviceId;
+
+    /**
+     * Unidad de los valores.
+     */
+    @JsonProperty("unit")
+    private final String unit;
+
+    /**
+     * Nivel de resumen usado (1m, 1h o 1d).
+     */
+    @JsonProperty("tier")
+    private final String tier;
+
+    /**
+     * Inicio del intervalo consultado (ms desde la época, alineado al paso).
+     */
+    @JsonProperty("from")
+    private final long from;
+
+    /**
+     * Fin del intervalo consultado (ms desde la época, excluido).
+     */
+    @JsonProperty("to")
+    private final long to;
+
+    /**
+     * Duración de cada intervalo de la serie (ms).
+     */
+    @JsonProperty("stepMillis")
+    private final long stepMillis;
+
+    /**
+     * Intervalos con lecturas, en orden cronológico.
+     */
+    @JsonProperty("buckets")
+    private final List<WindowAggregate> buckets;
+
+    /**
+     * Lecturas ya persistidas que aún no estaban resumidas al consultar.
+     */
+    @JsonProperty("pendingReadings")
+    private final long pendingReadings;
+
+    /**
+     * Constructor completo.
+     *
+     * @param deviceId        identificador del dispositivo
+     * @param unit            unidad de los valores
+     * @param tier            etiqueta del nivel de resumen usado
+     * @param from            inicio del intervalo
+     * @param to              fin del intervalo
+     * @param stepMillis      duración de cada intervalo de la serie
+     * @param buckets         intervalos con lecturas
+     * @param pendingReadings lecturas pendientes de resumir
+     */
+    public RollupSeriesResponse(String deviceId, TemperatureUnit unit, String tier, long from, long to,
+                                long stepMillis, List<WindowAggregate> buckets, long pendingReadings) {
+        this.deviceId = deviceId;
+        this.unit = unit.getDisplayName();
+        this.tier = tier;
+        this.from = from;
+        this.to = to;
+        this.stepMillis = stepMillis;
+        this.buckets = buckets;
+        this.pendingReadings = pendingReadings;
+    }
+
+    public String getDeviceId() {
+        return deviceId;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public String getTier() {
+        return tier;
+    }
+
+    public long getFrom() {
+        return from;
+    }
+
+    public long getTo() {
+        return to;
+    }
+
+    public long getStepMillis() {
+        return stepMillis;
+    }
+
+    public List<WindowAggregate> getBuckets() {
+        return buckets;
+    }
+
+    public long getPendingReadings() {
+        return pendingReadings;
+    }
+
+    @Override
+    public String toString() {
+        return "RollupSeriesResponse{" +
+                "deviceId='" + deviceId + '\'' +
+                ", unit='" + unit + '\'' +
+                ", tier='" + tier + '\'' +
+                ", buckets=" + buckets.size() + " elementos" +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package com.temperature.api.model;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Petición de ingesta de lecturas de sensores.
+ *
+ * Acepta dos formas en el cuerpo JSON:
+ * - Un array de lecturas: {@code [{"deviceId": "t-1", "timestamp": 1700000000000, "value": 71.6, "unit": "F"}]}
+ * - Un objeto con las lecturas: {@code {"readings": [...]}}
+ */
+public class SensorIngestRequest {
+
+    /**
+     * Lecturas a ingerir (se admiten elementos nulos, que se reportan como error).
+     */
+    @NotNull(message = "La lista de lecturas es requerida")
+    private List<SensorReading> readings;
+
+    /**
+     * Constructor por defecto requerido para la deserialización JSON.
+     */
+    public SensorIngestRequest() {
+    }
+
+    /**
+     * Constructor con las lecturas.
+     *
+     * @param readings lecturas a ingerir
+     */
+    public SensorIngestRequest(List<SensorReading> readings) {
+        this.readings = readings;
+    }
+
+    /**
+     * Crea una petición a partir de un array JSON de lecturas.
+     *
+     * @param readings lecturas a ingerir
+     * @return nueva petición
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static SensorIngestRequest ofReadings(List<SensorReading> readings) {
+        return new SensorIngestRequest(readings);
+    }
+
+    public List<SensorReading> getReadings() {
+        return readings;
+    }
+
+    public void setReadings(List<SensorReading> readings) {
+        this.readings = readings;
+    }
+
+    @Override
+    public String toString() {
+        return "SensorIngestRequest{" +
+                "readings=" + (readings != null ? readings.size() + " elementos" : "null") +
+                '}';
+    }
+}
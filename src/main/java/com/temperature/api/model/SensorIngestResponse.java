@@ -0,0 +1,76 @@
+package com.temperature.api.model;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * DTO (Data Transfer Object) para las respuestas de ingesta de lecturas de sensores.
+ *
+ * Las lecturas inválidas no interrumpen la ingesta: se descartan y se detallan por
+ * índice en {@code errors}.
+ */
+public class SensorIngestResponse {
+
+    /**
+     * Número de lecturas recibidas.
+     */
+    @JsonProperty("count")
+    private final int count;
+
+    /**
+     * Número de lecturas incorporadas a los agregados.
+     */
+    @JsonProperty("accepted")
+    private final int accepted;
+
+    /**
+     * Número de lecturas descartadas.
+     */
+    @JsonProperty("rejected")
+    private final int rejected;
+
+    /**
+     * Errores por índice (se omite cuando no hay errores).
+     */
+    @JsonProperty("errors")
+    private final List<BatchConversionError> errors;
+
+    /**
+     * Constructor completo.
+     *
+     * @param count  número de lecturas recibidas
+     * @param errors errores por índice, o null si no hubo errores
+     */
+    public SensorIngestResponse(int count, List<BatchConversionError> errors) {
+        this.count = count;
+        this.rejected = errors != null ? errors.size() : 0;
+        this.accepted = count - rejected;
+        this.errors = errors;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getAccepted() {
+        return accepted;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public List<BatchConversionError> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        return "SensorIngestResponse{" +
+                "count=" + count +
+                ", accepted=" + accepted +
+                ", rejected=" + rejected +
+                '}';
+    }
+}
@@ -0,0 +1,97 @@
+package com.temperature.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.temperature.api.codec.FastDoubleDeserializer;
+
+/**
+ * Lectura de temperatura enviada por un dispositivo.
+ *
+ * Los campos no se validan aquí: cada lectura inválida se reporta por su índice en
+ * la respuesta de ingesta sin hacer fallar el resto de lecturas.
+ */
+public class SensorReading {
+
+    /**
+     * Identificador del dispositivo.
+     */
+    private String deviceId;
+
+    /**
+     * Instante de la lectura en milisegundos desde la época.
+     */
+    private Long timestamp;
+
+    /**
+     * Valor medido en la unidad indicada.
+     */
+    @JsonDeserialize(using = FastDoubleDeserializer.class)
+    private Double value;
+
+    /**
+     * Unidad de la lectura (nombre, inicial o símbolo, ver {@link TemperatureUnit#fromString}).
+     */
+    private String unit;
+
+    /**
+     * Constructor por defecto requerido para la deserialización JSON.
+     */
+    public SensorReading() {
+    }
+
+    /**
+     * Constructor con todos los campos.
+     *
+     * @param deviceId  identificador del dispositivo
+     * @param timestamp instante de la lectura (ms desde la época)
+     * @param value     valor medido
+     * @param unit      unidad de la lectura
+     */
+    public SensorReading(String deviceId, Long timestamp, Double value, String unit) {
+        this.deviceId = deviceId;
+        this.timestamp = timestamp;
+        this.value = value;
+        this.unit = unit;
+    }
+
+    public String getDeviceId() {
+        return deviceId;
+    }
+
+    public void setDeviceId(String deviceId) {
+        this.deviceId = deviceId;
+    }
+
+    public Long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public Double getValue() {
+        return value;
+    }
+
+    public void setValue(Double value) {
+        this.value = value;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    @Override
+    public String toString() {
+        return "SensorReading{" +
+                "deviceId='" + deviceId + '\'' +
+                ", timestamp=" + timestamp +
+                ", value=" + value +
+                ", unit='" + unit + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,122 @@
+package com.temperature.api.model;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * DTO (Data Transfer Object) con la serie reducida de un dispositivo en un intervalo.
+ */
+public class SensorSeriesResponse {
+
+    /**
+     * Identificador del dispositivo.
+     */
+    @JsonProperty("deviceId")
+    private final String deviceId;
+
+    /**
+     * Unidad de los valores.
+     */
+    @JsonProperty("unit")
+    private final String unit;
+
+    /**
+     * Inicio del intervalo consultado (ms desde la época, alineado al paso).
+     */
+    @JsonProperty("from")
+    private final long from;
+
+    /**
+     * Fin del intervalo consultado (ms desde la época, excluido).
+     */
+    @JsonProperty("to")
+    private final long to;
+
+    /**
+     * Duración de cada intervalo de la serie (ms).
+     */
+    @JsonProperty("stepMillis")
+    private final long stepMillis;
+
+    /**
+     * Intervalos con lecturas, en orden cronológico.
+     */
+    @JsonProperty("buckets")
+    private final List<SeriesBucket> buckets;
+
+    /**
+     * Origen de los datos: segmentos recorridos, resueltos con el índice y descartados.
+     */
+    @JsonProperty("segments")
+    private final Segments segments;
+
+    /**
+     * Constructor completo.
+     *
+     * @param deviceId   identificador del dispositivo
+     * @param unit       unidad de los valores
+     * @param from       inicio del intervalo
+     * @param to         fin del intervalo
+     * @param stepMillis duración de cada intervalo de la serie
+     * @param buckets    intervalos con lecturas
+     * @param segments   segmentos consultados
+     */
+    public SensorSeriesResponse(String deviceId, TemperatureUnit unit, long from, long to, long stepMillis,
+                                List<SeriesBucket> buckets, Segments segments) {
+        this.deviceId = deviceId;
+        this.unit = unit.getDisplayName();
+        this.from = from;
+        this.to = to;
+        this.stepMillis = stepMillis;
+        this.buckets = buckets;
+        this.segments = segments;
+    }
+
+    public String getDeviceId() {
+        return deviceId;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public long getFrom() {
+        return from;
+    }
+
+    public long getTo() {
+        return to;
+    }
+
+    public long getStepMillis() {
+        return stepMillis;
+    }
+
+    public List<SeriesBucket> getBuckets() {
+        return buckets;
+    }
+
+    public Segments getSegments() {
+        return segments;
+    }
+
+    /**
+     * Segmentos del registro consultados para construir la serie.
+     *
+     * @param scanned    recorridos lectura a lectura
+     * @param summarized resueltos con el índice del segmento
+     * @param skipped    descartados por el índice
+     */
+    public record Segments(int scanned, int summarized, int skipped) {
+    }
+
+    @Override
+    public String toString() {
+        return "SensorSeriesResponse{" +
+                "deviceId='" + deviceId + '\'' +
+                ", unit='" + unit + '\'' +
+                ", buckets=" + buckets.size() + " elementos" +
+                '}';
+    }
+}
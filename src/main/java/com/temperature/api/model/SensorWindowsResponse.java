@@ -0,0 +1,87 @@
+package com.temperature.api.model;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * DTO (Data Transfer Object) con los agregados por ventana de un dispositivo.
+ */
+public class SensorWindowsResponse {
+
+    /**
+     * Identificador del dispositivo.
+     */
+    @JsonProperty("deviceId")
+    private final String deviceId;
+
+    /**
+     * Tamaño de las ventanas ("1m", "1h").
+     */
+    @JsonProperty("window")
+    private final String window;
+
+    /**
+     * Unidad de los valores agregados.
+     */
+    @JsonProperty("unit")
+    private final String unit;
+
+    /**
+     * Ventanas con lecturas, en orden cronológico.
+     */
+    @JsonProperty("windows")
+    private final List<WindowAggregate> windows;
+
+    /**
+     * Memoria reservada para los agregados del dispositivo (bytes, fija por dispositivo).
+     */
+    @JsonProperty("memoryBytes")
+    private final long memoryBytes;
+
+    /**
+     * Constructor completo.
+     *
+     * @param deviceId    identificador del dispositivo
+     * @param window      tamaño de las ventanas
+     * @param windows     ventanas con lecturas en orden cronológico
+     * @param memoryBytes memoria reservada para el dispositivo
+     */
+    public SensorWindowsResponse(String deviceId, AggregationWindow window, List<WindowAggregate> windows,
+                                 long memoryBytes) {
+        this.deviceId = deviceId;
+        this.window = window.getLabel();
+        this.unit = TemperatureUnit.CELSIUS.getDisplayName();
+        this.windows = windows;
+        this.memoryBytes = memoryBytes;
+    }
+
+    public String getDeviceId() {
+        return deviceId;
+    }
+
+    public String getWindow() {
+        return window;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public List<WindowAggregate> getWindows() {
+        return windows;
+    }
+
+    public long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "SensorWindowsResponse{" +
+                "deviceId='" + deviceId + '\'' +
+                ", window='" + window + '\'' +
+                ", windows=" + windows.size() + " elementos" +
+                '}';
+    }
+}
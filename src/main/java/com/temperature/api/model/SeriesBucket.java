@@ -0,0 +1,115 @@
+package com.temperature.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Intervalo de una serie temporal reducida: resumen de las lecturas de un dispositivo
+ * entre {@code start} y {@code end}.
+ *
+ * Los valores están en la unidad pedida con 2 decimales.
+ */
+public class SeriesBucket {
+
+    /**
+     * Inicio del intervalo (ms desde la época, incluido).
+     */
+    @JsonProperty("start")
+    private final long start;
+
+    /**
+     * Fin del intervalo (ms desde la época, excluido).
+     */
+    @JsonProperty("end")
+    private final long end;
+
+    /**
+     * Número de lecturas del intervalo.
+     */
+    @JsonProperty("count")
+    private final long count;
+
+    /**
+     * Temperatura mínima.
+     */
+    @JsonProperty("min")
+    private final double min;
+
+    /**
+     * Temperatura máxima.
+     */
+    @JsonProperty("max")
+    private final double max;
+
+    /**
+     * Temperatura media, redondeada HALF_UP a 2 decimales en Celsius antes de convertirla.
+     */
+    @JsonProperty("avg")
+    private final double avg;
+
+    /**
+     * Temperatura de la lectura más reciente del intervalo.
+     */
+    @JsonProperty("last")
+    private final double last;
+
+    /**
+     * Constructor completo.
+     *
+     * @param start inicio del intervalo (incluido)
+     * @param end   fin del intervalo (excluido)
+     * @param count número de lecturas
+     * @param min   temperatura mínima
+     * @param max   temperatura máxima
+     * @param avg   temperatura media
+     * @param last  temperatura más reciente
+     */
+    public SeriesBucket(long start, long end, long count, double min, double max, double avg, double last) {
+        this.start = start;
+        this.end = end;
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.avg = avg;
+        this.last = last;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getAvg() {
+        return avg;
+    }
+
+    public double getLast() {
+        return last;
+    }
+
+    @Override
+    public String toString() {
+        return "SeriesBucket{" +
+                "start=" + start +
+                ", count=" + count +
+                ", min=" + min +
+                ", max=" + max +
+                ", avg=" + avg +
+                ", last=" + last +
+                '}';
+    }
+}
@@ -1,5 +1,7 @@
 package com.temperature.api.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.temperature.api.codec.FastDoubleDeserializer;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
@@ -17,10 +19,12 @@ public class TemperatureConversionRequest {
      * Los límites están basados en temperaturas físicamente alcanzables:
      * - Mínimo: Cero absoluto en Celsius (-273.15°C)
      * - Máximo: Temperatura razonable para aplicaciones prácticas (10,000°)
+     * Se lee con {@link FastDoubleDeserializer}, que acepta lo mismo que Jackson.
      */
     @NotNull(message = "El valor de temperatura es requerido")
     @DecimalMin(value = "-273.15", message = "La temperatura no puede ser menor al cero absoluto (-273.15°C)")
     @DecimalMax(value = "10000.0", message = "La temperatura no puede exceder los 10,000 grados")
+    @JsonDeserialize(using = FastDoubleDeserializer.class)
     private Double value;
 
     /**
@@ -11,25 +11,48 @@ public enum TemperatureUnit {
     /**
      * Grados Celsius (°C) - Unidad del Sistema Internacional.
      */
-    CELSIUS("°C", "Celsius"),
+    CELSIUS("°C", "Celsius", -27_315, 1, 1),
 
     /**
      * Grados Fahrenheit (°F) - Unidad del sistema imperial.
      */
-    FAHRENHEIT("°F", "Fahrenheit");
+    FAHRENHEIT("°F", "Fahrenheit", -45_967, 5, 9),
+
+    /**
+     * Kelvin (K) - Escala absoluta del Sistema Internacional.
+     */
+    KELVIN("K", "Kelvin", 0, 1, 1),
+
+    /**
+     * Grados Rankine (°R) - Escala absoluta con grados Fahrenheit.
+     */
+    RANKINE("°R", "Rankine", 0, 5, 9);
 
     private final String symbol;
     private final String displayName;
+    private final long absoluteZeroHundredths;
+    private final long kelvinPerDegreeNumerator;
+    private final long kelvinPerDegreeDenominator;
 
     /**
      * Constructor del enum.
      *
-     * @param symbol      símbolo de la unidad (ej: °C, °F)
-     * @param displayName nombre completo para mostrar
+     * Cada unidad se define de forma exacta respecto a kelvin:
+     * {@code K = (valor - ceroAbsoluto) × numerador / denominador}.
+     *
+     * @param symbol                     símbolo de la unidad (ej: °C, °F)
+     * @param displayName                nombre completo para mostrar
+     * @param absoluteZeroHundredths     cero absoluto en la unidad, en centésimas
+     * @param kelvinPerDegreeNumerator   numerador del tamaño del grado en kelvin
+     * @param kelvinPerDegreeDenominator denominador del tamaño del grado en kelvin
      */
-    TemperatureUnit(String symbol, String displayName) {
+    TemperatureUnit(String symbol, String displayName, long absoluteZeroHundredths,
+                    long kelvinPerDegreeNumerator, long kelvinPerDegreeDenominator) {
         this.symbol = symbol;
         this.displayName = displayName;
+        this.absoluteZeroHundredths = absoluteZeroHundredths;
+        this.kelvinPerDegreeNumerator = kelvinPerDegreeNumerator;
+        this.kelvinPerDegreeDenominator = kelvinPerDegreeDenominator;
     }
 
     /**
@@ -50,6 +73,52 @@ public enum TemperatureUnit {
         return displayName;
     }
 
+    /**
+     * Obtiene el cero absoluto expresado en esta unidad.
+     *
+     * @return cero absoluto (ej: -273.15 para Celsius)
+     */
+    public double getAbsoluteZero() {
+        return absoluteZeroHundredths / 100.0;
+    }
+
+    /**
+     * Obtiene el cero absoluto en centésimas, sin error de redondeo.
+     *
+     * @return cero absoluto × 100
+     */
+    public long getAbsoluteZeroHundredths() {
+        return absoluteZeroHundredths;
+    }
+
+    /**
+     * Numerador del tamaño de un grado de esta unidad expresado en kelvin.
+     *
+     * @return numerador (ej: 5 para Fahrenheit, que mide 5/9 K)
+     */
+    public long getKelvinPerDegreeNumerator() {
+        return kelvinPerDegreeNumerator;
+    }
+
+    /**
+     * Denominador del tamaño de un grado de esta unidad expresado en kelvin.
+     *
+     * @return denominador (ej: 9 para Fahrenheit, que mide 5/9 K)
+     */
+    public long getKelvinPerDegreeDenominator() {
+        return kelvinPerDegreeDenominator;
+    }
+
+    /**
+     * Convierte un valor de esta unidad a kelvin en coma flotante, sin redondear.
+     *
+     * @param value temperatura en esta unidad
+     * @return temperatura en kelvin
+     */
+    public double toKelvin(double value) {
+        return (value - getAbsoluteZero()) * kelvinPerDegreeNumerator / kelvinPerDegreeDenominator;
+    }
+
     /**
      * Convierte una cadena de texto a la unidad de temperatura correspondiente.
      *
@@ -73,9 +142,16 @@ public enum TemperatureUnit {
             case "F":
             case "°F":
                 return FAHRENHEIT;
+            case "KELVIN":
+            case "K":
+                return KELVIN;
+            case "RANKINE":
+            case "R":
+            case "°R":
+                return RANKINE;
             default:
                 throw new IllegalArgumentException("Unidad de temperatura no válida: " + unit + 
-                    ". Las unidades válidas son: Celsius, C, °C, Fahrenheit, F, °F");
+                    ". Las unidades válidas son: Celsius, C, °C, Fahrenheit, F, °F, Kelvin, K, Rankine, R, °R");
         }
     }
 
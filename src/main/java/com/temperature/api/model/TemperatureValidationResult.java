@@ -0,0 +1,54 @@
+package com.temperature.api.model;
+
+/**
+ * Resultado de validar una temperatura sin lanzar excepciones.
+ * 
+ * Permite a los caminos de alto volumen (lotes, streaming) rechazar valores sin
+ * el coste de construir y lanzar una excepción por cada lectura inválida.
+ */
+public enum TemperatureValidationResult {
+
+    /**
+     * La temperatura es válida.
+     */
+    VALID,
+
+    /**
+     * El valor es nulo.
+     */
+    NULL_VALUE,
+
+    /**
+     * La temperatura está por debajo del cero absoluto.
+     */
+    BELOW_ABSOLUTE_ZERO,
+
+    /**
+     * La temperatura excede el límite máximo razonable.
+     */
+    ABOVE_MAXIMUM,
+
+    /**
+     * El valor es NaN (Not a Number).
+     */
+    NOT_A_NUMBER,
+
+    /**
+     * El valor es infinito.
+     */
+    INFINITE;
+
+    /**
+     * Código de error que se reporta para cualquier resultado inválido.
+     */
+    public static final String ERROR_CODE = "INVALID_TEMPERATURE_VALUE";
+
+    /**
+     * Indica si la temperatura es válida.
+     *
+     * @return true si el resultado es {@link #VALID}
+     */
+    public boolean isValid() {
+        return this == VALID;
+    }
+}
@@ -0,0 +1,102 @@
+package com.temperature.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Agregado de las lecturas de un dispositivo en una ventana de tiempo.
+ *
+ * Los valores tienen 2 decimales y están en grados Celsius, salvo en las series de
+ * resúmenes ({@link RollupSeriesResponse}), que indican su unidad.
+ */
+public class WindowAggregate {
+
+    /**
+     * Inicio de la ventana (ms desde la época, incluido).
+     */
+    @JsonProperty("start")
+    private final long start;
+
+    /**
+     * Fin de la ventana (ms desde la época, excluido).
+     */
+    @JsonProperty("end")
+    private final long end;
+
+    /**
+     * Número de lecturas de la ventana.
+     */
+    @JsonProperty("count")
+    private final int count;
+
+    /**
+     * Temperatura mínima.
+     */
+    @JsonProperty("min")
+    private final double min;
+
+    /**
+     * Temperatura máxima.
+     */
+    @JsonProperty("max")
+    private final double max;
+
+    /**
+     * Temperatura media, redondeada HALF_UP a 2 decimales.
+     */
+    @JsonProperty("mean")
+    private final double mean;
+
+    /**
+     * Constructor completo.
+     *
+     * @param start inicio de la ventana (incluido)
+     * @param end   fin de la ventana (excluido)
+     * @param count número de lecturas
+     * @param min   temperatura mínima
+     * @param max   temperatura máxima
+     * @param mean  temperatura media
+     */
+    public WindowAggregate(long start, long end, int count, double min, double max, double mean) {
+        this.start = start;
+        this.end = end;
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    @Override
+    public String toString() {
+        return "WindowAggregate{" +
+                "start=" + start +
+                ", count=" + count +
+                ", min=" + min +
+                ", max=" + max +
+                ", mean=" + mean +
+                '}';
+    }
+}
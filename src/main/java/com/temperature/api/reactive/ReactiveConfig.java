@@ -0,0 +1,107 @@
+package com.temperature.api.reactive;
+
+import com.temperature.api.config.CorsConfig;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+
+/**
+ * Configuración del perfil {@code reactive}: la misma API servida con WebFlux sobre Netty.
+ * 
+ * Expone las mismas rutas que {@code TemperatureController},
+ * {@code TemperatureStreamController} y {@code SensorController} mediante funciones de
+ * enrutado, reutilizando el servicio de conversión, la caché de respuestas y la
+ * estructura de errores JSON.
+ * 
+ * Activación: {@code --spring.profiles.active=reactive} (ver application-reactive.yml).
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    /**
+     * Servidor Netty. Se declara explícitamente porque Tomcat también está en el
+     * classpath y Spring Boot lo preferiría como servidor reactivo.
+     *
+     * @return factoría del servidor Netty
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Rutas de la API de conversión.
+     *
+     * @param handler       handlers de conversión
+     * @param sensorHandler handlers de la telemetría de sensores
+     * @param errorHandler  traductor de excepciones a respuestas de error
+     * @return función de enrutado de la API
+     */
+    @Bean
+    public RouterFunction<ServerResponse> temperatureRoutes(TemperatureHandler handler,
+                                                            SensorHandler sensorHandler,
+                                                            ReactiveExceptionHandler errorHandler) {
+        return routes(handler, sensorHandler, errorHandler);
+    }
+
+    /**
+     * Misma configuración CORS que el perfil servlet para las rutas /api/**.
+     *
+     * @return filtro CORS
+     */
+    @Bean
+    public CorsWebFilter corsWebFilter() {
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/**", CorsConfig.apiCorsConfiguration());
+        return new CorsWebFilter(source);
+    }
+
+    /**
+     * Construye las rutas; separado del bean para poder probarlas sin contexto de Spring.
+     *
+     * @param handler       handlers de conversión
+     * @param sensorHandler handlers de la telemetría de sensores
+     * @param errorHandler  traductor de excepciones a respuestas de error
+     * @return función de enrutado de la API
+     */
+    static RouterFunction<ServerResponse> routes(TemperatureHandler handler, SensorHandler sensorHandler,
+                                                 ReactiveExceptionHandler errorHandler) {
+        return RouterFunctions.route()
+                .path("/api/temperature", api -> api
+                        .GET("/convert", handler::convert)
+                        .POST("/convert/batch", handler::convertBatchBetweenUnits)
+                        .GET("/celsius-to-fahrenheit/{celsius}", handler::celsiusToFahrenheitPath)
+                        .GET("/fahrenheit-to-celsius/{fahrenheit}", handler::fahrenheitToCelsiusPath)
+                        .POST("/celsius-to-fahrenheit", handler::celsiusToFahrenheitPost)
+                        .POST("/fahrenheit-to-celsius", handler::fahrenheitToCelsiusPost)
+                        .POST("/batch/celsius-to-fahrenheit", handler::celsiusToFahrenheitBatch)
+                        .POST("/batch/fahrenheit-to-celsius", handler::fahrenheitToCelsiusBatch)
+                        .POST("/batch/binary", contentType(MediaType.APPLICATION_OCTET_STREAM),
+                                handler::binaryBatch)
+                        .POST("/batch", handler::convertBatch)
+                        .POST("/stream/celsius-to-fahrenheit", contentType(MediaType.APPLICATION_NDJSON),
+                                handler::celsiusToFahrenheitStream)
+                        .POST("/stream/fahrenheit-to-celsius", contentType(MediaType.APPLICATION_NDJSON),
+                                handler::fahrenheitToCelsiusStream)
+                        .GET("/health", handler::health)
+                        .GET("/info", handler::info))
+                .path("/api/sensors", sensors -> sensors
+                        .POST("/readings", sensorHandler::ingest)
+                        .GET("/memory", sensorHandler::memory)
+                        .GET("/{deviceId}/windows", sensorHandler::windows)
+                        .GET("/{deviceId}/series", sensorHandler::series)
+                        .GET("/{deviceId}/rollups", sensorHandler::rollups))
+                .onError(Throwable.class, errorHandler::handle)
+                .build();
+    }
+}
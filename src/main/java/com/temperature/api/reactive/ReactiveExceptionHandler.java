@@ -0,0 +1,95 @@
+package com.temperature.api.reactive;
+
+import com.temperature.api.exception.ErrorResponses;
+import com.temperature.api.exception.InvalidTemperatureException;
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.service.ConversionMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Equivalente reactivo de {@code GlobalExceptionHandler}.
+ * 
+ * Traduce las excepciones de los handlers a las mismas respuestas de error JSON
+ * (construidas con {@link ErrorResponses}) que devuelve el perfil servlet.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveExceptionHandler {
+
+    private final ConversionMetrics metrics;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param metrics métricas donde se cuentan los errores por código
+     */
+    @Autowired
+    public ReactiveExceptionHandler(ConversionMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Convierte una excepción en la respuesta de error correspondiente.
+     *
+     * @param ex      excepción producida al atender la petición
+     * @param request petición que causó el error
+     * @return respuesta de error estructurada
+     */
+    public Mono<ServerResponse> handle(Throwable ex, ServerRequest request) {
+        String path = request.path();
+
+        if (ex instanceof InvalidTemperatureException invalid) {
+            metrics.recordRequestError(invalid.getErrorCode());
+            return respond(HttpStatus.BAD_REQUEST, ErrorResponses.invalidTemperature(invalid, path));
+        }
+        if (ex instanceof TemperatureConversionException conversion) {
+            metrics.recordRequestError(conversion.getErrorCode());
+            return respond(HttpStatus.BAD_REQUEST, ErrorResponses.conversionError(conversion, path));
+        }
+        if (ex instanceof Exception exception) {
+            metrics.recordRequestError("INTERNAL_SERVER_ERROR");
+            return respond(HttpStatus.INTERNAL_SERVER_ERROR, ErrorResponses.internalError(exception, path));
+        }
+        // Los Error de la JVM no se traducen
+        return Mono.error(ex);
+    }
+
+    /**
+     * Respuesta de error por parámetro con tipo incorrecto.
+     *
+     * @param name         nombre del parámetro
+     * @param requiredType tipo esperado
+     * @param value        valor recibido
+     * @param request      petición que causó el error
+     * @return respuesta de error (400)
+     */
+    public Mono<ServerResponse> typeMismatch(String name, Class<?> requiredType, Object value, ServerRequest request) {
+        metrics.recordRequestError("TYPE_MISMATCH_ERROR");
+        return respond(HttpStatus.BAD_REQUEST, ErrorResponses.typeMismatch(name, requiredType, value, request.path()));
+    }
+
+    /**
+     * Respuesta de error por fallos de Bean Validation.
+     *
+     * @param validationErrors mensajes de validación por campo
+     * @param request          petición que causó el error
+     * @return respuesta de error (400)
+     */
+    public Mono<ServerResponse> validationError(Map<String, String> validationErrors, ServerRequest request) {
+        metrics.recordRequestError("VALIDATION_ERROR");
+        return respond(HttpStatus.BAD_REQUEST, ErrorResponses.validationError(validationErrors, request.path()));
+    }
+
+    private Mono<ServerResponse> respond(HttpStatus status, Map<String, Object> body) {
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+}
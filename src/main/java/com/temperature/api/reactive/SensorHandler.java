@@ -0,0 +1,159 @@
+package com.temperature.api.reactive;
+
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.AggregationWindow;
+import com.temperature.api.model.SensorIngestRequest;
+import com.temperature.api.service.SensorIngestionService;
+import com.temperature.api.service.SensorSeriesService;
+import com.temperature.api.service.SensorWindowAggregator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+/**
+ * Handlers WebFlux de la telemetría de sensores para el perfil {@code reactive}.
+ *
+ * Reproducen el comportamiento de {@code SensorController}: mismas rutas, mismos
+ * cuerpos JSON y mismos errores.
+ */
+@Component
+@Profile("reactive")
+public class SensorHandler {
+
+    private final SensorIngestionService ingestionService;
+    private final SensorWindowAggregator aggregator;
+    private final SensorSeriesService seriesService;
+    private final ReactiveExceptionHandler errorHandler;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param ingestionService ingesta de lecturas
+     * @param aggregator       agregados por dispositivo y ventana
+     * @param seriesService    series reducidas sobre las lecturas persistidas
+     * @param errorHandler     traductor de errores a respuestas JSON
+     */
+    @Autowired
+    public SensorHandler(SensorIngestionService ingestionService, SensorWindowAggregator aggregator,
+                         SensorSeriesService seriesService, ReactiveExceptionHandler errorHandler) {
+        this.ingestionService = ingestionService;
+        this.aggregator = aggregator;
+        this.seriesService = seriesService;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * POST /api/sensors/readings
+     */
+    public Mono<ServerResponse> ingest(ServerRequest request) {
+        return request.bodyToMono(SensorIngestRequest.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Required request body is missing")))
+                .flatMap(body -> {
+                    if (body.getReadings() == null) {
+                        return errorHandler.validationError(
+                                Map.of("readings", "La lista de lecturas es requerida"), request);
+                    }
+                    // La ingesta espera a la sincronización del registro en disco: fuera del event loop
+                    return Mono.fromCallable(() -> ingestionService.ingest(body.getReadings()))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMap(response -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                                    .bodyValue(response));
+                });
+    }
+
+    /**
+     * GET /api/sensors/{deviceId}/windows?window=&from=&to=
+     */
+    public Mono<ServerResponse> windows(ServerRequest request) {
+        AggregationWindow window;
+        try {
+            window = SensorWindowAggregator.resolveWindow(request.queryParam("window").orElse("1m"));
+        } catch (TemperatureConversionException ex) {
+            return Mono.error(ex);
+        }
+
+        Long[] range = new Long[2];
+        String invalid = readRange(request, range);
+        if (invalid != null) {
+            return errorHandler.typeMismatch(invalid, Long.class, request.queryParam(invalid).orElse(""), request);
+        }
+
+        return Mono.fromCallable(() -> aggregator.getWindows(request.pathVariable("deviceId"), window,
+                        range[0], range[1]))
+                .flatMap(windows -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(windows));
+    }
+
+    /**
+     * GET /api/sensors/{deviceId}/series?from=&to=&step=&unit=
+     */
+    public Mono<ServerResponse> series(ServerRequest request) {
+        Long[] range = new Long[2];
+        String invalid = readRange(request, range);
+        if (invalid != null) {
+            return errorHandler.typeMismatch(invalid, Long.class, request.queryParam(invalid).orElse(""), request);
+        }
+        String step = request.queryParam("step").orElse(SensorSeriesService.DEFAULT_STEP);
+        String unit = request.queryParam("unit").orElse("C");
+
+        // La consulta lee los segmentos del registro en disco: fuera del event loop
+        return Mono.fromCallable(() -> seriesService.query(request.pathVariable("deviceId"), range[0], range[1],
+                        step, unit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(series -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(series));
+    }
+
+    /**
+     * GET /api/sensors/{deviceId}/rollups?from=&to=&step=&unit=
+     */
+    public Mono<ServerResponse> rollups(ServerRequest request) {
+        Long[] range = new Long[2];
+        String invalid = readRange(request, range);
+        if (invalid != null) {
+            return errorHandler.typeMismatch(invalid, Long.class, request.queryParam(invalid).orElse(""), request);
+        }
+        String step = request.queryParam("step").orElse(SensorSeriesService.DEFAULT_ROLLUP_STEP);
+        String unit = request.queryParam("unit").orElse("C");
+
+        // La consulta espera al cerrojo de lectura de RollupEngine, que la pasada de resumen
+        // toma en exclusiva: fuera del event loop
+        return Mono.fromCallable(() -> seriesService.queryRollups(request.pathVariable("deviceId"), range[0],
+                        range[1], step, unit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(series -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(series));
+    }
+
+    /**
+     * Lee los parámetros opcionales 'from' y 'to' (ms desde la época).
+     *
+     * @return nombre del primer parámetro que no es un número, o null si ambos son válidos
+     */
+    private static String readRange(ServerRequest request, Long[] range) {
+        String[] names = {"from", "to"};
+        for (int i = 0; i < names.length; i++) {
+            String raw = request.queryParam(names[i]).orElse("");
+            if (raw.isEmpty()) {
+                continue;
+            }
+            try {
+                range[i] = Long.parseLong(raw);
+            } catch (NumberFormatException ex) {
+                return names[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * GET /api/sensors/memory
+     */
+    public Mono<ServerResponse> memory(ServerRequest request) {
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(aggregator.getMemoryReport());
+    }
+}
@@ -0,0 +1,369 @@
+package com.temperature.api.reactive;
+
+import com.temperature.api.codec.BinaryBatchCodec;
+import com.temperature.api.codec.ConversionResponseJsonWriter;
+import com.temperature.api.codec.FastDoubleConverter;
+import com.temperature.api.controller.ConditionalRequests;
+import com.temperature.api.controller.PrecomputedJsonDocument;
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.BatchConversionRequest;
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.model.TemperatureConversionRequest;
+import com.temperature.api.model.TemperatureConversionResponse;
+import com.temperature.api.service.ConversionHealthIndicator;
+import com.temperature.api.service.ConversionResponseCache;
+import com.temperature.api.service.NdjsonConversionProcessor;
+import com.temperature.api.service.TemperatureConversionService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Handlers WebFlux de la API de conversión para el perfil {@code reactive}.
+ *
+ * Reproducen el comportamiento de {@code TemperatureController} y
+ * {@code TemperatureStreamController}: mismas rutas, mismos cuerpos JSON, misma
+ * semántica de caché HTTP y mismos errores. El flujo NDJSON se procesa como un
+ * {@link Flux} de líneas, de modo que la lectura del cuerpo avanza al ritmo al que
+ * el cliente consume la respuesta (backpressure).
+ */
+@Component
+@Profile("reactive")
+public class TemperatureHandler {
+
+    /**
+     * Número de líneas solicitadas por adelantado al cuerpo del flujo NDJSON.
+     */
+    private static final int STREAM_PREFETCH = 256;
+
+    private final TemperatureConversionService conversionService;
+    private final ConversionResponseCache responseCache;
+    private final NdjsonConversionProcessor ndjsonProcessor;
+    private final BinaryBatchCodec binaryBatchCodec;
+    private final ConversionHealthIndicator healthIndicator;
+    private final PrecomputedJsonDocument apiInfoDocument;
+    private final ReactiveExceptionHandler errorHandler;
+    private final Validator validator;
+    private final int maxBatchSize;
+    private final CacheControl conversionCacheControl;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param conversionService servicio de conversión de temperaturas
+     * @param responseCache     caché de respuestas serializadas
+     * @param ndjsonProcessor   procesador de registros NDJSON
+     * @param binaryBatchCodec  códec del formato binario de lotes
+     * @param healthIndicator   verificación periódica del servicio
+     * @param apiInfoDocument   documento precalculado de /info
+     * @param errorHandler      traductor de errores a respuestas JSON
+     * @param validator         validador de Bean Validation
+     * @param maxBatchSize      número máximo de valores por lote
+     * @param cacheMaxAge       segundos que clientes y CDN pueden reutilizar una conversión GET
+     */
+    @Autowired
+    public TemperatureHandler(TemperatureConversionService conversionService,
+                              ConversionResponseCache responseCache,
+                              NdjsonConversionProcessor ndjsonProcessor,
+                              BinaryBatchCodec binaryBatchCodec,
+                              ConversionHealthIndicator healthIndicator,
+                              @Qualifier("apiInfoDocument") PrecomputedJsonDocument apiInfoDocument,
+                              ReactiveExceptionHandler errorHandler,
+                              Validator validator,
+                              @Value("${app.batch.max-size:100000}") int maxBatchSize,
+                              @Value("${app.http-cache.max-age:86400}") long cacheMaxAge) {
+        this.conversionService = conversionService;
+        this.responseCache = responseCache;
+        this.ndjsonProcessor = ndjsonProcessor;
+        this.binaryBatchCodec = binaryBatchCodec;
+        this.healthIndicator = healthIndicator;
+        this.apiInfoDocument = apiInfoDocument;
+        this.errorHandler = errorHandler;
+        this.validator = validator;
+        this.maxBatchSize = maxBatchSize;
+        this.conversionCacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAge)).cachePublic();
+    }
+
+    /**
+     * GET /api/temperature/celsius-to-fahrenheit/{celsius}
+     */
+    public Mono<ServerResponse> celsiusToFahrenheitPath(ServerRequest request) {
+        return cacheableConversion(ConversionDirection.CELSIUS_TO_FAHRENHEIT, "celsius", request);
+    }
+
+    /**
+     * GET /api/temperature/fahrenheit-to-celsius/{fahrenheit}
+     */
+    public Mono<ServerResponse> fahrenheitToCelsiusPath(ServerRequest request) {
+        return cacheableConversion(ConversionDirection.FAHRENHEIT_TO_CELSIUS, "fahrenheit", request);
+    }
+
+    /**
+     * GET /api/temperature/convert?from=&to=&value=
+     */
+    public Mono<ServerResponse> convert(ServerRequest request) {
+        ConversionDirection direction;
+        try {
+            direction = resolveDirection(request);
+        } catch (TemperatureConversionException ex) {
+            return Mono.error(ex);
+        }
+        String raw = request.queryParam("value").orElse("");
+        if (raw.isEmpty()) {
+            return Mono.error(new TemperatureConversionException("El parámetro 'value' es requerido", "MISSING_VALUE"));
+        }
+        double value;
+        try {
+            // Misma conversión que aplica Spring MVC a un @RequestParam Double
+            value = FastDoubleConverter.parse(raw);
+        } catch (NumberFormatException ex) {
+            return errorHandler.typeMismatch("value", Double.class, raw, request);
+        }
+        return cacheableConversion(direction, value, request);
+    }
+
+    /**
+     * POST /api/temperature/celsius-to-fahrenheit
+     */
+    public Mono<ServerResponse> celsiusToFahrenheitPost(ServerRequest request) {
+        return convertBody(ConversionDirection.CELSIUS_TO_FAHRENHEIT, request);
+    }
+
+    /**
+     * POST /api/temperature/fahrenheit-to-celsius
+     */
+    public Mono<ServerResponse> fahrenheitToCelsiusPost(ServerRequest request) {
+        return convertBody(ConversionDirection.FAHRENHEIT_TO_CELSIUS, request);
+    }
+
+    /**
+     * POST /api/temperature/batch/celsius-to-fahrenheit
+     */
+    public Mono<ServerResponse> celsiusToFahrenheitBatch(ServerRequest request) {
+        return batch(request, ConversionDirection.CELSIUS_TO_FAHRENHEIT);
+    }
+
+    /**
+     * POST /api/temperature/batch/fahrenheit-to-celsius
+     */
+    public Mono<ServerResponse> fahrenheitToCelsiusBatch(ServerRequest request) {
+        return batch(request, ConversionDirection.FAHRENHEIT_TO_CELSIUS);
+    }
+
+    /**
+     * POST /api/temperature/convert/batch?from=&to=
+     */
+    public Mono<ServerResponse> convertBatchBetweenUnits(ServerRequest request) {
+        try {
+            return batch(request, resolveDirection(request));
+        } catch (TemperatureConversionException ex) {
+            return Mono.error(ex);
+        }
+    }
+
+    /**
+     * POST /api/temperature/batch (el sentido se indica en el cuerpo)
+     */
+    public Mono<ServerResponse> convertBatch(ServerRequest request) {
+        return batch(request, null);
+    }
+
+    /**
+     * POST /api/temperature/batch/binary (application/octet-stream)
+     */
+    public Mono<ServerResponse> binaryBatch(ServerRequest request) {
+        return request.bodyToMono(byte[].class)
+                .defaultIfEmpty(new byte[0])
+                // Los lotes grandes esperan a ParallelConversionPool: fuera del event loop
+                .flatMap(body -> Mono.fromCallable(() -> binaryBatchCodec.convert(body, maxBatchSize))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .bodyValue(response));
+    }
+
+    /**
+     * POST /api/temperature/stream/celsius-to-fahrenheit (NDJSON)
+     */
+    public Mono<ServerResponse> celsiusToFahrenheitStream(ServerRequest request) {
+        return stream(ConversionDirection.CELSIUS_TO_FAHRENHEIT, request);
+    }
+
+    /**
+     * POST /api/temperature/stream/fahrenheit-to-celsius (NDJSON)
+     */
+    public Mono<ServerResponse> fahrenheitToCelsiusStream(ServerRequest request) {
+        return stream(ConversionDirection.FAHRENHEIT_TO_CELSIUS, request);
+    }
+
+    /**
+     * GET /api/temperature/health
+     */
+    public Mono<ServerResponse> health(ServerRequest request) {
+        ConversionHealthIndicator.SelfTestResult health = healthIndicator.getLastResult();
+        HttpStatus status = health.ok() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(health.document());
+    }
+
+    /**
+     * GET /api/temperature/info
+     */
+    public Mono<ServerResponse> info(ServerRequest request) {
+        String ifNoneMatch = request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH);
+        if (apiInfoDocument.isCurrent(ifNoneMatch)) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(apiInfoDocument.eTag())
+                    .cacheControl(apiInfoDocument.cacheControl())
+                    .build();
+        }
+        return ServerResponse.ok()
+                .eTag(apiInfoDocument.eTag())
+                .cacheControl(apiInfoDocument.cacheControl())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(apiInfoDocument.body());
+    }
+
+    /**
+     * Resuelve una conversión GET con la misma semántica de caché HTTP que el perfil servlet.
+     */
+    private Mono<ServerResponse> cacheableConversion(ConversionDirection direction, String variable,
+                                                     ServerRequest request) {
+        String raw = request.pathVariable(variable);
+        double value;
+        try {
+            // Misma conversión que aplica Spring MVC a un @PathVariable Double
+            value = FastDoubleConverter.parse(raw);
+        } catch (NumberFormatException ex) {
+            return errorHandler.typeMismatch(variable, Double.class, raw, request);
+        }
+        return cacheableConversion(direction, value, request);
+    }
+
+    private Mono<ServerResponse> cacheableConversion(ConversionDirection direction, double value,
+                                                     ServerRequest request) {
+        String eTag = ConditionalRequests.conversionETag(direction, value);
+        String ifNoneMatch = request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ConditionalRequests.matches(ifNoneMatch, eTag)) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(conversionCacheControl)
+                    .build();
+        }
+
+        byte[] body = responseCache.getResponseBody(direction, value);
+        return ServerResponse.ok()
+                .eTag(eTag)
+                .cacheControl(conversionCacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body);
+    }
+
+    private Mono<ServerResponse> convertBody(ConversionDirection direction, ServerRequest request) {
+        return request.bodyToMono(TemperatureConversionRequest.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Required request body is missing")))
+                .flatMap(body -> {
+                    Map<String, String> violations = validate(body);
+                    if (!violations.isEmpty()) {
+                        return errorHandler.validationError(violations, request);
+                    }
+
+                    TemperatureConversionResponse response =
+                            conversionService.convertTemperature(direction, body.getValue());
+                    return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(ConversionResponseJsonWriter.write(response));
+                });
+    }
+
+    /**
+     * Convierte un lote; si {@code fixedDirection} es nulo el sentido se toma del cuerpo.
+     */
+    private Mono<ServerResponse> batch(ServerRequest request, ConversionDirection fixedDirection) {
+        return request.bodyToMono(BatchConversionRequest.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Required request body is missing")))
+                .flatMap(body -> {
+                    Map<String, String> violations = validate(body);
+                    if (!violations.isEmpty()) {
+                        return errorHandler.validationError(violations, request);
+                    }
+
+                    ConversionDirection direction = fixedDirection != null ? fixedDirection : body.getDirection();
+                    if (direction == null) {
+                        throw new TemperatureConversionException(
+                                "El sentido de conversión ('direction') es requerido", "MISSING_DIRECTION");
+                    }
+                    int size = body.getValues().size();
+                    if (size > maxBatchSize) {
+                        throw new TemperatureConversionException(
+                                String.format("El lote contiene %d valores y el máximo permitido es %d",
+                                        size, maxBatchSize),
+                                "BATCH_TOO_LARGE", size, maxBatchSize);
+                    }
+
+                    // Los lotes grandes esperan a ParallelConversionPool: fuera del event loop
+                    return Mono.fromCallable(() -> conversionService.convertBatch(direction, body.getValues()))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMap(response -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                                    .bodyValue(response));
+                });
+    }
+
+    /**
+     * Convierte el cuerpo NDJSON línea a línea; cada registro se emite en cuanto se calcula.
+     */
+    private Mono<ServerResponse> stream(ConversionDirection direction, ServerRequest request) {
+        Flux<byte[]> records = request.bodyToFlux(String.class)
+                .limitRate(STREAM_PREFETCH)
+                .index()
+                .handle((line, sink) -> {
+                    try {
+                        byte[] record = ndjsonProcessor.convertRecord(direction, line.getT1() + 1, line.getT2());
+                        if (record != null) {
+                            sink.next(record);
+                        }
+                    } catch (IOException ex) {
+                        sink.error(ex);
+                    }
+                });
+
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON).body(records, byte[].class);
+    }
+
+    /**
+     * Sentido indicado por los parámetros {@code from} y {@code to} de la petición.
+     */
+    private static ConversionDirection resolveDirection(ServerRequest request) {
+        return TemperatureConversionService.resolveDirection(
+                request.queryParam("from").orElse(null), request.queryParam("to").orElse(null));
+    }
+
+    /**
+     * Aplica Bean Validation y devuelve los mensajes por campo (vacío si es válido).
+     */
+    private <T> Map<String, String> validate(T body) {
+        Set<ConstraintViolation<T>> violations = validator.validate(body);
+        Map<String, String> errors = new HashMap<>();
+        for (ConstraintViolation<T> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+}
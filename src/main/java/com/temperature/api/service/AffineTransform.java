@@ -0,0 +1,78 @@
+package com.temperature.api.service;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.model.TemperatureUnit;
+
+/**
+ * Conversión entre dos unidades como transformación afín exacta:
+ * {@code destino = (origen - sourceShift) × multiplier / divisor + targetShift}, con
+ * coeficientes enteros y desplazamientos en centésimas.
+ *
+ * El orden importa porque el redondeo HALF_UP a 4 decimales se aplica al cociente, antes de
+ * sumar {@code targetShift}, igual que la cadena de {@link java.math.BigDecimal} original de
+ * C → F ({@code C × 9/5}, redondeo, {@code + 32}). El desplazamiento se suma después del
+ * redondeo siempre que sea un número exacto de centésimas de la unidad de destino; si no lo
+ * es (desde Fahrenheit el desplazamiento en Celsius es -160/9) se resta antes en la unidad de
+ * origen, como en F → C ({@code (F - 32) × 5/9}).
+ *
+ * La matriz con un coeficiente por sentido se calcula una sola vez a partir de la definición
+ * de cada {@link TemperatureUnit} respecto a kelvin
+ * (ver {@link TemperatureConversionService#convertValidated}).
+ *
+ * @param sourceShift desplazamiento restado al origen antes de escalar (centésimas)
+ * @param multiplier  numerador del factor de escala
+ * @param divisor     denominador del factor de escala (positivo)
+ * @param targetShift desplazamiento sumado tras el redondeo intermedio (centésimas)
+ */
+record AffineTransform(long sourceShift, long multiplier, long divisor, long targetShift) {
+
+    private static final AffineTransform[] BY_DIRECTION = new AffineTransform[ConversionDirection.values().length];
+
+    static {
+        for (ConversionDirection direction : ConversionDirection.values()) {
+            BY_DIRECTION[direction.ordinal()] = between(direction.getSourceUnit(), direction.getTargetUnit());
+        }
+    }
+
+    /**
+     * Obtiene la transformación precalculada de un sentido.
+     *
+     * @param direction sentido de la conversión
+     * @return transformación afín del sentido
+     */
+    static AffineTransform of(ConversionDirection direction) {
+        return BY_DIRECTION[direction.ordinal()];
+    }
+
+    /**
+     * Compone {@code origen → kelvin → destino} en una sola transformación reducida.
+     *
+     * Con {@code K = (v - z) × n / d} para cada unidad y los ceros absolutos {@code Z} en
+     * centésimas: {@code t = v × (no × dd) / (do × nd) + c}, con
+     * {@code 100c = (Zd × do × nd - Zo × no × dd) / (do × nd)}.
+     */
+    static AffineTransform between(TemperatureUnit source, TemperatureUnit target) {
+        long multiplier = source.getKelvinPerDegreeNumerator() * target.getKelvinPerDegreeDenominator();
+        long divisor = source.getKelvinPerDegreeDenominator() * target.getKelvinPerDegreeNumerator();
+        long shift = target.getAbsoluteZeroHundredths() * divisor
+                - source.getAbsoluteZeroHundredths() * multiplier;
+
+        long gcd = gcd(multiplier, divisor);
+        if (shift % divisor == 0) {
+            return new AffineTransform(0, multiplier / gcd, divisor / gcd, shift / divisor);
+        }
+        if (shift % multiplier == 0) {
+            return new AffineTransform(-shift / multiplier, multiplier / gcd, divisor / gcd, 0);
+        }
+        throw new IllegalStateException("Sin desplazamiento exacto entre " + source + " y " + target);
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+}
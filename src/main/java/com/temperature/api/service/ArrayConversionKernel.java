@@ -0,0 +1,53 @@
+package com.temperature.api.service;
+
+import com.temperature.api.model.ConversionDirection;
+
+/**
+ * Implementación de la conversión de arrays de primitivos.
+ *
+ * Existe una implementación escalar y otra vectorial (SIMD); ambas producen
+ * exactamente los mismos resultados que {@link TemperatureConversionService#convertValidated}
+ * y escriben NaN en las posiciones cuyo valor no supera la validación.
+ */
+interface ArrayConversionKernel {
+
+    /**
+     * Convierte {@code values[from, to)} en {@code results[from, to)}.
+     *
+     * Los rangos disjuntos de un mismo array pueden convertirse desde hilos distintos.
+     *
+     * @param direction sentido de la conversión
+     * @param values    temperaturas en la unidad de origen
+     * @param results   destino de los resultados (NaN en las posiciones inválidas)
+     * @param from      primera posición (incluida)
+     * @param to        última posición (excluida)
+     * @return número de valores inválidos
+     */
+    int convert(ConversionDirection direction, double[] values, double[] results, int from, int to);
+
+    /**
+     * Convierte los valores {@code [from, to)} de un buffer de doubles little-endian
+     * directamente en otro, sin pasar por arrays de {@code double}.
+     *
+     * El valor {@code i} se lee en {@code source[sourceOffset + 8 × i]} y su resultado se
+     * escribe en {@code target[targetOffset + 8 × i]}.
+     *
+     * @param direction    sentido de la conversión
+     * @param source       buffer con las temperaturas en la unidad de origen
+     * @param sourceOffset posición en bytes del primer valor de {@code source}
+     * @param target       buffer de destino (NaN en las posiciones inválidas)
+     * @param targetOffset posición en bytes del primer resultado en {@code target}
+     * @param from         primer valor (incluido)
+     * @param to           último valor (excluido)
+     * @return número de valores inválidos
+     */
+    int convertLittleEndian(ConversionDirection direction, byte[] source, int sourceOffset,
+                            byte[] target, int targetOffset, int from, int to);
+
+    /**
+     * Nombre de la implementación, para trazas y métricas.
+     *
+     * @return nombre de la implementación
+     */
+    String name();
+}
@@ -0,0 +1,183 @@
+package com.temperature.api.service;
+
+import com.temperature.api.model.ConversionDirection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verificación periódica del servicio de conversión.
+ *
+ * Una conversión de prueba (0 °C → 32 °F) se ejecuta en un hilo propio cada
+ * {@code app.health.refresh-interval}; el resultado se guarda ya construido, tanto el
+ * {@link Health} del actuator ({@code /actuator/health}, componente {@code conversion})
+ * como el documento de {@code /api/temperature/health}. Atender una sonda solo lee la
+ * última verificación: no convierte ni construye mapas.
+ *
+ * La duración de la última verificación se publica como
+ * {@code temperature.health.self-test.duration}; la conversión de prueba no se cuenta en las
+ * métricas {@code temperature.conversion.*}.
+ */
+@Component
+public class ConversionHealthIndicator implements HealthIndicator, MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ConversionHealthIndicator.class);
+
+    /**
+     * Valor de "serviceCheck" cuando la conversión de prueba es correcta.
+     */
+    public static final String SERVICE_CHECK_OK = "OK";
+
+    /**
+     * Valor de "serviceCheck" cuando la conversión de prueba falla.
+     */
+    public static final String SERVICE_CHECK_ERROR = "ERROR";
+
+    private static final double SELF_TEST_INPUT = 0.0;
+    private static final double SELF_TEST_EXPECTED = 32.0;
+
+    private final TemperatureConversionService conversionService;
+    private final ScheduledExecutorService scheduler;
+    private volatile SelfTestResult lastResult;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * La primera verificación se hace aquí, de modo que siempre hay un resultado disponible.
+     *
+     * @param conversionService servicio de conversión de temperaturas
+     * @param refreshInterval   intervalo entre verificaciones (cero o negativo = solo al arrancar)
+     */
+    @Autowired
+    public ConversionHealthIndicator(TemperatureConversionService conversionService,
+                                     @Value("${app.health.refresh-interval:10s}") Duration refreshInterval) {
+        this.conversionService = conversionService;
+        this.lastResult = runSelfTest();
+        if (refreshInterval.isZero() || refreshInterval.isNegative()) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "conversion-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Obtiene la última verificación sin ejecutar ninguna conversión.
+     *
+     * @return resultado de la última verificación
+     */
+    public SelfTestResult getLastResult() {
+        return lastResult;
+    }
+
+    @Override
+    public Health health() {
+        return lastResult.health();
+    }
+
+    /**
+     * Ejecuta la verificación ahora y la publica como resultado actual.
+     *
+     * @return resultado de la verificación
+     */
+    public SelfTestResult refresh() {
+        SelfTestResult result = runSelfTest();
+        if (lastResult.ok() && !result.ok()) {
+            log.warn("La verificación del servicio de conversión ha fallado: {}", result.error());
+        } else if (!lastResult.ok() && result.ok()) {
+            log.info("El servicio de conversión vuelve a responder correctamente");
+        }
+        lastResult = result;
+        return result;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("temperature.health.self-test.duration", this, TimeUnit.NANOSECONDS,
+                        indicator -> indicator.lastResult.durationNanos())
+                .description("Duración de la última verificación del servicio de conversión")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private SelfTestResult runSelfTest() {
+        long checkedAt = System.currentTimeMillis();
+        long start = System.nanoTime();
+        String error = null;
+        try {
+            // Sin pasar por convertTemperature, que registraría la prueba como una conversión más
+            double converted = conversionService.convertValidated(
+                    ConversionDirection.CELSIUS_TO_FAHRENHEIT, SELF_TEST_INPUT);
+            if (converted != SELF_TEST_EXPECTED) {
+                error = "Resultado inesperado de la conversión de prueba: " + converted;
+            }
+        } catch (Exception e) {
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+        }
+        return SelfTestResult.of(checkedAt, System.nanoTime() - start, error);
+    }
+
+    /**
+     * Resultado inmutable de una verificación, con sus dos representaciones ya construidas.
+     *
+     * @param ok            si la conversión de prueba fue correcta
+     * @param error         mensaje del fallo ({@code null} si fue correcta)
+     * @param checkedAt     instante de la verificación (ms desde epoch)
+     * @param durationNanos duración de la conversión de prueba
+     * @param document      documento de {@code /api/temperature/health} (no modificable)
+     * @param health        estado para el actuator
+     */
+    public record SelfTestResult(boolean ok, String error, long checkedAt, long durationNanos,
+                                 Map<String, Object> document, Health health) {
+
+        static SelfTestResult of(long checkedAt, long durationNanos, String error) {
+            boolean ok = error == null;
+            Map<String, Object> document = new LinkedHashMap<>();
+            document.put("status", "UP");
+            document.put("service", "Temperature Conversion API");
+            document.put("version", "1.0.0");
+            document.put("timestamp", checkedAt);
+            document.put("serviceCheck", ok ? SERVICE_CHECK_OK : SERVICE_CHECK_ERROR);
+            if (!ok) {
+                document.put("error", error);
+            }
+
+            Health.Builder health = ok ? Health.up() : Health.down();
+            health.withDetail("serviceCheck", ok ? SERVICE_CHECK_OK : SERVICE_CHECK_ERROR)
+                    .withDetail("checkedAt", checkedAt)
+                    .withDetail("durationMicros", TimeUnit.NANOSECONDS.toMicros(durationNanos));
+            if (!ok) {
+                health.withDetail("error", error);
+            }
+            return new SelfTestResult(ok, error, checkedAt, durationNanos,
+                    Collections.unmodifiableMap(document), health.build());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.temperature.api.service;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.model.TemperatureUnit;
+import com.temperature.api.model.TemperatureValidationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas de negocio de las conversiones de temperatura.
+ *
+ * Todos los medidores se registran por adelantado (o una sola vez por código de error)
+ * y se guardan en mapas indexados por enum, de modo que registrar una medida no busca
+ * en el registro ni crea etiquetas: coste de unos pocos incrementos atómicos. Las
+ * etiquetas son de baja cardinalidad: sentido, unidad, operación, código de error y ámbito.
+ *
+ * Medidores:
+ * - {@value #CONVERSION_TIMER}: duración por sentido y operación (single/batch), con histograma
+ * - {@value #INPUT_SUMMARY}: valores de entrada en kelvin por unidad de origen, con histograma
+ * - {@value #BATCH_SIZE_SUMMARY}: tamaño de los lotes por sentido
+ * - {@value #ERROR_COUNTER}: errores por código y ámbito (request/element)
+ *
+ * La latencia por endpoint HTTP (incluidos los aciertos de la caché de respuestas) la
+ * cubre {@code http.server.requests}, con histograma activado en application.yml.
+ */
+@Component
+public class ConversionMetrics {
+
+    public static final String CONVERSION_TIMER = "temperature.conversion";
+    public static final String INPUT_SUMMARY = "temperature.conversion.input";
+    public static final String BATCH_SIZE_SUMMARY = "temperature.conversion.batch.size";
+    public static final String ERROR_COUNTER = "temperature.conversion.errors";
+
+    /**
+     * Errores devueltos como respuesta de una petición.
+     */
+    public static final String SCOPE_REQUEST = "request";
+
+    /**
+     * Errores de elementos individuales dentro de un lote o flujo.
+     */
+    public static final String SCOPE_ELEMENT = "element";
+
+    private final MeterRegistry registry;
+    private final Map<ConversionDirection, Timer> singleTimers = new EnumMap<>(ConversionDirection.class);
+    private final Map<ConversionDirection, Timer> batchTimers = new EnumMap<>(ConversionDirection.class);
+    private final Map<ConversionDirection, DistributionSummary> batchSizes = new EnumMap<>(ConversionDirection.class);
+    private final Map<TemperatureUnit, DistributionSummary> inputs = new EnumMap<>(TemperatureUnit.class);
+    private final ConcurrentMap<String, Counter> requestErrors = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> elementErrors = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor usado por Spring; sin registro de métricas disponible las medidas se descartan.
+     *
+     * @param registryProvider registro de métricas de la aplicación
+     */
+    @Autowired
+    public ConversionMetrics(ObjectProvider<MeterRegistry> registryProvider) {
+        this(registryProvider.getIfAvailable(CompositeMeterRegistry::new));
+    }
+
+    /**
+     * Crea las métricas sobre el registro indicado.
+     *
+     * @param registry registro de métricas
+     */
+    public ConversionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
+        for (ConversionDirection direction : ConversionDirection.values()) {
+            singleTimers.put(direction, conversionTimer(direction, "single", Duration.ofMillis(10)));
+            batchTimers.put(direction, conversionTimer(direction, "batch", Duration.ofSeconds(10)));
+            batchSizes.put(direction, DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+                    .description("Número de valores por lote")
+                    .baseUnit("values")
+                    .tag("direction", direction.getPathSegment())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(1.0)
+                    .maximumExpectedValue(1_000_000.0)
+                    .register(registry));
+        }
+
+        for (TemperatureUnit unit : TemperatureUnit.values()) {
+            inputs.put(unit, DistributionSummary.builder(INPUT_SUMMARY)
+                    .description("Temperaturas de entrada convertidas a kelvin (los resúmenes no admiten negativos)")
+                    .baseUnit("kelvin")
+                    .tag("unit", unit.getDisplayName())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(1.0)
+                    .maximumExpectedValue(11_000.0)
+                    .register(registry));
+        }
+    }
+
+    /**
+     * Métricas que se descartan; para usos fuera del contexto de Spring.
+     *
+     * @return instancia sin registro de métricas
+     */
+    public static ConversionMetrics noop() {
+        return new ConversionMetrics(new CompositeMeterRegistry());
+    }
+
+    /**
+     * Registra una conversión individual correcta.
+     *
+     * @param direction     sentido de la conversión
+     * @param input         temperatura de entrada (válida) en la unidad de origen
+     * @param durationNanos duración de la conversión
+     */
+    public void recordConversion(ConversionDirection direction, double input, long durationNanos) {
+        singleTimers.get(direction).record(durationNanos, TimeUnit.NANOSECONDS);
+        TemperatureUnit unit = direction.getSourceUnit();
+        inputs.get(unit).record(unit.toKelvin(input));
+    }
+
+    /**
+     * Registra un lote completo. Los valores del lote no se añaden al resumen de entradas
+     * para que el coste de la instrumentación no crezca con el tamaño del lote.
+     *
+     * @param direction     sentido de la conversión
+     * @param size          número de valores del lote
+     * @param errors        número de valores rechazados
+     * @param durationNanos duración del lote
+     */
+    public void recordBatch(ConversionDirection direction, int size, int errors, long durationNanos) {
+        batchTimers.get(direction).record(durationNanos, TimeUnit.NANOSECONDS);
+        batchSizes.get(direction).record(size);
+        if (errors > 0) {
+            recordElementErrors(TemperatureValidationResult.ERROR_CODE, errors);
+        }
+    }
+
+    /**
+     * Registra un error devuelto como respuesta de una petición.
+     *
+     * @param errorCode código de error de la respuesta
+     */
+    public void recordRequestError(String errorCode) {
+        String code = errorCode != null ? errorCode : "UNKNOWN";
+        requestErrors.computeIfAbsent(code, key -> errorCounter(key, SCOPE_REQUEST)).increment();
+    }
+
+    /**
+     * Registra errores de elementos individuales de un lote o flujo.
+     *
+     * @param errorCode código de error de los elementos
+     * @param count     número de elementos con ese error
+     */
+    public void recordElementErrors(String errorCode, long count) {
+        elementErrors.computeIfAbsent(errorCode, code -> errorCounter(code, SCOPE_ELEMENT)).increment(count);
+    }
+
+    private Timer conversionTimer(ConversionDirection direction, String operation, Duration maximum) {
+        return Timer.builder(CONVERSION_TIMER)
+                .description("Duración de las conversiones de temperatura")
+                .tag("direction", direction.getPathSegment())
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100))
+                .maximumExpectedValue(maximum)
+                .register(registry);
+    }
+
+    private Counter errorCounter(String errorCode, String scope) {
+        return Counter.builder(ERROR_COUNTER)
+                .description("Errores de conversión por código")
+                .tag("errorCode", errorCode)
+                .tag("scope", scope)
+                .register(registry);
+    }
+}
@@ -0,0 +1,239 @@
+package com.temperature.api.service;
+
+import com.temperature.api.codec.ConversionResponseJsonWriter;
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.model.TemperatureConversionResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché acotada de respuestas ya serializadas para las conversiones GET.
+ * 
+ * Las conversiones son funciones puras de su entrada, por lo que el cuerpo JSON
+ * puede reutilizarse salvo el campo {@code timestamp}. Cada entrada guarda los
+ * bytes anteriores y posteriores a ese campo y el timestamp actual se inserta al
+ * servir la respuesta, de modo que nunca se devuelven horas obsoletas.
+ * 
+ * Cuando se supera el tamaño máximo se expulsan las entradas más antiguas.
+ * Las métricas se publican con las convenciones de Micrometer para cachés
+ * ({@code cache.gets}, {@code cache.evictions}, {@code cache.size}).
+ */
+@Service
+public class ConversionResponseCache implements MeterBinder {
+
+    /**
+     * Nombre de la caché en las etiquetas de las métricas.
+     */
+    static final String CACHE_NAME = "temperature-conversions";
+
+    /**
+     * Bytes que siguen al timestamp en el cuerpo serializado.
+     */
+    private static final byte[] SUFFIX = {ConversionResponseJsonWriter.OBJECT_END};
+
+    private final TemperatureConversionService conversionService;
+    private final boolean enabled;
+    private final int maxEntries;
+
+    private final Map<ConversionDirection, Map<Long, CachedResponse>> entries =
+            new EnumMap<>(ConversionDirection.class);
+    private final Queue<EntryKey> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param conversionService servicio de conversión de temperaturas
+     * @param enabled           si la caché está activa
+     * @param maxEntries        número máximo de entradas antes de expulsar
+     */
+    @Autowired
+    public ConversionResponseCache(TemperatureConversionService conversionService,
+                                   @Value("${app.cache.conversion.enabled:true}") boolean enabled,
+                                   @Value("${app.cache.conversion.max-entries:10000}") int maxEntries) {
+        this.conversionService = conversionService;
+        this.enabled = enabled && maxEntries > 0;
+        this.maxEntries = maxEntries;
+        for (ConversionDirection direction : ConversionDirection.values()) {
+            entries.put(direction, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Obtiene el cuerpo JSON de la conversión, desde la caché si está disponible.
+     *
+     * @param direction sentido de la conversión
+     * @param value     temperatura en la unidad de origen
+     * @return cuerpo JSON con el timestamp actual
+     * @throws TemperatureConversionException si la temperatura es inválida (los errores no se cachean)
+     */
+    public byte[] getResponseBody(ConversionDirection direction, double value) {
+        if (!enabled) {
+            return serialize(convert(direction, value)).render(System.currentTimeMillis());
+        }
+
+        Map<Long, CachedResponse> directionEntries = entries.get(direction);
+        Long key = Double.doubleToLongBits(value);
+        CachedResponse cached = directionEntries.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached.render(System.currentTimeMillis());
+        }
+
+        misses.increment();
+        TemperatureConversionResponse response = convert(direction, value);
+        CachedResponse created = serialize(response);
+        if (directionEntries.putIfAbsent(key, created) == null) {
+            insertionOrder.add(new EntryKey(direction, key));
+            if (size.incrementAndGet() > maxEntries) {
+                evictOldest();
+            }
+        }
+        return created.render(response.getTimestamp());
+    }
+
+    /**
+     * Vacía la caché (las métricas acumuladas se conservan).
+     */
+    public void clear() {
+        EntryKey key;
+        while ((key = insertionOrder.poll()) != null) {
+            if (entries.get(key.direction).remove(key.bits) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Obtiene el número de entradas almacenadas.
+     *
+     * @return tamaño actual de la caché
+     */
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .description("Conversiones servidas desde la caché")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .description("Conversiones calculadas por no estar en la caché")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tags("cache", CACHE_NAME)
+                .description("Entradas expulsadas por tamaño")
+                .register(registry);
+        Gauge.builder("cache.size", size, AtomicInteger::get)
+                .tags("cache", CACHE_NAME)
+                .description("Número de respuestas almacenadas")
+                .register(registry);
+    }
+
+    private void evictOldest() {
+        while (size.get() > maxEntries) {
+            EntryKey oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            if (entries.get(oldest.direction).remove(oldest.bits) != null) {
+                size.decrementAndGet();
+                evictions.increment();
+            }
+        }
+    }
+
+    private TemperatureConversionResponse convert(ConversionDirection direction, double value) {
+        return conversionService.convertTemperature(direction, value);
+    }
+
+    /**
+     * Serializa la respuesta separando los bytes anteriores y posteriores al timestamp.
+     */
+    private CachedResponse serialize(TemperatureConversionResponse response) {
+        return new CachedResponse(ConversionResponseJsonWriter.writePrefix(response), SUFFIX);
+    }
+
+    /**
+     * Cuerpo serializado dividido alrededor del timestamp.
+     */
+    private static final class CachedResponse {
+
+        private final byte[] prefix;
+        private final byte[] suffix;
+
+        private CachedResponse(byte[] prefix, byte[] suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        /**
+         * Compone el cuerpo final insertando el timestamp indicado.
+         */
+        private byte[] render(long timestamp) {
+            int digits = digitCount(timestamp);
+            byte[] body = new byte[prefix.length + digits + suffix.length];
+            System.arraycopy(prefix, 0, body, 0, prefix.length);
+            writeDigits(timestamp, body, prefix.length, digits);
+            System.arraycopy(suffix, 0, body, prefix.length + digits, suffix.length);
+            return body;
+        }
+
+        private static int digitCount(long value) {
+            int digits = value < 0 ? 2 : 1;
+            long remaining = Math.abs(value / 10);
+            while (remaining > 0) {
+                digits++;
+                remaining /= 10;
+            }
+            return digits;
+        }
+
+        private static void writeDigits(long value, byte[] target, int offset, int digits) {
+            int position = offset + digits - 1;
+            long remaining = value;
+            do {
+                target[position--] = (byte) ('0' + Math.abs(remaining % 10));
+                remaining /= 10;
+            } while (remaining != 0);
+            if (value < 0) {
+                target[offset] = '-';
+            }
+        }
+    }
+
+    /**
+     * Clave de una entrada para el orden de expulsión.
+     */
+    private static final class EntryKey {
+
+        private final ConversionDirection direction;
+        private final Long bits;
+
+        private EntryKey(ConversionDirection direction, Long bits) {
+            this.direction = direction;
+            this.bits = bits;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.temperature.api.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.model.TemperatureValidationResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Procesador de conversiones en streaming con formato NDJSON (un JSON por línea).
+ * 
+ * Lee el cuerpo de la petición de forma incremental y escribe cada resultado en
+ * cuanto se calcula, por lo que la memoria utilizada está acotada por el tamaño
+ * máximo de línea y no por el tamaño del cuerpo.
+ * 
+ * Formato de entrada (una lectura por línea):
+ * - Número: {@code 25.5}
+ * - Objeto: {@code {"value": 25.5}}
+ * 
+ * Formato de salida:
+ * - Éxito: {@code {"line":1,"value":25.5,"converted":77.9}}
+ * - Error: {@code {"line":2,"errorCode":"INVALID_TEMPERATURE_VALUE","message":"..."}}
+ */
+@Service
+public class NdjsonConversionProcessor {
+
+    /**
+     * Longitud máxima de una línea en bytes; las líneas más largas se reportan como error.
+     */
+    static final int MAX_LINE_LENGTH = 4096;
+
+    /**
+     * Número de registros escritos entre cada envío explícito al cliente.
+     */
+    private static final int FLUSH_INTERVAL = 1024;
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private static final int LINE_SKIPPED = -1;
+
+    private final TemperatureConversionService conversionService;
+    private final ObjectMapper objectMapper;
+    private final ConversionMetrics metrics;
+
+    /**
+     * Crea el procesador sin métricas (las medidas se descartan).
+     *
+     * @param conversionService servicio de conversión de temperaturas
+     * @param objectMapper      mapper JSON de la aplicación
+     */
+    public NdjsonConversionProcessor(TemperatureConversionService conversionService, ObjectMapper objectMapper) {
+        this(conversionService, objectMapper, ConversionMetrics.noop());
+    }
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param conversionService servicio de conversión de temperaturas
+     * @param objectMapper      mapper JSON de la aplicación
+     * @param metrics           métricas donde se cuentan las líneas con error
+     */
+    @Autowired
+    public NdjsonConversionProcessor(TemperatureConversionService conversionService, ObjectMapper objectMapper,
+                                     ConversionMetrics metrics) {
+        this.conversionService = conversionService;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Convierte todas las lecturas de la entrada y escribe una línea de salida por cada una.
+     *
+     * @param direction sentido de la conversión
+     * @param input     cuerpo NDJSON de la petición
+     * @param output    flujo donde se escriben los resultados NDJSON
+     * @return número de líneas con error
+     * @throws IOException si falla la lectura o la escritura
+     */
+    public long process(ConversionDirection direction, InputStream input, OutputStream output) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        // Cada registro termina en '\n'; sin separador adicional entre valores raíz
+        generator.setRootValueSeparator(null);
+
+        byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+        byte[] lineBuffer = new byte[MAX_LINE_LENGTH];
+        int length = 0;
+        boolean tooLong = false;
+        long lineNumber = 0;
+        long errors = 0;
+        long written = 0;
+
+        int read;
+        while ((read = input.read(readBuffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                byte current = readBuffer[i];
+                if (current != '\n') {
+                    if (length < MAX_LINE_LENGTH) {
+                        lineBuffer[length++] = current;
+                    } else {
+                        tooLong = true;
+                    }
+                    continue;
+                }
+
+                lineNumber++;
+                int outcome = processLine(generator, direction, lineNumber, lineBuffer, length, tooLong);
+                if (outcome != LINE_SKIPPED) {
+                    written++;
+                    errors += outcome;
+                    if (written % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+                length = 0;
+                tooLong = false;
+            }
+        }
+
+        // Última línea sin salto de línea final
+        if (length > 0 || tooLong) {
+            lineNumber++;
+            int outcome = processLine(generator, direction, lineNumber, lineBuffer, length, tooLong);
+            if (outcome != LINE_SKIPPED) {
+                errors += outcome;
+            }
+        }
+
+        generator.flush();
+        return errors;
+    }
+
+    /**
+     * Convierte una única línea ya separada del flujo (usado por el flujo reactivo).
+     *
+     * @param direction  sentido de la conversión
+     * @param lineNumber número de línea (empezando en 1)
+     * @param line       contenido de la línea sin el salto de línea
+     * @return registro NDJSON terminado en '\n', o null si la línea está en blanco
+     * @throws IOException si falla la escritura del registro
+     */
+    public byte[] convertRecord(ConversionDirection direction, long lineNumber, String line) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(96);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        generator.setRootValueSeparator(null);
+
+        if (line.length() > MAX_LINE_LENGTH || line.getBytes(StandardCharsets.UTF_8).length > MAX_LINE_LENGTH) {
+            writeError(generator, lineNumber, "LINE_TOO_LONG",
+                    "La línea excede el tamaño máximo de " + MAX_LINE_LENGTH + " bytes");
+        } else {
+            String trimmed = stripJsonWhitespace(line);
+            if (trimmed.isEmpty()) {
+                return null;
+            }
+            convertLine(generator, direction, lineNumber, trimmed);
+        }
+
+        generator.flush();
+        return output.toByteArray();
+    }
+
+    /**
+     * Procesa una línea completa del buffer.
+     *
+     * @return {@link #LINE_SKIPPED} si la línea está vacía, 1 si se escribió un error y 0 si fue correcta
+     */
+    private int processLine(JsonGenerator generator, ConversionDirection direction, long lineNumber,
+                            byte[] lineBuffer, int length, boolean tooLong) throws IOException {
+        if (tooLong) {
+            writeError(generator, lineNumber, "LINE_TOO_LONG",
+                    "La línea excede el tamaño máximo de " + MAX_LINE_LENGTH + " bytes");
+            return 1;
+        }
+
+        int end = length;
+        if (end > 0 && lineBuffer[end - 1] == '\r') {
+            end--;
+        }
+        if (isBlank(lineBuffer, end)) {
+            return LINE_SKIPPED;
+        }
+
+        String line = stripJsonWhitespace(new String(lineBuffer, 0, end, StandardCharsets.UTF_8));
+        return convertLine(generator, direction, lineNumber, line) ? 0 : 1;
+    }
+
+    /**
+     * Convierte una línea y escribe su registro de resultado o de error.
+     *
+     * @return true si la conversión fue correcta
+     */
+    private boolean convertLine(JsonGenerator generator, ConversionDirection direction,
+                                long lineNumber, String line) throws IOException {
+        double value;
+        try {
+            value = parseValue(line);
+        } catch (IllegalArgumentException | IOException ex) {
+            writeError(generator, lineNumber, "PARSE_ERROR",
+                    "La línea no contiene un número ni un objeto con el campo 'value'");
+            return false;
+        }
+
+        TemperatureValidationResult validation = conversionService.validate(value, direction.getSourceUnit());
+        if (!validation.isValid()) {
+            writeError(generator, lineNumber, TemperatureValidationResult.ERROR_CODE,
+                    conversionService.createValidationException(validation, value, direction.getSourceUnit())
+                            .getMessage());
+            return false;
+        }
+        double converted = conversionService.convertValidated(direction, value);
+
+        generator.writeStartObject();
+        generator.writeNumberField("line", lineNumber);
+        generator.writeNumberField("value", value);
+        generator.writeNumberField("converted", converted);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        return true;
+    }
+
+    /**
+     * Extrae el valor numérico de una línea (número o objeto con el campo 'value').
+     *
+     * Los números sueltos deben seguir la gramática de número de JSON; sin esa comprobación
+     * {@link Double#parseDouble} aceptaría también sufijos ({@code 1d}), hexadecimales,
+     * {@code NaN} o {@code Infinity}, que una línea de objeto nunca admite.
+     */
+    private double parseValue(String line) throws IOException {
+        if (line.charAt(0) != '{') {
+            if (!isJsonNumber(line)) {
+                throw new IllegalArgumentException("La línea no es un número JSON");
+            }
+            return Double.parseDouble(line);
+        }
+
+        JsonNode node = objectMapper.readTree(line);
+        JsonNode value = node.get("value");
+        if (value == null || !value.isNumber()) {
+            throw new IllegalArgumentException("Campo 'value' ausente o no numérico");
+        }
+        return value.doubleValue();
+    }
+
+    private void writeError(JsonGenerator generator, long lineNumber, String errorCode, String message)
+            throws IOException {
+        metrics.recordElementErrors(errorCode, 1);
+        generator.writeStartObject();
+        generator.writeNumberField("line", lineNumber);
+        generator.writeStringField("errorCode", errorCode);
+        generator.writeStringField("message", message);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Comprueba la gramática de número de JSON (RFC 8259):
+     * {@code -?(0|[1-9][0-9]*)(\.[0-9]+)?([eE][+-]?[0-9]+)?}.
+     */
+    static boolean isJsonNumber(String text) {
+        int length = text.length();
+        int i = 0;
+        if (i < length && text.charAt(i) == '-') {
+            i++;
+        }
+        if (i < length && text.charAt(i) == '0') {
+            i++;
+        } else {
+            int start = i;
+            i = skipDigits(text, i);
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < length && text.charAt(i) == '.') {
+            int start = ++i;
+            i = skipDigits(text, i);
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < length && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+                i++;
+            }
+            int start = i;
+            i = skipDigits(text, i);
+            if (i == start) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    private static int skipDigits(String text, int index) {
+        while (index < text.length() && text.charAt(index) >= '0' && text.charAt(index) <= '9') {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Elimina de los extremos solo los blancos que JSON admite dentro de una línea (espacio,
+     * tabulador y retorno de carro); el resto de caracteres de control llega al parser y se rechaza.
+     */
+    private static String stripJsonWhitespace(String line) {
+        int start = 0;
+        int end = line.length();
+        while (start < end && isJsonWhitespace(line.charAt(start))) {
+            start++;
+        }
+        while (end > start && isJsonWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
+        return line.substring(start, end);
+    }
+
+    private static boolean isJsonWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+    private static boolean isBlank(byte[] buffer, int length) {
+        for (int i = 0; i < length; i++) {
+            if (buffer[i] != ' ' && buffer[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
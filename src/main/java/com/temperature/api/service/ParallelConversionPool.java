@@ -0,0 +1,193 @@
+package com.temperature.api.service;
+
+import com.temperature.api.model.ConversionDirection;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Pool fork/join dedicado a las conversiones de arrays grandes.
+ *
+ * Los arrays con al menos {@code app.conversion.parallel.threshold} valores se reparten
+ * en tramos contiguos que se convierten en paralelo; el resto se convierte en el hilo de
+ * la petición. El pool tiene un tamaño fijo y separado del {@code commonPool}, y cada
+ * petición se divide como mucho en {@code app.conversion.parallel.max-tasks-per-request}
+ * tareas, de modo que un lote enorme no acapara todos los hilos y las demás peticiones
+ * siguen avanzando.
+ *
+ * Métricas ({@code temperature.conversion.pool.*}): tareas y envíos en cola, hilos activos
+ * y robos de tareas entre hilos.
+ */
+@Component
+public class ParallelConversionPool implements MeterBinder, DisposableBean {
+
+    static final String METRIC_PREFIX = "temperature.conversion.pool";
+
+    /**
+     * Tamaño mínimo de cada tramo: por debajo el reparto cuesta más de lo que ahorra.
+     */
+    static final int MIN_TASK_SIZE = 8192;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int maxTasksPerRequest;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param poolSize           hilos del pool (0 = número de procesadores)
+     * @param threshold          tamaño mínimo de array para repartir la conversión
+     * @param maxTasksPerRequest máximo de tareas por array (0 = la mitad de los hilos del pool)
+     */
+    @Autowired
+    public ParallelConversionPool(@Value("${app.conversion.parallel.pool-size:0}") int poolSize,
+                                  @Value("${app.conversion.parallel.threshold:65536}") int threshold,
+                                  @Value("${app.conversion.parallel.max-tasks-per-request:0}") int maxTasksPerRequest) {
+        int parallelism = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism, ParallelConversionPool::newWorker, null, false);
+        this.threshold = Math.max(threshold, 2 * MIN_TASK_SIZE);
+        this.maxTasksPerRequest = maxTasksPerRequest > 0
+                ? maxTasksPerRequest
+                : Math.max(1, parallelism / 2);
+    }
+
+    /**
+     * Convierte {@code [0, length)} con el kernel indicado, en paralelo si el array es grande.
+     *
+     * @return número de valores inválidos
+     */
+    int convert(ArrayConversionKernel kernel, ConversionDirection direction,
+                double[] values, double[] results, int length) {
+        return convert(length, (from, to) -> kernel.convert(direction, values, results, from, to));
+    }
+
+    /**
+     * Convierte {@code count} doubles little-endian de un buffer en otro con el kernel
+     * indicado, en paralelo si el lote es grande.
+     *
+     * @return número de valores inválidos
+     * @see ArrayConversionKernel#convertLittleEndian
+     */
+    int convertLittleEndian(ArrayConversionKernel kernel, ConversionDirection direction, byte[] source,
+                            int sourceOffset, byte[] target, int targetOffset, int count) {
+        return convert(count, (from, to) -> kernel.convertLittleEndian(
+                direction, source, sourceOffset, target, targetOffset, from, to));
+    }
+
+    private int convert(int length, RangeConversion conversion) {
+        int tasks = Math.min(maxTasksPerRequest, length / MIN_TASK_SIZE);
+        if (length < threshold || tasks < 2) {
+            return conversion.convert(0, length);
+        }
+        return pool.invoke(new ConversionTask(conversion, 0, length, tasks));
+    }
+
+    /**
+     * Número de hilos del pool.
+     *
+     * @return paralelismo configurado
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Máximo de tareas en que se divide un array.
+     *
+     * @return límite de paralelismo por petición
+     */
+    public int getMaxTasksPerRequest() {
+        return maxTasksPerRequest;
+    }
+
+    /**
+     * Tamaño mínimo de array a partir del cual se reparte la conversión.
+     *
+     * @return umbral en número de valores
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".queued", pool, ForkJoinPool::getQueuedTaskCount)
+                .tag("queue", "tasks")
+                .description("Tareas en las colas de los hilos del pool")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".queued", pool, ForkJoinPool::getQueuedSubmissionCount)
+                .tag("queue", "submissions")
+                .description("Conversiones enviadas al pool que aún no han empezado")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".active", pool, ForkJoinPool::getActiveThreadCount)
+                .description("Hilos del pool ejecutando conversiones")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".parallelism", pool, ForkJoinPool::getParallelism)
+                .description("Hilos configurados en el pool")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".steals", pool, ForkJoinPool::getStealCount)
+                .description("Tareas robadas entre hilos del pool")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        worker.setName("conversion-" + worker.getPoolIndex());
+        return worker;
+    }
+
+    /**
+     * Conversión de un tramo {@code [from, to)}; devuelve el número de valores inválidos.
+     */
+    @FunctionalInterface
+    private interface RangeConversion {
+        int convert(int from, int to);
+    }
+
+    /**
+     * Divide el rango por la mitad hasta agotar el número de tareas permitido.
+     */
+    private static final class ConversionTask extends RecursiveTask<Integer> {
+
+        private final transient RangeConversion conversion;
+        private final int from;
+        private final int to;
+        private final int tasks;
+
+        ConversionTask(RangeConversion conversion, int from, int to, int tasks) {
+            this.conversion = conversion;
+            this.from = from;
+            this.to = to;
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (tasks < 2) {
+                return conversion.convert(from, to);
+            }
+            int leftTasks = tasks / 2;
+            // Corte proporcional al número de tareas de cada mitad, alineado a 64 valores
+            int middle = from + (int) ((long) (to - from) * leftTasks / tasks & ~63L);
+            ConversionTask left = new ConversionTask(conversion, from, middle, leftTasks);
+            ConversionTask right = new ConversionTask(conversion, middle, to, tasks - leftTasks);
+            left.fork();
+            int invalid = right.compute();
+            return invalid + left.join();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.temperature.api.service;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.model.TemperatureUnit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Conversión de arrays valor a valor; es la implementación de referencia y la que se usa
+ * cuando el módulo {@code jdk.incubator.vector} no está disponible.
+ */
+final class ScalarArrayConversionKernel implements ArrayConversionKernel {
+
+    private static final VarHandle DOUBLE_LE =
+            MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final TemperatureConversionService conversionService;
+
+    ScalarArrayConversionKernel(TemperatureConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
+    @Override
+    public int convert(ConversionDirection direction, double[] values, double[] results, int from, int to) {
+        TemperatureUnit unit = direction.getSourceUnit();
+        int invalid = 0;
+        for (int i = from; i < to; i++) {
+            double value = values[i];
+            if (conversionService.validate(value, unit).isValid()) {
+                results[i] = conversionService.convertValidated(direction, value);
+            } else {
+                results[i] = Double.NaN;
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Override
+    public int convertLittleEndian(ConversionDirection direction, byte[] source, int sourceOffset,
+                                   byte[] target, int targetOffset, int from, int to) {
+        TemperatureUnit unit = direction.getSourceUnit();
+        int invalid = 0;
+        for (int i = from; i < to; i++) {
+            double value = (double) DOUBLE_LE.get(source, sourceOffset + i * Double.BYTES);
+            double result;
+            if (conversionService.validate(value, unit).isValid()) {
+                result = conversionService.convertValidated(direction, value);
+            } else {
+                result = Double.NaN;
+                invalid++;
+            }
+            DOUBLE_LE.set(target, targetOffset + i * Double.BYTES, result);
+        }
+        return invalid;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,208 @@
+package com.temperature.api.service;
+
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.BatchConversionError;
+import com.temperature.api.model.SensorIngestResponse;
+import com.temperature.api.model.SensorReading;
+import com.temperature.api.model.TemperatureUnit;
+import com.temperature.api.model.TemperatureValidationResult;
+import com.temperature.api.storage.ReadingBatch;
+import com.temperature.api.storage.ReadingLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ingesta de lecturas de sensores.
+ *
+ * Cada lectura se valida y se convierte a Celsius con {@link TemperatureConversionService}
+ * (mismas validaciones y redondeo que el resto de la API). Las lecturas válidas del lote
+ * se escriben primero en el {@link ReadingLog} en disco y después se incorporan a los
+ * agregados de {@link SensorWindowAggregator}: lo que se ve en los agregados ya está
+ * persistido.
+ *
+ * Un lote con alguna lectura posterior al instante actual más {@code max-clock-skew} se
+ * rechaza entero antes de tocar el registro o los agregados: una marca de tiempo en el
+ * futuro adelantaría para siempre la ventana más reciente de los anillos y expulsaría
+ * las lecturas actuales.
+ *
+ * Medidores:
+ * - {@value #READINGS_COUNTER}: lecturas recibidas por resultado (accepted/rejected)
+ */
+@Service
+public class SensorIngestionService implements MeterBinder {
+
+    public static final String READINGS_COUNTER = "temperature.sensors.readings";
+
+    /**
+     * Longitud máxima de un identificador de dispositivo.
+     */
+    static final int MAX_DEVICE_ID_LENGTH = 128;
+
+    private final TemperatureConversionService conversionService;
+    private final SensorWindowAggregator aggregator;
+    private final ReadingLog readingLog;
+    private final int maxBatchSize;
+    private final long maxClockSkewMillis;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param conversionService servicio de conversión de temperaturas
+     * @param aggregator        agregados por dispositivo y ventana
+     * @param readingLog        registro en disco de las lecturas
+     * @param maxBatchSize      número máximo de lecturas por petición
+     * @param maxClockSkew      adelanto máximo admitido del timestamp de una lectura respecto al reloj
+     */
+    @Autowired
+    public SensorIngestionService(TemperatureConversionService conversionService,
+                                  SensorWindowAggregator aggregator,
+                                  ReadingLog readingLog,
+                                  @Value("${app.batch.max-size:100000}") int maxBatchSize,
+                                  @Value("${app.sensors.max-clock-skew:5m}") Duration maxClockSkew) {
+        this.conversionService = conversionService;
+        this.aggregator = aggregator;
+        this.readingLog = readingLog;
+        this.maxBatchSize = maxBatchSize;
+        this.maxClockSkewMillis = maxClockSkew.toMillis();
+    }
+
+    /**
+     * Ingiere un lote de lecturas.
+     *
+     * Las lecturas inválidas no interrumpen el lote: se reportan por índice con el código
+     * {@code INVALID_DEVICE_ID}, {@code INVALID_TIMESTAMP}, {@code INVALID_UNIT},
+     * {@code INVALID_TEMPERATURE_VALUE} o {@code TOO_MANY_DEVICES}. Sin registro en disco,
+     * una lectura cuya ventana ya no se conserva en ningún tamaño se rechaza con
+     * {@code READING_TOO_OLD}; con registro se acepta, porque queda persistida.
+     *
+     * @param readings lecturas a ingerir (pueden contener nulos)
+     * @return número de lecturas aceptadas y errores por índice
+     * @throws TemperatureConversionException si el lote supera el tamaño máximo o contiene una
+     *                                        lectura en el futuro ({@code READING_IN_FUTURE})
+     * @throws java.io.UncheckedIOException   si el lote no se puede escribir en disco
+     */
+    public SensorIngestResponse ingest(List<SensorReading> readings) {
+        int size = readings.size();
+        if (size > maxBatchSize) {
+            throw new TemperatureConversionException(
+                    String.format("El lote contiene %d lecturas y el máximo permitido es %d", size, maxBatchSize),
+                    "BATCH_TOO_LARGE", size, maxBatchSize);
+        }
+        rejectFutureReadings(readings);
+
+        boolean persist = readingLog.isEnabled();
+        ReadingBatch batch = persist ? new ReadingBatch(size) : null;
+        List<BatchConversionError> errors = null;
+        for (int index = 0; index < size; index++) {
+            BatchConversionError error = accept(index, readings.get(index), batch);
+            if (error != null) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                errors.add(error);
+            }
+        }
+
+        if (persist && !batch.isEmpty()) {
+            readingLog.append(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                aggregator.record(batch.getDeviceId(i), batch.getTimestamp(i), batch.getCelsius(i));
+            }
+        }
+
+        int rejectedCount = errors == null ? 0 : errors.size();
+        accepted.add(size - rejectedCount);
+        rejected.add(rejectedCount);
+        return new SensorIngestResponse(size, errors);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(READINGS_COUNTER, accepted, LongAdder::sum)
+                .tag("result", "accepted")
+                .description("Lecturas de sensores aceptadas")
+                .register(registry);
+        FunctionCounter.builder(READINGS_COUNTER, rejected, LongAdder::sum)
+                .tag("result", "rejected")
+                .description("Lecturas de sensores descartadas")
+                .register(registry);
+    }
+
+    /**
+     * Rechaza el lote si alguna lectura es posterior al instante actual más el desfase de
+     * reloj admitido.
+     */
+    private void rejectFutureReadings(List<SensorReading> readings) {
+        long latestAllowed = System.currentTimeMillis() + maxClockSkewMillis;
+        for (int index = 0; index < readings.size(); index++) {
+            SensorReading reading = readings.get(index);
+            Long timestamp = reading != null ? reading.getTimestamp() : null;
+            if (timestamp != null && timestamp > latestAllowed) {
+                throw new TemperatureConversionException(
+                        String.format("La lectura %d tiene un timestamp en el futuro (%d); el máximo admitido es %d",
+                                index, timestamp, latestAllowed),
+                        "READING_IN_FUTURE", index, timestamp, latestAllowed);
+            }
+        }
+    }
+
+    /**
+     * Valida y convierte una lectura; la añade al lote a persistir o, sin registro en
+     * disco, directamente a los agregados.
+     *
+     * @return error de la lectura, o null si se aceptó
+     */
+    private BatchConversionError accept(int index, SensorReading reading, ReadingBatch batch) {
+        if (reading == null || reading.getDeviceId() == null || reading.getDeviceId().isBlank()
+                || reading.getDeviceId().length() > MAX_DEVICE_ID_LENGTH) {
+            return new BatchConversionError(index, "INVALID_DEVICE_ID", String.format(
+                    "El identificador del dispositivo es requerido (máximo %d caracteres)", MAX_DEVICE_ID_LENGTH));
+        }
+        if (reading.getTimestamp() == null || reading.getTimestamp() < 0) {
+            return new BatchConversionError(index, "INVALID_TIMESTAMP",
+                    "El timestamp de la lectura es requerido y no puede ser negativo");
+        }
+
+        TemperatureUnit unit;
+        try {
+            unit = TemperatureUnit.fromString(reading.getUnit());
+        } catch (IllegalArgumentException ex) {
+            return new BatchConversionError(index, TemperatureConversionService.INVALID_UNIT, ex.getMessage());
+        }
+
+        Double value = reading.getValue();
+        TemperatureValidationResult validation = value == null
+                ? TemperatureValidationResult.NULL_VALUE
+                : conversionService.validate(value, unit);
+        if (!validation.isValid()) {
+            return new BatchConversionError(index, TemperatureValidationResult.ERROR_CODE,
+                    conversionService.createValidationException(validation, value, unit).getMessage());
+        }
+
+        if (!aggregator.register(reading.getDeviceId())) {
+            return new BatchConversionError(index, "TOO_MANY_DEVICES",
+                    String.format("Se alcanzó el número máximo de dispositivos (%d)", aggregator.getMaxDevices()));
+        }
+
+        double celsius = conversionService.convertValidated(unit, TemperatureUnit.CELSIUS, value);
+        if (batch != null) {
+            batch.add(reading.getDeviceId(), reading.getTimestamp(), value, unit, celsius);
+        } else if (!aggregator.record(reading.getDeviceId(), reading.getTimestamp(), celsius)) {
+            return new BatchConversionError(index, "READING_TOO_OLD",
+                    "La ventana de la lectura ya no se conserva: " + reading.getTimestamp());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,363 @@
+package com.temperature.api.service;
+
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.RollupSeriesResponse;
+import com.temperature.api.model.SensorSeriesResponse;
+import com.temperature.api.model.SeriesBucket;
+import com.temperature.api.model.TemperatureUnit;
+import com.temperature.api.model.WindowAggregate;
+import com.temperature.api.storage.DeviceRangeVisitor;
+import com.temperature.api.storage.DeviceSummary;
+import com.temperature.api.storage.ReadingLog;
+import com.temperature.api.storage.RollupEngine;
+import com.temperature.api.storage.RollupTier;
+import com.temperature.api.storage.RollupVisitor;
+import com.temperature.api.storage.ScanStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Consultas de series temporales reducidas sobre las lecturas del {@link ReadingLog}.
+ *
+ * El intervalo pedido se divide en tramos de {@code step} alineados a múltiplos del paso
+ * y cada tramo resume sus lecturas (mínimo, máximo, media y última). Las lecturas se
+ * acumulan en arrays primitivos por tramo en una sola pasada por el registro, sin
+ * guardarlas: la memoria depende del número de tramos, no del de lecturas. Los segmentos
+ * que no contienen lecturas del dispositivo en el intervalo se descartan con su índice,
+ * y los que caen enteros dentro de un tramo se resuelven con el resumen del índice.
+ *
+ * Para intervalos largos (meses, años) {@link #queryRollups} construye la serie con los
+ * resúmenes precalculados del {@link RollupEngine}, eligiendo el nivel más grueso cuya
+ * duración divide al paso: un año por días agrupa 365 intervalos en lugar de recorrer
+ * todas las lecturas. Una consulta nunca mezcla niveles: si su inicio es anterior a lo que
+ * conserva el nivel elegido se rechaza en lugar de devolver una serie incompleta.
+ *
+ * Los valores se acumulan en centésimas de grado Celsius (exactos) y se convierten a la
+ * unidad pedida al construir la respuesta, con el mismo redondeo que el resto de la API.
+ */
+@Service
+public class SensorSeriesService {
+
+    /**
+     * Paso por defecto de la serie.
+     */
+    public static final String DEFAULT_STEP = "5m";
+
+    /**
+     * Paso por defecto de las series de resúmenes.
+     */
+    public static final String DEFAULT_ROLLUP_STEP = "1h";
+
+    /**
+     * Duración por defecto del intervalo cuando no se indica {@code from}.
+     */
+    static final long DEFAULT_RANGE_MILLIS = TimeUnit.HOURS.toMillis(24);
+
+    /**
+     * Duración por defecto del intervalo de las series de resúmenes.
+     */
+    static final long DEFAULT_ROLLUP_RANGE_MILLIS = TimeUnit.DAYS.toMillis(30);
+
+    private static final Pattern STEP_PATTERN = Pattern.compile("(\\d{1,9})(ms|s|m|h|d)");
+
+    private final TemperatureConversionService conversionService;
+    private final ReadingLog readingLog;
+    private final RollupEngine rollupEngine;
+    private final int maxBuckets;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param conversionService servicio de conversión de temperaturas
+     * @param readingLog        registro en disco de las lecturas
+     * @param rollupEngine      resúmenes precalculados de las lecturas
+     * @param maxBuckets        número máximo de tramos por consulta
+     */
+    @Autowired
+    public SensorSeriesService(TemperatureConversionService conversionService,
+                               ReadingLog readingLog,
+                               RollupEngine rollupEngine,
+                               @Value("${app.storage.query.max-buckets:10000}") int maxBuckets) {
+        this.conversionService = conversionService;
+        this.readingLog = readingLog;
+        this.rollupEngine = rollupEngine;
+        this.maxBuckets = maxBuckets;
+    }
+
+    /**
+     * Obtiene la serie reducida de un dispositivo.
+     *
+     * @param deviceId identificador del dispositivo
+     * @param from     inicio del intervalo (ms desde la época; null = {@code to} menos 24 horas)
+     * @param to       fin del intervalo (ms desde la época, excluido; null = ahora)
+     * @param step     duración de cada tramo ("30s", "5m", "1h"...; null = {@value #DEFAULT_STEP})
+     * @param unit     unidad de los valores (null = Celsius)
+     * @return tramos con lecturas en orden cronológico
+     * @throws TemperatureConversionException con código STORAGE_DISABLED, UNKNOWN_DEVICE,
+     *                                        INVALID_STEP, INVALID_UNIT, INVALID_RANGE o TOO_MANY_BUCKETS
+     */
+    public SensorSeriesResponse query(String deviceId, Long from, Long to, String step, String unit) {
+        if (!readingLog.isEnabled()) {
+            throw new TemperatureConversionException(
+                    "El registro de lecturas está desactivado (app.storage.log.enabled)", "STORAGE_DISABLED");
+        }
+        long stepMillis = parseStep(step != null ? step : DEFAULT_STEP);
+        TemperatureUnit target = resolveUnit(unit);
+        long end = to != null ? to : System.currentTimeMillis();
+        long start = from != null ? from : end - DEFAULT_RANGE_MILLIS;
+        BucketAccumulator accumulator = accumulator(start, end, stepMillis);
+        int deviceIndex = deviceIndex(deviceId);
+
+        ScanStatistics statistics = readingLog.scanDevice(deviceIndex, start, end, accumulator);
+        return new SensorSeriesResponse(deviceId, target, accumulator.start, end, stepMillis,
+                accumulator.toBuckets(target, end),
+                new SensorSeriesResponse.Segments(statistics.scanned(), statistics.summarized(), statistics.skipped()));
+    }
+
+    /**
+     * Obtiene la serie de un dispositivo a partir de los resúmenes precalculados.
+     *
+     * Se usa el nivel más grueso (1d, 1h o 1m) cuya duración divide al paso, y los límites
+     * del intervalo se redondean a sus intervalos. Las lecturas persistidas en el último
+     * segundo pueden no estar resumidas todavía ({@code pendingReadings}).
+     *
+     * Cada nivel conserva sus intervalos solo durante {@code app.storage.rollup.retention}
+     * (1m: 2 días por defecto). Si {@code from} es anterior, la consulta se rechaza con
+     * {@code RANGE_BEYOND_RETENTION}; sin {@code from} la serie empieza como pronto en el
+     * primer tramo que el nivel conserva entero, y la respuesta lo indica en {@code from}.
+     *
+     * @param deviceId identificador del dispositivo
+     * @param from     inicio del intervalo (ms desde la época; null = {@code to} menos 30 días,
+     *                 limitado a lo que conserva el nivel)
+     * @param to       fin del intervalo (ms desde la época, excluido; null = ahora)
+     * @param step     duración de cada tramo, múltiplo de 1 minuto (null = {@value #DEFAULT_ROLLUP_STEP})
+     * @param unit     unidad de los valores (null = Celsius)
+     * @return tramos con lecturas en orden cronológico
+     * @throws TemperatureConversionException con código STORAGE_DISABLED, UNKNOWN_DEVICE,
+     *                                        INVALID_STEP, INVALID_UNIT, INVALID_RANGE,
+     *                                        RANGE_BEYOND_RETENTION o TOO_MANY_BUCKETS
+     */
+    public RollupSeriesResponse queryRollups(String deviceId, Long from, Long to, String step, String unit) {
+        if (!rollupEngine.isEnabled()) {
+            throw new TemperatureConversionException(
+                    "Los resúmenes de lecturas están desactivados (app.storage.rollup.enabled)", "STORAGE_DISABLED");
+        }
+        String requested = step != null ? step : DEFAULT_ROLLUP_STEP;
+        long stepMillis = parseStep(requested);
+        RollupTier tier = RollupTier.coarsestFor(stepMillis);
+        if (tier == null) {
+            throw new TemperatureConversionException(
+                    "El paso de los resúmenes debe ser múltiplo de 1 minuto: " + requested, "INVALID_STEP", requested);
+        }
+        TemperatureUnit target = resolveUnit(unit);
+        long now = System.currentTimeMillis();
+        long end = to != null ? to : now;
+        long start = from != null ? from : end - DEFAULT_ROLLUP_RANGE_MILLIS;
+
+        // Primer tramo alineado al paso que el nivel conserva entero
+        long cutoff = rollupEngine.getRetentionCutoff(tier, now);
+        long firstRetained = cutoff == Long.MIN_VALUE ? Long.MIN_VALUE : -Math.floorDiv(-cutoff, stepMillis) * stepMillis;
+        if (from == null && firstRetained < end) {
+            start = Math.max(start, firstRetained);
+        }
+        if (Math.floorDiv(start, stepMillis) * stepMillis < firstRetained) {
+            throw new TemperatureConversionException(
+                    String.format("El nivel %s solo conserva intervalos desde %d y la consulta empieza en %d; "
+                            + "use un inicio posterior o un paso múltiplo de un nivel más grueso",
+                            tier.getLabel(), firstRetained, start),
+                    "RANGE_BEYOND_RETENTION", tier.getLabel(), firstRetained, start);
+        }
+        BucketAccumulator accumulator = accumulator(start, end, stepMillis);
+        int deviceIndex = deviceIndex(deviceId);
+
+        long pending = rollupEngine.getLag();
+        rollupEngine.scan(deviceIndex, tier, accumulator.start, end, accumulator);
+        return new RollupSeriesResponse(deviceId, target, tier.getLabel(), accumulator.start, end, stepMillis,
+                accumulator.toAggregates(target, end), pending);
+    }
+
+    /**
+     * Valida el intervalo y prepara los tramos alineados a múltiplos del paso.
+     */
+    private BucketAccumulator accumulator(long start, long end, long stepMillis) {
+        if (start >= end) {
+            throw new TemperatureConversionException(
+                    String.format("El inicio del intervalo (%d) debe ser anterior al fin (%d)", start, end),
+                    "INVALID_RANGE", start, end);
+        }
+        long alignedStart = Math.floorDiv(start, stepMillis) * stepMillis;
+        long buckets = (end - alignedStart + stepMillis - 1) / stepMillis;
+        if (buckets > maxBuckets) {
+            throw new TemperatureConversionException(
+                    String.format("La consulta genera %d intervalos y el máximo es %d; aumente el paso",
+                            buckets, maxBuckets),
+                    "TOO_MANY_BUCKETS", buckets, maxBuckets);
+        }
+        return new BucketAccumulator(alignedStart, stepMillis, (int) buckets);
+    }
+
+    private int deviceIndex(String deviceId) {
+        int deviceIndex = readingLog.getDeviceIndex(deviceId);
+        if (deviceIndex < 0) {
+            throw new TemperatureConversionException(
+                    "No hay lecturas del dispositivo: " + deviceId, "UNKNOWN_DEVICE", deviceId);
+        }
+        return deviceIndex;
+    }
+
+    /**
+     * Traduce un paso recibido como texto: un entero seguido de ms, s, m, h o d.
+     *
+     * @param step paso ("500ms", "30s", "5m", "1h", "1d")
+     * @return paso en milisegundos
+     * @throws TemperatureConversionException con código INVALID_STEP si no es válido
+     */
+    public static long parseStep(String step) {
+        Matcher matcher = STEP_PATTERN.matcher(step.trim().toLowerCase(Locale.ROOT));
+        long amount = matcher.matches() ? Long.parseLong(matcher.group(1)) : 0;
+        if (amount <= 0) {
+            throw new TemperatureConversionException(
+                    "Paso no válido: " + step + ". Use un entero seguido de ms, s, m, h o d (p. ej. 5m)",
+                    "INVALID_STEP", step);
+        }
+        return switch (matcher.group(2)) {
+            case "ms" -> amount;
+            case "s" -> TimeUnit.SECONDS.toMillis(amount);
+            case "m" -> TimeUnit.MINUTES.toMillis(amount);
+            case "h" -> TimeUnit.HOURS.toMillis(amount);
+            default -> TimeUnit.DAYS.toMillis(amount);
+        };
+    }
+
+    private static TemperatureUnit resolveUnit(String unit) {
+        if (unit == null) {
+            return TemperatureUnit.CELSIUS;
+        }
+        try {
+            return TemperatureUnit.fromString(unit);
+        } catch (IllegalArgumentException ex) {
+            throw new TemperatureConversionException(ex.getMessage(), TemperatureConversionService.INVALID_UNIT, unit);
+        }
+    }
+
+    private double convert(int hundredths, TemperatureUnit target) {
+        return conversionService.convertValidated(TemperatureUnit.CELSIUS, target, hundredths / 100.0);
+    }
+
+    /**
+     * Acumulado por tramo de una consulta, en arrays primitivos paralelos. Recibe lecturas y
+     * resúmenes de segmento del registro, o intervalos de un nivel de resumen.
+     */
+    private final class BucketAccumulator implements DeviceRangeVisitor, RollupVisitor {
+
+        private final long start;
+        private final long step;
+        private final long[] counts;
+        private final long[] sums;
+        private final int[] mins;
+        private final int[] maxs;
+        private final long[] lastTimestamps;
+        private final int[] lasts;
+
+        private BucketAccumulator(long start, long step, int buckets) {
+            this.start = start;
+            this.step = step;
+            this.counts = new long[buckets];
+            this.sums = new long[buckets];
+            this.mins = new int[buckets];
+            this.maxs = new int[buckets];
+            this.lastTimestamps = new long[buckets];
+            this.lasts = new int[buckets];
+            Arrays.fill(mins, Integer.MAX_VALUE);
+            Arrays.fill(maxs, Integer.MIN_VALUE);
+            Arrays.fill(lastTimestamps, Long.MIN_VALUE);
+        }
+
+        @Override
+        public void visit(long sequence, int deviceIndex, long timestamp, double value, TemperatureUnit unit,
+                          int celsiusHundredths) {
+            int bucket = bucket(timestamp);
+            merge(bucket, 1, celsiusHundredths, celsiusHundredths, celsiusHundredths);
+            if (timestamp >= lastTimestamps[bucket]) {
+                lastTimestamps[bucket] = timestamp;
+                lasts[bucket] = celsiusHundredths;
+            }
+        }
+
+        @Override
+        public boolean visitSummary(DeviceSummary summary) {
+            int bucket = bucket(summary.minTimestamp());
+            if (bucket != bucket(summary.maxTimestamp())) {
+                return false;
+            }
+            merge(bucket, summary.count(), summary.sumHundredths(), summary.minHundredths(), summary.maxHundredths());
+            if (summary.maxTimestamp() >= lastTimestamps[bucket]) {
+                lastTimestamps[bucket] = summary.maxTimestamp();
+                lasts[bucket] = summary.lastHundredths();
+            }
+            return true;
+        }
+
+        @Override
+        public void visit(long bucketStart, int count, long sumHundredths, int minHundredths, int maxHundredths) {
+            merge(bucket(bucketStart), count, sumHundredths, minHundredths, maxHundredths);
+        }
+
+        private void merge(int bucket, long count, long sum, int min, int max) {
+            counts[bucket] += count;
+            sums[bucket] += sum;
+            mins[bucket] = Math.min(mins[bucket], min);
+            maxs[bucket] = Math.max(maxs[bucket], max);
+        }
+
+        private int bucket(long timestamp) {
+            return (int) ((timestamp - start) / step);
+        }
+
+        /**
+         * Media del tramo en centésimas: división entera con redondeo HALF_UP (alejándose de cero).
+         */
+        private int mean(int bucket) {
+            long count = counts[bucket];
+            long sum = sums[bucket];
+            return (int) ((2 * sum + (sum >= 0 ? count : -count)) / (2 * count));
+        }
+
+        private List<SeriesBucket> toBuckets(TemperatureUnit target, long end) {
+            List<SeriesBucket> result = new ArrayList<>();
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                if (counts[bucket] == 0) {
+                    continue;
+                }
+                long bucketStart = start + bucket * step;
+                result.add(new SeriesBucket(bucketStart, Math.min(bucketStart + step, end), counts[bucket],
+                        convert(mins[bucket], target), convert(maxs[bucket], target),
+                        convert(mean(bucket), target), convert(lasts[bucket], target)));
+            }
+            return result;
+        }
+
+        private List<WindowAggregate> toAggregates(TemperatureUnit target, long end) {
+            List<WindowAggregate> result = new ArrayList<>();
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                if (counts[bucket] == 0) {
+                    continue;
+                }
+                long bucketStart = start + bucket * step;
+                result.add(new WindowAggregate(bucketStart, Math.min(bucketStart + step, end),
+                        Math.toIntExact(counts[bucket]), convert(mins[bucket], target),
+                        convert(maxs[bucket], target), convert(mean(bucket), target)));
+            }
+            return result;
+        }
+    }
+}
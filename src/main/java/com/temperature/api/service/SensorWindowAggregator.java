@@ -0,0 +1,263 @@
+package com.temperature.api.service;
+
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.AggregationWindow;
+import com.temperature.api.model.SensorWindowsResponse;
+import com.temperature.api.model.WindowAggregate;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Agregados por dispositivo y ventana de las lecturas de sensores.
+ *
+ * {@link SensorIngestionService} convierte cada lectura a Celsius y la suma aquí a su
+ * ventana de 1 minuto y de 1 hora en los {@link WindowRing} del dispositivo. Solo se
+ * conservan las últimas {@code app.sensors.windows.*} ventanas de cada tamaño y como
+ * mucho {@code app.sensors.max-devices} dispositivos, de modo que la memoria por
+ * dispositivo es fija y la total está acotada.
+ *
+ * Medidores:
+ * - {@value #DEVICES_GAUGE}: dispositivos con agregados
+ * - {@value #MEMORY_GAUGE}: memoria reservada para los agregados (bytes)
+ */
+@Service
+public class SensorWindowAggregator implements MeterBinder {
+
+    public static final String DEVICES_GAUGE = "temperature.sensors.devices";
+    public static final String MEMORY_GAUGE = "temperature.sensors.memory";
+
+    /**
+     * Memoria aproximada de la entrada del mapa de dispositivos y del propio dispositivo,
+     * sin contar sus anillos ni el identificador.
+     */
+    private static final int DEVICE_OVERHEAD_BYTES = 96;
+
+    private final int maxDevices;
+    private final Map<AggregationWindow, Integer> capacities = new EnumMap<>(AggregationWindow.class);
+    private final long ringBytesPerDevice;
+
+    private final ConcurrentMap<String, DeviceWindows> devices = new ConcurrentHashMap<>();
+    private final AtomicInteger deviceCount = new AtomicInteger();
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param maxDevices    número máximo de dispositivos con agregados
+     * @param minuteWindows ventanas de 1 minuto conservadas por dispositivo
+     * @param hourWindows   ventanas de 1 hora conservadas por dispositivo
+     */
+    @Autowired
+    public SensorWindowAggregator(@Value("${app.sensors.max-devices:10000}") int maxDevices,
+                                  @Value("${app.sensors.windows.one-minute:60}") int minuteWindows,
+                                  @Value("${app.sensors.windows.one-hour:24}") int hourWindows) {
+        this.maxDevices = maxDevices;
+        capacities.put(AggregationWindow.ONE_MINUTE, minuteWindows);
+        capacities.put(AggregationWindow.ONE_HOUR, hourWindows);
+
+        long ringBytes = 0;
+        for (int capacity : capacities.values()) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("El número de ventanas debe ser positivo: " + capacity);
+            }
+            ringBytes += WindowRing.footprintBytes(capacity);
+        }
+        this.ringBytesPerDevice = ringBytes;
+    }
+
+    /**
+     * Reserva los agregados de un dispositivo sin superar el máximo de dispositivos.
+     *
+     * @param deviceId identificador del dispositivo
+     * @return false si el dispositivo es nuevo y ya se alcanzó el máximo
+     */
+    public boolean register(String deviceId) {
+        return device(deviceId) != null;
+    }
+
+    /**
+     * Incorpora una temperatura ya convertida a Celsius a los agregados de un dispositivo.
+     *
+     * @param deviceId  identificador del dispositivo
+     * @param timestamp instante de la lectura (ms desde la época, no negativo)
+     * @param celsius   temperatura en Celsius con 2 decimales
+     * @return true si se incorporó en al menos un tamaño de ventana
+     * @throws TemperatureConversionException si se alcanzó el número máximo de dispositivos
+     */
+    public boolean record(String deviceId, long timestamp, double celsius) {
+        DeviceWindows device = device(deviceId);
+        if (device == null) {
+            throw new TemperatureConversionException(
+                    String.format("Se alcanzó el número máximo de dispositivos (%d)", maxDevices),
+                    "TOO_MANY_DEVICES", maxDevices);
+        }
+        return device.add(timestamp, (int) Math.round(celsius * 100));
+    }
+
+    /**
+     * Obtiene el agregado de la ventana que contiene un instante, en tiempo constante.
+     *
+     * @param deviceId  identificador del dispositivo
+     * @param window    tamaño de la ventana
+     * @param timestamp instante (ms desde la época)
+     * @return agregado de la ventana, o null si no tiene lecturas o ya no se conserva
+     */
+    public WindowAggregate getWindow(String deviceId, AggregationWindow window, long timestamp) {
+        DeviceWindows device = devices.get(deviceId);
+        return device == null ? null : device.get(window, timestamp);
+    }
+
+    /**
+     * Obtiene las ventanas conservadas de un dispositivo que se solapan con un intervalo.
+     *
+     * El coste es constante por ventana conservada, independiente del número de lecturas.
+     *
+     * @param deviceId identificador del dispositivo
+     * @param window   tamaño de las ventanas
+     * @param from     inicio del intervalo (ms desde la época, incluido; null = sin límite)
+     * @param to       fin del intervalo (ms desde la época, excluido; null = sin límite)
+     * @return ventanas con lecturas en orden cronológico
+     * @throws TemperatureConversionException si el dispositivo no tiene lecturas
+     */
+    public SensorWindowsResponse getWindows(String deviceId, AggregationWindow window, Long from, Long to) {
+        DeviceWindows device = devices.get(deviceId);
+        if (device == null) {
+            throw new TemperatureConversionException(
+                    "No hay lecturas del dispositivo: " + deviceId, "UNKNOWN_DEVICE", deviceId);
+        }
+        List<WindowAggregate> windows = device.list(window,
+                from != null ? from : Long.MIN_VALUE, to != null ? to : Long.MAX_VALUE);
+        return new SensorWindowsResponse(deviceId, window, windows, getBytesPerDevice());
+    }
+
+    /**
+     * Traduce un tamaño de ventana recibido como texto ("1m", "1h").
+     *
+     * @param window etiqueta de la ventana
+     * @return ventana correspondiente
+     * @throws TemperatureConversionException con código INVALID_WINDOW si no es válida
+     */
+    public static AggregationWindow resolveWindow(String window) {
+        try {
+            return AggregationWindow.fromString(window);
+        } catch (IllegalArgumentException ex) {
+            throw new TemperatureConversionException(ex.getMessage(), "INVALID_WINDOW", window);
+        }
+    }
+
+    /**
+     * @return memoria reservada por cada dispositivo (bytes, sin contar el identificador)
+     */
+    public long getBytesPerDevice() {
+        return DEVICE_OVERHEAD_BYTES + ringBytesPerDevice;
+    }
+
+    /**
+     * @return memoria reservada para los agregados de todos los dispositivos (bytes)
+     */
+    public long getMemoryBytes() {
+        return deviceCount.get() * getBytesPerDevice();
+    }
+
+    /**
+     * @return número máximo de dispositivos con agregados
+     */
+    public int getMaxDevices() {
+        return maxDevices;
+    }
+
+    /**
+     * @return número de dispositivos con agregados
+     */
+    public int getDeviceCount() {
+        return deviceCount.get();
+    }
+
+    /**
+     * Documento con el uso de memoria de los agregados.
+     *
+     * @return dispositivos, límites, memoria por dispositivo y total
+     */
+    public Map<String, Object> getMemoryReport() {
+        Map<String, Object> retained = new LinkedHashMap<>();
+        capacities.forEach((window, capacity) -> retained.put(window.getLabel(), capacity));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("devices", getDeviceCount());
+        report.put("maxDevices", maxDevices);
+        report.put("retainedWindows", retained);
+        report.put("bytesPerDevice", getBytesPerDevice());
+        report.put("memoryBytes", getMemoryBytes());
+        report.put("maxMemoryBytes", maxDevices * getBytesPerDevice());
+        return report;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(DEVICES_GAUGE, deviceCount, AtomicInteger::get)
+                .description("Dispositivos con agregados por ventana")
+                .register(registry);
+        Gauge.builder(MEMORY_GAUGE, this, SensorWindowAggregator::getMemoryBytes)
+                .baseUnit("bytes")
+                .description("Memoria reservada para los agregados por ventana")
+                .register(registry);
+    }
+
+    /**
+     * Obtiene o crea los agregados de un dispositivo sin superar el máximo.
+     *
+     * @return agregados del dispositivo, o null si se alcanzó el máximo
+     */
+    private DeviceWindows device(String deviceId) {
+        DeviceWindows device = devices.get(deviceId);
+        if (device != null) {
+            return device;
+        }
+        return devices.computeIfAbsent(deviceId, id -> {
+            if (deviceCount.incrementAndGet() > maxDevices) {
+                deviceCount.decrementAndGet();
+                return null;
+            }
+            return new DeviceWindows(capacities);
+        });
+    }
+
+    /**
+     * Anillos de un dispositivo, uno por tamaño de ventana.
+     */
+    private static final class DeviceWindows {
+
+        private final WindowRing[] rings = new WindowRing[AggregationWindow.values().length];
+
+        private DeviceWindows(Map<AggregationWindow, Integer> capacities) {
+            capacities.forEach((window, capacity) -> rings[window.ordinal()] = new WindowRing(window, capacity));
+        }
+
+        private synchronized boolean add(long timestamp, int hundredths) {
+            boolean added = false;
+            for (WindowRing ring : rings) {
+                added |= ring.add(timestamp, hundredths);
+            }
+            return added;
+        }
+
+        private synchronized WindowAggregate get(AggregationWindow window, long timestamp) {
+            return rings[window.ordinal()].get(timestamp);
+        }
+
+        private synchronized List<WindowAggregate> list(AggregationWindow window, long from, long to) {
+            return rings[window.ordinal()].list(from, to);
+        }
+    }
+}
@@ -1,46 +1,171 @@
 package com.temperature.api.service;
 
 import com.temperature.api.exception.InvalidTemperatureException;
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.BatchConversionError;
+import com.temperature.api.model.BatchConversionResponse;
+import com.temperature.api.model.ConversionDirection;
 import com.temperature.api.model.TemperatureConversionResponse;
 import com.temperature.api.model.TemperatureUnit;
+import com.temperature.api.model.TemperatureValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Servicio que contiene la lógica de negocio para conversiones de temperatura.
  * 
- * Esta clase implementa las fórmulas de conversión entre Celsius y Fahrenheit,
+ * Esta clase implementa las conversiones entre Celsius, Fahrenheit, Kelvin y Rankine,
  * incluyendo validaciones de entrada y manejo de precisión decimal.
  * 
- * Fórmulas utilizadas:
+ * Cada sentido se resuelve con una transformación afín exacta precalculada a partir de
+ * {@link TemperatureUnit} ({@link AffineTransform}), por ejemplo:
  * - Celsius a Fahrenheit: F = (C × 9/5) + 32
  * - Fahrenheit a Celsius: C = (F - 32) × 5/9
  */
 @Service
 public class TemperatureConversionService {
 
+    /**
+     * Versión de las fórmulas y del redondeo. Debe incrementarse si cambia el resultado
+     * de alguna conversión, ya que forma parte de los ETag que cachean clientes y CDN.
+     */
+    public static final int FORMULA_VERSION = 1;
+
     /**
      * Cero absoluto en Celsius (-273.15°C).
      */
-    private static final double ABSOLUTE_ZERO_CELSIUS = -273.15;
+    static final double ABSOLUTE_ZERO_CELSIUS = -273.15;
 
     /**
      * Cero absoluto en Fahrenheit (-459.67°F).
      */
-    private static final double ABSOLUTE_ZERO_FAHRENHEIT = -459.67;
+    static final double ABSOLUTE_ZERO_FAHRENHEIT = -459.67;
 
     /**
      * Límite máximo razonable para temperaturas en la aplicación.
      */
-    private static final double MAX_REASONABLE_TEMPERATURE = 10000.0;
+    static final double MAX_REASONABLE_TEMPERATURE = 10000.0;
+
+    /**
+     * Constantes publicadas en /info, en orden fijo para que el documento serializado
+     * (y su ETag) sea el mismo en todas las instancias.
+     */
+    public static final Map<String, Double> CONVERSION_CONSTANTS;
+
+    static {
+        Map<String, Double> constants = new java.util.LinkedHashMap<>();
+        constants.put("ABSOLUTE_ZERO_CELSIUS", ABSOLUTE_ZERO_CELSIUS);
+        constants.put("ABSOLUTE_ZERO_FAHRENHEIT", ABSOLUTE_ZERO_FAHRENHEIT);
+        constants.put("MAX_REASONABLE_TEMPERATURE", MAX_REASONABLE_TEMPERATURE);
+        CONVERSION_CONSTANTS = java.util.Collections.unmodifiableMap(constants);
+    }
+
+    /**
+     * Código de error para unidades desconocidas o iguales en origen y destino.
+     */
+    public static final String INVALID_UNIT = "INVALID_UNIT";
 
     /**
      * Precisión decimal para los resultados (2 decimales).
      */
     private static final int DECIMAL_PRECISION = 2;
 
+    /**
+     * Escala intermedia del redondeo (la misma que usaba la división con BigDecimal).
+     */
+    private static final int INTERMEDIATE_SCALE = DECIMAL_PRECISION + 2;
+
+    /**
+     * Máximo número de decimales de entrada que se resuelven con aritmética entera.
+     */
+    private static final int MAX_FAST_PATH_SCALE = 9;
+
+    private static final long[] LONG_POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L,
+            1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9
+    };
+
+    /**
+     * Excepciones preconstruidas (sin traza) para los rechazos cuyo mensaje no depende del valor.
+     */
+    private static final Map<TemperatureUnit, InvalidTemperatureException> NULL_VALUE_REJECTIONS =
+            preallocatedRejections(null, "El valor de temperatura no puede ser nulo");
+
+    private static final Map<TemperatureUnit, InvalidTemperatureException> NAN_REJECTIONS =
+            preallocatedRejections(Double.NaN, "El valor de temperatura no puede ser NaN (Not a Number)");
+
+    private static final Logger log = LoggerFactory.getLogger(TemperatureConversionService.class);
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private final ConversionMetrics metrics;
+
+    /**
+     * Implementación de {@link #convertArray}: vectorial si el módulo está disponible.
+     */
+    private final ArrayConversionKernel arrayKernel;
+
+    /**
+     * Pool para repartir los arrays grandes; nulo si todo se convierte en el hilo llamante.
+     */
+    private final ParallelConversionPool parallelPool;
+
+    /**
+     * Crea el servicio sin métricas (las medidas se descartan).
+     */
+    public TemperatureConversionService() {
+        this(ConversionMetrics.noop());
+    }
+
+    /**
+     * Crea el servicio con las métricas indicadas y la conversión vectorial si está disponible.
+     *
+     * @param metrics métricas de las conversiones
+     */
+    public TemperatureConversionService(ConversionMetrics metrics) {
+        this(metrics, true);
+    }
+
+    /**
+     * Crea el servicio sin pool paralelo: los arrays se convierten en el hilo llamante.
+     *
+     * @param metrics       métricas de las conversiones
+     * @param vectorEnabled usar la Vector API en {@link #convertArray} si el módulo está disponible
+     */
+    public TemperatureConversionService(ConversionMetrics metrics, boolean vectorEnabled) {
+        this(metrics, null, vectorEnabled);
+    }
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * @param metrics       métricas de las conversiones
+     * @param parallelPool  pool para repartir los arrays grandes (nulo para no repartir)
+     * @param vectorEnabled usar la Vector API en {@link #convertArray} si el módulo está disponible
+     */
+    @Autowired
+    public TemperatureConversionService(ConversionMetrics metrics,
+                                        ParallelConversionPool parallelPool,
+                                        @Value("${app.conversion.vector.enabled:true}") boolean vectorEnabled) {
+        this.metrics = metrics;
+        this.parallelPool = parallelPool;
+        this.arrayKernel = createArrayKernel(vectorEnabled);
+    }
+
     /**
      * Convierte una temperatura de Celsius a Fahrenheit.
      * 
@@ -51,27 +176,7 @@ public class TemperatureConversionService {
      * @throws InvalidTemperatureException si la temperatura está fuera de rangos válidos
      */
     public TemperatureConversionResponse celsiusToFahrenheit(Double celsius) {
-        // Validar entrada
-        validateTemperature(celsius, TemperatureUnit.CELSIUS);
-
-        // Realizar conversión usando BigDecimal para precisión
-        BigDecimal celsiusBD = BigDecimal.valueOf(celsius);
-        BigDecimal fahrenheitBD = celsiusBD
-                .multiply(BigDecimal.valueOf(9))
-                .divide(BigDecimal.valueOf(5), DECIMAL_PRECISION + 2, RoundingMode.HALF_UP)
-                .add(BigDecimal.valueOf(32))
-                .setScale(DECIMAL_PRECISION, RoundingMode.HALF_UP);
-
-        Double fahrenheit = fahrenheitBD.doubleValue();
-
-        // Crear respuesta
-        return new TemperatureConversionResponse(
-                celsius,
-                TemperatureUnit.CELSIUS.getDisplayName(),
-                fahrenheit,
-                TemperatureUnit.FAHRENHEIT.getDisplayName(),
-                "F = (C × 9/5) + 32"
-        );
+        return convertTemperature(ConversionDirection.CELSIUS_TO_FAHRENHEIT, celsius);
     }
 
     /**
@@ -84,67 +189,477 @@ public class TemperatureConversionService {
      * @throws InvalidTemperatureException si la temperatura está fuera de rangos válidos
      */
     public TemperatureConversionResponse fahrenheitToCelsius(Double fahrenheit) {
-        // Validar entrada
-        validateTemperature(fahrenheit, TemperatureUnit.FAHRENHEIT);
+        return convertTemperature(ConversionDirection.FAHRENHEIT_TO_CELSIUS, fahrenheit);
+    }
 
-        // Realizar conversión usando BigDecimal para precisión
-        BigDecimal fahrenheitBD = BigDecimal.valueOf(fahrenheit);
-        BigDecimal celsiusBD = fahrenheitBD
-                .subtract(BigDecimal.valueOf(32))
-                .multiply(BigDecimal.valueOf(5))
-                .divide(BigDecimal.valueOf(9), DECIMAL_PRECISION + 2, RoundingMode.HALF_UP)
-                .setScale(DECIMAL_PRECISION, RoundingMode.HALF_UP);
+    /**
+     * Convierte una temperatura en el sentido indicado.
+     *
+     * @param direction sentido de la conversión
+     * @param value     temperatura en la unidad de origen
+     * @return objeto respuesta con los detalles de la conversión
+     * @throws InvalidTemperatureException si la temperatura está fuera de rangos válidos
+     */
+    public TemperatureConversionResponse convertTemperature(ConversionDirection direction, Double value) {
+        long start = System.nanoTime();
+        TemperatureUnit sourceUnit = direction.getSourceUnit();
+        // Validar entrada nula antes de desempaquetar
+        validateNotNull(value, sourceUnit);
 
-        Double celsius = celsiusBD.doubleValue();
+        double converted = convert(direction, value);
+        metrics.recordConversion(direction, value, System.nanoTime() - start);
 
         // Crear respuesta
         return new TemperatureConversionResponse(
-                fahrenheit,
-                TemperatureUnit.FAHRENHEIT.getDisplayName(),
-                celsius,
-                TemperatureUnit.CELSIUS.getDisplayName(),
-                "C = (F - 32) × 5/9"
+                value,
+                sourceUnit.getDisplayName(),
+                converted,
+                direction.getTargetUnit().getDisplayName(),
+                direction.getFormula()
         );
     }
 
+    /**
+     * Obtiene el sentido de conversión entre dos unidades indicadas como texto
+     * (nombre, inicial o símbolo, ver {@link TemperatureUnit#fromString}).
+     *
+     * @param from unidad de origen
+     * @param to   unidad de destino
+     * @return sentido de la conversión
+     * @throws TemperatureConversionException con código {@code INVALID_UNIT} si alguna unidad
+     *                                        no es válida o ambas son la misma
+     */
+    public static ConversionDirection resolveDirection(String from, String to) {
+        try {
+            return ConversionDirection.of(TemperatureUnit.fromString(from), TemperatureUnit.fromString(to));
+        } catch (IllegalArgumentException ex) {
+            throw new TemperatureConversionException(ex.getMessage(), INVALID_UNIT);
+        }
+    }
+
+    /**
+     * Convierte una temperatura de Celsius a Fahrenheit trabajando con primitivos.
+     *
+     * El resultado es idéntico bit a bit al cálculo con {@link BigDecimal}
+     * (redondeo HALF_UP a 4 decimales intermedios y luego a 2), pero para
+     * entradas con hasta {@value #MAX_FAST_PATH_SCALE} decimales no reserva memoria.
+     *
+     * @param celsius temperatura en grados Celsius
+     * @return temperatura en grados Fahrenheit redondeada a 2 decimales
+     * @throws InvalidTemperatureException si la temperatura está fuera de rangos válidos
+     */
+    public double convertCtoF(double celsius) {
+        return convert(ConversionDirection.CELSIUS_TO_FAHRENHEIT, celsius);
+    }
+
+    /**
+     * Convierte una temperatura de Fahrenheit a Celsius trabajando con primitivos.
+     *
+     * El resultado es idéntico bit a bit al cálculo con {@link BigDecimal}
+     * (redondeo HALF_UP a 4 decimales intermedios y luego a 2), pero para
+     * entradas con hasta {@value #MAX_FAST_PATH_SCALE} decimales no reserva memoria.
+     *
+     * @param fahrenheit temperatura en grados Fahrenheit
+     * @return temperatura en grados Celsius redondeada a 2 decimales
+     * @throws InvalidTemperatureException si la temperatura está fuera de rangos válidos
+     */
+    public double convertFtoC(double fahrenheit) {
+        return convert(ConversionDirection.FAHRENHEIT_TO_CELSIUS, fahrenheit);
+    }
+
+    /**
+     * Convierte un valor primitivo en el sentido indicado.
+     *
+     * @param direction sentido de la conversión
+     * @param value     temperatura en la unidad de origen
+     * @return temperatura convertida redondeada a 2 decimales
+     * @throws InvalidTemperatureException si la temperatura está fuera de rangos válidos
+     */
+    public double convert(ConversionDirection direction, double value) {
+        validateTemperature(value, direction.getSourceUnit());
+        return convertValidated(direction, value);
+    }
+
+    /**
+     * Convierte un valor que ya fue validado con {@link #validate(double, TemperatureUnit)}.
+     *
+     * @param direction sentido de la conversión
+     * @param value     temperatura válida en la unidad de origen
+     * @return temperatura convertida redondeada a 2 decimales
+     */
+    public double convertValidated(ConversionDirection direction, double value) {
+        AffineTransform transform = AffineTransform.of(direction);
+        return roundedAffine(value, transform.sourceShift(), transform.multiplier(), transform.divisor(),
+                transform.targetShift());
+    }
+
+    /**
+     * Convierte entre dos unidades un valor que ya fue validado en la unidad de origen.
+     *
+     * Si ambas unidades coinciden el valor solo se redondea, con el mismo redondeo que
+     * el resto de conversiones.
+     *
+     * @param source unidad de origen
+     * @param target unidad de destino
+     * @param value  temperatura válida en la unidad de origen
+     * @return temperatura en la unidad de destino redondeada a 2 decimales
+     */
+    public double convertValidated(TemperatureUnit source, TemperatureUnit target, double value) {
+        if (source == target) {
+            return roundedAffine(value, 0, 1, 1, 0);
+        }
+        return convertValidated(ConversionDirection.of(source, target), value);
+    }
+
+    /**
+     * Convierte un array de temperaturas sin crear objetos por valor.
+     * 
+     * Con el módulo {@code jdk.incubator.vector} disponible la conversión y la validación
+     * de rango se hacen con instrucciones SIMD; en otro caso valor a valor. Ambos caminos
+     * dan exactamente los mismos resultados que {@link #convertValidated}. Los arrays
+     * grandes se reparten entre los hilos de {@link ParallelConversionPool}.
+     *
+     * @param direction sentido de la conversión
+     * @param values    temperaturas en la unidad de origen
+     * @param results   destino, de al menos {@code values.length} posiciones; los valores
+     *                  inválidos se escriben como NaN (un resultado válido nunca es NaN)
+     * @return número de valores inválidos
+     */
+    public int convertArray(ConversionDirection direction, double[] values, double[] results) {
+        return convertArray(direction, values, results, values.length);
+    }
+
+    /**
+     * Convierte las primeras {@code length} posiciones de un array.
+     *
+     * @param direction sentido de la conversión
+     * @param values    temperaturas en la unidad de origen
+     * @param results   destino de los resultados (NaN en las posiciones inválidas)
+     * @param length    número de valores a convertir
+     * @return número de valores inválidos
+     * @see #convertArray(ConversionDirection, double[], double[])
+     */
+    public int convertArray(ConversionDirection direction, double[] values, double[] results, int length) {
+        if (length > values.length || length > results.length) {
+            throw new IllegalArgumentException("La longitud excede el tamaño de los arrays");
+        }
+        long start = System.nanoTime();
+        int invalid = convertWithKernel(direction, values, results, length);
+        metrics.recordBatch(direction, length, invalid, System.nanoTime() - start);
+        return invalid;
+    }
+
+    /**
+     * Convierte {@code count} doubles little-endian de un buffer de bytes directamente en
+     * otro, con la misma implementación (y los mismos resultados) que {@link #convertArray}
+     * pero sin copiarlos a arrays de {@code double}.
+     *
+     * @param direction    sentido de la conversión
+     * @param source       buffer con las temperaturas en la unidad de origen
+     * @param sourceOffset posición en bytes del primer valor de {@code source}
+     * @param target       buffer de destino; los valores inválidos se escriben como NaN
+     * @param targetOffset posición en bytes del primer resultado en {@code target}
+     * @param count        número de valores a convertir
+     * @return número de valores inválidos
+     */
+    public int convertLittleEndian(ConversionDirection direction, byte[] source, int sourceOffset,
+                                   byte[] target, int targetOffset, int count) {
+        long bytes = (long) count * Double.BYTES;
+        if (count < 0 || sourceOffset < 0 || targetOffset < 0
+                || sourceOffset + bytes > source.length || targetOffset + bytes > target.length) {
+            throw new IllegalArgumentException("El rango excede el tamaño de los buffers");
+        }
+        long start = System.nanoTime();
+        int invalid = parallelPool != null
+                ? parallelPool.convertLittleEndian(arrayKernel, direction, source, sourceOffset,
+                        target, targetOffset, count)
+                : arrayKernel.convertLittleEndian(direction, source, sourceOffset, target, targetOffset, 0, count);
+        metrics.recordBatch(direction, count, invalid, System.nanoTime() - start);
+        return invalid;
+    }
+
+    /**
+     * Nombre de la implementación usada por {@link #convertArray} ({@code scalar} o
+     * {@code vector-<bits>}).
+     *
+     * @return nombre de la implementación
+     */
+    public String getArrayKernelName() {
+        return arrayKernel.name();
+    }
+
+    /**
+     * Convierte un lote de temperaturas en una sola pasada.
+     * 
+     * Los elementos inválidos no interrumpen el lote: se dejan como {@code null}
+     * en los resultados y se reportan por índice en la lista de errores. Los valores
+     * se convierten con la misma implementación que {@link #convertArray}.
+     *
+     * @param direction sentido de la conversión
+     * @param values    valores a convertir (pueden contener nulos)
+     * @return respuesta con los resultados alineados por índice y los errores
+     */
+    public BatchConversionResponse convertBatch(ConversionDirection direction, List<Double> values) {
+        long start = System.nanoTime();
+        int size = values.size();
+        double[] input = new double[size];
+        for (int index = 0; index < size; index++) {
+            Double value = values.get(index);
+            input[index] = (value == null) ? Double.NaN : value;
+        }
+        double[] converted = new double[size];
+        convertWithKernel(direction, input, converted, size);
+
+        List<Double> results = new ArrayList<>(size);
+        List<BatchConversionError> errors = null;
+        TemperatureUnit unit = direction.getSourceUnit();
+        for (int index = 0; index < size; index++) {
+            if (!Double.isNaN(converted[index])) {
+                results.add(converted[index]);
+                continue;
+            }
+
+            // Solo los valores rechazados vuelven a validarse para obtener el motivo
+            Double value = values.get(index);
+            TemperatureValidationResult validation = (value == null)
+                    ? TemperatureValidationResult.NULL_VALUE
+                    : validate(value, unit);
+            if (errors == null) {
+                errors = new ArrayList<>();
+            }
+            errors.add(new BatchConversionError(index, TemperatureValidationResult.ERROR_CODE,
+                    createValidationException(validation, value, unit).getMessage()));
+            results.add(null);
+        }
+
+        metrics.recordBatch(direction, size, errors == null ? 0 : errors.size(), System.nanoTime() - start);
+        return new BatchConversionResponse(direction, results, errors);
+    }
+
+    /**
+     * Evalúa {@code (value - sourceShift) × multiplier / divisor} con aritmética entera exacta,
+     * lo redondea HALF_UP a 4 decimales, suma {@code targetShift} y redondea HALF_UP a
+     * {@link #DECIMAL_PRECISION}.
+     *
+     * Es el mismo doble redondeo que aplica la cadena de {@link BigDecimal} original (el
+     * desplazamiento de destino se suma después del redondeo intermedio, como el
+     * {@code + 32} de C → F); si el valor no tiene una representación decimal corta se
+     * delega en ella.
+     *
+     * @param value       valor ya validado
+     * @param sourceShift desplazamiento restado antes de escalar, en centésimas
+     * @param multiplier  numerador del factor de escala
+     * @param divisor     denominador del factor de escala
+     * @param targetShift desplazamiento sumado tras el redondeo intermedio, en centésimas
+     * @return valor convertido con 2 decimales
+     */
+    private static double roundedAffine(double value, long sourceShift, long multiplier, long divisor,
+                                        long targetShift) {
+        int scale = decimalScale(value);
+        if (scale < 0) {
+            return roundedAffineExact(value, sourceShift, multiplier, divisor, targetShift);
+        }
+
+        // value = unscaled / 10^scale exactamente (es la representación de Double.toString)
+        long unscaled = (long) Math.rint(value * DOUBLE_POWERS_OF_TEN[scale]);
+        int workingScale = Math.max(scale, DECIMAL_PRECISION);
+        long numerator = (unscaled * LONG_POWERS_OF_TEN[workingScale - scale]
+                - sourceShift * LONG_POWERS_OF_TEN[workingScale - DECIMAL_PRECISION]) * multiplier;
+        long denominator = divisor;
+
+        // Expresar el cociente exacto en unidades de 10^-INTERMEDIATE_SCALE
+        if (workingScale <= INTERMEDIATE_SCALE) {
+            numerator *= LONG_POWERS_OF_TEN[INTERMEDIATE_SCALE - workingScale];
+        } else {
+            denominator *= LONG_POWERS_OF_TEN[workingScale - INTERMEDIATE_SCALE];
+        }
+
+        long intermediate = divideHalfUp(numerator, denominator)
+                + targetShift * LONG_POWERS_OF_TEN[INTERMEDIATE_SCALE - DECIMAL_PRECISION];
+        long hundredths = divideHalfUp(intermediate,
+                LONG_POWERS_OF_TEN[INTERMEDIATE_SCALE - DECIMAL_PRECISION]);
+
+        // Misma división exacta que BigDecimal.doubleValue() para escalas pequeñas
+        return hundredths / DOUBLE_POWERS_OF_TEN[DECIMAL_PRECISION];
+    }
+
+    /**
+     * Variante con {@link BigDecimal} para valores con demasiados decimales.
+     */
+    private static double roundedAffineExact(double value, long sourceShift, long multiplier, long divisor,
+                                             long targetShift) {
+        return BigDecimal.valueOf(value)
+                .subtract(BigDecimal.valueOf(sourceShift, DECIMAL_PRECISION))
+                .multiply(BigDecimal.valueOf(multiplier))
+                .divide(BigDecimal.valueOf(divisor), INTERMEDIATE_SCALE, RoundingMode.HALF_UP)
+                .add(BigDecimal.valueOf(targetShift, DECIMAL_PRECISION))
+                .setScale(DECIMAL_PRECISION, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+
+    /**
+     * Obtiene el menor número de decimales con el que el valor se representa exactamente.
+     *
+     * @param value valor a inspeccionar
+     * @return escala entre 0 y {@link #MAX_FAST_PATH_SCALE}, o -1 si requiere más decimales
+     */
+    private static int decimalScale(double value) {
+        for (int scale = 0; scale <= MAX_FAST_PATH_SCALE; scale++) {
+            double candidate = Math.rint(value * DOUBLE_POWERS_OF_TEN[scale]);
+            if (candidate / DOUBLE_POWERS_OF_TEN[scale] == value) {
+                return scale;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * División entera con redondeo HALF_UP (los empates se alejan de cero).
+     *
+     * @param numerator   dividendo
+     * @param denominator divisor positivo
+     * @return cociente redondeado
+     */
+    private static long divideHalfUp(long numerator, long denominator) {
+        long quotient = numerator / denominator;
+        long remainder = numerator % denominator;
+        if (2 * Math.abs(remainder) >= denominator) {
+            quotient += (numerator < 0) ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    /**
+     * Convierte {@code [0, length)} en el pool paralelo si está disponible.
+     */
+    private int convertWithKernel(ConversionDirection direction, double[] values, double[] results, int length) {
+        if (parallelPool != null) {
+            return parallelPool.convert(arrayKernel, direction, values, results, length);
+        }
+        return arrayKernel.convert(direction, values, results, 0, length);
+    }
+
+    /**
+     * Elige la implementación de {@link #convertArray}. La clase vectorial se carga por
+     * reflexión para que el servicio funcione aunque el módulo no se haya añadido al arrancar.
+     */
+    private ArrayConversionKernel createArrayKernel(boolean vectorEnabled) {
+        if (vectorEnabled && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                Class<?> kernelClass = Class.forName("com.temperature.api.service.VectorArrayConversionKernel");
+                int lanes = (int) kernelClass.getDeclaredMethod("lanes").invoke(null);
+                if (lanes > 1) {
+                    return (ArrayConversionKernel) kernelClass
+                            .getDeclaredConstructor(TemperatureConversionService.class)
+                            .newInstance(this);
+                }
+            } catch (ReflectiveOperationException | LinkageError ex) {
+                log.warn("No se pudo cargar la conversión vectorial; se usará la escalar", ex);
+            }
+        }
+        return new ScalarArrayConversionKernel(this);
+    }
+
+    /**
+     * Verifica que el valor recibido no sea nulo.
+     *
+     * @param temperature valor de temperatura a validar
+     * @param unit        unidad de temperatura
+     * @throws InvalidTemperatureException si la temperatura es nula
+     */
+    private void validateNotNull(Double temperature, TemperatureUnit unit) {
+        if (temperature == null) {
+            throw createValidationException(TemperatureValidationResult.NULL_VALUE, null, unit);
+        }
+    }
+
     /**
      * Valida que una temperatura esté dentro de rangos físicos válidos.
      *
+     * Trabaja con el valor primitivo, por lo que no reserva memoria en el caso válido.
+     *
      * @param temperature valor de temperatura a validar
      * @param unit        unidad de temperatura
      * @throws InvalidTemperatureException si la temperatura es inválida
      */
-    private void validateTemperature(Double temperature, TemperatureUnit unit) {
-        if (temperature == null) {
-            throw new InvalidTemperatureException(null, unit.getSymbol(),
-                    "El valor de temperatura no puede ser nulo");
+    private void validateTemperature(double temperature, TemperatureUnit unit) {
+        TemperatureValidationResult validation = validate(temperature, unit);
+        if (!validation.isValid()) {
+            throw createValidationException(validation, temperature, unit);
         }
+    }
 
+    /**
+     * Valida una temperatura sin lanzar excepciones ni reservar memoria.
+     * 
+     * Aplica las mismas reglas y en el mismo orden que la validación que lanza
+     * excepciones, por lo que ambos caminos rechazan exactamente los mismos valores.
+     *
+     * @param temperature valor de temperatura a validar
+     * @param unit        unidad de temperatura
+     * @return resultado de la validación
+     */
+    public TemperatureValidationResult validate(double temperature, TemperatureUnit unit) {
         // Verificar si está por debajo del cero absoluto
-        double absoluteZero = (unit == TemperatureUnit.CELSIUS) 
-                ? ABSOLUTE_ZERO_CELSIUS 
-                : ABSOLUTE_ZERO_FAHRENHEIT;
-
-        if (temperature < absoluteZero) {
-            throw InvalidTemperatureException.belowAbsoluteZero(temperature, unit.getSymbol());
+        if (temperature < unit.getAbsoluteZero()) {
+            return TemperatureValidationResult.BELOW_ABSOLUTE_ZERO;
         }
 
         // Verificar si excede el límite máximo razonable
         if (temperature > MAX_REASONABLE_TEMPERATURE) {
-            throw InvalidTemperatureException.exceedsMaximum(temperature, unit.getSymbol(), 
-                    MAX_REASONABLE_TEMPERATURE);
+            return TemperatureValidationResult.ABOVE_MAXIMUM;
         }
 
         // Verificar valores especiales (NaN, Infinity)
-        if (temperature.isNaN()) {
-            throw new InvalidTemperatureException(temperature, unit.getSymbol(),
-                    "El valor de temperatura no puede ser NaN (Not a Number)");
+        if (Double.isNaN(temperature)) {
+            return TemperatureValidationResult.NOT_A_NUMBER;
+        }
+
+        if (Double.isInfinite(temperature)) {
+            return TemperatureValidationResult.INFINITE;
+        }
+
+        return TemperatureValidationResult.VALID;
+    }
+
+    /**
+     * Crea la excepción (sin traza de la pila) correspondiente a un resultado inválido.
+     *
+     * @param validation  resultado de la validación
+     * @param temperature valor rechazado
+     * @param unit        unidad de temperatura
+     * @return excepción con el mismo mensaje que la validación que lanza excepciones
+     */
+    public InvalidTemperatureException createValidationException(TemperatureValidationResult validation,
+                                                                 Double temperature, TemperatureUnit unit) {
+        switch (validation) {
+            case NULL_VALUE:
+                return NULL_VALUE_REJECTIONS.get(unit);
+            case BELOW_ABSOLUTE_ZERO:
+                return InvalidTemperatureException.belowAbsoluteZero(temperature, unit.getSymbol());
+            case ABOVE_MAXIMUM:
+                return InvalidTemperatureException.exceedsMaximum(temperature, unit.getSymbol(),
+                        MAX_REASONABLE_TEMPERATURE);
+            case NOT_A_NUMBER:
+                return NAN_REJECTIONS.get(unit);
+            case INFINITE:
+                return InvalidTemperatureException.withoutStackTrace(temperature, unit.getSymbol(),
+                        "El valor de temperatura no puede ser infinito");
+            default:
+                throw new IllegalArgumentException("El resultado de validación no es un rechazo: " + validation);
         }
+    }
 
-        if (temperature.isInfinite()) {
-            throw new InvalidTemperatureException(temperature, unit.getSymbol(),
-                    "El valor de temperatura no puede ser infinito");
+    /**
+     * Construye una excepción sin traza por unidad para un mensaje fijo.
+     */
+    private static Map<TemperatureUnit, InvalidTemperatureException> preallocatedRejections(Double value,
+                                                                                          String message) {
+        Map<TemperatureUnit, InvalidTemperatureException> rejections = new EnumMap<>(TemperatureUnit.class);
+        for (TemperatureUnit unit : TemperatureUnit.values()) {
+            rejections.put(unit, InvalidTemperatureException.withoutStackTrace(value, unit.getSymbol(), message));
         }
+        return rejections;
     }
 
     /**
@@ -198,13 +713,9 @@ public class TemperatureConversionService {
     /**
      * Obtiene las constantes utilizadas en las conversiones para fines de testing.
      *
-     * @return mapa con las constantes del servicio
+     * @return mapa no modificable con las constantes del servicio
      */
     public java.util.Map<String, Double> getConversionConstants() {
-        java.util.Map<String, Double> constants = new java.util.HashMap<>();
-        constants.put("ABSOLUTE_ZERO_CELSIUS", ABSOLUTE_ZERO_CELSIUS);
-        constants.put("ABSOLUTE_ZERO_FAHRENHEIT", ABSOLUTE_ZERO_FAHRENHEIT);
-        constants.put("MAX_REASONABLE_TEMPERATURE", MAX_REASONABLE_TEMPERATURE);
-        return constants;
+        return CONVERSION_CONSTANTS;
     }
 }
@@ -0,0 +1,180 @@
+package com.temperature.api.service;
+
+import com.temperature.api.model.ConversionDirection;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteOrder;
+
+/**
+ * Conversión de arrays con la Vector API ({@code jdk.incubator.vector}).
+ *
+ * Reproduce la aritmética entera exacta de {@link TemperatureConversionService} sobre
+ * lanes de doubles: para lecturas con hasta 2 decimales (el caso habitual) todos los
+ * productos intermedios son enteros menores que 2^53, por lo que la división y los dos
+ * redondeos HALF_UP dan el mismo resultado bit a bit.
+ * Las lanes fuera de rango o con más decimales se resuelven con la implementación escalar.
+ *
+ * Solo se carga si el módulo está presente ({@code --add-modules jdk.incubator.vector});
+ * ver {@link TemperatureConversionService}.
+ */
+final class VectorArrayConversionKernel implements ArrayConversionKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * 1.5 × 2^52: sumarlo y restarlo redondea al entero más cercano (empates a par),
+     * igual que {@link Math#rint}, para valores con magnitud menor que 2^51.
+     */
+    private static final double ROUNDING_MAGIC = 0x1.8p52;
+
+    /**
+     * Factor de la escala de entrada del camino vectorial (10^2).
+     */
+    private static final double INPUT_SCALE = 100.0;
+
+    /**
+     * Factor entre la escala intermedia y la de salida (10^(4-2)).
+     */
+    private static final double INTERMEDIATE_FACTOR = 100.0;
+
+    private final ScalarArrayConversionKernel scalar;
+
+    VectorArrayConversionKernel(TemperatureConversionService conversionService) {
+        this.scalar = new ScalarArrayConversionKernel(conversionService);
+    }
+
+    /**
+     * Número de lanes de la especie preferida en este procesador.
+     *
+     * @return lanes por vector
+     */
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public int convert(ConversionDirection direction, double[] values, double[] results, int from, int to) {
+        LaneTransform transform = new LaneTransform(direction);
+        int invalid = 0;
+        int step = SPECIES.length();
+        int bound = from + SPECIES.loopBound(to - from);
+        int i = from;
+        for (; i < bound; i += step) {
+            DoubleVector value = DoubleVector.fromArray(SPECIES, values, i);
+            DoubleVector unscaled = rint(value.mul(INPUT_SCALE));
+            transform.apply(unscaled).intoArray(results, i);
+
+            VectorMask<Double> fast = transform.isExact(value, unscaled);
+            if (!fast.allTrue()) {
+                for (int lane = 0; lane < step; lane++) {
+                    if (!fast.laneIsSet(lane)) {
+                        invalid += scalar.convert(direction, values, results, i + lane, i + lane + 1);
+                    }
+                }
+            }
+        }
+
+        return invalid + scalar.convert(direction, values, results, i, to);
+    }
+
+    @Override
+    public int convertLittleEndian(ConversionDirection direction, byte[] source, int sourceOffset,
+                                   byte[] target, int targetOffset, int from, int to) {
+        LaneTransform transform = new LaneTransform(direction);
+        int invalid = 0;
+        int step = SPECIES.length();
+        int bound = from + SPECIES.loopBound(to - from);
+        int i = from;
+        for (; i < bound; i += step) {
+            DoubleVector value = DoubleVector.fromByteArray(SPECIES, source, sourceOffset + i * Double.BYTES,
+                    ByteOrder.LITTLE_ENDIAN);
+            DoubleVector unscaled = rint(value.mul(INPUT_SCALE));
+            transform.apply(unscaled).intoByteArray(target, targetOffset + i * Double.BYTES, ByteOrder.LITTLE_ENDIAN);
+
+            VectorMask<Double> fast = transform.isExact(value, unscaled);
+            if (!fast.allTrue()) {
+                for (int lane = 0; lane < step; lane++) {
+                    if (!fast.laneIsSet(lane)) {
+                        invalid += scalar.convertLittleEndian(direction, source, sourceOffset, target, targetOffset,
+                                i + lane, i + lane + 1);
+                    }
+                }
+            }
+        }
+
+        return invalid + scalar.convertLittleEndian(direction, source, sourceOffset, target, targetOffset, i, to);
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.vectorBitSize();
+    }
+
+    private static DoubleVector rint(DoubleVector value) {
+        return value.add(ROUNDING_MAGIC).sub(ROUNDING_MAGIC);
+    }
+
+    /**
+     * Cociente entero con redondeo HALF_UP (los empates se alejan de cero).
+     *
+     * Numerador y divisor son enteros pequeños, así que el cociente en coma flotante nunca
+     * queda a menos de un ulp de un entero o de un empate sin serlo exactamente.
+     */
+    private static DoubleVector divideHalfUp(DoubleVector numerator, double divisor) {
+        DoubleVector shifted = numerator.abs().div(divisor).add(0.5);
+        DoubleVector rounded = rint(shifted);
+        DoubleVector floor = rounded.lanewise(VectorOperators.SUB, 1.0,
+                rounded.compare(VectorOperators.GT, shifted));
+        // 0 - x en lugar de -x para no producir -0.0
+        return floor.blend(DoubleVector.zero(SPECIES).sub(floor), numerator.compare(VectorOperators.LT, 0.0));
+    }
+
+    /**
+     * Coeficientes de un sentido de conversión preparados para operar sobre lanes.
+     */
+    private static final class LaneTransform {
+
+        private final double sourceShift;
+        private final double multiplier;
+        private final double divisor;
+        private final double targetShift;
+        private final double lower;
+        private final double upper;
+
+        LaneTransform(ConversionDirection direction) {
+            // Mismos coeficientes que TemperatureConversionService: (valor - s) × m / d + t
+            AffineTransform transform = AffineTransform.of(direction);
+            this.sourceShift = transform.sourceShift();
+            this.multiplier = transform.multiplier();
+            this.divisor = transform.divisor();
+            this.targetShift = transform.targetShift() * INTERMEDIATE_FACTOR;
+            this.lower = direction.getSourceUnit().getAbsoluteZero();
+            this.upper = TemperatureConversionService.MAX_REASONABLE_TEMPERATURE;
+        }
+
+        /**
+         * Convierte lanes dadas en centésimas de la unidad de origen.
+         */
+        DoubleVector apply(DoubleVector unscaled) {
+            // Numerador expresado en la escala intermedia (10^-4); el desplazamiento de
+            // destino se suma después del redondeo intermedio
+            DoubleVector numerator = unscaled.sub(sourceShift).mul(multiplier).mul(INTERMEDIATE_FACTOR);
+            DoubleVector intermediate = divideHalfUp(numerator, divisor).add(targetShift);
+            DoubleVector hundredths = divideHalfUp(intermediate, INTERMEDIATE_FACTOR);
+            return hundredths.div(INPUT_SCALE);
+        }
+
+        /**
+         * Lanes dentro de rango cuyo valor exacto es {@code unscaled / 100} (como mucho 2
+         * decimales); el resultado de las demás lo calcula la implementación escalar.
+         */
+        VectorMask<Double> isExact(DoubleVector value, DoubleVector unscaled) {
+            return value.compare(VectorOperators.GE, lower)
+                    .and(value.compare(VectorOperators.LE, upper))
+                    .and(unscaled.div(INPUT_SCALE).compare(VectorOperators.EQ, value));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.temperature.api.service;
+
+import com.temperature.api.model.AggregationWindow;
+import com.temperature.api.model.WindowAggregate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Agregados de un dispositivo para las últimas {@code capacity} ventanas de un tamaño.
+ *
+ * Cada ventana ocupa una posición fija del anillo ({@code inicio / duración mod capacity})
+ * en arrays primitivos paralelos, así que añadir una lectura o consultar una ventana es
+ * O(1) y la memoria no depende del número de lecturas. Las temperaturas se guardan en
+ * centésimas de grado Celsius: la suma es exacta y la media se redondea una sola vez.
+ *
+ * Una posición cuyo inicio no coincide con el de la ventana buscada contiene una ventana
+ * antigua ya expulsada y se reinicia al reutilizarla. No es thread-safe: el dispositivo
+ * sincroniza los accesos.
+ */
+final class WindowRing {
+
+    /**
+     * Bytes de datos por ventana: inicio, número de lecturas, suma, mínimo y máximo.
+     */
+    static final int BYTES_PER_WINDOW = Long.BYTES + Integer.BYTES + Long.BYTES + 2 * Integer.BYTES;
+
+    /**
+     * Cabecera aproximada de un array en una JVM de 64 bits.
+     */
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    /**
+     * Cabecera y campos aproximados del propio anillo.
+     */
+    private static final int OBJECT_BYTES = 64;
+
+    private final AggregationWindow window;
+    private final long duration;
+    private final int capacity;
+
+    private final long[] starts;
+    private final int[] counts;
+    private final long[] sums;
+    private final int[] mins;
+    private final int[] maxs;
+
+    private boolean empty = true;
+    private long latestStart;
+
+    /**
+     * @param window   tamaño de las ventanas
+     * @param capacity número de ventanas conservadas
+     */
+    WindowRing(AggregationWindow window, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("El número de ventanas debe ser positivo: " + capacity);
+        }
+        this.window = window;
+        this.duration = window.getDurationMillis();
+        this.capacity = capacity;
+        this.starts = new long[capacity];
+        this.counts = new int[capacity];
+        this.sums = new long[capacity];
+        this.mins = new int[capacity];
+        this.maxs = new int[capacity];
+    }
+
+    /**
+     * Memoria ocupada por un anillo (estimación independiente del número de lecturas).
+     *
+     * @param capacity número de ventanas conservadas
+     * @return bytes ocupados
+     */
+    static long footprintBytes(int capacity) {
+        return OBJECT_BYTES + 5L * ARRAY_HEADER_BYTES + (long) capacity * BYTES_PER_WINDOW;
+    }
+
+    /**
+     * Incorpora una lectura a su ventana.
+     *
+     * @param timestamp  instante de la lectura (ms desde la época)
+     * @param hundredths temperatura en centésimas de grado Celsius
+     * @return false si la ventana de la lectura ya no se conserva
+     */
+    boolean add(long timestamp, int hundredths) {
+        long start = window.windowStart(timestamp);
+        if (!empty && start <= latestStart - capacity * duration) {
+            return false;
+        }
+
+        int slot = slot(start);
+        if (counts[slot] == 0 || starts[slot] != start) {
+            starts[slot] = start;
+            counts[slot] = 0;
+            sums[slot] = 0;
+            mins[slot] = Integer.MAX_VALUE;
+            maxs[slot] = Integer.MIN_VALUE;
+        }
+        counts[slot]++;
+        sums[slot] += hundredths;
+        mins[slot] = Math.min(mins[slot], hundredths);
+        maxs[slot] = Math.max(maxs[slot], hundredths);
+
+        if (empty || start > latestStart) {
+            latestStart = start;
+            empty = false;
+        }
+        return true;
+    }
+
+    /**
+     * Obtiene la ventana que contiene un instante.
+     *
+     * @param timestamp instante (ms desde la época)
+     * @return agregado de la ventana, o null si no tiene lecturas o ya no se conserva
+     */
+    WindowAggregate get(long timestamp) {
+        long start = window.windowStart(timestamp);
+        if (!isRetained(start)) {
+            return null;
+        }
+        int slot = slot(start);
+        return starts[slot] == start && counts[slot] > 0 ? aggregate(slot) : null;
+    }
+
+    /**
+     * Obtiene las ventanas con lecturas que se solapan con un intervalo, en orden cronológico.
+     *
+     * @param from inicio del intervalo (ms desde la época, incluido)
+     * @param to   fin del intervalo (ms desde la época, excluido)
+     * @return agregados de las ventanas
+     */
+    List<WindowAggregate> list(long from, long to) {
+        List<WindowAggregate> result = new ArrayList<>();
+        if (empty) {
+            return result;
+        }
+        for (int age = capacity - 1; age >= 0; age--) {
+            long start = latestStart - age * duration;
+            if (start + duration <= from || start >= to) {
+                continue;
+            }
+            int slot = slot(start);
+            if (starts[slot] == start && counts[slot] > 0) {
+                result.add(aggregate(slot));
+            }
+        }
+        return result;
+    }
+
+    private boolean isRetained(long start) {
+        return !empty && start <= latestStart && start > latestStart - capacity * duration;
+    }
+
+    private int slot(long start) {
+        return (int) Math.floorMod(start / duration, (long) capacity);
+    }
+
+    private WindowAggregate aggregate(int slot) {
+        int count = counts[slot];
+        long sum = sums[slot];
+        // División entera con redondeo HALF_UP (alejándose de cero)
+        long mean = (2 * sum + (sum >= 0 ? count : -count)) / (2L * count);
+        return new WindowAggregate(starts[slot], starts[slot] + duration, count,
+                mins[slot] / 100.0, maxs[slot] / 100.0, mean / 100.0);
+    }
+}
@@ -0,0 +1,145 @@
+package com.temperature.api.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.CRC32C;
+
+/**
+ * Diccionario persistente de identificadores de dispositivo.
+ *
+ * Los registros del log guardan un índice de 4 bytes en lugar del identificador. Cada
+ * dispositivo nuevo se añade al fichero (longitud, CRC32C y bytes UTF-8) y se sincroniza
+ * antes de devolver su índice, así que ningún registro sincronizado apunta a un índice
+ * que no esté en disco. Al abrirlo se descarta una entrada final incompleta.
+ */
+final class DeviceDictionary implements Closeable {
+
+    static final String FILE_NAME = "devices.dict";
+
+    private static final int ENTRY_HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final FileChannel channel;
+    private final ConcurrentMap<String, Integer> indexes = new ConcurrentHashMap<>();
+    private final CRC32C crc = new CRC32C();
+    private volatile String[] names;
+    private volatile int size;
+    private long length;
+
+    private DeviceDictionary(FileChannel channel) {
+        this.channel = channel;
+        this.names = new String[16];
+    }
+
+    /**
+     * Abre (o crea) el diccionario de un directorio.
+     *
+     * @param directory directorio del registro
+     */
+    static DeviceDictionary open(Path directory) throws IOException {
+        Path path = directory.resolve(FILE_NAME);
+        boolean exists = Files.exists(path);
+        byte[] content = exists ? Files.readAllBytes(path) : new byte[0];
+        DeviceDictionary dictionary = new DeviceDictionary(FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        if (!exists) {
+            DirectorySync.force(directory);
+        }
+
+        ByteBuffer entries = ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN);
+        while (entries.remaining() >= ENTRY_HEADER_BYTES) {
+            int entryLength = entries.getInt(entries.position());
+            int checksum = entries.getInt(entries.position() + Integer.BYTES);
+            int start = entries.position() + ENTRY_HEADER_BYTES;
+            if (entryLength <= 0 || entryLength > entries.remaining() - ENTRY_HEADER_BYTES) {
+                break;
+            }
+            dictionary.crc.reset();
+            dictionary.crc.update(content, start, entryLength);
+            if ((int) dictionary.crc.getValue() != checksum) {
+                break;
+            }
+            dictionary.register(new String(content, start, entryLength, StandardCharsets.UTF_8));
+            entries.position(start + entryLength);
+        }
+
+        dictionary.length = entries.position();
+        if (dictionary.length < content.length) {
+            dictionary.channel.truncate(dictionary.length);
+            dictionary.channel.force(true);
+        }
+        return dictionary;
+    }
+
+    /**
+     * @return índice del dispositivo, o -1 si no está en el diccionario
+     */
+    int indexOf(String deviceId) {
+        Integer index = indexes.get(deviceId);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Obtiene el índice de un dispositivo, añadiéndolo y sincronizándolo si es nuevo.
+     */
+    int getOrAdd(String deviceId) throws IOException {
+        Integer index = indexes.get(deviceId);
+        return index != null ? index : add(deviceId);
+    }
+
+    private synchronized int add(String deviceId) throws IOException {
+        Integer existing = indexes.get(deviceId);
+        if (existing != null) {
+            return existing;
+        }
+        byte[] bytes = deviceId.getBytes(StandardCharsets.UTF_8);
+        crc.reset();
+        crc.update(bytes, 0, bytes.length);
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_HEADER_BYTES + bytes.length).order(ByteOrder.LITTLE_ENDIAN);
+        entry.putInt(bytes.length).putInt((int) crc.getValue()).put(bytes).flip();
+        while (entry.hasRemaining()) {
+            length += channel.write(entry, length);
+        }
+        channel.force(false);
+        return register(deviceId);
+    }
+
+    private int register(String deviceId) {
+        int index = size;
+        if (index == names.length) {
+            names = Arrays.copyOf(names, index * 2);
+        }
+        names[index] = deviceId;
+        size = index + 1;
+        indexes.put(deviceId, index);
+        return index;
+    }
+
+    /**
+     * @return identificador del dispositivo con ese índice
+     */
+    String nameOf(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Dispositivo desconocido en el registro: " + index);
+        }
+        return names[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
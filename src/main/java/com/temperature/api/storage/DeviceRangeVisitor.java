@@ -0,0 +1,18 @@
+package com.temperature.api.storage;
+
+/**
+ * Recibe las lecturas de un dispositivo en un intervalo de tiempo
+ * ({@link ReadingLog#scanDevice}).
+ *
+ * Para cada segmento cerrado con lecturas del dispositivo en el intervalo se ofrece antes
+ * su resumen: si el receptor puede usarlo en lugar de las lecturas (todas caen en el mismo
+ * intervalo del resultado), el segmento no se recorre.
+ */
+public interface DeviceRangeVisitor extends ReadingVisitor {
+
+    /**
+     * @param summary lecturas del dispositivo en el segmento (todas dentro del intervalo pedido)
+     * @return true si el resumen basta y las lecturas del segmento no deben visitarse
+     */
+    boolean visitSummary(DeviceSummary summary);
+}
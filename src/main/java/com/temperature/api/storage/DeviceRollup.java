@@ -0,0 +1,151 @@
+package com.temperature.api.storage;
+
+import java.util.Arrays;
+
+/**
+ * Intervalos de un nivel de resumen de un dispositivo, ordenados por inicio.
+ *
+ * Cada intervalo guarda número de lecturas, suma, mínimo y máximo en centésimas de grado
+ * Celsius, en arrays primitivos paralelos ({@value #BUCKET_BYTES} bytes por intervalo).
+ * Las lecturas llegan casi siempre en orden, así que lo habitual es actualizar el último
+ * intervalo o añadir uno al final; las atrasadas se colocan con búsqueda binaria.
+ *
+ * No es thread-safe: {@link RollupEngine} lo protege con su bloqueo.
+ */
+final class DeviceRollup {
+
+    static final int BUCKET_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES + 2 * Integer.BYTES;
+
+    private long[] starts = new long[16];
+    private int[] counts = new int[16];
+    private long[] sums = new long[16];
+    private int[] mins = new int[16];
+    private int[] maxs = new int[16];
+    private int size;
+
+    /**
+     * Incorpora una lectura al intervalo que empieza en {@code start}.
+     */
+    void add(long start, int hundredths) {
+        merge(start, 1, hundredths, hundredths, hundredths);
+    }
+
+    /**
+     * Combina un resumen con el intervalo que empieza en {@code start}, creándolo si no existe.
+     */
+    void merge(long start, int count, long sumHundredths, int minHundredths, int maxHundredths) {
+        int position;
+        if (size > 0 && starts[size - 1] == start) {
+            position = size - 1;
+        } else if (size == 0 || starts[size - 1] < start) {
+            position = insert(size, start);
+        } else {
+            position = Arrays.binarySearch(starts, 0, size, start);
+            if (position < 0) {
+                position = insert(-position - 1, start);
+            }
+        }
+        if (counts[position] == 0) {
+            mins[position] = minHundredths;
+            maxs[position] = maxHundredths;
+        } else {
+            mins[position] = Math.min(mins[position], minHundredths);
+            maxs[position] = Math.max(maxs[position], maxHundredths);
+        }
+        counts[position] += count;
+        sums[position] += sumHundredths;
+    }
+
+    private int insert(int position, long start) {
+        if (size == starts.length) {
+            int capacity = size * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            sums = Arrays.copyOf(sums, capacity);
+            mins = Arrays.copyOf(mins, capacity);
+            maxs = Arrays.copyOf(maxs, capacity);
+        }
+        int moved = size - position;
+        if (moved > 0) {
+            System.arraycopy(starts, position, starts, position + 1, moved);
+            System.arraycopy(counts, position, counts, position + 1, moved);
+            System.arraycopy(sums, position, sums, position + 1, moved);
+            System.arraycopy(mins, position, mins, position + 1, moved);
+            System.arraycopy(maxs, position, maxs, position + 1, moved);
+        }
+        starts[position] = start;
+        counts[position] = 0;
+        sums[position] = 0;
+        size++;
+        return position;
+    }
+
+    /**
+     * Entrega en orden los intervalos que empiezan en [fromStart, toTimestamp).
+     */
+    void scan(long fromStart, long toTimestamp, RollupVisitor visitor) {
+        int position = Arrays.binarySearch(starts, 0, size, fromStart);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        for (; position < size && starts[position] < toTimestamp; position++) {
+            visitor.visit(starts[position], counts[position], sums[position], mins[position], maxs[position]);
+        }
+    }
+
+    /**
+     * Elimina los intervalos que empiezan antes de {@code cutoff}.
+     *
+     * @return intervalos eliminados
+     */
+    int prune(long cutoff) {
+        int position = Arrays.binarySearch(starts, 0, size, cutoff);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        if (position > 0) {
+            int remaining = size - position;
+            System.arraycopy(starts, position, starts, 0, remaining);
+            System.arraycopy(counts, position, counts, 0, remaining);
+            System.arraycopy(sums, position, sums, 0, remaining);
+            System.arraycopy(mins, position, mins, 0, remaining);
+            System.arraycopy(maxs, position, maxs, 0, remaining);
+            size = remaining;
+        }
+        return position;
+    }
+
+    /**
+     * @return intervalos guardados
+     */
+    int size() {
+        return size;
+    }
+
+    long startAt(int position) {
+        return starts[position];
+    }
+
+    int countAt(int position) {
+        return counts[position];
+    }
+
+    long sumAt(int position) {
+        return sums[position];
+    }
+
+    int minAt(int position) {
+        return mins[position];
+    }
+
+    int maxAt(int position) {
+        return maxs[position];
+    }
+
+    /**
+     * Memoria reservada por los arrays.
+     */
+    long footprintBytes() {
+        return (long) starts.length * BUCKET_BYTES;
+    }
+}
@@ -0,0 +1,18 @@
+package com.temperature.api.storage;
+
+/**
+ * Resumen de las lecturas de un dispositivo dentro de un segmento del registro.
+ *
+ * Las temperaturas están en centésimas de grado Celsius; la suma es exacta.
+ *
+ * @param minTimestamp   instante de la primera lectura (ms desde la época)
+ * @param maxTimestamp   instante de la lectura más reciente (ms desde la época)
+ * @param count          número de lecturas
+ * @param sumHundredths  suma de las temperaturas
+ * @param minHundredths  temperatura mínima
+ * @param maxHundredths  temperatura máxima
+ * @param lastHundredths temperatura de la lectura más reciente (la última escrita si empatan)
+ */
+public record DeviceSummary(long minTimestamp, long maxTimestamp, int count, long sumHundredths,
+                            int minHundredths, int maxHundredths, int lastHundredths) {
+}
@@ -0,0 +1,51 @@
+package com.temperature.api.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sincronización de las entradas de un directorio.
+ *
+ * {@code force} sobre un fichero solo garantiza su contenido: tras un corte de luz, un
+ * fichero recién creado o renombrado puede desaparecer si no se sincroniza también el
+ * directorio que lo contiene. En Windows no se pueden abrir directorios y el sistema de
+ * ficheros ya persiste los metadatos, así que allí la sincronización se omite.
+ */
+final class DirectorySync {
+
+    private static final boolean SUPPORTED = File.separatorChar == '/';
+
+    private DirectorySync() {
+    }
+
+    /**
+     * Sincroniza las entradas de un directorio (ficheros creados, renombrados o borrados).
+     *
+     * @param directory directorio a sincronizar
+     */
+    static void force(Path directory) throws IOException {
+        if (!SUPPORTED) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Renombra atómicamente un fichero ya sincronizado y sincroniza su directorio, de modo
+     * que el destino sobrevive a un corte de luz.
+     *
+     * @param source fichero temporal
+     * @param target nombre definitivo, que se sustituye si existe
+     */
+    static void moveAndForce(Path source, Path target) throws IOException {
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        force(target.toAbsolutePath().getParent());
+    }
+}
@@ -0,0 +1,372 @@
+package com.temperature.api.storage;
+
+import com.temperature.api.model.TemperatureUnit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Fichero de segmento del registro de lecturas, de tamaño fijo y proyectado en memoria.
+ *
+ * Formato (little-endian):
+ * - Cabecera de {@value #HEADER_BYTES} bytes: magic, versión, tamaño de registro,
+ *   secuencia de la primera lectura, número de registros y creación (ms desde la época).
+ * - Registros de {@value #RECORD_BYTES} bytes: CRC32C de los 28 bytes siguientes, índice
+ *   del dispositivo, timestamp, valor original (double), temperatura en centésimas de
+ *   grado Celsius, unidad original (ordinal), tipo de registro y 2 bytes reservados.
+ *
+ * El fichero se crea completo con ceros, así que el final de los datos es el primer
+ * registro cuyo tipo o CRC no son válidos: un registro a medio escribir por una caída
+ * se detecta en {@link #recover()} y se descarta.
+ *
+ * Cada segmento mantiene su {@link SegmentIndex} a medida que se escribe; al cerrarse
+ * ({@link #seal()}) el índice se guarda junto al segmento y pasa a estar disponible para
+ * las consultas.
+ *
+ * No es thread-safe para escribir: {@link ReadingLog} serializa las escrituras. Las
+ * lecturas de registros ya publicados ({@link #getPublished()}) pueden hacerse desde
+ * cualquier hilo.
+ */
+final class LogSegment {
+
+    static final long MAGIC = 0x3130474F4C504D54L; // "TMPLOG01"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int RECORD_BYTES = 32;
+    static final String SUFFIX = ".seg";
+
+    private static final byte TYPE_READING = 1;
+    private static final TemperatureUnit[] UNITS = TemperatureUnit.values();
+
+    // Desplazamientos dentro de un registro
+    private static final int CRC = 0;
+    private static final int DEVICE = 4;
+    private static final int TIMESTAMP = 8;
+    private static final int VALUE = 16;
+    private static final int CELSIUS = 24;
+    private static final int UNIT = 28;
+    private static final int TYPE = 29;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final long baseSequence;
+    private final int capacity;
+    private final long createdAt;
+
+    private final byte[] scratch = new byte[RECORD_BYTES];
+    private final ByteBuffer scratchView = ByteBuffer.wrap(scratch).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32C crc = new CRC32C();
+
+    private SegmentIndex index = new SegmentIndex();
+    private int count;
+    private volatile int published;
+    private volatile boolean sealed;
+
+    private LogSegment(Path path, MappedByteBuffer buffer, long baseSequence, int capacity, long createdAt) {
+        this.path = path;
+        this.buffer = buffer;
+        this.baseSequence = baseSequence;
+        this.capacity = capacity;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Nombre del fichero de un segmento: su secuencia base con ceros a la izquierda, para
+     * que el orden alfabético coincida con el de escritura.
+     */
+    static String fileName(long baseSequence) {
+        return String.format("%020d%s", baseSequence, SUFFIX);
+    }
+
+    /**
+     * @param capacity registros por segmento
+     * @return tamaño del fichero de un segmento
+     */
+    static long fileBytes(int capacity) {
+        return HEADER_BYTES + (long) capacity * RECORD_BYTES;
+    }
+
+    /**
+     * Crea un segmento vacío.
+     *
+     * La cabecera se escribe y se sincroniza en un fichero temporal que después se
+     * renombra, de modo que un segmento visible siempre tiene una cabecera válida; el
+     * directorio se sincroniza antes de devolverlo para que el segmento no desaparezca
+     * tras un corte de luz con lecturas ya confirmadas.
+     *
+     * @param directory    directorio del registro
+     * @param baseSequence secuencia de la primera lectura del segmento
+     * @param capacity     registros que caben en el segmento
+     * @param createdAt    instante de creación (ms desde la época)
+     */
+    static LogSegment create(Path directory, long baseSequence, int capacity, long createdAt) throws IOException {
+        Path path = directory.resolve(fileName(baseSequence));
+        Path temporary = directory.resolve(fileName(baseSequence) + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(MAGIC).putInt(VERSION).putInt(RECORD_BYTES)
+                    .putLong(baseSequence).putInt(capacity).putLong(createdAt);
+            header.clear();
+            channel.write(header, 0);
+            // Reserva el tamaño completo: los registros sin escribir se leen como ceros
+            channel.write(ByteBuffer.allocate(1), fileBytes(capacity) - 1);
+            channel.force(true);
+        }
+        DirectorySync.moveAndForce(temporary, path);
+        return new LogSegment(path, map(path, capacity), baseSequence, capacity, createdAt);
+    }
+
+    /**
+     * Abre un segmento existente comprobando su cabecera.
+     *
+     * Se considera lleno: para el último segmento del registro hay que llamar después a
+     * {@link #recover()}.
+     *
+     * @throws IOException si la cabecera no es la de un segmento o su tamaño no coincide
+     */
+    static LogSegment open(Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        long size;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            size = channel.size();
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Lee la cabecera completa
+            }
+        }
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getLong() != MAGIC) {
+            throw new IOException("El fichero no es un segmento del registro de lecturas: " + path);
+        }
+        int version = header.getInt();
+        int recordBytes = header.getInt();
+        long baseSequence = header.getLong();
+        int capacity = header.getInt();
+        long createdAt = header.getLong();
+        if (version != VERSION || recordBytes != RECORD_BYTES || capacity <= 0 || size != fileBytes(capacity)) {
+            throw new IOException(String.format(
+                    "Segmento no compatible (versión %d, registro de %d bytes, %d registros, %d bytes): %s",
+                    version, recordBytes, capacity, size, path));
+        }
+
+        LogSegment segment = new LogSegment(path, map(path, capacity), baseSequence, capacity, createdAt);
+        segment.count = capacity;
+        segment.published = capacity;
+        return segment;
+    }
+
+    private static MappedByteBuffer map(Path path, int capacity) throws IOException {
+        // La proyección sigue siendo válida después de cerrar el canal
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileBytes(capacity));
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    /**
+     * Localiza el final de los datos tras una parada inesperada.
+     *
+     * Recorre los registros hasta el primero cuyo tipo o CRC no son válidos, lo toma como
+     * final y pone a cero todo lo que haya detrás (registros a medio escribir o escritos
+     * fuera de orden por el sistema operativo), sincronizando el resultado.
+     *
+     * @return registros válidos del segmento
+     */
+    int recover() {
+        int valid = 0;
+        while (valid < capacity && isValid(valid)) {
+            int offset = offset(valid);
+            index.add(buffer.getInt(offset + DEVICE), buffer.getLong(offset + TIMESTAMP),
+                    buffer.getInt(offset + CELSIUS));
+            valid++;
+        }
+
+        boolean dirty = false;
+        for (int record = valid; record < capacity; record++) {
+            int offset = offset(record);
+            if (buffer.getLong(offset) != 0 || buffer.getLong(offset + 8) != 0
+                    || buffer.getLong(offset + 16) != 0 || buffer.getLong(offset + 24) != 0) {
+                buffer.put(offset, new byte[RECORD_BYTES]);
+                dirty = true;
+            }
+        }
+        if (dirty) {
+            buffer.force();
+        }
+        count = valid;
+        published = valid;
+        return valid;
+    }
+
+    private boolean isValid(int record) {
+        int offset = offset(record);
+        if (buffer.get(offset + TYPE) != TYPE_READING || (buffer.get(offset + UNIT) & 0xFF) >= UNITS.length) {
+            return false;
+        }
+        buffer.get(offset, scratch, 0, RECORD_BYTES);
+        crc.reset();
+        crc.update(scratch, DEVICE, RECORD_BYTES - DEVICE);
+        return (int) crc.getValue() == buffer.getInt(offset + CRC);
+    }
+
+    /**
+     * Escribe un registro a continuación del último. Solo es visible para las lecturas
+     * después de {@link #publish()}.
+     */
+    void append(int deviceIndex, long timestamp, double value, TemperatureUnit unit, int celsiusHundredths) {
+        scratchView.putInt(DEVICE, deviceIndex)
+                .putLong(TIMESTAMP, timestamp)
+                .putDouble(VALUE, value)
+                .putInt(CELSIUS, celsiusHundredths)
+                .put(UNIT, (byte) unit.ordinal())
+                .put(TYPE, TYPE_READING);
+        crc.reset();
+        crc.update(scratch, DEVICE, RECORD_BYTES - DEVICE);
+        scratchView.putInt(CRC, (int) crc.getValue());
+        buffer.put(offset(count), scratch);
+        index.add(deviceIndex, timestamp, celsiusHundredths);
+        count++;
+    }
+
+    /**
+     * Hace visibles para las lecturas los registros escritos hasta ahora.
+     */
+    void publish() {
+        published = count;
+    }
+
+    /**
+     * Cierra un segmento lleno: guarda su índice y lo pone a disposición de las consultas.
+     * Los registros deben estar ya sincronizados.
+     */
+    void seal() throws IOException {
+        index.write(indexPath());
+        sealed = true;
+    }
+
+    /**
+     * Carga el índice guardado de un segmento cerrado o, si falta o no es válido, lo
+     * reconstruye recorriendo el segmento y lo vuelve a guardar.
+     */
+    void loadIndex() throws IOException {
+        SegmentIndex stored = SegmentIndex.read(indexPath(), count);
+        if (stored == null) {
+            SegmentIndex rebuilt = new SegmentIndex();
+            for (int record = 0; record < count; record++) {
+                int offset = offset(record);
+                rebuilt.add(buffer.getInt(offset + DEVICE), buffer.getLong(offset + TIMESTAMP),
+                        buffer.getInt(offset + CELSIUS));
+            }
+            index = rebuilt;
+            index.write(indexPath());
+        } else {
+            index = stored;
+        }
+        sealed = true;
+    }
+
+    /**
+     * @return índice del segmento si está cerrado; null mientras se escribe
+     */
+    SegmentIndex getSealedIndex() {
+        return sealed ? index : null;
+    }
+
+    /**
+     * @return fichero del índice del segmento
+     */
+    Path indexPath() {
+        String name = path.getFileName().toString();
+        return path.resolveSibling(name.substring(0, name.length() - SUFFIX.length()) + SegmentIndex.SUFFIX);
+    }
+
+    /**
+     * Sincroniza con el disco los registros [from, to).
+     */
+    void force(int from, int to) {
+        if (to > from) {
+            buffer.force(offset(from), (to - from) * RECORD_BYTES);
+        }
+    }
+
+    /**
+     * Recorre los registros publicados [from, to) en orden.
+     */
+    void scan(int from, int to, ReadingVisitor visitor) {
+        for (int record = from; record < to; record++) {
+            int offset = offset(record);
+            visitor.visit(baseSequence + record,
+                    buffer.getInt(offset + DEVICE),
+                    buffer.getLong(offset + TIMESTAMP),
+                    buffer.getDouble(offset + VALUE),
+                    UNITS[buffer.get(offset + UNIT)],
+                    buffer.getInt(offset + CELSIUS));
+        }
+    }
+
+    /**
+     * Recorre los registros publicados [from, to) de un dispositivo con timestamp en
+     * [fromTimestamp, toTimestamp), sin llamar al receptor para el resto.
+     */
+    void scan(int from, int to, int deviceIndex, long fromTimestamp, long toTimestamp, ReadingVisitor visitor) {
+        for (int record = from; record < to; record++) {
+            int offset = offset(record);
+            if (buffer.getInt(offset + DEVICE) != deviceIndex) {
+                continue;
+            }
+            long timestamp = buffer.getLong(offset + TIMESTAMP);
+            if (timestamp < fromTimestamp || timestamp >= toTimestamp) {
+                continue;
+            }
+            visitor.visit(baseSequence + record, deviceIndex, timestamp,
+                    buffer.getDouble(offset + VALUE),
+                    UNITS[buffer.get(offset + UNIT)],
+                    buffer.getInt(offset + CELSIUS));
+        }
+    }
+
+    boolean isFull() {
+        return count == capacity;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getBaseSequence() {
+        return baseSequence;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return registros escritos (solo desde el hilo que escribe)
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * @return registros visibles para las lecturas
+     */
+    int getPublished() {
+        return published;
+    }
+
+    private static int offset(int record) {
+        return HEADER_BYTES + record * RECORD_BYTES;
+    }
+}
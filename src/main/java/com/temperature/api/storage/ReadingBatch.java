@@ -0,0 +1,96 @@
+package com.temperature.api.storage;
+
+import com.temperature.api.model.TemperatureUnit;
+
+import java.util.Arrays;
+
+/**
+ * Lote de lecturas ya validadas y convertidas, listo para persistir.
+ *
+ * Se guarda por columnas en arrays primitivos (sin un objeto por lectura), de modo que
+ * {@link ReadingLog#append} lo recorre sin reservar memoria. La temperatura convertida
+ * se guarda en centésimas de grado Celsius, la misma precisión que devuelve la API.
+ */
+public final class ReadingBatch {
+
+    private String[] deviceIds;
+    private long[] timestamps;
+    private double[] values;
+    private TemperatureUnit[] units;
+    private int[] celsiusHundredths;
+    private int size;
+
+    /**
+     * @param capacity número de lecturas previsto (el lote crece si se supera)
+     */
+    public ReadingBatch(int capacity) {
+        int initial = Math.max(capacity, 1);
+        deviceIds = new String[initial];
+        timestamps = new long[initial];
+        values = new double[initial];
+        units = new TemperatureUnit[initial];
+        celsiusHundredths = new int[initial];
+    }
+
+    /**
+     * Añade una lectura al lote.
+     *
+     * @param deviceId  identificador del dispositivo
+     * @param timestamp instante de la lectura (ms desde la época)
+     * @param value     valor original
+     * @param unit      unidad original
+     * @param celsius   temperatura convertida a Celsius con 2 decimales
+     */
+    public void add(String deviceId, long timestamp, double value, TemperatureUnit unit, double celsius) {
+        if (size == timestamps.length) {
+            grow();
+        }
+        deviceIds[size] = deviceId;
+        timestamps[size] = timestamp;
+        values[size] = value;
+        units[size] = unit;
+        celsiusHundredths[size] = (int) Math.round(celsius * 100);
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String getDeviceId(int index) {
+        return deviceIds[index];
+    }
+
+    public long getTimestamp(int index) {
+        return timestamps[index];
+    }
+
+    public double getValue(int index) {
+        return values[index];
+    }
+
+    public TemperatureUnit getUnit(int index) {
+        return units[index];
+    }
+
+    public int getCelsiusHundredths(int index) {
+        return celsiusHundredths[index];
+    }
+
+    public double getCelsius(int index) {
+        return celsiusHundredths[index] / 100.0;
+    }
+
+    private void grow() {
+        int capacity = timestamps.length * 2;
+        deviceIds = Arrays.copyOf(deviceIds, capacity);
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        values = Arrays.copyOf(values, capacity);
+        units = Arrays.copyOf(units, capacity);
+        celsiusHundredths = Arrays.copyOf(celsiusHundredths, capacity);
+    }
+}
@@ -0,0 +1,670 @@
+package com.temperature.api.storage;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Registro en disco, de solo adición, de las lecturas de sensores convertidas.
+ *
+ * Las lecturas se escriben en registros binarios de {@value LogSegment#RECORD_BYTES}
+ * bytes (ver {@link LogSegment}) dentro de segmentos de tamaño fijo proyectados en
+ * memoria: escribir una lectura es copiar 32 bytes, sin llamadas al sistema. Cada
+ * lectura recibe una secuencia consecutiva que identifica su posición en el registro.
+ *
+ * Sincronización por grupos (group commit): un único hilo ({@code reading-log-flusher})
+ * sincroniza con el disco todo lo escrito desde la sincronización anterior, como mucho
+ * una vez cada {@code app.storage.log.commit-interval}. Los lotes que llegan mientras
+ * tanto comparten la siguiente sincronización, así que el número de fsync no crece con
+ * el de peticiones. Con {@code app.storage.log.sync-writes} (por defecto) la ingesta
+ * espera a que su lote esté en disco antes de responder.
+ *
+ * Al arrancar se recupera el final del último segmento ({@link LogSegment#recover()}):
+ * los registros incompletos de una parada inesperada se descartan. Un segmento lleno se
+ * sincroniza antes de crear el siguiente, de modo que solo el último puede tener un
+ * final incompleto. Los segmentos se rotan al llenarse y se eliminan los más antiguos
+ * cuando superan {@code app.storage.log.retention.max-segments} o llevan cerrados más de
+ * {@code app.storage.log.retention.max-age}.
+ *
+ * Con {@code app.storage.log.enabled=false} no se crea ningún fichero y
+ * {@link #append} no hace nada.
+ *
+ * Medidores:
+ * - {@value #APPENDS_COUNTER}: lecturas escritas en el registro
+ * - {@value #SYNCS_COUNTER}: sincronizaciones con el disco
+ * - {@value #SEGMENTS_GAUGE}: segmentos conservados
+ * - {@value #BYTES_GAUGE}: tamaño de los segmentos conservados (bytes)
+ */
+@Component
+public class ReadingLog implements MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadingLog.class);
+
+    public static final String APPENDS_COUNTER = "temperature.storage.log.appends";
+    public static final String SYNCS_COUNTER = "temperature.storage.log.syncs";
+    public static final String SEGMENTS_GAUGE = "temperature.storage.log.segments";
+    public static final String BYTES_GAUGE = "temperature.storage.log.bytes";
+
+    /**
+     * Tamaño máximo de un segmento: una sola proyección en memoria direccionable con int.
+     */
+    static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    static final String LOCK_FILE = "log.lock";
+
+    /**
+     * Intervalo entre comprobaciones de la antigüedad de los segmentos cuando no se rota.
+     */
+    private static final long RETENTION_CHECK_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private static final Set<Path> OPEN_DIRECTORIES = ConcurrentHashMap.newKeySet();
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final long commitIntervalNanos;
+    private final boolean syncWrites;
+    private final int maxSegments;
+    private final long maxAgeMillis;
+
+    private final List<LogSegment> segments = new CopyOnWriteArrayList<>();
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+    private final Object durableMonitor = new Object();
+    private final AtomicLong syncs = new AtomicLong();
+
+    private Path openDirectory;
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private DeviceDictionary devices;
+    private Thread flusher;
+    private LogSegment active;
+    private long startSequence;
+    private volatile long nextSequence;
+    private volatile long durableSequence;
+    private volatile IOException failure;
+    private volatile boolean closed;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * Abre el directorio, recupera el último segmento y arranca el hilo de sincronización.
+     *
+     * @param enabled        si las lecturas se persisten
+     * @param directory      directorio de los segmentos
+     * @param segmentSize    tamaño de cada segmento (cabecera incluida, hasta 1 GB)
+     * @param commitInterval tiempo mínimo entre sincronizaciones con el disco
+     * @param syncWrites     si {@link #append} espera a que el lote esté en disco
+     * @param maxSegments    segmentos conservados como máximo (0 = sin límite)
+     * @param maxAge         antigüedad máxima de un segmento cerrado (cero = sin límite)
+     * @throws UncheckedIOException si el directorio no se puede abrir o está en uso
+     */
+    @Autowired
+    public ReadingLog(@Value("${app.storage.log.enabled:true}") boolean enabled,
+                      @Value("${app.storage.log.directory:data/readings}") String directory,
+                      @Value("${app.storage.log.segment-size:64MB}") DataSize segmentSize,
+                      @Value("${app.storage.log.commit-interval:2ms}") Duration commitInterval,
+                      @Value("${app.storage.log.sync-writes:true}") boolean syncWrites,
+                      @Value("${app.storage.log.retention.max-segments:64}") int maxSegments,
+                      @Value("${app.storage.log.retention.max-age:30d}") Duration maxAge) {
+        long segmentBytes = segmentSize.toBytes();
+        if (segmentBytes < LogSegment.HEADER_BYTES + LogSegment.RECORD_BYTES || segmentBytes > MAX_SEGMENT_BYTES) {
+            throw new IllegalArgumentException(String.format(
+                    "El tamaño de segmento debe estar entre %d y %d bytes: %d",
+                    LogSegment.HEADER_BYTES + LogSegment.RECORD_BYTES, MAX_SEGMENT_BYTES, segmentBytes));
+        }
+        if (maxSegments < 0) {
+            throw new IllegalArgumentException("El número máximo de segmentos no puede ser negativo: " + maxSegments);
+        }
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.recordsPerSegment = (int) ((segmentBytes - LogSegment.HEADER_BYTES) / LogSegment.RECORD_BYTES);
+        this.commitIntervalNanos = Math.max(commitInterval.toNanos(), 0);
+        this.syncWrites = syncWrites;
+        this.maxSegments = maxSegments;
+        this.maxAgeMillis = maxAge.isNegative() ? 0 : maxAge.toMillis();
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            open();
+        } catch (IOException e) {
+            closeFiles();
+            throw new UncheckedIOException("No se pudo abrir el registro de lecturas en " + this.directory, e);
+        }
+        flusher = new Thread(this::flushLoop, "reading-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    private void open() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            Files.createDirectories(directory);
+            Path parent = directory.toAbsolutePath().getParent();
+            if (parent != null) {
+                DirectorySync.force(parent);
+            }
+        }
+        // Los bloqueos de fichero son por proceso: la apertura doble en esta JVM se detecta aparte
+        Path key = directory.toRealPath();
+        if (!OPEN_DIRECTORIES.add(key)) {
+            throw new IOException("El directorio ya está abierto en este proceso");
+        }
+        openDirectory = key;
+        lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        lock = lockChannel.tryLock();
+        if (lock == null) {
+            throw new IOException("El directorio está en uso por otro proceso");
+        }
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    // Segmento o índice cuya creación no terminó
+                    Files.delete(file);
+                } else if (name.endsWith(LogSegment.SUFFIX)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(null);
+
+        devices = DeviceDictionary.open(directory);
+        for (Path file : files) {
+            segments.add(LogSegment.open(file));
+        }
+        for (int i = 0; i < segments.size() - 1; i++) {
+            segments.get(i).loadIndex();
+        }
+
+        if (segments.isEmpty()) {
+            active = LogSegment.create(directory, 0, recordsPerSegment, System.currentTimeMillis());
+            segments.add(active);
+        } else {
+            active = segments.get(segments.size() - 1);
+            int valid = active.recover();
+            log.info("Registro de lecturas recuperado: {} segmentos, {} lecturas en el último ({})",
+                    segments.size(), valid, active.getPath().getFileName());
+        }
+
+        startSequence = segments.get(0).getBaseSequence();
+        nextSequence = active.getBaseSequence() + active.getCount();
+        durableSequence = nextSequence;
+        applyRetention(System.currentTimeMillis());
+    }
+
+    /**
+     * Escribe un lote de lecturas al final del registro.
+     *
+     * Todo el lote se escribe bajo un único bloqueo, así que sus lecturas quedan
+     * consecutivas. Con {@code sync-writes} el método no termina hasta que el lote se ha
+     * sincronizado con el disco.
+     *
+     * @param batch lecturas convertidas
+     * @return secuencia siguiente a la última lectura escrita (0 si el registro está desactivado)
+     * @throws UncheckedIOException si no se puede escribir o sincronizar el registro
+     */
+    public long append(ReadingBatch batch) {
+        if (!enabled) {
+            return 0;
+        }
+        checkWritable();
+        int size = batch.size();
+        if (size == 0) {
+            return nextSequence;
+        }
+
+        // Los dispositivos nuevos se sincronizan en el diccionario fuera del bloqueo de escritura
+        int[] deviceIndexes = new int[size];
+        try {
+            for (int i = 0; i < size; i++) {
+                deviceIndexes[i] = devices.getOrAdd(batch.getDeviceId(i));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo actualizar el diccionario de dispositivos", e);
+        }
+
+        long end;
+        synchronized (writeLock) {
+            checkWritable();
+            LogSegment segment = active;
+            for (int i = 0; i < size; i++) {
+                if (segment.isFull()) {
+                    segment = rotate(segment);
+                }
+                segment.append(deviceIndexes[i], batch.getTimestamp(i), batch.getValue(i),
+                        batch.getUnit(i), batch.getCelsiusHundredths(i));
+            }
+            segment.publish();
+            end = segment.getBaseSequence() + segment.getCount();
+            nextSequence = end;
+        }
+        LockSupport.unpark(flusher);
+
+        if (syncWrites) {
+            awaitDurable(end);
+        }
+        return end;
+    }
+
+    /**
+     * Espera a que todas las lecturas anteriores a una secuencia estén en disco.
+     *
+     * @param sequence secuencia devuelta por {@link #append}
+     * @throws UncheckedIOException si la sincronización falla o el registro se cierra antes
+     */
+    public void awaitDurable(long sequence) {
+        if (!enabled || durableSequence >= sequence) {
+            return;
+        }
+        LockSupport.unpark(flusher);
+        synchronized (durableMonitor) {
+            while (durableSequence < sequence) {
+                checkWritable();
+                try {
+                    durableMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new UncheckedIOException(new IOException(
+                            "Interrumpido mientras se esperaba la sincronización del registro", e));
+                }
+            }
+        }
+    }
+
+    /**
+     * Recorre en orden las lecturas escritas desde una secuencia.
+     *
+     * Solo se visitan las lecturas escritas antes de la llamada; las de los segmentos ya
+     * eliminados por la retención se omiten.
+     *
+     * @param fromSequence primera secuencia a visitar
+     * @param visitor      receptor de las lecturas
+     * @return secuencia siguiente a la última visitada
+     */
+    public long scan(long fromSequence, ReadingVisitor visitor) {
+        return scan(fromSequence, nextSequence, visitor);
+    }
+
+    /**
+     * Recorre en orden las lecturas con secuencia en [fromSequence, toSequence).
+     *
+     * @param fromSequence primera secuencia a visitar
+     * @param toSequence   secuencia siguiente a la última a visitar
+     * @param visitor      receptor de las lecturas
+     * @return secuencia siguiente a la última visitada
+     */
+    public long scan(long fromSequence, long toSequence, ReadingVisitor visitor) {
+        if (!enabled) {
+            return 0;
+        }
+        long end = Math.min(toSequence, nextSequence);
+        for (LogSegment segment : segments) {
+            long base = segment.getBaseSequence();
+            int published = segment.getPublished();
+            if (base + published <= fromSequence || base >= end) {
+                continue;
+            }
+            int from = (int) Math.max(fromSequence - base, 0);
+            int to = (int) Math.min(end - base, published);
+            segment.scan(from, to, visitor);
+        }
+        return end;
+    }
+
+    /**
+     * Recorre las lecturas de un dispositivo con timestamp en [fromTimestamp, toTimestamp).
+     *
+     * Los segmentos cerrados se filtran con su {@link SegmentIndex}: se descartan sin
+     * leerlos si el dispositivo no tiene lecturas en el intervalo, y si todas sus lecturas
+     * del segmento caen dentro del intervalo se ofrece primero el resumen al receptor. Solo
+     * se recorren los segmentos restantes y el activo, sin crear objetos por lectura.
+     *
+     * @param deviceIndex   índice del dispositivo ({@link #getDeviceIndex})
+     * @param fromTimestamp inicio del intervalo (ms desde la época, incluido)
+     * @param toTimestamp   fin del intervalo (ms desde la época, excluido)
+     * @param visitor       receptor de las lecturas y de los resúmenes
+     * @return segmentos recorridos, resueltos con el índice y descartados
+     */
+    public ScanStatistics scanDevice(int deviceIndex, long fromTimestamp, long toTimestamp,
+                                     DeviceRangeVisitor visitor) {
+        int scanned = 0;
+        int summarized = 0;
+        int skipped = 0;
+        if (!enabled || deviceIndex < 0 || fromTimestamp >= toTimestamp) {
+            return new ScanStatistics(scanned, summarized, skipped);
+        }
+        long end = nextSequence;
+        for (LogSegment segment : segments) {
+            long base = segment.getBaseSequence();
+            if (base >= end) {
+                continue;
+            }
+            SegmentIndex index = segment.getSealedIndex();
+            if (index != null) {
+                DeviceSummary summary = index.get(deviceIndex);
+                if (summary == null || summary.maxTimestamp() < fromTimestamp
+                        || summary.minTimestamp() >= toTimestamp) {
+                    skipped++;
+                    continue;
+                }
+                if (summary.minTimestamp() >= fromTimestamp && summary.maxTimestamp() < toTimestamp
+                        && visitor.visitSummary(summary)) {
+                    summarized++;
+                    continue;
+                }
+            }
+            int to = (int) Math.min(end - base, segment.getPublished());
+            segment.scan(0, to, deviceIndex, fromTimestamp, toTimestamp, visitor);
+            scanned++;
+        }
+        return new ScanStatistics(scanned, summarized, skipped);
+    }
+
+    /**
+     * @return si las lecturas se persisten
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return directorio del registro (null si está desactivado)
+     */
+    public Path getDirectory() {
+        return enabled ? directory : null;
+    }
+
+    /**
+     * @return secuencia de la lectura más antigua conservada
+     */
+    public long getFirstSequence() {
+        return segments.isEmpty() ? startSequence : segments.get(0).getBaseSequence();
+    }
+
+    /**
+     * @return secuencia que recibirá la próxima lectura
+     */
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * @return secuencia hasta la que (excluida) todas las lecturas están en disco
+     */
+    public long getDurableSequence() {
+        return durableSequence;
+    }
+
+    /**
+     * @return identificador del dispositivo con un índice de {@link ReadingVisitor}
+     */
+    public String getDeviceId(int deviceIndex) {
+        return devices.nameOf(deviceIndex);
+    }
+
+    /**
+     * @return índice de un dispositivo en el registro, o -1 si no tiene lecturas
+     */
+    public int getDeviceIndex(String deviceId) {
+        return enabled ? devices.indexOf(deviceId) : -1;
+    }
+
+    /**
+     * @return dispositivos registrados en el diccionario (0 si el registro está desactivado)
+     */
+    public int getDeviceCount() {
+        return enabled ? devices.size() : 0;
+    }
+
+    /**
+     * @return segmentos conservados
+     */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * @return tamaño en disco de los segmentos conservados (bytes)
+     */
+    public long getStorageBytes() {
+        long bytes = 0;
+        for (LogSegment segment : segments) {
+            bytes += LogSegment.fileBytes(segment.getCapacity());
+        }
+        return bytes;
+    }
+
+    /**
+     * @return sincronizaciones con el disco desde la apertura
+     */
+    long getSyncCount() {
+        return syncs.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        FunctionCounter.builder(APPENDS_COUNTER, this, readingLog -> readingLog.nextSequence - startSequence)
+                .description("Lecturas escritas en el registro en disco")
+                .register(registry);
+        FunctionCounter.builder(SYNCS_COUNTER, syncs, AtomicLong::get)
+                .description("Sincronizaciones del registro de lecturas con el disco")
+                .register(registry);
+        Gauge.builder(SEGMENTS_GAUGE, this, ReadingLog::getSegmentCount)
+                .description("Segmentos conservados del registro de lecturas")
+                .register(registry);
+        Gauge.builder(BYTES_GAUGE, this, ReadingLog::getStorageBytes)
+                .baseUnit("bytes")
+                .description("Tamaño en disco de los segmentos conservados")
+                .register(registry);
+    }
+
+    /**
+     * Sincroniza lo pendiente, detiene el hilo de sincronización y libera el directorio.
+     */
+    @Override
+    public void destroy() {
+        if (!enabled || closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure == null) {
+            sync();
+        }
+        synchronized (durableMonitor) {
+            durableMonitor.notifyAll();
+        }
+        closeFiles();
+    }
+
+    /**
+     * Cierra el segmento lleno (sincronizándolo) y crea el siguiente.
+     * Se llama con el bloqueo de escritura.
+     */
+    private LogSegment rotate(LogSegment full) {
+        full.publish();
+        long base = full.getBaseSequence() + full.getCount();
+        nextSequence = base;
+        try {
+            sync();
+            full.seal();
+            LogSegment next = LogSegment.create(directory, base, recordsPerSegment, System.currentTimeMillis());
+            segments.add(next);
+            active = next;
+            applyRetention(next.getCreatedAt());
+            return next;
+        } catch (IOException | RuntimeException e) {
+            IOException cause = e instanceof IOException io ? io : new IOException(e);
+            fail(cause);
+            throw new UncheckedIOException("No se pudo rotar el registro de lecturas", cause);
+        }
+    }
+
+    /**
+     * Elimina los segmentos cerrados que exceden el número máximo o la antigüedad máxima.
+     * Un segmento se cierra cuando se crea el siguiente; el activo nunca se elimina.
+     */
+    private void applyRetention(long now) {
+        while (segments.size() > 1) {
+            LogSegment oldest = segments.get(0);
+            boolean tooMany = maxSegments > 0 && segments.size() > maxSegments;
+            boolean tooOld = maxAgeMillis > 0 && now - segments.get(1).getCreatedAt() > maxAgeMillis;
+            if (!tooMany && !tooOld) {
+                return;
+            }
+            segments.remove(0);
+            try {
+                // Las lecturas en curso conservan la proyección en memoria
+                Files.deleteIfExists(oldest.getPath());
+                Files.deleteIfExists(oldest.indexPath());
+            } catch (IOException e) {
+                log.warn("No se pudo eliminar el segmento {}: {}", oldest.getPath(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Hilo de sincronización: espera a que haya lecturas sin sincronizar, respeta el
+     * intervalo mínimo entre sincronizaciones y sincroniza todo lo pendiente de una vez.
+     */
+    private void flushLoop() {
+        long lastSync = System.nanoTime() - commitIntervalNanos;
+        long lastRetention = System.nanoTime();
+        while (!closed) {
+            if (nextSequence == durableSequence) {
+                LockSupport.parkNanos(this, RETENTION_CHECK_NANOS);
+            } else {
+                long wait = commitIntervalNanos - (System.nanoTime() - lastSync);
+                if (wait > 0) {
+                    LockSupport.parkNanos(this, wait);
+                    continue;
+                }
+                lastSync = System.nanoTime();
+                if (failure != null) {
+                    return;
+                }
+                sync();
+            }
+            if (maxAgeMillis > 0 && System.nanoTime() - lastRetention >= RETENTION_CHECK_NANOS) {
+                lastRetention = System.nanoTime();
+                synchronized (writeLock) {
+                    applyRetention(System.currentTimeMillis());
+                }
+            }
+        }
+    }
+
+    /**
+     * Sincroniza con el disco las lecturas publicadas que aún no lo están y despierta a
+     * quienes las esperan.
+     *
+     * No necesita el bloqueo de escritura: las lecturas siguen escribiéndose mientras
+     * dura la sincronización y quedan para la siguiente.
+     */
+    private void sync() {
+        synchronized (syncLock) {
+            long target = nextSequence;
+            long durable = durableSequence;
+            if (target <= durable) {
+                return;
+            }
+            try {
+                for (LogSegment segment : segments) {
+                    long base = segment.getBaseSequence();
+                    long end = base + segment.getPublished();
+                    if (end > durable && base < target) {
+                        segment.force((int) Math.max(durable - base, 0), (int) (Math.min(target, end) - base));
+                    }
+                }
+            } catch (RuntimeException e) {
+                fail(new IOException("No se pudo sincronizar el registro de lecturas", e));
+                return;
+            }
+            syncs.incrementAndGet();
+            synchronized (durableMonitor) {
+                durableSequence = target;
+                durableMonitor.notifyAll();
+            }
+        }
+    }
+
+    private void fail(IOException cause) {
+        if (failure == null) {
+            failure = cause;
+            log.error("El registro de lecturas deja de aceptar escrituras", cause);
+        }
+        synchronized (durableMonitor) {
+            durableMonitor.notifyAll();
+        }
+    }
+
+    private void checkWritable() {
+        IOException cause = failure;
+        if (cause != null) {
+            throw new UncheckedIOException("El registro de lecturas no acepta escrituras", cause);
+        }
+        if (closed) {
+            throw new IllegalStateException("El registro de lecturas está cerrado");
+        }
+    }
+
+    private void closeFiles() {
+        try {
+            if (devices != null) {
+                devices.close();
+            }
+            if (lock != null) {
+                lock.release();
+            }
+            if (lockChannel != null) {
+                lockChannel.close();
+            }
+        } catch (IOException e) {
+            log.warn("No se pudo cerrar el registro de lecturas: {}", e.getMessage());
+        } finally {
+            if (openDirectory != null) {
+                OPEN_DIRECTORIES.remove(openDirectory);
+            }
+        }
+    }
+}
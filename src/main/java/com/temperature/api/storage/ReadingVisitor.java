@@ -0,0 +1,24 @@
+package com.temperature.api.storage;
+
+import com.temperature.api.model.TemperatureUnit;
+
+/**
+ * Recibe las lecturas de {@link ReadingLog#scan} en orden de escritura.
+ *
+ * Los argumentos son primitivos para que recorrer el registro no cree un objeto por
+ * lectura; el identificador del dispositivo se obtiene con {@link ReadingLog#getDeviceId}.
+ */
+@FunctionalInterface
+public interface ReadingVisitor {
+
+    /**
+     * @param sequence          posición de la lectura en el registro
+     * @param deviceIndex       índice del dispositivo en el diccionario del registro
+     * @param timestamp         instante de la lectura (ms desde la época)
+     * @param value             valor original
+     * @param unit              unidad original
+     * @param celsiusHundredths temperatura convertida, en centésimas de grado Celsius
+     */
+    void visit(long sequence, int deviceIndex, long timestamp, double value, TemperatureUnit unit,
+               int celsiusHundredths);
+}
@@ -0,0 +1,494 @@
+package com.temperature.api.storage;
+
+import com.temperature.api.model.TemperatureUnit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Resúmenes precalculados de las lecturas del {@link ReadingLog} en niveles de 1 minuto,
+ * 1 hora y 1 día ({@link RollupTier}), para consultas de meses o años sin recorrer las
+ * lecturas.
+ *
+ * Un hilo ({@code reading-rollup}) sigue el registro cada {@code app.storage.rollup.interval}
+ * y añade a los tres niveles las lecturas ya sincronizadas con el disco, en una sola
+ * pasada y por tramos de {@value #SCAN_CHUNK} lecturas para no bloquear las consultas.
+ * Cada intervalo guarda número de lecturas, suma, mínimo y máximo en centésimas de grado
+ * Celsius ({@link DeviceRollup}); la unidad se elige al leer.
+ *
+ * El estado se guarda en {@value #CHECKPOINT_FILE}, dentro del directorio del registro,
+ * cada {@code app.storage.rollup.checkpoint-interval} y al cerrar, junto con la secuencia
+ * hasta la que se ha resumido: al arrancar se carga y se continúa desde ahí. Si falta o
+ * está dañado se reconstruye desde las lecturas conservadas en el registro. Los
+ * intervalos más antiguos que la retención de su nivel se eliminan al guardar.
+ *
+ * Sin registro ({@code app.storage.log.enabled=false}) o con
+ * {@code app.storage.rollup.enabled=false} no se calcula nada.
+ *
+ * Medidores:
+ * - {@value #LAG_GAUGE}: lecturas sincronizadas pendientes de resumir
+ * - {@value #LAG_SECONDS_GAUGE}: segundos desde que los resúmenes estuvieron al día (0 si lo están)
+ * - {@value #BUCKETS_GAUGE} (tier): intervalos guardados por nivel
+ * - {@value #BYTES_GAUGE} (tier): memoria reservada por nivel (bytes)
+ */
+@Component
+public class RollupEngine implements MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RollupEngine.class);
+
+    public static final String LAG_GAUGE = "temperature.storage.rollup.lag";
+    public static final String LAG_SECONDS_GAUGE = "temperature.storage.rollup.lag.seconds";
+    public static final String BUCKETS_GAUGE = "temperature.storage.rollup.buckets";
+    public static final String BYTES_GAUGE = "temperature.storage.rollup.bytes";
+
+    static final String CHECKPOINT_FILE = "rollups.dat";
+
+    /**
+     * Lecturas resumidas por cada toma del bloqueo de escritura.
+     */
+    static final int SCAN_CHUNK = 65_536;
+
+    private static final int MAGIC = 0x50555254; // "TRUP"
+    private static final int VERSION = 1;
+    private static final RollupTier[] TIERS = RollupTier.values();
+
+    private final ReadingLog readingLog;
+    private final boolean enabled;
+    private final long intervalNanos;
+    private final long checkpointIntervalNanos;
+    private final long[] retentionMillis = new long[TIERS.length];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object applyLock = new Object();
+
+    private DeviceRollup[][] rollups = emptyRollups();
+    private Path checkpointPath;
+    private Thread worker;
+    private volatile long appliedSequence;
+    private volatile long caughtUpAt = System.currentTimeMillis();
+    private volatile boolean closed;
+
+    /**
+     * Constructor con inyección de dependencias.
+     *
+     * Carga el último estado guardado y arranca el hilo que resume las lecturas nuevas.
+     *
+     * @param readingLog         registro de lecturas del que se alimentan los resúmenes
+     * @param enabled            si se calculan los resúmenes
+     * @param interval           intervalo entre pasadas por las lecturas nuevas
+     * @param checkpointInterval intervalo entre guardados del estado
+     * @param minuteRetention    antigüedad máxima de los intervalos de 1 minuto (cero = sin límite)
+     * @param hourRetention      antigüedad máxima de los intervalos de 1 hora (cero = sin límite)
+     * @param dayRetention       antigüedad máxima de los intervalos de 1 día (cero = sin límite)
+     */
+    @Autowired
+    public RollupEngine(ReadingLog readingLog,
+                        @Value("${app.storage.rollup.enabled:true}") boolean enabled,
+                        @Value("${app.storage.rollup.interval:1s}") Duration interval,
+                        @Value("${app.storage.rollup.checkpoint-interval:1m}") Duration checkpointInterval,
+                        @Value("${app.storage.rollup.retention.one-minute:2d}") Duration minuteRetention,
+                        @Value("${app.storage.rollup.retention.one-hour:90d}") Duration hourRetention,
+                        @Value("${app.storage.rollup.retention.one-day:0}") Duration dayRetention) {
+        this.readingLog = readingLog;
+        this.enabled = enabled && readingLog.isEnabled();
+        this.intervalNanos = Math.max(interval.toNanos(), TimeUnit.MILLISECONDS.toNanos(1));
+        this.checkpointIntervalNanos = Math.max(checkpointInterval.toNanos(), 0);
+        this.retentionMillis[RollupTier.ONE_MINUTE.ordinal()] = Math.max(minuteRetention.toMillis(), 0);
+        this.retentionMillis[RollupTier.ONE_HOUR.ordinal()] = Math.max(hourRetention.toMillis(), 0);
+        this.retentionMillis[RollupTier.ONE_DAY.ordinal()] = Math.max(dayRetention.toMillis(), 0);
+        if (!this.enabled) {
+            return;
+        }
+
+        checkpointPath = readingLog.getDirectory().resolve(CHECKPOINT_FILE);
+        try {
+            load();
+        } catch (IOException e) {
+            log.warn("No se pudieron cargar los resúmenes de {} ({}); se reconstruyen desde el registro",
+                    checkpointPath, e.getMessage());
+            rollups = emptyRollups();
+            appliedSequence = readingLog.getFirstSequence();
+        }
+        worker = new Thread(this::rollupLoop, "reading-rollup");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private static DeviceRollup[][] emptyRollups() {
+        DeviceRollup[][] empty = new DeviceRollup[TIERS.length][];
+        Arrays.fill(empty, new DeviceRollup[0]);
+        return empty;
+    }
+
+    /**
+     * Resume las lecturas sincronizadas del registro que aún no lo están.
+     *
+     * @return secuencia hasta la que (excluida) están resumidas las lecturas
+     */
+    public long catchUp() {
+        if (!enabled) {
+            return 0;
+        }
+        synchronized (applyLock) {
+            long target = readingLog.getDurableSequence();
+            long first = readingLog.getFirstSequence();
+            if (appliedSequence < first) {
+                log.warn("{} lecturas se eliminaron del registro antes de resumirse", first - appliedSequence);
+                appliedSequence = first;
+            }
+            while (appliedSequence < target) {
+                long to = Math.min(target, appliedSequence + SCAN_CHUNK);
+                lock.writeLock().lock();
+                try {
+                    readingLog.scan(appliedSequence, to, this::apply);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                appliedSequence = to;
+            }
+            caughtUpAt = System.currentTimeMillis();
+            return appliedSequence;
+        }
+    }
+
+    private void apply(long sequence, int deviceIndex, long timestamp, double value,
+                       TemperatureUnit unit, int celsiusHundredths) {
+        for (RollupTier tier : TIERS) {
+            rollup(rollups, tier.ordinal(), deviceIndex).add(tier.bucketStart(timestamp), celsiusHundredths);
+        }
+    }
+
+    private static DeviceRollup rollup(DeviceRollup[][] target, int tier, int deviceIndex) {
+        DeviceRollup[] devices = target[tier];
+        if (deviceIndex >= devices.length) {
+            devices = Arrays.copyOf(devices, Math.max(deviceIndex + 1, devices.length * 2));
+            target[tier] = devices;
+        }
+        DeviceRollup rollup = devices[deviceIndex];
+        if (rollup == null) {
+            rollup = new DeviceRollup();
+            devices[deviceIndex] = rollup;
+        }
+        return rollup;
+    }
+
+    /**
+     * Entrega en orden los intervalos de un dispositivo que empiezan en
+     * [inicio del intervalo de {@code fromTimestamp}, {@code toTimestamp}).
+     *
+     * @param deviceIndex   índice del dispositivo en el registro ({@link ReadingLog#getDeviceIndex})
+     * @param tier          nivel de resumen
+     * @param fromTimestamp inicio del intervalo (ms desde la época)
+     * @param toTimestamp   fin del intervalo (ms desde la época, excluido)
+     * @param visitor       receptor de los intervalos
+     */
+    public void scan(int deviceIndex, RollupTier tier, long fromTimestamp, long toTimestamp, RollupVisitor visitor) {
+        if (!enabled || deviceIndex < 0) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            DeviceRollup[] devices = rollups[tier.ordinal()];
+            if (deviceIndex < devices.length && devices[deviceIndex] != null) {
+                devices[deviceIndex].scan(tier.bucketStart(fromTimestamp), toTimestamp, visitor);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina los intervalos fuera de la retención y guarda el estado en disco
+     * (escribe un temporal, lo sincroniza y lo renombra).
+     *
+     * @throws IOException si no se puede escribir el fichero
+     */
+    void checkpoint() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        synchronized (applyLock) {
+            lock.writeLock().lock();
+            try {
+                prune(System.currentTimeMillis());
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Path temporary = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+            // Con applyLock nadie más modifica los intervalos: basta con no bloquear las consultas
+            try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+                 CheckedOutputStream checked = new CheckedOutputStream(
+                         new BufferedOutputStream(file, 1 << 16), new CRC32C());
+                 DataOutputStream out = new DataOutputStream(checked)) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(appliedSequence);
+                out.writeInt(TIERS.length);
+                for (DeviceRollup[] devices : rollups) {
+                    int present = 0;
+                    for (DeviceRollup rollup : devices) {
+                        if (rollup != null && rollup.size() > 0) {
+                            present++;
+                        }
+                    }
+                    out.writeInt(present);
+                    for (int device = 0; device < devices.length; device++) {
+                        DeviceRollup rollup = devices[device];
+                        if (rollup == null || rollup.size() == 0) {
+                            continue;
+                        }
+                        out.writeInt(device);
+                        out.writeInt(rollup.size());
+                        for (int i = 0; i < rollup.size(); i++) {
+                            out.writeLong(rollup.startAt(i));
+                            out.writeInt(rollup.countAt(i));
+                            out.writeLong(rollup.sumAt(i));
+                            out.writeInt(rollup.minAt(i));
+                            out.writeInt(rollup.maxAt(i));
+                        }
+                    }
+                }
+                out.writeInt((int) checked.getChecksum().getValue());
+                out.flush();
+                file.getFD().sync();
+            }
+            DirectorySync.moveAndForce(temporary, checkpointPath);
+        }
+    }
+
+    private void prune(long now) {
+        for (RollupTier tier : TIERS) {
+            long cutoff = getRetentionCutoff(tier, now);
+            if (cutoff == Long.MIN_VALUE) {
+                continue;
+            }
+            for (DeviceRollup rollup : rollups[tier.ordinal()]) {
+                if (rollup != null) {
+                    rollup.prune(cutoff);
+                }
+            }
+        }
+    }
+
+    private void load() throws IOException {
+        long first = readingLog.getFirstSequence();
+        if (!Files.exists(checkpointPath)) {
+            appliedSequence = first;
+            return;
+        }
+        DeviceRollup[][] loaded = emptyRollups();
+        long maxBuckets = Files.size(checkpointPath) / DeviceRollup.BUCKET_BYTES;
+        int deviceCount = readingLog.getDeviceCount();
+        long applied;
+        try (CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(checkpointPath), 1 << 16), new CRC32C());
+             DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("formato no reconocido");
+            }
+            applied = in.readLong();
+            if (in.readInt() != TIERS.length) {
+                throw new IOException("número de niveles distinto");
+            }
+            for (int tier = 0; tier < TIERS.length; tier++) {
+                int present = in.readInt();
+                for (int d = 0; d < present; d++) {
+                    int device = in.readInt();
+                    int size = in.readInt();
+                    if (device < 0 || device >= deviceCount || size < 0 || size > maxBuckets) {
+                        throw new IOException("entrada no válida");
+                    }
+                    DeviceRollup rollup = rollup(loaded, tier, device);
+                    for (int i = 0; i < size; i++) {
+                        rollup.merge(in.readLong(), in.readInt(), in.readLong(), in.readInt(), in.readInt());
+                    }
+                }
+            }
+            int expected = (int) checked.getChecksum().getValue();
+            if (in.readInt() != expected) {
+                throw new IOException("CRC no válido");
+            }
+        }
+
+        long next = readingLog.getNextSequence();
+        if (applied > next) {
+            log.warn("Los resúmenes llegan a la secuencia {} pero el registro termina en {}", applied, next);
+            applied = next;
+        }
+        rollups = loaded;
+        appliedSequence = applied;
+        log.info("Resúmenes de lecturas cargados hasta la secuencia {} ({} pendientes)",
+                applied, Math.max(readingLog.getDurableSequence() - applied, 0));
+    }
+
+    /**
+     * Hilo de resumen: incorpora las lecturas nuevas y guarda el estado periódicamente.
+     */
+    private void rollupLoop() {
+        long lastCheckpoint = System.nanoTime();
+        while (!closed) {
+            try {
+                catchUp();
+                if (System.nanoTime() - lastCheckpoint >= checkpointIntervalNanos) {
+                    lastCheckpoint = System.nanoTime();
+                    checkpoint();
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("No se pudieron actualizar los resúmenes de lecturas: {}", e.getMessage());
+            }
+            LockSupport.parkNanos(this, intervalNanos);
+        }
+    }
+
+    /**
+     * @return si se calculan los resúmenes
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return secuencia hasta la que (excluida) están resumidas las lecturas
+     */
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    /**
+     * @return lecturas sincronizadas en el registro pendientes de resumir
+     */
+    public long getLag() {
+        return enabled ? Math.max(readingLog.getDurableSequence() - appliedSequence, 0) : 0;
+    }
+
+    /**
+     * @return segundos desde que los resúmenes estuvieron al día por última vez (0 si lo están)
+     */
+    public double getLagSeconds() {
+        return getLag() == 0 ? 0.0 : Math.max(System.currentTimeMillis() - caughtUpAt, 0) / 1000.0;
+    }
+
+    /**
+     * Inicio del intervalo más antiguo que conserva un nivel; los anteriores se descartan
+     * en la siguiente pasada.
+     *
+     * @param tier nivel de resumen
+     * @param now  instante actual (ms desde la época)
+     * @return inicio del primer intervalo conservado, o {@link Long#MIN_VALUE} si el nivel
+     *         no tiene límite de antigüedad
+     */
+    public long getRetentionCutoff(RollupTier tier, long now) {
+        long retention = retentionMillis[tier.ordinal()];
+        return retention == 0 ? Long.MIN_VALUE : tier.bucketStart(now - retention);
+    }
+
+    /**
+     * @return intervalos guardados en un nivel (todos los dispositivos)
+     */
+    public long getBucketCount(RollupTier tier) {
+        lock.readLock().lock();
+        try {
+            long buckets = 0;
+            for (DeviceRollup rollup : rollups[tier.ordinal()]) {
+                if (rollup != null) {
+                    buckets += rollup.size();
+                }
+            }
+            return buckets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return memoria reservada por un nivel (bytes)
+     */
+    public long getFootprintBytes(RollupTier tier) {
+        lock.readLock().lock();
+        try {
+            DeviceRollup[] devices = rollups[tier.ordinal()];
+            long bytes = (long) devices.length * Integer.BYTES;
+            for (DeviceRollup rollup : devices) {
+                if (rollup != null) {
+                    bytes += rollup.footprintBytes();
+                }
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        Gauge.builder(LAG_GAUGE, this, RollupEngine::getLag)
+                .baseUnit("readings")
+                .description("Lecturas sincronizadas en el registro pendientes de resumir")
+                .register(registry);
+        Gauge.builder(LAG_SECONDS_GAUGE, this, RollupEngine::getLagSeconds)
+                .baseUnit("seconds")
+                .description("Segundos desde que los resúmenes estuvieron al día por última vez")
+                .register(registry);
+        for (RollupTier tier : TIERS) {
+            Gauge.builder(BUCKETS_GAUGE, this, engine -> engine.getBucketCount(tier))
+                    .tag("tier", tier.getLabel())
+                    .description("Intervalos guardados en el nivel de resumen")
+                    .register(registry);
+            Gauge.builder(BYTES_GAUGE, this, engine -> engine.getFootprintBytes(tier))
+                    .tag("tier", tier.getLabel())
+                    .baseUnit("bytes")
+                    .description("Memoria reservada por el nivel de resumen")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Resume lo pendiente, detiene el hilo y guarda el estado.
+     */
+    @Override
+    public void destroy() {
+        if (!enabled || closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            catchUp();
+            checkpoint();
+        } catch (IOException | RuntimeException e) {
+            log.warn("No se pudieron guardar los resúmenes de lecturas: {}", e.getMessage());
+        }
+    }
+}
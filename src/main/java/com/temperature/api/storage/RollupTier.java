@@ -0,0 +1,70 @@
+package com.temperature.api.storage;
+
+/**
+ * Niveles de resumen precalculado de las lecturas, de más fino a más grueso.
+ *
+ * Como {@link com.temperature.api.model.AggregationWindow}, los intervalos son fijos,
+ * consecutivos y alineados con la época: una lectura con timestamp {@code t} pertenece
+ * al intervalo que empieza en {@code floor(t / duración) × duración}.
+ */
+public enum RollupTier {
+
+    ONE_MINUTE("1m", 60_000L),
+    ONE_HOUR("1h", 3_600_000L),
+    ONE_DAY("1d", 86_400_000L);
+
+    private final String label;
+    private final long durationMillis;
+
+    /**
+     * Constructor del enum.
+     *
+     * @param label          etiqueta corta usada en la API (p. ej. "1h")
+     * @param durationMillis duración de cada intervalo en milisegundos
+     */
+    RollupTier(String label, long durationMillis) {
+        this.label = label;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * @return etiqueta corta usada en la API
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return duración de cada intervalo en milisegundos
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Calcula el inicio del intervalo que contiene un instante.
+     *
+     * @param timestamp instante en milisegundos desde la época
+     * @return inicio del intervalo en milisegundos desde la época
+     */
+    public long bucketStart(long timestamp) {
+        return Math.floorDiv(timestamp, durationMillis) * durationMillis;
+    }
+
+    /**
+     * Elige el nivel más grueso con el que se puede construir una serie de un paso dado:
+     * aquel cuya duración divide al paso, de modo que cada tramo agrupa intervalos enteros.
+     *
+     * @param stepMillis paso de la serie en milisegundos
+     * @return nivel más grueso compatible, o null si el paso no es múltiplo de un minuto
+     */
+    public static RollupTier coarsestFor(long stepMillis) {
+        RollupTier[] tiers = values();
+        for (int i = tiers.length - 1; i >= 0; i--) {
+            if (stepMillis > 0 && stepMillis % tiers[i].durationMillis == 0) {
+                return tiers[i];
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.temperature.api.storage;
+
+/**
+ * Receptor de los intervalos de un nivel de resumen ({@link RollupEngine#scan}).
+ *
+ * Las temperaturas están en centésimas de grado Celsius; la suma es exacta.
+ */
+@FunctionalInterface
+public interface RollupVisitor {
+
+    /**
+     * Recibe un intervalo con lecturas.
+     *
+     * @param start         inicio del intervalo (ms desde la época)
+     * @param count         número de lecturas
+     * @param sumHundredths suma de las temperaturas
+     * @param minHundredths temperatura mínima
+     * @param maxHundredths temperatura máxima
+     */
+    void visit(long start, int count, long sumHundredths, int minHundredths, int maxHundredths);
+}
@@ -0,0 +1,11 @@
+package com.temperature.api.storage;
+
+/**
+ * Segmentos consultados por {@link ReadingLog#scanDevice}.
+ *
+ * @param scanned    segmentos recorridos lectura a lectura
+ * @param summarized segmentos resueltos con su índice, sin recorrerlos
+ * @param skipped    segmentos descartados por su índice (sin lecturas del dispositivo en el intervalo)
+ */
+public record ScanStatistics(int scanned, int summarized, int skipped) {
+}
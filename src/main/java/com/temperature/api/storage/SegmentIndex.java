@@ -0,0 +1,207 @@
+package com.temperature.api.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Índice de un segmento: un {@link DeviceSummary} por dispositivo con lecturas en él.
+ *
+ * Permite a las consultas descartar un segmento sin leerlo (el dispositivo no aparece o
+ * su intervalo de tiempo no se solapa con el pedido) y responder sin recorrerlo cuando
+ * todas sus lecturas del dispositivo caen en el mismo intervalo del resultado.
+ *
+ * Se construye a medida que se escribe el segmento y se guarda junto a él
+ * ({@value #SUFFIX}) al cerrarlo, para no tener que recorrer los segmentos al arrancar.
+ * Formato (little-endian): magic, versión, número de registros del segmento, número de
+ * dispositivos, {@value #ENTRY_BYTES} bytes por dispositivo y CRC32C de todo lo anterior.
+ *
+ * Los resúmenes se guardan en arrays primitivos paralelos indexados por una posición
+ * asignada a cada dispositivo. No es thread-safe: se modifica solo desde el hilo que
+ * escribe el segmento y se consulta una vez cerrado.
+ */
+final class SegmentIndex {
+
+    static final String SUFFIX = ".idx";
+
+    private static final int MAGIC = 0x58444954; // "TIDX"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+    private static final int ENTRY_BYTES = Integer.BYTES + 3 * Long.BYTES + 4 * Integer.BYTES;
+
+    private int[] positions = new int[0];
+    private int size;
+    private int records;
+
+    private int[] devices = new int[8];
+    private long[] minTimestamps = new long[8];
+    private long[] maxTimestamps = new long[8];
+    private int[] counts = new int[8];
+    private long[] sums = new long[8];
+    private int[] mins = new int[8];
+    private int[] maxs = new int[8];
+    private int[] lasts = new int[8];
+
+    /**
+     * Incorpora una lectura del segmento.
+     */
+    void add(int device, long timestamp, int hundredths) {
+        records++;
+        int position = position(device);
+        if (counts[position] == 0) {
+            minTimestamps[position] = timestamp;
+            maxTimestamps[position] = timestamp;
+            mins[position] = hundredths;
+            maxs[position] = hundredths;
+            lasts[position] = hundredths;
+        } else {
+            if (timestamp < minTimestamps[position]) {
+                minTimestamps[position] = timestamp;
+            }
+            if (timestamp >= maxTimestamps[position]) {
+                maxTimestamps[position] = timestamp;
+                lasts[position] = hundredths;
+            }
+            mins[position] = Math.min(mins[position], hundredths);
+            maxs[position] = Math.max(maxs[position], hundredths);
+        }
+        counts[position]++;
+        sums[position] += hundredths;
+    }
+
+    /**
+     * @return resumen del dispositivo, o null si no tiene lecturas en el segmento
+     */
+    DeviceSummary get(int device) {
+        if (device < 0 || device >= positions.length || positions[device] == 0) {
+            return null;
+        }
+        int position = positions[device] - 1;
+        return new DeviceSummary(minTimestamps[position], maxTimestamps[position], counts[position],
+                sums[position], mins[position], maxs[position], lasts[position]);
+    }
+
+    /**
+     * @return lecturas incorporadas
+     */
+    int records() {
+        return records;
+    }
+
+    /**
+     * @return dispositivos con lecturas en el segmento
+     */
+    int deviceCount() {
+        return size;
+    }
+
+    /**
+     * Memoria aproximada ocupada por el índice.
+     */
+    long footprintBytes() {
+        return (long) positions.length * Integer.BYTES + (long) devices.length * ENTRY_BYTES;
+    }
+
+    private int position(int device) {
+        if (device >= positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(device + 1, positions.length * 2));
+        }
+        if (positions[device] != 0) {
+            return positions[device] - 1;
+        }
+        if (size == devices.length) {
+            int capacity = size * 2;
+            devices = Arrays.copyOf(devices, capacity);
+            minTimestamps = Arrays.copyOf(minTimestamps, capacity);
+            maxTimestamps = Arrays.copyOf(maxTimestamps, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            sums = Arrays.copyOf(sums, capacity);
+            mins = Arrays.copyOf(mins, capacity);
+            maxs = Arrays.copyOf(maxs, capacity);
+            lasts = Arrays.copyOf(lasts, capacity);
+        }
+        devices[size] = device;
+        positions[device] = ++size;
+        return size - 1;
+    }
+
+    /**
+     * Guarda el índice y lo sincroniza con el disco (escribe un temporal y lo renombra).
+     */
+    void write(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + size * ENTRY_BYTES + Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(records).putInt(size);
+        for (int position = 0; position < size; position++) {
+            buffer.putInt(devices[position])
+                    .putLong(minTimestamps[position])
+                    .putLong(maxTimestamps[position])
+                    .putLong(sums[position])
+                    .putInt(counts[position])
+                    .putInt(mins[position])
+                    .putInt(maxs[position])
+                    .putInt(lasts[position]);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue()).flip();
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        DirectorySync.moveAndForce(temporary, path);
+    }
+
+    /**
+     * Lee el índice guardado de un segmento.
+     *
+     * @param path    fichero del índice
+     * @param records registros del segmento (el índice debe cubrirlos todos)
+     * @return índice, o null si no existe, está dañado o no corresponde al segmento
+     */
+    static SegmentIndex read(Path path, int records) throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        byte[] content = Files.readAllBytes(path);
+        ByteBuffer buffer = ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN);
+        if (content.length < HEADER_BYTES + Integer.BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                || buffer.getInt() != records) {
+            return null;
+        }
+        int size = buffer.getInt();
+        if (size < 0 || content.length != HEADER_BYTES + (long) size * ENTRY_BYTES + Integer.BYTES) {
+            return null;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(content, 0, content.length - Integer.BYTES);
+        if ((int) crc.getValue() != buffer.getInt(content.length - Integer.BYTES)) {
+            return null;
+        }
+
+        SegmentIndex index = new SegmentIndex();
+        for (int i = 0; i < size; i++) {
+            int position = index.position(buffer.getInt());
+            index.minTimestamps[position] = buffer.getLong();
+            index.maxTimestamps[position] = buffer.getLong();
+            index.sums[position] = buffer.getLong();
+            index.counts[position] = buffer.getInt();
+            index.mins[position] = buffer.getInt();
+            index.maxs[position] = buffer.getInt();
+            index.lasts[position] = buffer.getInt();
+        }
+        index.records = records;
+        return index;
+    }
+}
@@ -0,0 +1,218 @@
+package com.temperature.api.storage;
+
+import com.temperature.api.model.TemperatureUnit;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32C;
+
+/**
+ * Decodificador en flujo de una serie escrita con {@link SeriesEncoder}.
+ *
+ * Lee los bloques en orden sin cargar la serie completa: los que terminan antes del
+ * rango consultado se saltan leyendo solo su cabecera, y la lectura se detiene en el
+ * primer punto posterior al rango, así que una consulta reciente sobre una serie larga
+ * descomprime un único bloque.
+ *
+ * Cada instancia recorre el flujo una sola vez y no es thread-safe.
+ */
+public final class SeriesDecoder {
+
+    private static final TemperatureUnit[] UNITS = TemperatureUnit.values();
+
+    /** Máximo de bits de un punto: escape de timestamp más escape de temperatura. */
+    private static final int MAX_POINT_BYTES = (4 + SeriesEncoder.TIMESTAMP_BITS[3]
+            + 4 + SeriesEncoder.VALUE_BITS[3] + 7) / 8;
+
+    private final InputStream in;
+    private final TemperatureUnit unit;
+    private final byte[] header = new byte[SeriesEncoder.BLOCK_HEADER_BYTES];
+    private final ByteBuffer headerView = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32C crc = new CRC32C();
+
+    private byte[] payload = new byte[256];
+    private int payloadLength;
+    private int position;
+    private long bits;
+    private int bitCount;
+
+    private long blocksDecoded;
+    private long blocksSkipped;
+    private boolean consumed;
+
+    /**
+     * Crea un decodificador y valida la cabecera del flujo.
+     *
+     * @param in flujo escrito por {@link SeriesEncoder}
+     * @throws IOException si la cabecera falta o no es de una serie comprimida
+     */
+    public SeriesDecoder(InputStream in) throws IOException {
+        this.in = in;
+        byte[] streamHeader = in.readNBytes(SeriesEncoder.HEADER_BYTES);
+        if (streamHeader.length < SeriesEncoder.HEADER_BYTES) {
+            throw new EOFException("Cabecera de la serie incompleta");
+        }
+        ByteBuffer view = ByteBuffer.wrap(streamHeader).order(ByteOrder.LITTLE_ENDIAN);
+        int magic = view.getInt();
+        int version = view.get();
+        int unitOrdinal = view.get();
+        if (magic != SeriesEncoder.MAGIC || version != SeriesEncoder.VERSION
+                || unitOrdinal < 0 || unitOrdinal >= UNITS.length) {
+            throw new IOException("El flujo no es una serie comprimida válida");
+        }
+        this.unit = UNITS[unitOrdinal];
+    }
+
+    /**
+     * @return unidad de las temperaturas de la serie
+     */
+    public TemperatureUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Entrega en orden los puntos con timestamp en [fromTimestamp, toTimestamp).
+     *
+     * @param fromTimestamp inicio del rango (incluido)
+     * @param toTimestamp   fin del rango (excluido)
+     * @param visitor       receptor de los puntos
+     * @return puntos entregados
+     * @throws IOException si el flujo está truncado o un bloque está dañado
+     */
+    public long scan(long fromTimestamp, long toTimestamp, SeriesVisitor visitor) throws IOException {
+        if (consumed) {
+            throw new IllegalStateException("La serie ya se ha recorrido");
+        }
+        consumed = true;
+        long visited = 0;
+        while (readBlockHeader()) {
+            int length = headerView.getInt(0);
+            int count = headerView.getInt(4);
+            long timestamp = headerView.getLong(8);
+            long lastTimestamp = headerView.getLong(16);
+            if (count < 1 || length < 0 || length > (long) count * MAX_POINT_BYTES || lastTimestamp < timestamp) {
+                throw new IOException("Cabecera de bloque inválida");
+            }
+            if (timestamp >= toTimestamp) {
+                break;
+            }
+            if (lastTimestamp < fromTimestamp) {
+                in.skipNBytes(length);
+                blocksSkipped++;
+                continue;
+            }
+
+            readPayload(length, headerView.getInt(28));
+            blocksDecoded++;
+            long hundredths = headerView.getInt(24);
+            long delta = 0;
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    delta += readSigned(SeriesEncoder.TIMESTAMP_BITS);
+                    timestamp += delta;
+                    hundredths += readSigned(SeriesEncoder.VALUE_BITS);
+                }
+                if (timestamp >= toTimestamp) {
+                    return visited;
+                }
+                if (timestamp >= fromTimestamp) {
+                    visitor.visit(timestamp, hundredths / SeriesEncoder.SCALE);
+                    visited++;
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Entrega todos los puntos de la serie.
+     *
+     * @param visitor receptor de los puntos
+     * @return puntos entregados
+     * @throws IOException si el flujo está truncado o un bloque está dañado
+     */
+    public long scan(SeriesVisitor visitor) throws IOException {
+        return scan(Long.MIN_VALUE, Long.MAX_VALUE, visitor);
+    }
+
+    /**
+     * @return bloques descomprimidos
+     */
+    public long getBlocksDecoded() {
+        return blocksDecoded;
+    }
+
+    /**
+     * @return bloques saltados sin descomprimir por quedar antes del rango
+     */
+    public long getBlocksSkipped() {
+        return blocksSkipped;
+    }
+
+    private boolean readBlockHeader() throws IOException {
+        int read = in.readNBytes(header, 0, header.length);
+        if (read == 0) {
+            return false;
+        }
+        if (read < header.length) {
+            throw new EOFException("Cabecera de bloque incompleta");
+        }
+        return true;
+    }
+
+    private void readPayload(int length, int expectedCrc) throws IOException {
+        if (payload.length < length) {
+            payload = new byte[Math.max(length, payload.length * 2)];
+        }
+        if (in.readNBytes(payload, 0, length) < length) {
+            throw new EOFException("Bloque de la serie incompleto");
+        }
+        crc.reset();
+        crc.update(payload, 0, length);
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException("CRC incorrecto en un bloque de la serie");
+        }
+        payloadLength = length;
+        position = 0;
+        bits = 0;
+        bitCount = 0;
+    }
+
+    /**
+     * Lee una diferencia: el número de unos del prefijo (hasta el de escape) indica su
+     * ancho.
+     */
+    private long readSigned(int[] widths) throws IOException {
+        int ones = 0;
+        while (ones < widths.length && readBits(1) == 1) {
+            ones++;
+        }
+        if (ones == 0) {
+            return 0;
+        }
+        int width = widths[ones - 1];
+        long value = readBits(width);
+        return (value << (64 - width)) >> (64 - width);
+    }
+
+    private long readBits(int width) throws IOException {
+        if (width > 32) {
+            long high = readBits(width - 32);
+            return (high << 32) | readBits(32);
+        }
+        while (bitCount < width) {
+            if (position == payloadLength) {
+                throw new EOFException("Datos del bloque incompletos");
+            }
+            bits = (bits << 8) | (payload[position++] & 0xFF);
+            bitCount += 8;
+        }
+        bitCount -= width;
+        long value = (bits >>> bitCount) & ((1L << width) - 1);
+        bits &= (1L << bitCount) - 1;
+        return value;
+    }
+}
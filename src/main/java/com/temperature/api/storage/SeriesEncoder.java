@@ -0,0 +1,312 @@
+package com.temperature.api.storage;
+
+import com.temperature.api.model.TemperatureUnit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Codificador en flujo de una serie temporal comprimida de temperaturas.
+ *
+ * Las temperaturas convertidas tienen siempre 2 decimales exactos, así que se guardan
+ * como enteros en centésimas: en lugar del XOR de dobles se codifica la diferencia con
+ * la lectura anterior, que en una serie real es casi siempre cero o de unas pocas
+ * centésimas. Los timestamps se codifican como diferencia de diferencias, que con una
+ * frecuencia de muestreo fija es cero salvo por la deriva del reloj del sensor.
+ *
+ * Formato (little-endian):
+ * <pre>
+ * Cabecera del flujo (8 bytes):
+ *   int    magic "TSER"
+ *   byte   versión
+ *   byte   unidad de las temperaturas (ordinal de TemperatureUnit)
+ *   short  reservado
+ * Bloques, cada uno con una cabecera de 32 bytes:
+ *   int    bytes de datos
+ *   int    número de puntos
+ *   long   timestamp del primer punto
+ *   long   timestamp del último punto
+ *   int    temperatura del primer punto (centésimas)
+ *   int    CRC32C de los datos
+ * seguida de los datos de los puntos 2..n, a nivel de bit (primero el más significativo):
+ *   timestamp:   '0' si la diferencia de diferencias es 0; '10' + 7 bits;
+ *                '110' + 9 bits; '1110' + 12 bits; '1111' + 64 bits
+ *   temperatura: '0' si no cambia; '10' + 6 bits; '110' + 10 bits;
+ *                '1110' + 16 bits; '1111' + 33 bits
+ * </pre>
+ *
+ * Los timestamps de cada bloque son no decrecientes, de modo que {@link SeriesDecoder}
+ * puede saltarse sin descomprimir los bloques que quedan fuera del rango consultado.
+ *
+ * No es thread-safe.
+ */
+public final class SeriesEncoder implements Closeable {
+
+    static final int MAGIC = 0x52455354; // "TSER"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 8;
+    static final int BLOCK_HEADER_BYTES = 32;
+    static final double SCALE = 100.0;
+
+    /**
+     * Anchos de cada clase de diferencia, de la más corta ('10') a la de escape ('1111').
+     */
+    static final int[] TIMESTAMP_BITS = {7, 9, 12, 64};
+    static final int[] VALUE_BITS = {6, 10, 16, 33};
+
+    /**
+     * Puntos por bloque por defecto: la cabecera de 32 bytes cuesta menos de 0,04
+     * bytes por punto y un bloque sigue siendo barato de descomprimir entero.
+     */
+    public static final int DEFAULT_BLOCK_POINTS = 1024;
+
+    private final OutputStream out;
+    private final int blockPoints;
+    private final byte[] header = new byte[BLOCK_HEADER_BYTES];
+    private final ByteBuffer headerView = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32C crc = new CRC32C();
+
+    private byte[] payload = new byte[256];
+    private int payloadLength;
+    private long bits;
+    private int bitCount;
+
+    private int count;
+    private long firstTimestamp;
+    private int firstHundredths;
+    private long lastTimestamp;
+    private long lastDelta;
+    private int lastHundredths;
+
+    private long points;
+    private long bytesWritten;
+    private boolean closed;
+
+    /**
+     * Crea un codificador con bloques de {@value #DEFAULT_BLOCK_POINTS} puntos.
+     *
+     * @param out  destino del flujo comprimido
+     * @param unit unidad de las temperaturas
+     * @throws IOException si falla la escritura de la cabecera
+     */
+    public SeriesEncoder(OutputStream out, TemperatureUnit unit) throws IOException {
+        this(out, unit, DEFAULT_BLOCK_POINTS);
+    }
+
+    /**
+     * Crea un codificador y escribe la cabecera del flujo.
+     *
+     * @param out         destino del flujo comprimido
+     * @param unit        unidad de las temperaturas
+     * @param blockPoints puntos por bloque
+     * @throws IOException si falla la escritura de la cabecera
+     */
+    public SeriesEncoder(OutputStream out, TemperatureUnit unit, int blockPoints) throws IOException {
+        if (blockPoints < 1) {
+            throw new IllegalArgumentException("El bloque debe tener al menos un punto");
+        }
+        this.out = out;
+        this.blockPoints = blockPoints;
+
+        ByteBuffer streamHeader = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        streamHeader.putInt(MAGIC).put((byte) VERSION).put((byte) unit.ordinal()).putShort((short) 0);
+        out.write(streamHeader.array());
+        bytesWritten = HEADER_BYTES;
+    }
+
+    /**
+     * Añade una temperatura convertida.
+     *
+     * @param timestamp instante en milisegundos desde la época, no anterior al del punto
+     *                  previo
+     * @param value     temperatura con 2 decimales como máximo, como las que devuelve
+     *                  {@link com.temperature.api.service.TemperatureConversionService}
+     * @throws IOException si falla la escritura de un bloque completo
+     */
+    public void append(long timestamp, double value) throws IOException {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("La temperatura no es un número finito: " + value);
+        }
+        long hundredths = Math.round(value * SCALE);
+        if (hundredths < Integer.MIN_VALUE || hundredths > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("La temperatura está fuera del rango representable: " + value);
+        }
+        if (hundredths / SCALE != value) {
+            throw new IllegalArgumentException("La temperatura tiene más de 2 decimales: " + value);
+        }
+        appendHundredths(timestamp, (int) hundredths);
+    }
+
+    /**
+     * Añade la salida de
+     * {@link com.temperature.api.service.TemperatureConversionService#convertArray}: las
+     * posiciones inválidas (NaN) se omiten.
+     *
+     * @param timestamps instantes de los puntos, no decrecientes
+     * @param values     temperaturas convertidas alineadas con los instantes
+     * @param length     número de posiciones a añadir
+     * @return puntos añadidos
+     * @throws IOException si falla la escritura de un bloque completo
+     */
+    public int append(long[] timestamps, double[] values, int length) throws IOException {
+        if (length > timestamps.length || length > values.length) {
+            throw new IllegalArgumentException("La longitud excede el tamaño de los arrays");
+        }
+        int appended = 0;
+        for (int i = 0; i < length; i++) {
+            if (!Double.isNaN(values[i])) {
+                append(timestamps[i], values[i]);
+                appended++;
+            }
+        }
+        return appended;
+    }
+
+    /**
+     * Añade una temperatura ya expresada en centésimas.
+     *
+     * @param timestamp  instante en milisegundos desde la época, no anterior al del punto
+     *                   previo
+     * @param hundredths temperatura en centésimas
+     * @throws IOException si falla la escritura de un bloque completo
+     */
+    public void appendHundredths(long timestamp, int hundredths) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("El codificador está cerrado");
+        }
+        if (points > 0 && timestamp < lastTimestamp) {
+            throw new IllegalArgumentException("Los timestamps deben ser no decrecientes: "
+                    + timestamp + " < " + lastTimestamp);
+        }
+        if (count == 0) {
+            firstTimestamp = timestamp;
+            firstHundredths = hundredths;
+            lastDelta = 0;
+        } else {
+            long delta = timestamp - lastTimestamp;
+            writeSigned(delta - lastDelta, TIMESTAMP_BITS);
+            writeSigned((long) hundredths - lastHundredths, VALUE_BITS);
+            lastDelta = delta;
+        }
+        lastTimestamp = timestamp;
+        lastHundredths = hundredths;
+        count++;
+        points++;
+        if (count == blockPoints) {
+            writeBlock();
+        }
+    }
+
+    /**
+     * Cierra el bloque en curso y vacía el flujo de salida.
+     *
+     * @throws IOException si falla la escritura
+     */
+    public void flush() throws IOException {
+        writeBlock();
+        out.flush();
+    }
+
+    /**
+     * Escribe el bloque en curso y cierra el flujo de salida.
+     *
+     * @throws IOException si falla la escritura
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+            out.close();
+        }
+    }
+
+    /**
+     * @return puntos añadidos
+     */
+    public long getPoints() {
+        return points;
+    }
+
+    /**
+     * @return bytes escritos en el flujo, sin contar el bloque en curso
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private void writeBlock() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        if (bitCount > 0) {
+            putByte((byte) (bits << (8 - bitCount)));
+            bits = 0;
+            bitCount = 0;
+        }
+        crc.reset();
+        crc.update(payload, 0, payloadLength);
+        headerView.clear();
+        headerView.putInt(payloadLength).putInt(count).putLong(firstTimestamp).putLong(lastTimestamp)
+                .putInt(firstHundredths).putInt((int) crc.getValue());
+        out.write(header);
+        out.write(payload, 0, payloadLength);
+        bytesWritten += BLOCK_HEADER_BYTES + payloadLength;
+        payloadLength = 0;
+        count = 0;
+    }
+
+    /**
+     * Escribe una diferencia con el prefijo de la clase más corta en la que cabe.
+     */
+    private void writeSigned(long value, int[] widths) {
+        if (value == 0) {
+            writeBits(0, 1);
+            return;
+        }
+        int escape = widths.length - 1;
+        for (int i = 0; i < escape; i++) {
+            long limit = 1L << (widths[i] - 1);
+            if (value >= -limit && value < limit) {
+                writeBits((1L << (i + 2)) - 2, i + 2);
+                writeBits(value, widths[i]);
+                return;
+            }
+        }
+        writeBits((1L << (escape + 1)) - 1, escape + 1);
+        writeBits(value, widths[escape]);
+    }
+
+    /**
+     * Añade los {@code width} bits menos significativos de {@code value}.
+     */
+    private void writeBits(long value, int width) {
+        if (width > 32) {
+            writeBits(value >>> 32, width - 32);
+            width = 32;
+        }
+        bits = (bits << width) | (value & ((1L << width) - 1));
+        bitCount += width;
+        while (bitCount >= 8) {
+            bitCount -= 8;
+            putByte((byte) (bits >>> bitCount));
+        }
+        bits &= (1L << bitCount) - 1;
+    }
+
+    private void putByte(byte value) {
+        if (payloadLength == payload.length) {
+            payload = Arrays.copyOf(payload, payload.length * 2);
+        }
+        payload[payloadLength++] = value;
+    }
+}
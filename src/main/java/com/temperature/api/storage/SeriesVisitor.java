@@ -0,0 +1,16 @@
+package com.temperature.api.storage;
+
+/**
+ * Receptor de los puntos de una serie comprimida ({@link SeriesDecoder#scan}).
+ */
+@FunctionalInterface
+public interface SeriesVisitor {
+
+    /**
+     * Recibe un punto de la serie.
+     *
+     * @param timestamp instante en milisegundos desde la época
+     * @param value     temperatura con 2 decimales, en la unidad de la serie
+     */
+    void visit(long timestamp, double value);
+}
@@ -0,0 +1,123 @@
+package com.temperature.api.batch;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.service.TemperatureConversionService;
+
+/**
+ * Pruebas unitarias para ArchiveConversionJob.
+ *
+ * Usa tramos muy pequeños para que cada archivo se reparta entre varios hilos y
+ * comprueba que los resultados coinciden con los del servicio.
+ */
+@DisplayName("ArchiveConversionJob Tests")
+class ArchiveConversionJobTest {
+
+    @TempDir
+    Path directory;
+
+    private TemperatureConversionService service;
+    private ArchiveConversionJob job;
+
+    @BeforeEach
+    void setUp() {
+        service = new TemperatureConversionService();
+        // Tramos de 4 registros binarios para forzar varios tramos en paralelo
+        job = new ArchiveConversionJob(service, 3, 32);
+    }
+
+    @Test
+    @DisplayName("Should convert binary archives across chunks with the service rounding")
+    void shouldConvertBinaryArchive() throws Exception {
+        // Given
+        double[] values = {25.0, 37.5, -999.0, 100.0, 0.1, -40.0, 36.6, 1e9, -273.15, 21.123456789};
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Double.BYTES).order(ByteOrder.BIG_ENDIAN);
+        for (double value : values) {
+            buffer.putDouble(value);
+        }
+        Path input = Files.write(directory.resolve("input.bin"), buffer.array());
+        Path output = directory.resolve("output.bin");
+
+        // When
+        ArchiveConversionJob.Result result = job.convert(input, output,
+                ConversionDirection.CELSIUS_TO_FAHRENHEIT, ArchiveConversionJob.Format.BINARY, ByteOrder.BIG_ENDIAN);
+
+        // Then
+        ByteBuffer converted = ByteBuffer.wrap(Files.readAllBytes(output)).order(ByteOrder.BIG_ENDIAN);
+        assertEquals(values.length, result.records());
+        assertEquals(2, result.invalid());
+        for (int i = 0; i < values.length; i++) {
+            double actual = converted.getDouble(i * Double.BYTES);
+            if (service.validate(values[i], ConversionDirection.CELSIUS_TO_FAHRENHEIT.getSourceUnit()).isValid()) {
+                assertEquals(service.convertCtoF(values[i]), actual, 0.0, "Posición " + i);
+            } else {
+                assertTrue(Double.isNaN(actual), "Posición " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should convert fixed-width text archives without a trailing newline")
+    void shouldConvertTextArchive() throws Exception {
+        // Given
+        String text = "   77.00\n  -40.00\n     abc\n  212.00\n  -500.0\n    98.6";
+        Path input = Files.writeString(directory.resolve("input.txt"), text);
+        Path output = directory.resolve("output.txt");
+
+        // When
+        ArchiveConversionJob.Result result = job.convert(input, output,
+                ConversionDirection.FAHRENHEIT_TO_CELSIUS, ArchiveConversionJob.Format.TEXT, ByteOrder.LITTLE_ENDIAN);
+
+        // Then
+        List<String> lines = Files.readAllLines(output, StandardCharsets.US_ASCII);
+        assertEquals(6, result.records());
+        assertEquals(2, result.invalid());
+        assertEquals(List.of("   25.00", "  -40.00", "     NaN", "  100.00", "     NaN", "   37.00"), lines);
+    }
+
+    @Test
+    @DisplayName("Should reject archives whose size does not match the record layout")
+    void shouldRejectMisalignedArchives() throws Exception {
+        // Given
+        Path binary = Files.write(directory.resolve("input.bin"), new byte[12]);
+        Path text = Files.writeString(directory.resolve("input.txt"), "  1.0\n 2.0\n3\n");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> job.convert(binary, directory.resolve("a"),
+                ConversionDirection.CELSIUS_TO_FAHRENHEIT, ArchiveConversionJob.Format.BINARY, ByteOrder.LITTLE_ENDIAN));
+        assertThrows(IllegalArgumentException.class, () -> job.convert(text, directory.resolve("b"),
+                ConversionDirection.CELSIUS_TO_FAHRENHEIT, ArchiveConversionJob.Format.TEXT, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @Test
+    @DisplayName("Fast text parser should match Double.parseDouble")
+    void shouldParseLikeDoubleParseDouble() {
+        for (String value : new String[]{"0", "-0", "25", "+3.5", "0.1", "-273.15", "98.60", "123456789012.345",
+                "1e3", "1234567890123456789", ".5", "5.", "NaN", "-"}) {
+            ByteBuffer buffer = ByteBuffer.wrap((" " + value + " \r\n").getBytes(StandardCharsets.US_ASCII));
+            double parsed = ArchiveConversionJob.parseFixedWidth(buffer, 0, buffer.limit());
+
+            double expected;
+            try {
+                expected = Double.parseDouble(value);
+            } catch (NumberFormatException ex) {
+                expected = Double.NaN;
+            }
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(parsed), value);
+        }
+    }
+}
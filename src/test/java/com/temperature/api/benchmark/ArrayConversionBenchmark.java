@@ -0,0 +1,69 @@
+package com.temperature.api.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.service.ConversionMetrics;
+import com.temperature.api.service.TemperatureConversionService;
+
+/**
+ * Benchmarks JMH de la conversión de arrays: implementación escalar frente a la vectorial.
+ * 
+ * Requiere {@code --add-modules jdk.incubator.vector} (lo añade el perfil {@code benchmarks});
+ * sin el módulo ambas variantes usan la implementación escalar.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayConversionBenchmark {
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    @Param({"64", "4096", "1000000"})
+    public int size;
+
+    private TemperatureConversionService service;
+    private double[] values;
+    private double[] results;
+
+    @Setup
+    public void setUp() {
+        service = new TemperatureConversionService(ConversionMetrics.noop(), "vector".equals(kernel));
+        Random random = new Random(42);
+        values = new double[size];
+        results = new double[size];
+        for (int i = 0; i < size; i++) {
+            // Lecturas realistas con 2 decimales entre -50 y 150
+            values[i] = Math.round((random.nextDouble() * 200.0 - 50.0) * 100.0) / 100.0;
+        }
+    }
+
+    @Benchmark
+    public double[] celsiusToFahrenheit() {
+        service.convertArray(ConversionDirection.CELSIUS_TO_FAHRENHEIT, values, results);
+        return results;
+    }
+
+    @Benchmark
+    public double[] fahrenheitToCelsius() {
+        service.convertArray(ConversionDirection.FAHRENHEIT_TO_CELSIUS, values, results);
+        return results;
+    }
+}
@@ -0,0 +1,82 @@
+package com.temperature.api.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.api.codec.BinaryBatchCodec;
+import com.temperature.api.model.BatchConversionRequest;
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.service.TemperatureConversionService;
+
+/**
+ * Benchmarks JMH del lote JSON frente al formato binario.
+ * 
+ * Cada operación cubre el ciclo completo de un cuerpo de petición a un cuerpo de
+ * respuesta (lectura, conversión y escritura), sin la capa HTTP.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryBatchBenchmark {
+
+    private static final int MAX_BATCH_SIZE = Integer.MAX_VALUE;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private TemperatureConversionService service;
+    private BinaryBatchCodec codec;
+    private byte[] jsonRequest;
+    private byte[] binaryRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        service = new TemperatureConversionService();
+        codec = new BinaryBatchCodec(service);
+
+        Random random = new Random(42);
+        double[] values = new double[size];
+        List<Double> boxed = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // Lecturas realistas con 2 decimales entre -50 y 150
+            values[i] = Math.round((random.nextDouble() * 200.0 - 50.0) * 100.0) / 100.0;
+            boxed.add(values[i]);
+        }
+        jsonRequest = objectMapper.writeValueAsBytes(boxed);
+        binaryRequest = BinaryBatchCodec.encodeRequest(ConversionDirection.CELSIUS_TO_FAHRENHEIT, values);
+    }
+
+    @Benchmark
+    public byte[] jsonBatch() throws IOException {
+        BatchConversionRequest request = objectMapper.readValue(jsonRequest, BatchConversionRequest.class);
+        return objectMapper.writeValueAsBytes(
+                service.convertBatch(ConversionDirection.CELSIUS_TO_FAHRENHEIT, request.getValues()));
+    }
+
+    @Benchmark
+    public byte[] binaryBatch() {
+        return codec.convert(binaryRequest, MAX_BATCH_SIZE);
+    }
+}
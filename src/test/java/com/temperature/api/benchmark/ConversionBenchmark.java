@@ -0,0 +1,128 @@
+package com.temperature.api.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.temperature.api.exception.InvalidTemperatureException;
+import com.temperature.api.model.BatchConversionResponse;
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.model.TemperatureConversionResponse;
+import com.temperature.api.service.TemperatureConversionService;
+
+/**
+ * Benchmarks JMH del camino de conversión de TemperatureConversionService.
+ * 
+ * Mide conversiones individuales en ambos sentidos (API con objetos y API primitiva),
+ * el coste de los rechazos de validación y la conversión de lotes grandes.
+ * 
+ * Ejecución: {@code mvn -P benchmarks verify} (resultados en target/jmh-result.json).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    private TemperatureConversionService service;
+
+    private double celsius;
+    private double fahrenheit;
+    private Double boxedCelsius;
+    private Double boxedFahrenheit;
+
+    @Setup
+    public void setUp() {
+        service = new TemperatureConversionService();
+        celsius = 25.5;
+        fahrenheit = 77.9;
+        boxedCelsius = celsius;
+        boxedFahrenheit = fahrenheit;
+    }
+
+    @Benchmark
+    public TemperatureConversionResponse celsiusToFahrenheitResponse() {
+        return service.celsiusToFahrenheit(boxedCelsius);
+    }
+
+    @Benchmark
+    public TemperatureConversionResponse fahrenheitToCelsiusResponse() {
+        return service.fahrenheitToCelsius(boxedFahrenheit);
+    }
+
+    @Benchmark
+    public double celsiusToFahrenheitPrimitive() {
+        return service.convertCtoF(celsius);
+    }
+
+    @Benchmark
+    public double fahrenheitToCelsiusPrimitive() {
+        return service.convertFtoC(fahrenheit);
+    }
+
+    @Benchmark
+    public Object rejectBelowAbsoluteZero() {
+        return rejection(-999.0);
+    }
+
+    @Benchmark
+    public Object rejectNaN() {
+        return rejection(Double.NaN);
+    }
+
+    @Benchmark
+    public Object rejectAboveMaximum() {
+        return rejection(15000.0);
+    }
+
+    private Object rejection(Double value) {
+        try {
+            return service.celsiusToFahrenheit(value);
+        } catch (InvalidTemperatureException ex) {
+            return ex;
+        }
+    }
+
+    /**
+     * Conversión de lotes grandes a través de la API por lotes del servicio.
+     */
+    @State(Scope.Benchmark)
+    public static class BatchState {
+
+        @Param({"1000", "100000"})
+        public int size;
+
+        public List<Double> values;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                // Lecturas realistas con 2 decimales entre -50 y 150
+                values.add(Math.round((random.nextDouble() * 200.0 - 50.0) * 100.0) / 100.0);
+            }
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public BatchConversionResponse convertBatch(BatchState state) {
+        return service.convertBatch(ConversionDirection.CELSIUS_TO_FAHRENHEIT, state.values);
+    }
+}
@@ -0,0 +1,63 @@
+package com.temperature.api.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.temperature.api.exception.GlobalExceptionHandler;
+import com.temperature.api.exception.InvalidTemperatureException;
+import com.temperature.api.service.ConversionMetrics;
+
+/**
+ * Benchmarks JMH de la construcción de respuestas de error en GlobalExceptionHandler.
+ * 
+ * Separa el coste de crear la excepción (incluida la traza) del coste de
+ * construir el cuerpo de error que se devuelve al cliente.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorHandlingBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private InvalidTemperatureException exception;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(ConversionMetrics.noop());
+        request = new MockHttpServletRequest("GET", "/api/temperature/celsius-to-fahrenheit/-999");
+        exception = InvalidTemperatureException.belowAbsoluteZero(-999.0, "°C");
+    }
+
+    @Benchmark
+    public InvalidTemperatureException createException() {
+        return InvalidTemperatureException.belowAbsoluteZero(-999.0, "°C");
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> buildErrorResponse() {
+        return handler.handleInvalidTemperatureException(exception, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> createExceptionAndBuildErrorResponse() {
+        return handler.handleInvalidTemperatureException(
+                InvalidTemperatureException.belowAbsoluteZero(-999.0, "°C"), request);
+    }
+}
@@ -0,0 +1,86 @@
+package com.temperature.api.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+
+import com.temperature.api.model.TemperatureUnit;
+import com.temperature.api.storage.ReadingBatch;
+import com.temperature.api.storage.ReadingLog;
+
+/**
+ * Benchmark JMH de escritura en el registro de lecturas en disco.
+ *
+ * Cada operación es una lectura (los lotes son de {@value #BATCH_SIZE}), así que el
+ * resultado son lecturas por segundo. Con {@code syncWrites} cada lote espera a la
+ * sincronización por grupos con el disco, como en la ingesta.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadingLogBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"true", "false"})
+    public boolean syncWrites;
+
+    private Path directory;
+    private ReadingLog readingLog;
+    private ReadingBatch batch;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("reading-log-benchmark");
+        readingLog = new ReadingLog(true, directory.toString(), DataSize.ofMegabytes(64),
+                Duration.ofMillis(2), syncWrites, 4, Duration.ZERO);
+
+        Random random = new Random(42);
+        batch = new ReadingBatch(BATCH_SIZE);
+        long timestamp = 1_700_000_000_000L;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            double fahrenheit = Math.round((random.nextDouble() * 100.0 + 20.0) * 100.0) / 100.0;
+            double celsius = Math.round((fahrenheit - 32.0) * 5.0 / 9.0 * 100.0) / 100.0;
+            batch.add("thermo-" + random.nextInt(1000), timestamp + i, fahrenheit, TemperatureUnit.FAHRENHEIT, celsius);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        readingLog.destroy();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long append() {
+        return readingLog.append(batch);
+    }
+}
@@ -0,0 +1,88 @@
+package com.temperature.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.temperature.api.exception.InvalidTemperatureException;
+import com.temperature.api.model.TemperatureUnit;
+import com.temperature.api.model.TemperatureValidationResult;
+import com.temperature.api.service.TemperatureConversionService;
+
+/**
+ * Benchmarks JMH del coste de rechazar lecturas inválidas (ej: sensores que reportan -999).
+ * 
+ * Compara el rechazo anterior (excepción con traza completa) con las excepciones
+ * sin traza y con la validación que devuelve un resultado sin lanzar, tomando
+ * como referencia el coste de una conversión válida.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RejectionBenchmark {
+
+    private static final String MESSAGE = "La temperatura -999.00°C está por debajo del cero absoluto.";
+
+    private TemperatureConversionService service;
+    private double brokenReading;
+    private double validReading;
+
+    @Setup
+    public void setUp() {
+        service = new TemperatureConversionService();
+        brokenReading = -999.0;
+        validReading = 25.5;
+    }
+
+    /**
+     * Referencia: conversión de una lectura válida.
+     */
+    @Benchmark
+    public double successBaseline() {
+        return service.convertCtoF(validReading);
+    }
+
+    /**
+     * Antes: excepción con captura de la traza de la pila.
+     */
+    @Benchmark
+    public Object throwWithStackTrace() {
+        try {
+            throw new InvalidTemperatureException(brokenReading, "°C", MESSAGE);
+        } catch (InvalidTemperatureException ex) {
+            return ex;
+        }
+    }
+
+    /**
+     * Después: rechazo a través del servicio con excepciones sin traza.
+     */
+    @Benchmark
+    public Object throwStackless() {
+        try {
+            return service.convertCtoF(brokenReading);
+        } catch (InvalidTemperatureException ex) {
+            return ex;
+        }
+    }
+
+    /**
+     * Después: validación sin lanzar excepciones (camino de lotes y streaming).
+     */
+    @Benchmark
+    public TemperatureValidationResult validateWithoutThrowing() {
+        return service.validate(brokenReading, TemperatureUnit.CELSIUS);
+    }
+}
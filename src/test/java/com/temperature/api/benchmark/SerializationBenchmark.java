@@ -0,0 +1,75 @@
+package com.temperature.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.api.codec.ConversionResponseJsonWriter;
+import com.temperature.api.model.TemperatureConversionResponse;
+
+/**
+ * Benchmarks JMH de la serialización JSON de TemperatureConversionResponse.
+ * 
+ * El ObjectMapper replica la configuración de application.yml
+ * (default-property-inclusion: non_null) y se compara con ConversionResponseJsonWriter,
+ * que produce los mismos bytes sin reflexión.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private TemperatureConversionResponse response;
+    private TemperatureConversionResponse preciseResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        response = new TemperatureConversionResponse(
+                25.5, "Celsius", 77.9, "Fahrenheit", "F = (C × 9/5) + 32");
+        // Lectura de sensor con precisión completa: el valor original no tiene 2 decimales
+        preciseResponse = new TemperatureConversionResponse(
+                21.123456789012, "Celsius", 70.02, "Fahrenheit", "F = (C × 9/5) + 32");
+    }
+
+    @Benchmark
+    public byte[] serializeResponseToBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public String serializeResponseToString() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(response);
+    }
+
+    @Benchmark
+    public byte[] serializeResponseWithWriter() {
+        return ConversionResponseJsonWriter.write(response);
+    }
+
+    @Benchmark
+    public byte[] serializePreciseResponseToBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(preciseResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePreciseResponseWithWriter() {
+        return ConversionResponseJsonWriter.write(preciseResponse);
+    }
+}
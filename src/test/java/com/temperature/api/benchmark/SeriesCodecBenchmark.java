@@ -0,0 +1,109 @@
+package com.temperature.api.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.model.TemperatureUnit;
+import com.temperature.api.service.TemperatureConversionService;
+import com.temperature.api.storage.SeriesDecoder;
+import com.temperature.api.storage.SeriesEncoder;
+
+/**
+ * Benchmark JMH de la serie comprimida de temperaturas.
+ *
+ * El conjunto de datos simula un sensor que envía una lectura por intervalo con un ciclo
+ * diario, ruido de unas centésimas y, en {@code jittered}, un 10 % de lecturas con hasta
+ * 50 ms de retraso; las lecturas en Celsius se convierten a Fahrenheit con
+ * {@link TemperatureConversionService#convertArray} antes de comprimirlas. Cada operación
+ * es un punto, así que el resultado son puntos por segundo; los bytes por punto se
+ * imprimen al preparar el benchmark (un punto sin comprimir ocupa 16 bytes).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeriesCodecBenchmark {
+
+    private static final int POINTS = 100_000;
+    private static final long T0 = 1_700_000_000_000L;
+
+    @Param({"1000", "60000"})
+    public long intervalMillis;
+
+    @Param({"false", "true"})
+    public boolean jittered;
+
+    private long[] timestamps;
+    private double[] fahrenheit;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        timestamps = new long[POINTS];
+        double[] celsius = new double[POINTS];
+        double drift = 0.0;
+        for (int i = 0; i < POINTS; i++) {
+            long timestamp = T0 + i * intervalMillis;
+            if (jittered && random.nextInt(10) == 0) {
+                timestamp += random.nextInt(50);
+            }
+            timestamps[i] = timestamp;
+            double hour = (timestamp / 3_600_000.0) % 24.0;
+            drift += random.nextGaussian() * 0.01;
+            double temperature = 20.0 + 4.0 * Math.sin(hour / 24.0 * 2.0 * Math.PI) + drift
+                    + random.nextGaussian() * 0.03;
+            celsius[i] = Math.round(temperature * 100.0) / 100.0;
+        }
+        fahrenheit = new double[POINTS];
+        new TemperatureConversionService().convertArray(ConversionDirection.CELSIUS_TO_FAHRENHEIT, celsius, fahrenheit);
+
+        encoded = encode();
+        System.out.printf("%nSerie de %d puntos: %d bytes, %.3f bytes/punto%n",
+                POINTS, encoded.length, (double) encoded.length / POINTS);
+    }
+
+    private byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(POINTS * 4);
+        try (SeriesEncoder encoder = new SeriesEncoder(bytes, TemperatureUnit.FAHRENHEIT)) {
+            encoder.append(timestamps, fahrenheit, POINTS);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public byte[] encodeSeries() throws IOException {
+        return encode();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public long decodeSeries(Blackhole blackhole) throws IOException {
+        SeriesDecoder decoder = new SeriesDecoder(new ByteArrayInputStream(encoded));
+        return decoder.scan((timestamp, value) -> {
+            blackhole.consume(timestamp);
+            blackhole.consume(value);
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package com.temperature.api.codec;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.BatchConversionResponse;
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.service.TemperatureConversionService;
+
+/**
+ * Pruebas unitarias para BinaryBatchCodec.
+ * 
+ * Verifica que los resultados binarios coincidan con los del lote JSON y que los
+ * cuerpos mal formados se rechacen antes de convertir ningún valor.
+ */
+@DisplayName("BinaryBatchCodec Tests")
+class BinaryBatchCodecTest {
+
+    private TemperatureConversionService service;
+    private BinaryBatchCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        service = new TemperatureConversionService();
+        codec = new BinaryBatchCodec(service);
+    }
+
+    @Test
+    @DisplayName("Should return the same values as the JSON batch and flag invalid positions")
+    void shouldMatchJsonBatchResults() {
+        // Given
+        double[] values = {25.0, -999.0, 100.0, 37.5, Double.NaN, -273.15, 1e9, 0.1, -40.0};
+        byte[] request = BinaryBatchCodec.encodeRequest(ConversionDirection.CELSIUS_TO_FAHRENHEIT, values);
+
+        // When
+        BinaryBatchCodec.DecodedBatch decoded =
+                BinaryBatchCodec.decodeResponse(codec.convert(request, 100));
+
+        // Then
+        Double[] boxed = Arrays.stream(values).boxed().toArray(Double[]::new);
+        BatchConversionResponse expected = service.convertBatch(ConversionDirection.CELSIUS_TO_FAHRENHEIT, Arrays.asList(boxed));
+        assertEquals(ConversionDirection.CELSIUS_TO_FAHRENHEIT, decoded.direction());
+        assertEquals(values.length, decoded.values().length);
+        for (int i = 0; i < values.length; i++) {
+            Double result = expected.getResults().get(i);
+            assertEquals(result == null, decoded.invalid().get(i), "Posición " + i);
+            if (result != null) {
+                assertEquals(Double.doubleToLongBits(result), Double.doubleToLongBits(decoded.values()[i]));
+            } else {
+                assertTrue(Double.isNaN(decoded.values()[i]));
+            }
+        }
+        assertEquals(expected.getErrorCount(), decoded.invalid().cardinality());
+    }
+
+    @Test
+    @DisplayName("Should accept an empty batch")
+    void shouldAcceptEmptyBatch() {
+        // When
+        byte[] response = codec.convert(
+                BinaryBatchCodec.encodeRequest(ConversionDirection.FAHRENHEIT_TO_CELSIUS, new double[0]), 10);
+
+        // Then
+        assertEquals(BinaryBatchCodec.RESPONSE_HEADER_SIZE, response.length);
+        assertArrayEquals(new double[0], BinaryBatchCodec.decodeResponse(response).values());
+    }
+
+    @Test
+    @DisplayName("Should reject truncated bodies, unknown versions and unknown directions")
+    void shouldRejectMalformedBodies() {
+        // Given
+        byte[] valid = BinaryBatchCodec.encodeRequest(ConversionDirection.CELSIUS_TO_FAHRENHEIT, new double[]{1.0, 2.0});
+        byte[] truncated = Arrays.copyOf(valid, valid.length - 1);
+        byte[] badVersion = valid.clone();
+        badVersion[0] = 9;
+        byte[] badDirection = valid.clone();
+        badDirection[1] = (byte) ConversionDirection.values().length;
+
+        // When & Then
+        for (byte[] body : new byte[][]{new byte[3], truncated, badVersion, badDirection}) {
+            TemperatureConversionException ex =
+                    assertThrows(TemperatureConversionException.class, () -> codec.convert(body, 100));
+            assertEquals(BinaryBatchCodec.INVALID_BINARY_BATCH, ex.getErrorCode());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject batches above the configured maximum")
+    void shouldRejectTooLargeBatch() {
+        // Given
+        byte[] request = BinaryBatchCodec.encodeRequest(ConversionDirection.CELSIUS_TO_FAHRENHEIT, new double[5]);
+
+        // When & Then
+        TemperatureConversionException ex =
+                assertThrows(TemperatureConversionException.class, () -> codec.convert(request, 4));
+        assertEquals("BATCH_TOO_LARGE", ex.getErrorCode());
+    }
+}
@@ -0,0 +1,104 @@
+package com.temperature.api.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.api.model.TemperatureConversionResponse;
+import com.temperature.api.service.TemperatureConversionService;
+
+/**
+ * Pruebas unitarias para ConversionResponseJsonWriter.
+ *
+ * Compara byte a byte con un ObjectMapper configurado como en application.yml
+ * (default-property-inclusion: non_null). En Java 17 y 18 se comparan los valores, porque
+ * allí Double.toString puede no dar el decimal más corto.
+ */
+@DisplayName("ConversionResponseJsonWriter Tests")
+class ConversionResponseJsonWriterTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    @Test
+    @DisplayName("Should match Jackson for service conversions across the valid range")
+    void shouldMatchJacksonForConversions() throws Exception {
+        // Given
+        TemperatureConversionService service = new TemperatureConversionService();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            double celsius = Math.round((random.nextDouble() * 1_300 - 273.15) * 100) / 100.0;
+            double fahrenheit = random.nextDouble() * 2_000 - 459.67;
+
+            // When & Then
+            assertSameAsJackson(service.celsiusToFahrenheit(celsius));
+            assertSameAsJackson(service.fahrenheitToCelsius(fahrenheit));
+        }
+    }
+
+    @Test
+    @DisplayName("Should format doubles like Double.toString")
+    void shouldFormatDoublesLikeDoubleToString() throws Exception {
+        double[] values = {0.0, -0.0, 0.01, -0.05, 0.5, 1.0, 12.3, 100.25, 9_999_999.99, 1e7, 1e-3, 1e-5,
+                21.123456789, 1e21, Double.MIN_VALUE, Double.MAX_VALUE, Double.NaN, Double.NEGATIVE_INFINITY};
+
+        for (double value : values) {
+            assertSameAsJackson(new TemperatureConversionResponse(value, "Celsius", value, "Fahrenheit", null));
+        }
+    }
+
+    @Test
+    @DisplayName("Should omit null fields and escape strings like Jackson")
+    void shouldOmitNullsAndEscapeStrings() throws Exception {
+        // Given
+        TemperatureConversionResponse empty = new TemperatureConversionResponse();
+        TemperatureConversionResponse escaped = new TemperatureConversionResponse(
+                null, "\"comillas\" \\ /", 1.5, "tab\tsalto\ncontrol\u0001\u001f", "°C → 😀 €");
+        escaped.setTimestamp(-1);
+
+        // When & Then
+        assertSameAsJackson(empty);
+        assertSameAsJackson(escaped);
+    }
+
+    @Test
+    @DisplayName("Should write a prefix that ends right before the timestamp value")
+    void shouldWritePrefixBeforeTimestamp() {
+        // Given
+        TemperatureConversionResponse response =
+                new TemperatureConversionResponse(25.0, "Celsius", 77.0, "Fahrenheit", "F = (C × 9/5) + 32");
+
+        // When
+        byte[] prefix = ConversionResponseJsonWriter.writePrefix(response);
+
+        // Then
+        String expected = new String(ConversionResponseJsonWriter.write(response), StandardCharsets.UTF_8);
+        assertEquals(expected,
+                new String(prefix, StandardCharsets.UTF_8) + response.getTimestamp() + "}");
+    }
+
+    private void assertSameAsJackson(TemperatureConversionResponse response) throws Exception {
+        byte[] expected = objectMapper.writeValueAsBytes(response);
+        byte[] actual = ConversionResponseJsonWriter.write(response);
+        if (Runtime.version().feature() < 19) {
+            // Double.toString de Java 17 no siempre es el decimal más corto: se comparan valores
+            assertEquals(objectMapper.readTree(expected), objectMapper.readTree(actual),
+                    () -> new String(actual, StandardCharsets.UTF_8));
+            return;
+        }
+        assertArrayEquals(expected, actual, () -> new String(expected, StandardCharsets.UTF_8)
+                + " != " + new String(actual, StandardCharsets.UTF_8));
+    }
+}
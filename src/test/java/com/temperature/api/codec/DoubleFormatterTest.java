@@ -0,0 +1,87 @@
+package com.temperature.api.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas unitarias para DoubleFormatter.
+ *
+ * Cada texto generado debe volver a leerse como el mismo double y no ser más largo que
+ * Double.toString; desde Java 19 debe coincidir con él carácter a carácter.
+ */
+@DisplayName("DoubleFormatter Tests")
+class DoubleFormatterTest {
+
+    private static final boolean SHORTEST_TO_STRING = Runtime.version().feature() >= 19;
+
+    @Test
+    @DisplayName("Should round-trip edge values with Double.toString layout")
+    void shouldRoundTripEdgeValues() {
+        double[] values = {0.0, -0.0, 1.0, -1.0, 0.1, 0.3, 4.35, 100.0, 1e-3, 9.99e-4, 2e-3, 1e7, 9_999_999.999,
+                1_234_567.0, 12_345_678.0, 1e22, 1e23, 9_007_199_254_740_993.0, Double.MIN_VALUE, 2 * Double.MIN_VALUE,
+                Double.MIN_NORMAL, Double.MAX_VALUE, -273.15, 212.0, 98.6};
+
+        for (double value : values) {
+            assertRoundTrip(value);
+        }
+        assertEquals("NaN", shortest(Double.NaN));
+        assertEquals("-Infinity", shortest(Double.NEGATIVE_INFINITY));
+        assertEquals("4.9E-324", shortest(Double.MIN_VALUE));
+        assertEquals("1.0E23", shortest(1e23));
+        assertEquals("0.001", shortest(1e-3));
+        assertEquals("1.0E7", shortest(1e7));
+    }
+
+    @Test
+    @DisplayName("Should round-trip random doubles")
+    void shouldRoundTripRandomDoubles() {
+        Random random = new Random(7L);
+
+        for (int i = 0; i < 500_000; i++) {
+            double value = switch (i % 4) {
+                case 0 -> Double.longBitsToDouble(random.nextLong());
+                case 1 -> random.nextDouble() * Math.pow(10, random.nextInt(30) - 15);
+                case 2 -> random.nextGaussian() * 100;
+                // Subnormales
+                default -> Double.longBitsToDouble(random.nextLong() & 0x000F_FFFF_FFFF_FFFFL);
+            };
+            if (!Double.isNaN(value)) {
+                assertRoundTrip(value);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should write hundredths like Double.toString of the two-decimal value")
+    void shouldWriteHundredths() {
+        for (long hundredths = -100_000; hundredths <= 100_000; hundredths++) {
+            byte[] buffer = new byte[DoubleFormatter.MAX_LENGTH];
+            int length = DoubleFormatter.writeHundredths(hundredths, buffer, 0);
+
+            assertEquals(Double.toString(hundredths / 100.0), new String(buffer, 0, length, StandardCharsets.US_ASCII));
+        }
+    }
+
+    private static void assertRoundTrip(double value) {
+        String text = shortest(value);
+        String expected = Double.toString(value);
+
+        assertEquals(Double.doubleToRawLongBits(value), Double.doubleToRawLongBits(Double.parseDouble(text)), text);
+        if (SHORTEST_TO_STRING) {
+            assertEquals(expected, text);
+        } else {
+            assertTrue(text.length() <= expected.length(), () -> text + " es más largo que " + expected);
+        }
+    }
+
+    private static String shortest(double value) {
+        byte[] buffer = new byte[DoubleFormatter.MAX_LENGTH];
+        int length = DoubleFormatter.writeShortest(value, buffer, 0);
+        return new String(buffer, 0, length, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,128 @@
+package com.temperature.api.codec;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.api.model.TemperatureConversionRequest;
+
+/**
+ * Pruebas unitarias para FastDoubleParser y sus adaptadores.
+ *
+ * Comprueba con casos límite y con entradas aleatorias (semilla fija) que el resultado
+ * y las excepciones coinciden con Double.parseDouble.
+ */
+@DisplayName("FastDoubleParser Tests")
+class FastDoubleParserTest {
+
+    @Test
+    @DisplayName("Should match Double.parseDouble on edge cases and invalid input")
+    void shouldMatchOnEdgeCases() {
+        String[] inputs = {"0", "-0", "+3.5", "25", "-273.15", "98.60", ".5", "5.", "1.e5", "1e", "1e+", "e5", ".",
+                "-.", "", " ", "NaN", "Nan", "Infinity", "-Infinity", "0x1p3", "1d", "2.5F", " 7 ", "\t8\n", "1 2",
+                "1..2", "1e5.5", "--1", "+-1", "1ee2", "1_0", "9007199254740993", "9007199254740992.5",
+                "12345678901234567890", "9530.703732632044000", "1e22", "1e23", "2.2250738585072011e-308",
+                "2.2250738585072012e-308", "4.9e-324", "2.4703282292062327e-324", "2.4703282292062328e-324",
+                "1.7976931348623157e308", "1.7976931348623159e308", "1e309", "1e-400", "1e99999999999",
+                "1e-99999999999", "7.038531e-26"};
+
+        for (String input : inputs) {
+            assertSameAsJdk(input);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match Double.parseDouble on random decimal input")
+    void shouldMatchOnRandomInput() {
+        Random random = new Random(20240601L);
+
+        for (int i = 0; i < 200_000; i++) {
+            double value = switch (i % 3) {
+                case 0 -> Double.longBitsToDouble(random.nextLong());
+                case 1 -> random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+                default -> Math.round(random.nextDouble() * 1_000_000) / 100.0 - 2_000;
+            };
+            if (Double.isNaN(value)) {
+                continue;
+            }
+
+            assertSameAsJdk(Double.toString(value));
+            assertSameAsJdk(new BigDecimal(value).round(new MathContext(1 + random.nextInt(19))).toString());
+            assertSameAsJdk(String.format(Locale.ROOT, "%." + random.nextInt(20) + "f", value));
+            assertSameAsJdk(randomDigits(random));
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse path values with Spring's whitespace rules")
+    void shouldParsePathValuesLikeSpring() {
+        // Given
+        FastDoubleConverter converter = new FastDoubleConverter();
+
+        // When & Then
+        assertEquals(25.5, converter.convert("25.5"));
+        assertEquals(25.0, converter.convert(" 2 5 "));
+        assertNull(converter.convert(""));
+        assertThrows(NumberFormatException.class, () -> converter.convert("abc"));
+    }
+
+    @Test
+    @DisplayName("Should deserialize request values like Jackson's default")
+    void shouldDeserializeRequestValues() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // When & Then
+        assertEquals(-273.15, objectMapper.readValue("{\"value\":-273.15}", TemperatureConversionRequest.class).getValue());
+        assertEquals(25.0, objectMapper.readValue("{\"value\":25}", TemperatureConversionRequest.class).getValue());
+        assertEquals(37.5, objectMapper.readValue("{\"value\":\"37.5\"}", TemperatureConversionRequest.class).getValue());
+        assertNull(objectMapper.readValue("{\"value\":null}", TemperatureConversionRequest.class).getValue());
+    }
+
+    private static void assertSameAsJdk(String input) {
+        Object expected = outcome(() -> Double.parseDouble(input));
+        assertEquals(expected, outcome(() -> FastDoubleParser.parseDouble(input)), input);
+
+        char[] padded = ("ab" + input + "c").toCharArray();
+        assertEquals(expected, outcome(() -> FastDoubleParser.parseDouble(padded, 2, input.length())), input);
+    }
+
+    /**
+     * Bits del resultado o mensaje de la excepción, para comparar ambos casos a la vez.
+     */
+    private static Object outcome(DoubleParse parse) {
+        try {
+            return Double.doubleToRawLongBits(parse.parse());
+        } catch (NumberFormatException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    private static String randomDigits(Random random) {
+        StringBuilder digits = new StringBuilder();
+        int length = 1 + random.nextInt(25);
+        for (int i = 0; i < length; i++) {
+            digits.append(random.nextInt(10));
+        }
+        if (random.nextBoolean()) {
+            digits.insert(random.nextInt(length + 1), '.');
+        }
+        if (random.nextInt(3) == 0) {
+            digits.append('e').append(random.nextInt(700) - 350);
+        }
+        return digits.toString();
+    }
+
+    @FunctionalInterface
+    private interface DoubleParse {
+        double parse();
+    }
+}
@@ -1,21 +1,30 @@
 package com.temperature.api.controller;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -28,9 +37,17 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.api.codec.BinaryBatchCodec;
+import com.temperature.api.config.OpenApiConfig;
 import com.temperature.api.exception.InvalidTemperatureException;
+import com.temperature.api.model.BatchConversionError;
+import com.temperature.api.model.BatchConversionResponse;
+import com.temperature.api.model.ConversionDirection;
 import com.temperature.api.model.TemperatureConversionRequest;
 import com.temperature.api.model.TemperatureConversionResponse;
+import com.temperature.api.service.ConversionHealthIndicator;
+import com.temperature.api.service.ConversionMetrics;
+import com.temperature.api.service.ConversionResponseCache;
 import com.temperature.api.service.TemperatureConversionService;
 
 /**
@@ -40,6 +57,7 @@ import com.temperature.api.service.TemperatureConversionService;
  * mockeando las dependencias del servicio.
  */
 @WebMvcTest(TemperatureController.class)
+@Import({ConversionResponseCache.class, ConversionMetrics.class, BinaryBatchCodec.class, OpenApiConfig.class})
 @DisplayName("TemperatureController Tests")
 class TemperatureControllerTest {
 
@@ -49,13 +67,20 @@ class TemperatureControllerTest {
     @MockBean
     private TemperatureConversionService conversionService;
 
+    @MockBean
+    private ConversionHealthIndicator healthIndicator;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ConversionResponseCache responseCache;
+
     private TemperatureConversionResponse sampleResponse;
 
     @BeforeEach
     void setUp() {
+        responseCache.clear();
         sampleResponse = new TemperatureConversionResponse(
                 25.0, "Celsius", 77.0, "Fahrenheit", "F = (C × 9/5) + 32"
         );
@@ -69,7 +94,8 @@ class TemperatureControllerTest {
         @DisplayName("GET /api/temperature/celsius-to-fahrenheit/{celsius} - Success")
         void shouldConvertCelsiusToFahrenheitViaPathVariable() throws Exception {
             // Given
-            when(conversionService.celsiusToFahrenheit(25.0)).thenReturn(sampleResponse);
+            when(conversionService.convertTemperature(ConversionDirection.CELSIUS_TO_FAHRENHEIT, 25.0))
+                    .thenReturn(sampleResponse);
 
             // When & Then
             mockMvc.perform(get("/api/temperature/celsius-to-fahrenheit/25.0"))
@@ -83,7 +109,7 @@ class TemperatureControllerTest {
                     .andExpect(jsonPath("$.formula", is("F = (C × 9/5) + 32")))
                     .andExpect(jsonPath("$.timestamp", notNullValue()));
 
-            verify(conversionService).celsiusToFahrenheit(25.0);
+            verify(conversionService).convertTemperature(ConversionDirection.CELSIUS_TO_FAHRENHEIT, 25.0);
         }
 
         @Test
@@ -93,7 +119,8 @@ class TemperatureControllerTest {
             TemperatureConversionResponse response = new TemperatureConversionResponse(
                     77.0, "Fahrenheit", 25.0, "Celsius", "C = (F - 32) × 5/9"
             );
-            when(conversionService.fahrenheitToCelsius(77.0)).thenReturn(response);
+            when(conversionService.convertTemperature(ConversionDirection.FAHRENHEIT_TO_CELSIUS, 77.0))
+                    .thenReturn(response);
 
             // When & Then
             mockMvc.perform(get("/api/temperature/fahrenheit-to-celsius/77.0"))
@@ -102,14 +129,81 @@ class TemperatureControllerTest {
                     .andExpect(jsonPath("$.originalValue", is(77.0)))
                     .andExpect(jsonPath("$.convertedValue", is(25.0)));
 
-            verify(conversionService).fahrenheitToCelsius(77.0);
+            verify(conversionService).convertTemperature(ConversionDirection.FAHRENHEIT_TO_CELSIUS, 77.0);
+        }
+
+        @Test
+        @DisplayName("GET repeated conversion should be served from the cache with a fresh timestamp")
+        void shouldServeRepeatedConversionFromCache() throws Exception {
+            // Given
+            sampleResponse.setTimestamp(1L);
+            when(conversionService.convertTemperature(ConversionDirection.CELSIUS_TO_FAHRENHEIT, 25.0))
+                    .thenReturn(sampleResponse);
+
+            // When & Then
+            mockMvc.perform(get("/api/temperature/celsius-to-fahrenheit/25.0"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/temperature/celsius-to-fahrenheit/25"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.convertedValue", is(77.0)))
+                    .andExpect(jsonPath("$.timestamp", greaterThan(1L)));
+
+            verify(conversionService, times(1)).convertTemperature(ConversionDirection.CELSIUS_TO_FAHRENHEIT, 25.0);
+        }
+
+        @Test
+        @DisplayName("GET conversion should include a strong ETag and Cache-Control")
+        void shouldIncludeHttpCachingHeaders() throws Exception {
+            // Given
+            when(conversionService.convertTemperature(ConversionDirection.CELSIUS_TO_FAHRENHEIT, 25.0))
+                    .thenReturn(sampleResponse);
+
+            // When & Then
+            mockMvc.perform(get("/api/temperature/celsius-to-fahrenheit/25.0"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"celsius-to-fahrenheit-4039000000000000-v1\""))
+                    .andExpect(header().string("Cache-Control", "max-age=86400, public"));
+        }
+
+        @Test
+        @DisplayName("GET with matching If-None-Match should return 304 without converting")
+        void shouldReturnNotModifiedForMatchingETag() throws Exception {
+            // Given
+            String eTag = "\"fahrenheit-to-celsius-4053400000000000-v1\"";
+
+            // When & Then
+            mockMvc.perform(get("/api/temperature/fahrenheit-to-celsius/77")
+                            .header("If-None-Match", "\"otro\", W/" + eTag))
+                    .andDo(print())
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", eTag))
+                    .andExpect(header().string("Cache-Control", "max-age=86400, public"))
+                    .andExpect(content().string(""));
+
+            verify(conversionService, never()).convertTemperature(any(), any());
+        }
+
+        @Test
+        @DisplayName("GET with stale If-None-Match should return the full response")
+        void shouldReturnFullResponseForStaleETag() throws Exception {
+            // Given
+            when(conversionService.convertTemperature(ConversionDirection.CELSIUS_TO_FAHRENHEIT, 25.0))
+                    .thenReturn(sampleResponse);
+
+            // When & Then
+            mockMvc.perform(get("/api/temperature/celsius-to-fahrenheit/25.0")
+                            .header("If-None-Match", "\"celsius-to-fahrenheit-4039000000000000-v0\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.convertedValue", is(77.0)));
         }
 
         @Test
         @DisplayName("GET with invalid temperature should return 400")
         void shouldReturnBadRequestForInvalidTemperature() throws Exception {
             // Given
-            when(conversionService.celsiusToFahrenheit(anyDouble()))
+            when(conversionService.convertTemperature(eq(ConversionDirection.CELSIUS_TO_FAHRENHEIT), anyDouble()))
                     .thenThrow(new InvalidTemperatureException(-500.0, "°C", "Invalid temperature"));
 
             // When & Then
@@ -128,6 +222,51 @@ class TemperatureControllerTest {
                     .andDo(print())
                     .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @DisplayName("GET /api/temperature/convert - Should resolve the units and use the cache")
+        void shouldConvertBetweenAnyUnits() throws Exception {
+            // Given
+            TemperatureConversionResponse response = new TemperatureConversionResponse(
+                    300.0, "Kelvin", 80.33, "Fahrenheit", "F = K × 9/5 - 459.67");
+            when(conversionService.convertTemperature(ConversionDirection.KELVIN_TO_FAHRENHEIT, 300.0))
+                    .thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(get("/api/temperature/convert")
+                            .param("from", "K")
+                            .param("to", "fahrenheit")
+                            .param("value", "300"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"kelvin-to-fahrenheit-4072c00000000000-v1\""))
+                    .andExpect(jsonPath("$.originalUnit", is("Kelvin")))
+                    .andExpect(jsonPath("$.convertedValue", is(80.33)));
+
+            verify(conversionService).convertTemperature(ConversionDirection.KELVIN_TO_FAHRENHEIT, 300.0);
+        }
+
+        @Test
+        @DisplayName("GET /api/temperature/convert with an unknown or repeated unit should return 400")
+        void shouldRejectInvalidUnits() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/temperature/convert")
+                            .param("from", "celsius")
+                            .param("to", "delisle")
+                            .param("value", "10"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode", is("INVALID_UNIT")));
+
+            mockMvc.perform(get("/api/temperature/convert")
+                            .param("from", "K")
+                            .param("to", "kelvin")
+                            .param("value", "10"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode", is("INVALID_UNIT")));
+
+            verify(conversionService, never()).convertTemperature(any(), any());
+        }
     }
 
     @Nested
@@ -214,6 +353,111 @@ class TemperatureControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Batch Endpoints")
+    class BatchEndpointsTests {
+
+        @Test
+        @DisplayName("POST /api/temperature/batch/celsius-to-fahrenheit - Array body with per-index errors")
+        void shouldConvertBatchFromArrayBody() throws Exception {
+            // Given
+            BatchConversionResponse response = new BatchConversionResponse(
+                    ConversionDirection.CELSIUS_TO_FAHRENHEIT,
+                    Arrays.asList(77.0, null),
+                    List.of(new BatchConversionError(1, "INVALID_TEMPERATURE_VALUE", "Invalid temperature"))
+            );
+            when(conversionService.convertBatch(eq(ConversionDirection.CELSIUS_TO_FAHRENHEIT), anyList()))
+                    .thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(post("/api/temperature/batch/celsius-to-fahrenheit")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[25.0, -999.0]"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.count", is(2)))
+                    .andExpect(jsonPath("$.errorCount", is(1)))
+                    .andExpect(jsonPath("$.results[0]", is(77.0)))
+                    .andExpect(jsonPath("$.errors[0].index", is(1)))
+                    .andExpect(jsonPath("$.errors[0].errorCode", is("INVALID_TEMPERATURE_VALUE")));
+
+            verify(conversionService).convertBatch(ConversionDirection.CELSIUS_TO_FAHRENHEIT, Arrays.asList(25.0, -999.0));
+        }
+
+        @Test
+        @DisplayName("POST /api/temperature/convert/batch - Units from the query string")
+        void shouldConvertBatchBetweenAnyUnits() throws Exception {
+            // Given
+            BatchConversionResponse response = new BatchConversionResponse(
+                    ConversionDirection.FAHRENHEIT_TO_KELVIN, List.of(273.15, 310.15), null);
+            when(conversionService.convertBatch(eq(ConversionDirection.FAHRENHEIT_TO_KELVIN), anyList()))
+                    .thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(post("/api/temperature/convert/batch")
+                            .param("from", "°F")
+                            .param("to", "K")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[32.0, 98.6]"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.direction", is("FAHRENHEIT_TO_KELVIN")))
+                    .andExpect(jsonPath("$.results[1]", is(310.15)));
+
+            verify(conversionService).convertBatch(ConversionDirection.FAHRENHEIT_TO_KELVIN, Arrays.asList(32.0, 98.6));
+        }
+
+        @Test
+        @DisplayName("POST /api/temperature/batch - Object body with direction")
+        void shouldConvertBatchFromObjectBody() throws Exception {
+            // Given
+            BatchConversionResponse response = new BatchConversionResponse(
+                    ConversionDirection.FAHRENHEIT_TO_CELSIUS, List.of(25.0), null);
+            when(conversionService.convertBatch(eq(ConversionDirection.FAHRENHEIT_TO_CELSIUS), anyList()))
+                    .thenReturn(response);
+
+            // When & Then
+            mockMvc.perform(post("/api/temperature/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"direction\": \"fahrenheit-to-celsius\", \"values\": [77.0]}"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.direction", is("FAHRENHEIT_TO_CELSIUS")))
+                    .andExpect(jsonPath("$.results[0]", is(25.0)));
+        }
+
+        @Test
+        @DisplayName("POST /api/temperature/batch without direction should return 400")
+        void shouldReturnBadRequestWhenDirectionIsMissing() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/api/temperature/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"values\": [77.0]}"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode", is("MISSING_DIRECTION")));
+        }
+
+        @Test
+        @DisplayName("POST /api/temperature/batch/binary with truncated body should return 400")
+        void shouldReturnBadRequestForMalformedBinaryBatch() throws Exception {
+            // Given: la cabecera declara dos valores pero el cuerpo solo contiene uno
+            byte[] body = BinaryBatchCodec.encodeRequest(ConversionDirection.CELSIUS_TO_FAHRENHEIT, new double[]{1.0, 2.0});
+            byte[] truncated = Arrays.copyOf(body, body.length - Double.BYTES);
+
+            // When & Then
+            mockMvc.perform(post("/api/temperature/batch/binary")
+                            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                            .content(truncated))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode", is(BinaryBatchCodec.INVALID_BINARY_BATCH)));
+
+            verify(conversionService, never()).convertLittleEndian(eq(ConversionDirection.CELSIUS_TO_FAHRENHEIT),
+                    any(byte[].class), anyInt(), any(byte[].class), anyInt(), anyInt());
+        }
+    }
+
     @Nested
     @DisplayName("Health and Info Endpoints")
     class HealthInfoEndpointsTests {
@@ -224,6 +468,7 @@ class TemperatureControllerTest {
             // Given
             when(conversionService.celsiusToFahrenheit(0.0))
                     .thenReturn(new TemperatureConversionResponse(0.0, "Celsius", 32.0, "Fahrenheit", "F = (C × 9/5) + 32"));
+            givenSelfTestResult();
 
             // When & Then
             mockMvc.perform(get("/api/temperature/health"))
@@ -235,12 +480,30 @@ class TemperatureControllerTest {
                     .andExpect(jsonPath("$.timestamp", notNullValue()));
         }
 
+        @Test
+        @DisplayName("GET /api/temperature/health - Should serve the cached self-test without converting")
+        void shouldServeCachedSelfTestWithoutConverting() throws Exception {
+            // Given
+            when(conversionService.celsiusToFahrenheit(0.0))
+                    .thenReturn(new TemperatureConversionResponse(0.0, "Celsius", 32.0, "Fahrenheit", "F = (C × 9/5) + 32"));
+            givenSelfTestResult();
+
+            // When
+            for (int i = 0; i < 3; i++) {
+                mockMvc.perform(get("/api/temperature/health")).andExpect(status().isOk());
+            }
+
+            // Then: solo la verificación inicial ha convertido
+            verify(conversionService, times(1)).celsiusToFahrenheit(0.0);
+        }
+
         @Test
         @DisplayName("GET /api/temperature/health - Should return unhealthy status when service fails")
         void shouldReturnUnhealthyStatusWhenServiceFails() throws Exception {
             // Given
             when(conversionService.celsiusToFahrenheit(0.0))
                     .thenThrow(new RuntimeException("Service failure"));
+            givenSelfTestResult();
 
             // When & Then
             mockMvc.perform(get("/api/temperature/health"))
@@ -251,24 +514,47 @@ class TemperatureControllerTest {
                     .andExpect(jsonPath("$.error", containsString("Service failure")));
         }
 
+        /**
+         * Ejecuta una verificación real sobre el servicio mockeado y la publica en el indicador.
+         */
+        private void givenSelfTestResult() {
+            ConversionHealthIndicator.SelfTestResult result =
+                    new ConversionHealthIndicator(conversionService, Duration.ZERO).getLastResult();
+            when(healthIndicator.getLastResult()).thenReturn(result);
+        }
+
         @Test
         @DisplayName("GET /api/temperature/info - Should return API information")
         void shouldReturnApiInformation() throws Exception {
-            // Given
-            Map<String, Double> constants = new HashMap<>();
-            constants.put("ABSOLUTE_ZERO_CELSIUS", -273.15);
-            constants.put("ABSOLUTE_ZERO_FAHRENHEIT", -459.67);
-            when(conversionService.getConversionConstants()).thenReturn(constants);
-
             // When & Then
             mockMvc.perform(get("/api/temperature/info"))
                     .andDo(print())
                     .andExpect(status().isOk())
+                    .andExpect(header().exists("ETag"))
+                    .andExpect(header().string("Cache-Control", "no-cache"))
                     .andExpect(jsonPath("$.name", is("Temperature Conversion API")))
                     .andExpect(jsonPath("$.version", is("1.0.0")))
+                    .andExpect(jsonPath("$.license.name", is("MIT License")))
                     .andExpect(jsonPath("$.formulas", notNullValue()))
-                    .andExpect(jsonPath("$.constants", notNullValue()))
+                    .andExpect(jsonPath("$.constants.ABSOLUTE_ZERO_CELSIUS", is(-273.15)))
                     .andExpect(jsonPath("$.endpoints", notNullValue()));
+
+            verify(conversionService, never()).getConversionConstants();
+        }
+
+        @Test
+        @DisplayName("GET /api/temperature/info with matching If-None-Match should return 304")
+        void shouldRevalidateApiInformation() throws Exception {
+            // Given
+            String eTag = mockMvc.perform(get("/api/temperature/info"))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            // When & Then
+            mockMvc.perform(get("/api/temperature/info").header("If-None-Match", eTag))
+                    .andDo(print())
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", eTag))
+                    .andExpect(content().string(""));
         }
     }
 
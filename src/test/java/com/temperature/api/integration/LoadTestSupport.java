@@ -0,0 +1,188 @@
+package com.temperature.api.integration;
+
+import com.temperature.api.TemperatureConverterApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Utilidades compartidas por las pruebas de carga (*LoadIT).
+ *
+ * Arrancan la aplicación con propiedades concretas, lanzan peticiones desde varios
+ * clientes concurrentes durante una ventana de tiempo y resumen latencias y rendimiento.
+ */
+final class LoadTestSupport {
+
+    private LoadTestSupport() {
+    }
+
+    /**
+     * Genera la petición número {@code sequence} del cliente {@code clientId}.
+     */
+    @FunctionalInterface
+    interface RequestFactory {
+        HttpRequest create(int clientId, int sequence);
+    }
+
+    /**
+     * Arranca la aplicación en un puerto aleatorio.
+     *
+     * @param profiles   perfiles activos (además de "test")
+     * @param properties propiedades adicionales en formato clave=valor
+     * @return contexto arrancado; debe cerrarse al terminar
+     */
+    static ConfigurableApplicationContext start(String[] profiles, String... properties) {
+        String[] activeProfiles = Arrays.copyOf(profiles, profiles.length + 1);
+        activeProfiles[profiles.length] = "test";
+        return new SpringApplicationBuilder(TemperatureConverterApplication.class)
+                .profiles(activeProfiles)
+                .properties("server.port=0", "logging.level.com.temperature.api=INFO")
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * Puerto en el que escucha el servidor (servlet o reactivo).
+     */
+    static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    /**
+     * Cliente HTTP/1.1 para las pruebas de carga.
+     */
+    static HttpClient httpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * Lanza peticiones desde {@code clients} clientes en bucle cerrado durante la ventana indicada.
+     *
+     * @param client   cliente HTTP compartido
+     * @param clients  número de clientes concurrentes
+     * @param window   duración de la medida
+     * @param requests generador de peticiones
+     * @return resultado agregado
+     */
+    static LoadResult measure(HttpClient client, int clients, Duration window, RequestFactory requests)
+            throws Exception {
+        long deadline = System.nanoTime() + window.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+
+        try {
+            List<Future<ClientSamples>> futures = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                int clientId = c;
+                futures.add(executor.submit(() -> {
+                    ClientSamples samples = new ClientSamples();
+                    int sequence = 0;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = requests.create(clientId, sequence++);
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<InputStream> response =
+                                    client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                            try (InputStream body = response.body()) {
+                                body.readAllBytes();
+                            }
+                            samples.add(System.nanoTime() - start, response.statusCode() != 200);
+                        } catch (IOException e) {
+                            samples.add(System.nanoTime() - start, true);
+                        }
+                    }
+                    return samples;
+                }));
+            }
+
+            ClientSamples all = new ClientSamples();
+            for (Future<ClientSamples> future : futures) {
+                all.addAll(future.get());
+            }
+            return all.toResult(window);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Imprime una tabla comparativa de resultados.
+     */
+    static void print(String title, String[] modes, LoadResult... results) {
+        System.out.println(title);
+        System.out.println("Modo            peticiones  req/s     p50 ms  p99 ms  errores");
+        for (int i = 0; i < results.length; i++) {
+            System.out.println(results[i].format(modes[i]));
+        }
+    }
+
+    /**
+     * Latencias registradas por uno o varios clientes.
+     */
+    private static final class ClientSamples {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        void add(long latencyNanos, boolean error) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        void addAll(ClientSamples other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.latencies[i], false);
+            }
+            errors += other.errors;
+        }
+
+        LoadResult toResult(Duration window) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new LoadResult(count, errors,
+                    count / (window.toMillis() / 1000.0),
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.99));
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return Double.MAX_VALUE;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Resultado agregado de un escenario de carga.
+     */
+    record LoadResult(int requests, int errors, double requestsPerSecond, double p50Millis, double p99Millis) {
+
+        String format(String mode) {
+            return String.format("%-15s %10d  %8.1f  %6.1f  %6.1f  %7d",
+                    mode, requests, requestsPerSecond, p50Millis, p99Millis, errors);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.temperature.api.integration;
+
+import com.temperature.api.integration.LoadTestSupport.LoadResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara el stack servlet (Tomcat) con el perfil reactivo (WebFlux/Netty) sirviendo
+ * las mismas rutas: conversiones GET concurrentes y flujos NDJSON de tamaño medio.
+ *
+ * Imprime peticiones/s y latencias p50/p99 de ambos stacks; solo se exige que no
+ * haya errores, ya que los números dependen de la máquina.
+ */
+@DisplayName("Reactive vs Servlet Load Test")
+class ReactiveStackLoadIT {
+
+    private static final int CLIENTS = 32;
+
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+
+    private static final Duration MEASUREMENT_WINDOW = Duration.ofSeconds(5);
+
+    private static final int STREAM_LINES = 10_000;
+
+    @Test
+    @DisplayName("Both stacks should serve the conversion routes under concurrent load")
+    void shouldCompareServletAndReactiveStacks() throws Exception {
+        LoadResult[] servlet = runScenarios(new String[0]);
+        LoadResult[] reactive = runScenarios(new String[]{"reactive"});
+
+        String[] modes = {"servlet", "reactive"};
+        LoadTestSupport.print("GET /celsius-to-fahrenheit/{value} (" + CLIENTS + " clientes)",
+                modes, servlet[0], reactive[0]);
+        LoadTestSupport.print("POST /stream/celsius-to-fahrenheit (" + STREAM_LINES + " líneas por petición)",
+                modes, servlet[1], reactive[1]);
+
+        for (LoadResult result : new LoadResult[]{servlet[0], servlet[1], reactive[0], reactive[1]}) {
+            assertEquals(0, result.errors(), "No debería haber errores");
+            assertTrue(result.requests() > 0, "Debería haberse completado alguna petición");
+        }
+    }
+
+    /**
+     * Arranca la aplicación con los perfiles indicados y mide ambos escenarios.
+     *
+     * @return resultados de GET y de streaming, en ese orden
+     */
+    private LoadResult[] runScenarios(String[] profiles) throws Exception {
+        try (ConfigurableApplicationContext context = LoadTestSupport.start(profiles)) {
+            int port = LoadTestSupport.port(context);
+            HttpClient client = LoadTestSupport.httpClient();
+            LoadTestSupport.RequestFactory get = (clientId, sequence) ->
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                                    + "/api/temperature/celsius-to-fahrenheit/" + (sequence % 20_000) / 10.0))
+                            .build();
+            byte[] streamBody = ndjsonBody();
+            LoadTestSupport.RequestFactory stream = (clientId, sequence) ->
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                                    + "/api/temperature/stream/celsius-to-fahrenheit"))
+                            .header("Content-Type", "application/x-ndjson")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(streamBody))
+                            .build();
+
+            LoadTestSupport.measure(client, CLIENTS, WARMUP, get);
+            LoadResult getResult = LoadTestSupport.measure(client, CLIENTS, MEASUREMENT_WINDOW, get);
+            LoadTestSupport.measure(client, CLIENTS / 4, WARMUP, stream);
+            LoadResult streamResult = LoadTestSupport.measure(client, CLIENTS / 4, MEASUREMENT_WINDOW, stream);
+            return new LoadResult[]{getResult, streamResult};
+        }
+    }
+
+    private static byte[] ndjsonBody() {
+        StringBuilder body = new StringBuilder(STREAM_LINES * 8);
+        for (int i = 0; i < STREAM_LINES; i++) {
+            body.append((i % 5000) / 10.0).append('\n');
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,131 @@
+package com.temperature.api.integration;
+
+import com.temperature.api.integration.LoadTestSupport.LoadResult;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de carga que compara el pool de hilos de plataforma de Tomcat con el modo
+ * de hilos virtuales cuando hay muchos clientes lentos conectados.
+ *
+ * Los clientes lentos envían el cuerpo de un POST byte a byte, reteniendo un hilo de
+ * Tomcat mientras Jackson lee la petición. Mientras tanto, clientes rápidos lanzan GET
+ * y se mide su latencia (p50/p99) y el rendimiento total. Requiere Java 21.
+ */
+@DisplayName("Virtual Threads Load Test")
+class VirtualThreadsLoadIT {
+
+    /** Hilos de plataforma de Tomcat en ambos modos (en modo virtual se ignora). */
+    private static final int TOMCAT_MAX_THREADS = 50;
+
+    private static final int SLOW_CLIENTS = 200;
+
+    private static final int FAST_CLIENTS = 8;
+
+    private static final Duration SLOW_UPLOAD_DURATION = Duration.ofSeconds(3);
+
+    private static final Duration MEASUREMENT_WINDOW = Duration.ofSeconds(2);
+
+    private static final byte[] SLOW_BODY = "{\"value\": 25.0}".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    @DisplayName("Virtual threads keep fast requests responsive while slow clients hold connections")
+    void shouldKeepLatencyLowWithVirtualThreads() throws Exception {
+        Assumptions.assumeTrue(Runtime.version().feature() >= 21, "Los hilos virtuales requieren Java 21");
+
+        LoadResult platform = runScenario(false);
+        LoadResult virtual = runScenario(true);
+
+        LoadTestSupport.print("GET con " + SLOW_CLIENTS + " clientes lentos",
+                new String[]{"plataforma", "virtual"}, platform, virtual);
+
+        assertEquals(0, virtual.errors(), "Errores con hilos virtuales");
+        assertTrue(virtual.p99Millis() < platform.p99Millis(),
+                "El p99 con hilos virtuales debería ser menor que con el pool de plataforma");
+        assertTrue(virtual.requestsPerSecond() > platform.requestsPerSecond(),
+                "El rendimiento con hilos virtuales debería ser mayor que con el pool de plataforma");
+    }
+
+    /**
+     * Arranca la aplicación en el modo indicado, satura el servidor con clientes lentos y
+     * mide la latencia de los clientes rápidos.
+     */
+    private LoadResult runScenario(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = LoadTestSupport.start(new String[0],
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS)) {
+
+            int port = LoadTestSupport.port(context);
+            ScheduledExecutorService drip = Executors.newScheduledThreadPool(4);
+            List<Socket> slowSockets = new ArrayList<>();
+            try {
+                for (int i = 0; i < SLOW_CLIENTS; i++) {
+                    slowSockets.add(startSlowUpload(port, drip));
+                }
+                // Dejar que las subidas lentas ocupen los hilos del servidor
+                Thread.sleep(300);
+
+                HttpClient client = LoadTestSupport.httpClient();
+                return LoadTestSupport.measure(client, FAST_CLIENTS, MEASUREMENT_WINDOW,
+                        (clientId, sequence) -> HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                                        + "/api/temperature/celsius-to-fahrenheit/"
+                                        + (clientId * 100_000 + sequence) / 100.0))
+                                .timeout(Duration.ofSeconds(30))
+                                .build());
+            } finally {
+                drip.shutdownNow();
+                for (Socket socket : slowSockets) {
+                    socket.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Abre una conexión y envía la cabecera de un POST cuyo cuerpo se completa byte a byte
+     * a lo largo de {@link #SLOW_UPLOAD_DURATION}.
+     */
+    private Socket startSlowUpload(int port, ScheduledExecutorService drip) throws IOException {
+        Socket socket = new Socket("localhost", port);
+        OutputStream out = socket.getOutputStream();
+        String headers = "POST /api/temperature/celsius-to-fahrenheit HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Content-Type: application/json\r\n"
+                + "Content-Length: " + SLOW_BODY.length + "\r\n\r\n";
+        out.write(headers.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+
+        long intervalMillis = SLOW_UPLOAD_DURATION.toMillis() / SLOW_BODY.length;
+        for (int i = 0; i < SLOW_BODY.length; i++) {
+            int index = i;
+            drip.schedule(() -> {
+                try {
+                    out.write(SLOW_BODY[index]);
+                    out.flush();
+                } catch (IOException e) {
+                    // La conexión se cierra al terminar el escenario
+                }
+            }, intervalMillis * (i + 1), TimeUnit.MILLISECONDS);
+        }
+        return socket;
+    }
+}
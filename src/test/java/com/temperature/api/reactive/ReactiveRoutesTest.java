@@ -0,0 +1,413 @@
+package com.temperature.api.reactive;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.api.codec.BinaryBatchCodec;
+import com.temperature.api.controller.ApiStatusDocuments;
+import com.temperature.api.controller.PrecomputedJsonDocument;
+import com.temperature.api.model.BatchConversionResponse;
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.model.TemperatureConversionRequest;
+import com.temperature.api.service.ConversionHealthIndicator;
+import com.temperature.api.service.ConversionMetrics;
+import com.temperature.api.service.ConversionResponseCache;
+import com.temperature.api.service.NdjsonConversionProcessor;
+import com.temperature.api.service.SensorIngestionService;
+import com.temperature.api.service.SensorSeriesService;
+import com.temperature.api.service.SensorWindowAggregator;
+import com.temperature.api.service.TemperatureConversionService;
+import com.temperature.api.storage.ReadingLog;
+import com.temperature.api.storage.RollupEngine;
+
+import io.swagger.v3.oas.models.info.Info;
+import jakarta.validation.Validation;
+
+/**
+ * Pruebas de las rutas del perfil reactivo.
+ * 
+ * Se enlazan las funciones de enrutado directamente a WebTestClient con las
+ * dependencias reales, verificando que los cuerpos, cabeceras y errores coinciden
+ * con los del controlador servlet.
+ */
+@DisplayName("Reactive Routes Tests")
+class ReactiveRoutesTest {
+
+    private WebTestClient client;
+
+    /**
+     * Hilos en los que se han convertido los lotes.
+     */
+    private final Set<String> batchThreads = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        TemperatureConversionService service = new TemperatureConversionService() {
+            @Override
+            public BatchConversionResponse convertBatch(ConversionDirection direction, List<Double> values) {
+                batchThreads.add(Thread.currentThread().getName());
+                return super.convertBatch(direction, values);
+            }
+
+            @Override
+            public int convertLittleEndian(ConversionDirection direction, byte[] source, int sourceOffset,
+                                           byte[] target, int targetOffset, int count) {
+                batchThreads.add(Thread.currentThread().getName());
+                return super.convertLittleEndian(direction, source, sourceOffset, target, targetOffset, count);
+            }
+        };
+        ReactiveExceptionHandler errorHandler = new ReactiveExceptionHandler(ConversionMetrics.noop());
+        TemperatureHandler handler = new TemperatureHandler(
+                service,
+                new ConversionResponseCache(service, true, 100),
+                new NdjsonConversionProcessor(service, objectMapper),
+                new BinaryBatchCodec(service),
+                new ConversionHealthIndicator(service, Duration.ZERO),
+                PrecomputedJsonDocument.of(objectMapper,
+                        ApiStatusDocuments.info(new Info().title("Temperature Conversion API").version("1.0.0"))),
+                errorHandler,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                3,
+                86400);
+
+        SensorWindowAggregator aggregator = new SensorWindowAggregator(10, 60, 24);
+        ReadingLog readingLog = new ReadingLog(false, "", DataSize.ofMegabytes(1), Duration.ZERO, false, 0,
+                Duration.ZERO);
+        SensorHandler sensorHandler = new SensorHandler(
+                new SensorIngestionService(service, aggregator, readingLog, 3, Duration.ofMinutes(5)), aggregator,
+                new SensorSeriesService(service, readingLog, new RollupEngine(readingLog, false, Duration.ZERO,
+                        Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO), 100), errorHandler);
+
+        client = WebTestClient.bindToRouterFunction(ReactiveConfig.routes(handler, sensorHandler, errorHandler))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Single Conversions")
+    class SingleConversionTests {
+
+        @Test
+        @DisplayName("GET conversion should return the cached body with ETag and Cache-Control")
+        void shouldConvertViaPathVariable() {
+            client.get().uri("/api/temperature/celsius-to-fahrenheit/25.0")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                    .expectHeader().valueEquals("ETag", "\"celsius-to-fahrenheit-4039000000000000-v1\"")
+                    .expectHeader().valueEquals("Cache-Control", "max-age=86400, public")
+                    .expectBody()
+                    .jsonPath("$.originalValue").isEqualTo(25.0)
+                    .jsonPath("$.convertedValue").isEqualTo(77.0)
+                    .jsonPath("$.formula").isEqualTo("F = (C × 9/5) + 32");
+        }
+
+        @Test
+        @DisplayName("GET with matching If-None-Match should return 304")
+        void shouldReturnNotModified() {
+            client.get().uri("/api/temperature/celsius-to-fahrenheit/25")
+                    .header("If-None-Match", "\"celsius-to-fahrenheit-4039000000000000-v1\"")
+                    .exchange()
+                    .expectStatus().isNotModified()
+                    .expectBody().isEmpty();
+        }
+
+        @Test
+        @DisplayName("GET /convert should convert between any pair of units")
+        void shouldConvertBetweenAnyUnits() {
+            client.get().uri("/api/temperature/convert?from=K&to=C&value=300")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().valueEquals("ETag", "\"kelvin-to-celsius-4072c00000000000-v1\"")
+                    .expectBody()
+                    .jsonPath("$.originalUnit").isEqualTo("Kelvin")
+                    .jsonPath("$.convertedValue").isEqualTo(26.85);
+
+            client.get().uri("/api/temperature/convert?from=K&to=kelvin&value=300")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.errorCode").isEqualTo("INVALID_UNIT");
+        }
+
+        @Test
+        @DisplayName("GET with non-numeric value should return the type mismatch error JSON")
+        void shouldReturnTypeMismatchError() {
+            client.get().uri("/api/temperature/celsius-to-fahrenheit/abc")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.errorCode").isEqualTo("TYPE_MISMATCH_ERROR")
+                    .jsonPath("$.parameterName").isEqualTo("celsius")
+                    .jsonPath("$.providedValue").isEqualTo("abc")
+                    .jsonPath("$.path").isEqualTo("/api/temperature/celsius-to-fahrenheit/abc");
+        }
+
+        @Test
+        @DisplayName("GET below absolute zero should return the invalid temperature error JSON")
+        void shouldReturnInvalidTemperatureError() {
+            client.get().uri("/api/temperature/celsius-to-fahrenheit/-500")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.status").isEqualTo(400)
+                    .jsonPath("$.errorCode").isEqualTo("INVALID_TEMPERATURE_VALUE")
+                    .jsonPath("$.invalidValue").isEqualTo(-500.0)
+                    .jsonPath("$.unit").isEqualTo("°C");
+        }
+
+        @Test
+        @DisplayName("POST with invalid body should return the validation error JSON")
+        void shouldReturnValidationError() {
+            client.post().uri("/api/temperature/fahrenheit-to-celsius")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new TemperatureConversionRequest(null))
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.errorCode").isEqualTo("VALIDATION_ERROR")
+                    .jsonPath("$.validationErrors.value").isEqualTo("El valor de temperatura es requerido");
+        }
+
+        @Test
+        @DisplayName("POST conversion should return the conversion JSON")
+        void shouldConvertViaPost() {
+            client.post().uri("/api/temperature/fahrenheit-to-celsius")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new TemperatureConversionRequest(77.0))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.convertedValue").isEqualTo(25.0)
+                    .jsonPath("$.convertedUnit").isEqualTo("Celsius");
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch and Streaming")
+    class BatchStreamingTests {
+
+        @Test
+        @DisplayName("Batch should report per-index errors")
+        void shouldConvertBatch() {
+            client.post().uri("/api/temperature/batch/celsius-to-fahrenheit")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Arrays.asList(25.0, -300.0, 100.0))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.count").isEqualTo(3)
+                    .jsonPath("$.errorCount").isEqualTo(1)
+                    .jsonPath("$.results[0]").isEqualTo(77.0)
+                    .jsonPath("$.errors[0].index").isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Batch above the maximum size should return BATCH_TOO_LARGE")
+        void shouldRejectOversizedBatch() {
+            client.post().uri("/api/temperature/batch/celsius-to-fahrenheit")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Arrays.asList(1.0, 2.0, 3.0, 4.0))
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.errorCode").isEqualTo("BATCH_TOO_LARGE");
+        }
+
+        @Test
+        @DisplayName("Batch without direction should return MISSING_DIRECTION")
+        void shouldRequireDirection() {
+            client.post().uri("/api/temperature/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("{\"values\": [1.0]}")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.errorCode").isEqualTo("MISSING_DIRECTION");
+        }
+
+        @Test
+        @DisplayName("Binary batch should return packed results and the invalid bitmap")
+        void shouldConvertBinaryBatch() {
+            byte[] body = client.post().uri("/api/temperature/batch/binary")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .bodyValue(BinaryBatchCodec.encodeRequest(
+                            ConversionDirection.CELSIUS_TO_FAHRENHEIT, new double[]{25.0, -300.0}))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(byte[].class)
+                    .returnResult()
+                    .getResponseBody();
+
+            BinaryBatchCodec.DecodedBatch decoded = BinaryBatchCodec.decodeResponse(body);
+            assertThat(decoded.values()[0], is(77.0));
+            assertThat(decoded.invalid().get(1), is(true));
+        }
+
+        @Test
+        @DisplayName("Batches should be converted off the event loop")
+        void shouldConvertBatchesOnBoundedElastic() {
+            client.post().uri("/api/temperature/batch/celsius-to-fahrenheit")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Arrays.asList(25.0, 100.0))
+                    .exchange()
+                    .expectStatus().isOk();
+            client.post().uri("/api/temperature/batch/binary")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .bodyValue(BinaryBatchCodec.encodeRequest(ConversionDirection.CELSIUS_TO_FAHRENHEIT,
+                            new double[]{25.0}))
+                    .exchange()
+                    .expectStatus().isOk();
+
+            assertThat(batchThreads.isEmpty(), is(false));
+            assertThat(batchThreads, everyItem(startsWith("boundedElastic-")));
+        }
+
+        @Test
+        @DisplayName("NDJSON stream should emit one record per non-blank line")
+        void shouldStreamNdjson() {
+            String body = client.post().uri("/api/temperature/stream/celsius-to-fahrenheit")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .bodyValue("25\n\n{\"value\": 100}\nabc\n")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                    .expectBody(String.class)
+                    .returnResult()
+                    .getResponseBody();
+
+            assertThat(body, is(
+                    "{\"line\":1,\"value\":25.0,\"converted\":77.0}\n"
+                            + "{\"line\":3,\"value\":100.0,\"converted\":212.0}\n"
+                            + "{\"line\":4,\"errorCode\":\"PARSE_ERROR\","
+                            + "\"message\":\"La línea no contiene un número ni un objeto con el campo 'value'\"}\n"));
+        }
+
+        @Test
+        @DisplayName("Health should report the service check")
+        void shouldReportHealth() {
+            client.get().uri("/api/temperature/health")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.status").isEqualTo("UP")
+                    .jsonPath("$.serviceCheck").isEqualTo("OK")
+                    .jsonPath("$.version").isEqualTo("1.0.0");
+        }
+
+        @Test
+        @DisplayName("Info should list the API endpoints")
+        void shouldReturnInfo() {
+            client.get().uri("/api/temperature/info")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.formulas.celsiusToFahrenheit").value(containsString("9/5"));
+        }
+
+        @Test
+        @DisplayName("Info should be revalidated with its ETag")
+        void shouldRevalidateInfo() {
+            String eTag = client.get().uri("/api/temperature/info")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().valueEquals("Cache-Control", "no-cache")
+                    .returnResult(byte[].class)
+                    .getResponseHeaders().getETag();
+
+            client.get().uri("/api/temperature/info")
+                    .header("If-None-Match", eTag)
+                    .exchange()
+                    .expectStatus().isNotModified()
+                    .expectHeader().valueEquals("ETag", eTag);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sensor Telemetry")
+    class SensorTests {
+
+        @Test
+        @DisplayName("Ingested readings should be aggregated per window in Celsius")
+        void shouldIngestAndAggregateReadings() {
+            client.post().uri("/api/sensors/readings")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("[{\"deviceId\":\"thermo-1\",\"timestamp\":1700000000000,\"value\":32,\"unit\":\"F\"},"
+                            + "{\"deviceId\":\"thermo-1\",\"timestamp\":1700000001000,\"value\":212,\"unit\":\"F\"},"
+                            + "{\"deviceId\":\"thermo-1\",\"timestamp\":1700000002000,\"value\":-1,\"unit\":\"K\"}]")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.accepted").isEqualTo(2)
+                    .jsonPath("$.errors[0].index").isEqualTo(2)
+                    .jsonPath("$.errors[0].errorCode").isEqualTo("INVALID_TEMPERATURE_VALUE");
+
+            client.get().uri("/api/sensors/thermo-1/windows?window=1m")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.unit").isEqualTo("Celsius")
+                    .jsonPath("$.windows[0].count").isEqualTo(2)
+                    .jsonPath("$.windows[0].min").isEqualTo(0.0)
+                    .jsonPath("$.windows[0].max").isEqualTo(100.0)
+                    .jsonPath("$.windows[0].mean").isEqualTo(50.0);
+
+            client.get().uri("/api/sensors/memory")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.devices").isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Invalid windows and unknown devices should return the error JSON")
+        void shouldRejectInvalidQueries() {
+            client.get().uri("/api/sensors/thermo-1/windows?window=5m")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.errorCode").isEqualTo("INVALID_WINDOW");
+
+            client.get().uri("/api/sensors/missing/windows")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.errorCode").isEqualTo("UNKNOWN_DEVICE");
+
+            client.get().uri("/api/sensors/thermo-1/series?from=abc")
+                    .exchange()
+                    .expectStatus().isBadRequest();
+
+            client.get().uri("/api/sensors/thermo-1/series?step=5m")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.errorCode").isEqualTo("STORAGE_DISABLED");
+
+            client.get().uri("/api/sensors/thermo-1/rollups?step=1d")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.errorCode").isEqualTo("STORAGE_DISABLED");
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.temperature.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import com.temperature.api.model.ConversionDirection;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pruebas unitarias para ConversionHealthIndicator.
+ *
+ * Usa un servicio que cuenta las conversiones y puede forzar un fallo, para comprobar
+ * que las consultas no convierten y que el estado solo cambia al refrescar.
+ */
+@DisplayName("ConversionHealthIndicator Tests")
+class ConversionHealthIndicatorTest {
+
+    private final AtomicInteger conversions = new AtomicInteger();
+    private final AtomicBoolean failing = new AtomicBoolean();
+
+    private TemperatureConversionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TemperatureConversionService() {
+            @Override
+            public double convertValidated(ConversionDirection direction, double value) {
+                conversions.incrementAndGet();
+                if (failing.get()) {
+                    throw new IllegalStateException("Servicio caído");
+                }
+                return super.convertValidated(direction, value);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should answer probes from the last self-test without converting")
+    void shouldAnswerFromLastSelfTest() {
+        // Given
+        ConversionHealthIndicator indicator = new ConversionHealthIndicator(service, Duration.ZERO);
+
+        // When
+        ConversionHealthIndicator.SelfTestResult first = indicator.getLastResult();
+        for (int i = 0; i < 10; i++) {
+            indicator.health();
+            indicator.getLastResult();
+        }
+
+        // Then
+        assertEquals(1, conversions.get());
+        assertSame(first, indicator.getLastResult());
+        assertEquals(Status.UP, indicator.health().getStatus());
+        assertEquals("OK", first.document().get("serviceCheck"));
+    }
+
+    @Test
+    @DisplayName("Should not count the self-test in the conversion metrics")
+    void shouldNotRecordConversionMetrics() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConversionHealthIndicator indicator = new ConversionHealthIndicator(
+                new TemperatureConversionService(new ConversionMetrics(registry)), Duration.ZERO);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            indicator.refresh();
+        }
+
+        // Then
+        assertTrue(indicator.getLastResult().ok());
+        assertEquals(0, registry.find(ConversionMetrics.CONVERSION_TIMER).timers().stream()
+                .mapToLong(Timer::count).sum());
+        assertEquals(0, registry.find(ConversionMetrics.INPUT_SUMMARY).summaries().stream()
+                .mapToLong(DistributionSummary::count).sum());
+    }
+
+    @Test
+    @DisplayName("Should report failures after a refresh and recover on the next one")
+    void shouldReportFailuresAfterRefresh() {
+        // Given
+        ConversionHealthIndicator indicator = new ConversionHealthIndicator(service, Duration.ZERO);
+        failing.set(true);
+
+        // When
+        ConversionHealthIndicator.SelfTestResult failed = indicator.refresh();
+
+        // Then
+        assertFalse(failed.ok());
+        assertEquals(Status.DOWN, indicator.health().getStatus());
+        assertEquals("ERROR", failed.document().get("serviceCheck"));
+        assertEquals("Servicio caído", failed.document().get("error"));
+
+        failing.set(false);
+        assertTrue(indicator.refresh().ok());
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should refresh in the background and publish the self-test duration")
+    void shouldRefreshInBackground() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConversionHealthIndicator indicator = new ConversionHealthIndicator(service, Duration.ofMillis(10));
+        indicator.bindTo(registry);
+
+        try {
+            // When
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (conversions.get() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            // Then
+            assertTrue(conversions.get() >= 3);
+            assertTrue(registry.get("temperature.health.self-test.duration").timeGauge()
+                    .value(TimeUnit.NANOSECONDS) > 0);
+        } finally {
+            indicator.destroy();
+        }
+    }
+}
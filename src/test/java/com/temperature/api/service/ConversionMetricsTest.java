@@ -0,0 +1,101 @@
+package com.temperature.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.temperature.api.exception.InvalidTemperatureException;
+import com.temperature.api.model.ConversionDirection;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pruebas unitarias para ConversionMetrics y su uso desde TemperatureConversionService.
+ */
+@DisplayName("ConversionMetrics Tests")
+class ConversionMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private ConversionMetrics metrics;
+    private TemperatureConversionService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new ConversionMetrics(registry);
+        service = new TemperatureConversionService(metrics);
+    }
+
+    @Test
+    @DisplayName("Should pre-register meters with low-cardinality tags")
+    void shouldPreRegisterMeters() {
+        // Then
+        assertEquals(4, registry.find(ConversionMetrics.CONVERSION_TIMER).timers().size());
+        assertEquals(0, registry.get(ConversionMetrics.CONVERSION_TIMER)
+                .tag("direction", "celsius-to-fahrenheit").tag("operation", "single").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should time single conversions and record inputs in kelvin")
+    void shouldRecordSingleConversions() {
+        // When
+        service.celsiusToFahrenheit(25.0);
+        service.fahrenheitToCelsius(32.0);
+
+        // Then
+        Timer timer = registry.get(ConversionMetrics.CONVERSION_TIMER)
+                .tag("direction", "celsius-to-fahrenheit").tag("operation", "single").timer();
+        assertEquals(1, timer.count());
+        assertEquals(298.15, registry.get(ConversionMetrics.INPUT_SUMMARY)
+                .tag("unit", "Celsius").summary().totalAmount(), 1e-9);
+        assertEquals(273.15, registry.get(ConversionMetrics.INPUT_SUMMARY)
+                .tag("unit", "Fahrenheit").summary().totalAmount(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should not time rejected conversions")
+    void shouldNotTimeRejectedConversions() {
+        // When
+        assertThrows(InvalidTemperatureException.class, () -> service.celsiusToFahrenheit(-300.0));
+
+        // Then
+        assertEquals(0, registry.get(ConversionMetrics.CONVERSION_TIMER)
+                .tag("direction", "celsius-to-fahrenheit").tag("operation", "single").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should record batch duration, size and element errors")
+    void shouldRecordBatches() {
+        // When
+        service.convertBatch(ConversionDirection.FAHRENHEIT_TO_CELSIUS, Arrays.asList(32.0, null, -500.0, 212.0));
+
+        // Then
+        assertEquals(1, registry.get(ConversionMetrics.CONVERSION_TIMER)
+                .tag("direction", "fahrenheit-to-celsius").tag("operation", "batch").timer().count());
+        assertEquals(4.0, registry.get(ConversionMetrics.BATCH_SIZE_SUMMARY)
+                .tag("direction", "fahrenheit-to-celsius").summary().totalAmount());
+        assertEquals(2.0, registry.get(ConversionMetrics.ERROR_COUNTER)
+                .tag("errorCode", "INVALID_TEMPERATURE_VALUE").tag("scope", "element").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should count request errors per error code")
+    void shouldCountRequestErrors() {
+        // When
+        metrics.recordRequestError("BATCH_TOO_LARGE");
+        metrics.recordRequestError("BATCH_TOO_LARGE");
+        metrics.recordRequestError(null);
+
+        // Then
+        assertEquals(2.0, registry.get(ConversionMetrics.ERROR_COUNTER)
+                .tag("errorCode", "BATCH_TOO_LARGE").tag("scope", "request").counter().count());
+        assertTrue(registry.find(ConversionMetrics.ERROR_COUNTER).tag("errorCode", "UNKNOWN").counter() != null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.temperature.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.api.exception.InvalidTemperatureException;
+import com.temperature.api.model.ConversionDirection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pruebas unitarias para ConversionResponseCache.
+ * 
+ * Verifica que los cuerpos cacheados se puedan leer con Jackson,
+ * que el timestamp se regenere en cada acierto y que las métricas reflejen
+ * aciertos, fallos y expulsiones.
+ */
+@DisplayName("ConversionResponseCache Tests")
+class ConversionResponseCacheTest {
+
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry registry;
+    private ConversionResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        registry = new SimpleMeterRegistry();
+        cache = new ConversionResponseCache(new TemperatureConversionService(), true, 2);
+        cache.bindTo(registry);
+    }
+
+    @Test
+    @DisplayName("Should serve cached bodies with a fresh timestamp")
+    void shouldServeCachedBodiesWithFreshTimestamp() throws Exception {
+        // When
+        JsonNode first = objectMapper.readTree(cache.getResponseBody(ConversionDirection.CELSIUS_TO_FAHRENHEIT, 25.0));
+        Thread.sleep(5);
+        JsonNode second = objectMapper.readTree(cache.getResponseBody(ConversionDirection.CELSIUS_TO_FAHRENHEIT, 25.0));
+
+        // Then
+        assertEquals(77.0, second.get("convertedValue").asDouble());
+        assertEquals("Fahrenheit", second.get("convertedUnit").asText());
+        assertEquals("F = (C × 9/5) + 32", second.get("formula").asText());
+        assertTrue(second.get("timestamp").asLong() > first.get("timestamp").asLong());
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep directions apart and evict beyond the maximum size")
+    void shouldEvictBeyondMaximumSize() {
+        // When
+        cache.getResponseBody(ConversionDirection.CELSIUS_TO_FAHRENHEIT, 0.0);
+        cache.getResponseBody(ConversionDirection.FAHRENHEIT_TO_CELSIUS, 0.0);
+        cache.getResponseBody(ConversionDirection.CELSIUS_TO_FAHRENHEIT, 100.0);
+
+        // Then
+        assertEquals(2, cache.size());
+        assertEquals(1.0, registry.get("cache.evictions").functionCounter().count());
+        assertEquals(2.0, registry.get("cache.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should not cache rejected temperatures")
+    void shouldNotCacheRejectedTemperatures() {
+        assertThrows(InvalidTemperatureException.class,
+                () -> cache.getResponseBody(ConversionDirection.CELSIUS_TO_FAHRENHEIT, -999.0));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,94 @@
+package com.temperature.api.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.api.model.ConversionDirection;
+
+/**
+ * Pruebas unitarias para NdjsonConversionProcessor.
+ * 
+ * Verifica el formato de las líneas de salida y que los errores se reporten
+ * por línea sin interrumpir el procesamiento del flujo.
+ */
+@DisplayName("NdjsonConversionProcessor Tests")
+class NdjsonConversionProcessorTest {
+
+    private NdjsonConversionProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new NdjsonConversionProcessor(new TemperatureConversionService(), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should convert numbers and objects line by line")
+    void shouldConvertNumbersAndObjects() throws Exception {
+        // Given
+        String input = "25\n{\"value\": 100}\r\n\n37";
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long errors = processor.process(ConversionDirection.CELSIUS_TO_FAHRENHEIT,
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        // Then
+        assertEquals(0, errors);
+        assertEquals("{\"line\":1,\"value\":25.0,\"converted\":77.0}\n"
+                        + "{\"line\":2,\"value\":100.0,\"converted\":212.0}\n"
+                        + "{\"line\":4,\"value\":37.0,\"converted\":98.6}\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should emit per-line error records without aborting")
+    void shouldEmitErrorRecordsWithoutAborting() throws Exception {
+        // Given
+        String input = "-999\nabc\n{\"other\": 1}\n" + "9".repeat(NdjsonConversionProcessor.MAX_LINE_LENGTH + 1) + "\n32";
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long errors = processor.process(ConversionDirection.FAHRENHEIT_TO_CELSIUS,
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, errors);
+        assertEquals(5, lines.length);
+        assertTrue(lines[0].contains("\"errorCode\":\"INVALID_TEMPERATURE_VALUE\""));
+        assertTrue(lines[1].contains("\"errorCode\":\"PARSE_ERROR\""));
+        assertTrue(lines[2].contains("\"errorCode\":\"PARSE_ERROR\""));
+        assertTrue(lines[3].contains("\"errorCode\":\"LINE_TOO_LONG\""));
+        assertEquals("{\"line\":5,\"value\":32.0,\"converted\":0.0}", lines[4]);
+    }
+
+    @Test
+    @DisplayName("Should reject bare numbers outside the JSON number grammar")
+    void shouldRejectNonJsonNumbers() throws Exception {
+        // Given
+        String[] rejected = {"1d", "2f", "0x1p3", "NaN", "Infinity", "+5", ".5", "5.", "01", "1e", "\u000b25"};
+        String input = String.join("\n", rejected) + "\n  -0.5e+1\t\n1E2";
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long errors = processor.process(ConversionDirection.CELSIUS_TO_FAHRENHEIT,
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(rejected.length, errors);
+        for (int i = 0; i < rejected.length; i++) {
+            assertTrue(lines[i].contains("\"errorCode\":\"PARSE_ERROR\""), rejected[i]);
+        }
+        assertEquals("{\"line\":12,\"value\":-5.0,\"converted\":23.0}", lines[rejected.length]);
+        assertEquals("{\"line\":13,\"value\":100.0,\"converted\":212.0}", lines[rejected.length + 1]);
+    }
+}
@@ -0,0 +1,140 @@
+package com.temperature.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.temperature.api.model.ConversionDirection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pruebas unitarias para ParallelConversionPool.
+ * 
+ * Verifica que el reparto no cambia los resultados, que respeta el umbral y el límite
+ * de tareas por petición, y que publica las métricas del pool.
+ */
+@DisplayName("ParallelConversionPool Tests")
+class ParallelConversionPoolTest {
+
+    private ParallelConversionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ParallelConversionPool(4, 0, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.destroy();
+    }
+
+    @Test
+    @DisplayName("Parallel conversion should match the sequential results")
+    void shouldMatchSequentialResults() {
+        // Given
+        TemperatureConversionService parallel = new TemperatureConversionService(ConversionMetrics.noop(), pool, true);
+        TemperatureConversionService sequential = new TemperatureConversionService();
+        Random random = new Random(42);
+        double[] values = new double[200_003];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.round((random.nextDouble() * 700.0 - 500.0) * 100.0) / 100.0;
+        }
+
+        // When
+        double[] parallelResults = new double[values.length];
+        double[] sequentialResults = new double[values.length];
+        int parallelInvalid = parallel.convertArray(ConversionDirection.FAHRENHEIT_TO_CELSIUS, values, parallelResults);
+        int sequentialInvalid = sequential.convertArray(ConversionDirection.FAHRENHEIT_TO_CELSIUS, values, sequentialResults);
+
+        // Then
+        assertEquals(sequentialInvalid, parallelInvalid);
+        assertArrayEquals(sequentialResults, parallelResults);
+    }
+
+    @Test
+    @DisplayName("Should cap the number of tasks per request and cover the whole array")
+    void shouldCapTasksPerRequest() {
+        // Given
+        RecordingKernel kernel = new RecordingKernel();
+        double[] values = new double[1_000_000];
+
+        // When
+        pool.convert(kernel, ConversionDirection.CELSIUS_TO_FAHRENHEIT, values, new double[values.length], values.length);
+
+        // Then
+        assertEquals(3, kernel.calls.get());
+        assertEquals(values.length, kernel.converted.get());
+        assertTrue(kernel.threads.stream().allMatch(name -> name.startsWith("conversion-")));
+    }
+
+    @Test
+    @DisplayName("Should convert small arrays on the calling thread")
+    void shouldNotSplitBelowThreshold() {
+        // Given
+        RecordingKernel kernel = new RecordingKernel();
+        double[] values = new double[pool.getThreshold() - 1];
+
+        // When
+        pool.convert(kernel, ConversionDirection.CELSIUS_TO_FAHRENHEIT, values, new double[values.length], values.length);
+
+        // Then
+        assertEquals(1, kernel.calls.get());
+        assertEquals(Set.of(Thread.currentThread().getName()), kernel.threads);
+    }
+
+    @Test
+    @DisplayName("Should publish queue, activity and steal metrics")
+    void shouldBindPoolMetrics() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // When
+        pool.bindTo(registry);
+
+        // Then
+        assertEquals(2, registry.find(ParallelConversionPool.METRIC_PREFIX + ".queued").gauges().size());
+        assertNotNull(registry.get(ParallelConversionPool.METRIC_PREFIX + ".steals").functionCounter());
+        assertEquals(4.0, registry.get(ParallelConversionPool.METRIC_PREFIX + ".parallelism").gauge().value());
+    }
+
+    /**
+     * Kernel que registra cuántas veces y desde qué hilos se invoca.
+     */
+    private static final class RecordingKernel implements ArrayConversionKernel {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger converted = new AtomicInteger();
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public int convert(ConversionDirection direction, double[] values, double[] results, int from, int to) {
+            calls.incrementAndGet();
+            converted.addAndGet(to - from);
+            threads.add(Thread.currentThread().getName());
+            return 0;
+        }
+
+        @Override
+        public int convertLittleEndian(ConversionDirection direction, byte[] source, int sourceOffset,
+                                       byte[] target, int targetOffset, int from, int to) {
+            return convert(direction, null, null, from, to);
+        }
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+    }
+}
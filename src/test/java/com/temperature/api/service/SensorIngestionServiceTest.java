@@ -0,0 +1,216 @@
+package com.temperature.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.AggregationWindow;
+import com.temperature.api.model.SensorIngestResponse;
+import com.temperature.api.model.SensorReading;
+import com.temperature.api.model.TemperatureUnit;
+import com.temperature.api.model.WindowAggregate;
+import com.temperature.api.storage.ReadingLog;
+
+/**
+ * Pruebas unitarias para SensorIngestionService.
+ *
+ * Se comprueba la validación por lectura, la conversión a Celsius y que las lecturas
+ * aceptadas llegan al registro en disco y a los agregados.
+ */
+@DisplayName("SensorIngestionService Tests")
+class SensorIngestionServiceTest {
+
+    private static final long HOUR = AggregationWindow.ONE_HOUR.getDurationMillis();
+    private static final long MINUTE = AggregationWindow.ONE_MINUTE.getDurationMillis();
+    private static final long T0 = 1_700_000_000_000L / HOUR * HOUR;
+
+    @TempDir
+    Path directory;
+
+    private TemperatureConversionService service;
+    private SensorWindowAggregator aggregator;
+    private ReadingLog readingLog;
+
+    @BeforeEach
+    void setUp() {
+        service = new TemperatureConversionService();
+        aggregator = new SensorWindowAggregator(3, 60, 24);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (readingLog != null) {
+            readingLog.destroy();
+        }
+    }
+
+    private SensorIngestionService ingestion(boolean persist, int maxBatchSize) {
+        readingLog = new ReadingLog(persist, directory.toString(), DataSize.ofMegabytes(1),
+                Duration.ZERO, true, 0, Duration.ZERO);
+        return new SensorIngestionService(service, aggregator, readingLog, maxBatchSize, Duration.ofMinutes(5));
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should convert readings to Celsius and aggregate them per window")
+        void shouldAggregateConvertedReadings() {
+            // Given
+            List<SensorReading> readings = Arrays.asList(
+                    new SensorReading("thermo-1", T0, 32.0, "F"),
+                    new SensorReading("thermo-1", T0 + 1_000, 212.0, "°F"),
+                    new SensorReading("thermo-1", T0 + MINUTE, 300.0, "K"));
+
+            // When
+            SensorIngestResponse response = ingestion(false, 1000).ingest(readings);
+
+            // Then
+            assertEquals(3, response.getAccepted());
+            assertNull(response.getErrors());
+
+            WindowAggregate first = aggregator.getWindow("thermo-1", AggregationWindow.ONE_MINUTE, T0 + 59_999);
+            assertEquals(T0, first.getStart());
+            assertEquals(2, first.getCount());
+            assertEquals(0.0, first.getMin());
+            assertEquals(100.0, first.getMax());
+            assertEquals(50.0, first.getMean());
+
+            WindowAggregate hour = aggregator.getWindow("thermo-1", AggregationWindow.ONE_HOUR, T0);
+            assertEquals(3, hour.getCount());
+            assertEquals(42.28, hour.getMean());
+            assertEquals(2, aggregator.getWindows("thermo-1", AggregationWindow.ONE_MINUTE, null, null)
+                    .getWindows().size());
+        }
+
+        @Test
+        @DisplayName("Should report invalid readings by index without failing the batch")
+        void shouldReportInvalidReadingsByIndex() {
+            // Given
+            List<SensorReading> readings = Arrays.asList(
+                    new SensorReading("thermo-1", T0, 20.0, "C"),
+                    null,
+                    new SensorReading("thermo-1", null, 20.0, "C"),
+                    new SensorReading("thermo-1", T0, 20.0, "delisle"),
+                    new SensorReading("thermo-1", T0, -500.0, "F"),
+                    new SensorReading("thermo-2", T0, 20.0, "C"),
+                    new SensorReading("thermo-3", T0, 20.0, "C"),
+                    new SensorReading("thermo-4", T0, 20.0, "C"));
+
+            // When
+            SensorIngestResponse response = ingestion(true, 1000).ingest(readings);
+
+            // Then
+            assertEquals(3, response.getAccepted());
+            assertEquals(5, response.getRejected());
+            assertEquals("INVALID_DEVICE_ID", response.getErrors().get(0).getErrorCode());
+            assertEquals("INVALID_TIMESTAMP", response.getErrors().get(1).getErrorCode());
+            assertEquals("INVALID_UNIT", response.getErrors().get(2).getErrorCode());
+            assertEquals("INVALID_TEMPERATURE_VALUE", response.getErrors().get(3).getErrorCode());
+            assertEquals(7, response.getErrors().get(4).getIndex());
+            assertEquals("TOO_MANY_DEVICES", response.getErrors().get(4).getErrorCode());
+            assertEquals(3, readingLog.getNextSequence());
+        }
+
+        @Test
+        @DisplayName("Should reject oversized batches")
+        void shouldRejectOversizedBatches() {
+            SensorIngestionService small = ingestion(true, 1);
+            List<SensorReading> readings = Arrays.asList(
+                    new SensorReading("thermo-1", T0, 20.0, "C"), new SensorReading("thermo-1", T0, 21.0, "C"));
+
+            TemperatureConversionException exception =
+                    assertThrows(TemperatureConversionException.class, () -> small.ingest(readings));
+            assertEquals("BATCH_TOO_LARGE", exception.getErrorCode());
+            assertEquals(0, readingLog.getNextSequence());
+        }
+
+        @Test
+        @DisplayName("Should reject the whole batch when a reading is beyond the allowed clock skew")
+        void shouldRejectFutureReadings() {
+            // Given: una lectura válida, una dentro del desfase admitido y otra un día en el futuro
+            long now = System.currentTimeMillis();
+            SensorIngestionService ingestion = ingestion(false, 1000);
+            List<SensorReading> readings = Arrays.asList(
+                    new SensorReading("thermo-1", now, 20.0, "C"),
+                    new SensorReading("thermo-1", now + MINUTE, 21.0, "C"),
+                    new SensorReading("thermo-1", now + 24 * HOUR, 22.0, "C"));
+
+            // When
+            TemperatureConversionException exception =
+                    assertThrows(TemperatureConversionException.class, () -> ingestion.ingest(readings));
+
+            // Then: nada llega a los agregados, que siguen aceptando lecturas actuales
+            assertEquals("READING_IN_FUTURE", exception.getErrorCode());
+            assertEquals(2, exception.getErrorArgs()[0]);
+            assertNull(aggregator.getWindow("thermo-1", AggregationWindow.ONE_MINUTE, now));
+            assertEquals(2, ingestion.ingest(readings.subList(0, 2)).getAccepted());
+        }
+    }
+
+    @Nested
+    @DisplayName("Persistence Tests")
+    class PersistenceTests {
+
+        @Test
+        @DisplayName("Should persist the original and converted value of every accepted reading")
+        void shouldPersistAcceptedReadings() {
+            // Given
+            SensorIngestionService ingestion = ingestion(true, 1000);
+            List<SensorReading> readings = Arrays.asList(
+                    new SensorReading("thermo-1", T0, 98.6, "F"),
+                    new SensorReading("", T0, 20.0, "C"),
+                    new SensorReading("thermo-2", T0 + 5, 300.0, "K"));
+
+            // When
+            ingestion.ingest(readings);
+
+            // Then
+            List<String> persisted = new ArrayList<>();
+            readingLog.scan(0, (sequence, device, timestamp, value, unit, hundredths) -> persisted.add(
+                    sequence + ":" + readingLog.getDeviceId(device) + ":" + timestamp + ":" + value + ":"
+                            + unit + ":" + hundredths));
+            assertEquals(Arrays.asList(
+                    "0:thermo-1:" + T0 + ":98.6:" + TemperatureUnit.FAHRENHEIT + ":3700",
+                    "1:thermo-2:" + (T0 + 5) + ":300.0:" + TemperatureUnit.KELVIN + ":2685"), persisted);
+            assertEquals(readingLog.getNextSequence(), readingLog.getDurableSequence());
+        }
+
+        @Test
+        @DisplayName("Should accept readings older than the retained windows only when they are persisted")
+        void shouldAcceptOldReadingsOnlyWhenPersisted() {
+            // Given
+            List<SensorReading> readings = Arrays.asList(
+                    new SensorReading("thermo-1", T0 + 48 * HOUR, 20.0, "C"),
+                    new SensorReading("thermo-1", T0, 21.0, "C"));
+
+            // When
+            SensorIngestResponse persisted = ingestion(true, 1000).ingest(readings);
+            readingLog.destroy();
+            aggregator = new SensorWindowAggregator(3, 60, 24);
+            SensorIngestResponse inMemory = ingestion(false, 1000).ingest(readings);
+
+            // Then
+            assertEquals(2, persisted.getAccepted());
+            assertEquals(1, inMemory.getAccepted());
+            assertEquals("READING_TOO_OLD", inMemory.getErrors().get(0).getErrorCode());
+            assertEquals(1, inMemory.getErrors().get(0).getIndex());
+        }
+    }
+}
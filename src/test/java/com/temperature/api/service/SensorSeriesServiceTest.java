@@ -0,0 +1,319 @@
+package com.temperature.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.RollupSeriesResponse;
+import com.temperature.api.model.SensorSeriesResponse;
+import com.temperature.api.model.SeriesBucket;
+import com.temperature.api.model.TemperatureUnit;
+import com.temperature.api.model.WindowAggregate;
+import com.temperature.api.storage.ReadingBatch;
+import com.temperature.api.storage.ReadingLog;
+import com.temperature.api.storage.RollupEngine;
+
+/**
+ * Pruebas unitarias para SensorSeriesService.
+ *
+ * Las series se comparan con un recálculo directo de las mismas lecturas, con segmentos
+ * pequeños para que la consulta combine segmentos descartados, resumidos y recorridos.
+ * Las series de resúmenes se comparan con las calculadas sobre las lecturas.
+ */
+@DisplayName("SensorSeriesService Tests")
+class SensorSeriesServiceTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+    private static final long MINUTE = 60_000L;
+    private static final int READINGS_PER_DEVICE = 2_000;
+    private static final int INTERVAL_MILLIS = 7_000;
+
+    @TempDir
+    Path directory;
+
+    private final TemperatureConversionService conversionService = new TemperatureConversionService();
+    private ReadingLog readingLog;
+    private RollupEngine rollupEngine;
+    private int[] hundredths;
+
+    @AfterEach
+    void tearDown() {
+        if (rollupEngine != null) {
+            rollupEngine.destroy();
+        }
+        if (readingLog != null) {
+            readingLog.destroy();
+        }
+    }
+
+    private RollupEngine rollups(ReadingLog readingLog) {
+        rollupEngine = new RollupEngine(readingLog, true, Duration.ofHours(1), Duration.ofHours(1),
+                Duration.ZERO, Duration.ZERO, Duration.ZERO);
+        return rollupEngine;
+    }
+
+    /**
+     * Escribe lecturas de tres dispositivos intercaladas, una cada {@value #INTERVAL_MILLIS} ms
+     * por dispositivo, y guarda las de thermo-1 para el recálculo.
+     */
+    private SensorSeriesService seriesWithReadings(int maxBuckets) {
+        readingLog = new ReadingLog(true, directory.toString(), DataSize.ofBytes(64 + 100 * 32),
+                Duration.ZERO, false, 0, Duration.ZERO);
+        Random random = new Random(42);
+        hundredths = new int[READINGS_PER_DEVICE];
+        ReadingBatch batch = new ReadingBatch(3 * READINGS_PER_DEVICE);
+        for (int i = 0; i < READINGS_PER_DEVICE; i++) {
+            for (int device = 0; device < 3; device++) {
+                double celsius = Math.round((random.nextDouble() * 60.0 - 20.0) * 100.0) / 100.0;
+                if (device == 1) {
+                    hundredths[i] = (int) Math.round(celsius * 100);
+                }
+                batch.add("thermo-" + device, T0 + (long) i * INTERVAL_MILLIS, celsius, TemperatureUnit.CELSIUS,
+                        celsius);
+            }
+        }
+        readingLog.append(batch);
+        rollups(readingLog).catchUp();
+        return new SensorSeriesService(conversionService, readingLog, rollupEngine, maxBuckets);
+    }
+
+    /**
+     * Recalcula los tramos de thermo-1 recorriendo todas sus lecturas.
+     */
+    private void assertMatchesRecomputation(SensorSeriesResponse series, long from, long to) {
+        long step = series.getStepMillis();
+        int expectedBuckets = 0;
+        for (long start = series.getFrom(); start < to; start += step) {
+            long count = 0;
+            long sum = 0;
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            int last = 0;
+            for (int i = 0; i < READINGS_PER_DEVICE; i++) {
+                long timestamp = T0 + (long) i * INTERVAL_MILLIS;
+                if (timestamp >= Math.max(start, from) && timestamp < Math.min(start + step, to)) {
+                    count++;
+                    sum += hundredths[i];
+                    min = Math.min(min, hundredths[i]);
+                    max = Math.max(max, hundredths[i]);
+                    last = hundredths[i];
+                }
+            }
+            if (count == 0) {
+                continue;
+            }
+            SeriesBucket bucket = series.getBuckets().get(expectedBuckets++);
+            assertEquals(start, bucket.getStart());
+            assertEquals(count, bucket.getCount());
+            assertEquals(min / 100.0, bucket.getMin());
+            assertEquals(max / 100.0, bucket.getMax());
+            assertEquals(Math.round((double) sum / count) / 100.0, bucket.getAvg(), 0.0100001);
+            assertEquals(last / 100.0, bucket.getLast());
+        }
+        assertEquals(expectedBuckets, series.getBuckets().size());
+    }
+
+    @Nested
+    @DisplayName("Query Tests")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Should match a direct recomputation at fine resolution")
+        void shouldMatchRecomputationAtFineResolution() {
+            // Given
+            SensorSeriesService series = seriesWithReadings(10_000);
+            long from = T0 + 123_456;
+            long to = T0 + 3 * 60 * MINUTE;
+
+            // When
+            SensorSeriesResponse response = series.query("thermo-1", from, to, "1m", "C");
+
+            // Then
+            assertEquals("thermo-1", response.getDeviceId());
+            assertEquals(Math.floorDiv(from, MINUTE) * MINUTE, response.getFrom());
+            assertMatchesRecomputation(response, from, to);
+            assertTrue(response.getSegments().skipped() > 0);
+        }
+
+        @Test
+        @DisplayName("Should summarize whole segments at coarse resolution with the same result")
+        void shouldSummarizeSegmentsAtCoarseResolution() {
+            // Given
+            SensorSeriesService series = seriesWithReadings(10_000);
+            long to = T0 + (long) READINGS_PER_DEVICE * INTERVAL_MILLIS;
+
+            // When
+            SensorSeriesResponse response = series.query("thermo-1", T0, to, "30m", null);
+
+            // Then
+            assertMatchesRecomputation(response, T0, to);
+            assertTrue(response.getSegments().summarized() > 0);
+            assertEquals(READINGS_PER_DEVICE,
+                    response.getBuckets().stream().mapToLong(SeriesBucket::getCount).sum());
+        }
+
+        @Test
+        @DisplayName("Should convert bucket values to the requested unit")
+        void shouldConvertToRequestedUnit() {
+            // Given
+            SensorSeriesService series = seriesWithReadings(10_000);
+            long to = T0 + 60 * MINUTE;
+
+            // When
+            SensorSeriesResponse celsius = series.query("thermo-1", T0, to, "15m", "C");
+            SensorSeriesResponse fahrenheit = series.query("thermo-1", T0, to, "15m", "F");
+
+            // Then
+            assertEquals(TemperatureUnit.FAHRENHEIT.getDisplayName(), fahrenheit.getUnit());
+            assertEquals(celsius.getBuckets().size(), fahrenheit.getBuckets().size());
+            for (int i = 0; i < celsius.getBuckets().size(); i++) {
+                SeriesBucket source = celsius.getBuckets().get(i);
+                SeriesBucket converted = fahrenheit.getBuckets().get(i);
+                assertEquals(conversionService.convertCtoF(source.getMin()), converted.getMin());
+                assertEquals(conversionService.convertCtoF(source.getMax()), converted.getMax());
+                assertEquals(conversionService.convertCtoF(source.getLast()), converted.getLast());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Rollup Query Tests")
+    class RollupQueryTests {
+
+        @Test
+        @DisplayName("Should pick the coarsest tier that divides the step")
+        void shouldPickCoarsestTier() {
+            SensorSeriesService series = seriesWithReadings(10_000);
+            long to = T0 + (long) READINGS_PER_DEVICE * INTERVAL_MILLIS;
+
+            assertEquals("1d", series.queryRollups("thermo-1", T0, to, "1d", "C").getTier());
+            assertEquals("1h", series.queryRollups("thermo-1", T0, to, "2h", "C").getTier());
+            assertEquals("1m", series.queryRollups("thermo-1", T0, to, "90m", "C").getTier());
+            assertEquals("INVALID_STEP", assertThrows(TemperatureConversionException.class,
+                    () -> series.queryRollups("thermo-1", T0, to, "30s", "C")).getErrorCode());
+        }
+
+        @Test
+        @DisplayName("Should match the series computed from the readings")
+        void shouldMatchReadingSeries() {
+            // Given
+            SensorSeriesService series = seriesWithReadings(10_000);
+            long to = T0 + (long) READINGS_PER_DEVICE * INTERVAL_MILLIS;
+
+            for (String step : List.of("5m", "1h")) {
+                // When
+                SensorSeriesResponse readings = series.query("thermo-1", T0, to, step, "K");
+                RollupSeriesResponse rollups = series.queryRollups("thermo-1", T0, to, step, "K");
+
+                // Then
+                assertEquals(readings.getFrom(), rollups.getFrom());
+                assertEquals(0, rollups.getPendingReadings());
+                assertEquals(readings.getBuckets().size(), rollups.getBuckets().size());
+                for (int i = 0; i < readings.getBuckets().size(); i++) {
+                    SeriesBucket expected = readings.getBuckets().get(i);
+                    WindowAggregate actual = rollups.getBuckets().get(i);
+                    assertEquals(expected.getStart(), actual.getStart());
+                    assertEquals(expected.getCount(), actual.getCount());
+                    assertEquals(expected.getMin(), actual.getMin());
+                    assertEquals(expected.getMax(), actual.getMax());
+                    assertEquals(expected.getAvg(), actual.getMean());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should not silently truncate ranges older than the tier retention")
+        void shouldRespectTierRetention() {
+            // Given: resúmenes de 1m conservados 2 días y de 1h 90 días, con lecturas de hace una hora
+            long now = System.currentTimeMillis();
+            readingLog = new ReadingLog(true, directory.toString(), DataSize.ofMegabytes(1),
+                    Duration.ZERO, false, 0, Duration.ZERO);
+            ReadingBatch batch = new ReadingBatch(2);
+            batch.add("thermo-1", now - 3_600_000L, 20.0, TemperatureUnit.CELSIUS, 20.0);
+            batch.add("thermo-1", now - 3_600_000L + MINUTE, 22.0, TemperatureUnit.CELSIUS, 22.0);
+            readingLog.append(batch);
+            rollupEngine = new RollupEngine(readingLog, true, Duration.ofHours(1), Duration.ofHours(1),
+                    Duration.ofDays(2), Duration.ofDays(90), Duration.ZERO);
+            rollupEngine.catchUp();
+            SensorSeriesService series = new SensorSeriesService(conversionService, readingLog, rollupEngine, 10_000);
+            long monthAgo = now - TimeUnit.DAYS.toMillis(30);
+
+            // When / Then: un from explícito fuera de la retención de 1m se rechaza
+            TemperatureConversionException exception = assertThrows(TemperatureConversionException.class,
+                    () -> series.queryRollups("thermo-1", monthAgo, null, "15m", "C"));
+            assertEquals("RANGE_BEYOND_RETENTION", exception.getErrorCode());
+            assertEquals("1m", exception.getErrorArgs()[0]);
+
+            // Sin from se limita al primer tramo conservado y lo indica
+            RollupSeriesResponse recent = series.queryRollups("thermo-1", null, null, "15m", "C");
+            assertEquals("1m", recent.getTier());
+            assertTrue(recent.getFrom() >= now - TimeUnit.DAYS.toMillis(2));
+            assertEquals(2, recent.getBuckets().stream().mapToLong(WindowAggregate::getCount).sum());
+
+            // El nivel de 1h sí cubre el mes
+            RollupSeriesResponse hourly = series.queryRollups("thermo-1", monthAgo, null, "1h", "C");
+            assertEquals(monthAgo / 3_600_000L * 3_600_000L, hourly.getFrom());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should parse steps with every supported suffix")
+        void shouldParseSteps() {
+            assertEquals(500, SensorSeriesService.parseStep("500ms"));
+            assertEquals(30_000, SensorSeriesService.parseStep("30s"));
+            assertEquals(5 * MINUTE, SensorSeriesService.parseStep("5m"));
+            assertEquals(60 * MINUTE, SensorSeriesService.parseStep("1H"));
+            assertEquals(24 * 60 * MINUTE, SensorSeriesService.parseStep("1d"));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid queries with specific error codes")
+        void shouldRejectInvalidQueries() {
+            SensorSeriesService series = seriesWithReadings(100);
+
+            for (String step : List.of("0m", "5", "5w", "-1m", "")) {
+                assertEquals("INVALID_STEP", assertThrows(TemperatureConversionException.class,
+                        () -> series.query("thermo-1", T0, T0 + MINUTE, step, "C")).getErrorCode());
+            }
+            assertEquals("INVALID_UNIT", assertThrows(TemperatureConversionException.class,
+                    () -> series.query("thermo-1", T0, T0 + MINUTE, "1m", "X")).getErrorCode());
+            assertEquals("INVALID_RANGE", assertThrows(TemperatureConversionException.class,
+                    () -> series.query("thermo-1", T0, T0, "1m", "C")).getErrorCode());
+            assertEquals("TOO_MANY_BUCKETS", assertThrows(TemperatureConversionException.class,
+                    () -> series.query("thermo-1", T0, T0 + 101 * MINUTE, "1m", "C")).getErrorCode());
+            assertEquals("UNKNOWN_DEVICE", assertThrows(TemperatureConversionException.class,
+                    () -> series.query("thermo-9", T0, T0 + MINUTE, "1m", "C")).getErrorCode());
+        }
+
+        @Test
+        @DisplayName("Should fail when the reading log is disabled")
+        void shouldFailWhenStorageDisabled() {
+            readingLog = new ReadingLog(false, "", DataSize.ofMegabytes(1), Duration.ZERO, false, 0, Duration.ZERO);
+            SensorSeriesService series = new SensorSeriesService(conversionService, readingLog,
+                    rollups(readingLog), 100);
+
+            assertEquals("STORAGE_DISABLED", assertThrows(TemperatureConversionException.class,
+                    () -> series.query("thermo-1", null, null, null, null)).getErrorCode());
+            assertEquals("STORAGE_DISABLED", assertThrows(TemperatureConversionException.class,
+                    () -> series.queryRollups("thermo-1", null, null, null, null)).getErrorCode());
+        }
+    }
+}
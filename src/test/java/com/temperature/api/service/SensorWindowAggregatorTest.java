@@ -0,0 +1,186 @@
+package com.temperature.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.AggregationWindow;
+import com.temperature.api.model.WindowAggregate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Pruebas unitarias para SensorWindowAggregator.
+ *
+ * Las ventanas se comparan con un recálculo directo sobre las lecturas, y la memoria
+ * con la que se reserva al crear cada dispositivo.
+ */
+@DisplayName("SensorWindowAggregator Tests")
+class SensorWindowAggregatorTest {
+
+    private static final long HOUR = AggregationWindow.ONE_HOUR.getDurationMillis();
+    private static final long MINUTE = AggregationWindow.ONE_MINUTE.getDurationMillis();
+    private static final long T0 = 1_700_000_000_000L / HOUR * HOUR;
+
+    private SensorWindowAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new SensorWindowAggregator(3, 60, 24);
+    }
+
+    @Nested
+    @DisplayName("Window Ring Tests")
+    class WindowRingTests {
+
+        @Test
+        @DisplayName("Should match a direct recomputation over random readings")
+        void shouldMatchDirectRecomputation() {
+            // Given
+            Random random = new Random(42);
+            long[] timestamps = new long[5_000];
+            int[] hundredths = new int[timestamps.length];
+            for (int i = 0; i < timestamps.length; i++) {
+                timestamps[i] = T0 + (long) (random.nextDouble() * 30 * MINUTE);
+                hundredths[i] = random.nextInt(10_000) - 5_000;
+                aggregator.record("thermo-1", timestamps[i], hundredths[i] / 100.0);
+            }
+
+            // When
+            List<WindowAggregate> windows =
+                    aggregator.getWindows("thermo-1", AggregationWindow.ONE_MINUTE, null, null).getWindows();
+
+            // Then
+            assertEquals(30, windows.size());
+            for (WindowAggregate window : windows) {
+                int count = 0;
+                long sum = 0;
+                int min = Integer.MAX_VALUE;
+                int max = Integer.MIN_VALUE;
+                for (int i = 0; i < timestamps.length; i++) {
+                    if (timestamps[i] >= window.getStart() && timestamps[i] < window.getEnd()) {
+                        count++;
+                        sum += hundredths[i];
+                        min = Math.min(min, hundredths[i]);
+                        max = Math.max(max, hundredths[i]);
+                    }
+                }
+                assertEquals(count, window.getCount());
+                assertEquals(min / 100.0, window.getMin());
+                assertEquals(max / 100.0, window.getMax());
+                assertEquals(BigDecimal.valueOf(sum)
+                        .divide(BigDecimal.valueOf(count * 100L), 2, RoundingMode.HALF_UP)
+                        .doubleValue(), window.getMean());
+            }
+        }
+
+        @Test
+        @DisplayName("Should evict windows older than the retained ones and reject late readings")
+        void shouldEvictOldWindows() {
+            // Given
+            aggregator.record("thermo-1", T0, 10.0);
+
+            // When
+            aggregator.record("thermo-1", T0 + 60 * MINUTE, 11.0);
+
+            // Then
+            assertNull(aggregator.getWindow("thermo-1", AggregationWindow.ONE_MINUTE, T0));
+            assertEquals(1, aggregator.getWindows("thermo-1", AggregationWindow.ONE_MINUTE, null, null)
+                    .getWindows().size());
+            assertEquals(2, aggregator.getWindow("thermo-1", AggregationWindow.ONE_HOUR, T0).getCount()
+                    + aggregator.getWindow("thermo-1", AggregationWindow.ONE_HOUR, T0 + HOUR).getCount());
+
+            // Fuera de la ventana de 1 minuto pero dentro de la de 1 hora: se acepta
+            assertTrue(aggregator.record("thermo-1", T0 + 1, 12.0));
+            assertEquals(2, aggregator.getWindow("thermo-1", AggregationWindow.ONE_HOUR, T0).getCount());
+            // Fuera de todas las ventanas conservadas: se rechaza
+            assertFalse(aggregator.record("thermo-1", T0 - 24 * HOUR, 12.0));
+        }
+
+        @Test
+        @DisplayName("Should filter windows by time range")
+        void shouldFilterWindowsByRange() {
+            for (int minute = 0; minute < 10; minute++) {
+                aggregator.record("thermo-1", T0 + minute * MINUTE, minute);
+            }
+
+            List<WindowAggregate> windows = aggregator.getWindows("thermo-1", AggregationWindow.ONE_MINUTE,
+                    T0 + 3 * MINUTE + 1, T0 + 5 * MINUTE).getWindows();
+
+            assertEquals(2, windows.size());
+            assertEquals(T0 + 3 * MINUTE, windows.get(0).getStart());
+            assertEquals(4.0, windows.get(1).getMean());
+        }
+    }
+
+    @Nested
+    @DisplayName("Memory and Query Tests")
+    class MemoryTests {
+
+        @Test
+        @DisplayName("Should report a fixed memory per device regardless of the number of readings")
+        void shouldReportBoundedMemory() {
+            // Given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            aggregator.bindTo(registry);
+            aggregator.record("thermo-1", T0, 20.0);
+            long perDevice = aggregator.getBytesPerDevice();
+
+            // When
+            for (int i = 0; i < 10_000; i++) {
+                aggregator.record("thermo-1", T0 + i * 1_000L, 20.0);
+            }
+            aggregator.record("thermo-2", T0, 20.0);
+
+            // Then
+            assertEquals(perDevice, aggregator.getBytesPerDevice());
+            assertEquals(2 * perDevice, aggregator.getMemoryBytes());
+            assertEquals(2 * perDevice, registry.get(SensorWindowAggregator.MEMORY_GAUGE).gauge().value());
+            assertEquals(2.0, registry.get(SensorWindowAggregator.DEVICES_GAUGE).gauge().value());
+            assertEquals(3 * perDevice, aggregator.getMemoryReport().get("maxMemoryBytes"));
+        }
+
+        @Test
+        @DisplayName("Should refuse new devices beyond the maximum")
+        void shouldRefuseDevicesBeyondMaximum() {
+            // Given
+            assertTrue(aggregator.register("thermo-1"));
+            assertTrue(aggregator.register("thermo-2"));
+            assertTrue(aggregator.register("thermo-3"));
+
+            // When / Then
+            assertFalse(aggregator.register("thermo-4"));
+            assertTrue(aggregator.register("thermo-1"));
+            assertEquals(3, aggregator.getDeviceCount());
+            TemperatureConversionException exception = assertThrows(TemperatureConversionException.class,
+                    () -> aggregator.record("thermo-4", T0, 20.0));
+            assertEquals("TOO_MANY_DEVICES", exception.getErrorCode());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown devices and invalid windows")
+        void shouldRejectUnknownDevicesAndWindows() {
+            TemperatureConversionException unknown = assertThrows(TemperatureConversionException.class,
+                    () -> aggregator.getWindows("missing", AggregationWindow.ONE_MINUTE, null, null));
+            assertEquals("UNKNOWN_DEVICE", unknown.getErrorCode());
+
+            TemperatureConversionException window = assertThrows(TemperatureConversionException.class,
+                    () -> SensorWindowAggregator.resolveWindow("5m"));
+            assertEquals("INVALID_WINDOW", window.getErrorCode());
+            assertEquals(AggregationWindow.ONE_HOUR, SensorWindowAggregator.resolveWindow("1H"));
+        }
+    }
+}
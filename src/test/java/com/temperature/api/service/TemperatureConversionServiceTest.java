@@ -1,8 +1,17 @@
 package com.temperature.api.service;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,11 +20,17 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.temperature.api.exception.InvalidTemperatureException;
+import com.temperature.api.exception.TemperatureConversionException;
+import com.temperature.api.model.BatchConversionResponse;
+import com.temperature.api.model.ConversionDirection;
 import com.temperature.api.model.TemperatureConversionResponse;
+import com.temperature.api.model.TemperatureUnit;
+import com.temperature.api.model.TemperatureValidationResult;
 
 /**
  * Pruebas unitarias para TemperatureConversionService.
@@ -256,6 +271,408 @@ class TemperatureConversionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Primitive Fast Path Tests")
+    class PrimitiveFastPathTests {
+
+        @Test
+        @DisplayName("Should match BigDecimal Celsius to Fahrenheit over the whole valid range at 0.01 resolution")
+        void shouldMatchBigDecimalCelsiusToFahrenheitExhaustively() {
+            for (long hundredths = -27315; hundredths <= 1_000_000; hundredths++) {
+                double celsius = hundredths / 100.0;
+                double expected = referenceCelsiusToFahrenheit(celsius);
+                double actual = service.convertCtoF(celsius);
+                if (Double.doubleToLongBits(expected) != Double.doubleToLongBits(actual)) {
+                    assertEquals(expected, actual, "Mismatch for " + celsius + "°C");
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should match BigDecimal Fahrenheit to Celsius over the whole valid range at 0.01 resolution")
+        void shouldMatchBigDecimalFahrenheitToCelsiusExhaustively() {
+            for (long hundredths = -45967; hundredths <= 1_000_000; hundredths++) {
+                double fahrenheit = hundredths / 100.0;
+                double expected = referenceFahrenheitToCelsius(fahrenheit);
+                double actual = service.convertFtoC(fahrenheit);
+                if (Double.doubleToLongBits(expected) != Double.doubleToLongBits(actual)) {
+                    assertEquals(expected, actual, "Mismatch for " + fahrenheit + "°F");
+                }
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = {0.1 + 0.2, 36.666666666666664, -273.149999999, 9999.987654321, 1e-300})
+        @DisplayName("Should match BigDecimal for values with many decimals")
+        void shouldMatchBigDecimalForLongDecimals(double value) {
+            assertEquals(referenceCelsiusToFahrenheit(value), service.convertCtoF(value));
+            assertEquals(referenceFahrenheitToCelsius(value), service.convertFtoC(value));
+        }
+
+        @ParameterizedTest
+        @CsvSource({"-17.74725, 0.05", "-0.04725, 31.91"})
+        @DisplayName("Should round C × 9/5 before adding 32 when the product is negative")
+        void shouldRoundBeforeAddingOffset(double celsius, double expected) {
+            assertEquals(expected, service.convertCtoF(celsius));
+            assertEquals(expected, referenceCelsiusToFahrenheit(celsius));
+        }
+
+        @Test
+        @DisplayName("Should match BigDecimal for random values with 5 to 9 decimals")
+        void shouldMatchBigDecimalForRandomLongDecimals() {
+            // Given: a 0.01 todo producto es exacto a 4 decimales y nunca hay empates
+            Random random = new Random(2024);
+            for (int i = 0; i < 200_000; i++) {
+                int decimals = 5 + i % 5;
+                double scale = Math.pow(10, decimals);
+                double celsius = Math.max(-273.15,
+                        Math.round((random.nextDouble() * 600.0 - 300.0) * scale) / scale);
+                double fahrenheit = Math.max(-459.67,
+                        Math.round((random.nextDouble() * 1_000.0 - 500.0) * scale) / scale);
+
+                // When / Then
+                assertEquals(referenceCelsiusToFahrenheit(celsius), service.convertCtoF(celsius), celsius + "°C");
+                assertEquals(referenceFahrenheitToCelsius(fahrenheit), service.convertFtoC(fahrenheit),
+                        fahrenheit + "°F");
+            }
+        }
+
+        @Test
+        @DisplayName("Should validate primitive inputs")
+        void shouldValidatePrimitiveInputs() {
+            assertThrows(InvalidTemperatureException.class, () -> service.convertCtoF(-273.16));
+            assertThrows(InvalidTemperatureException.class, () -> service.convertFtoC(-459.68));
+            assertThrows(InvalidTemperatureException.class, () -> service.convertCtoF(10000.01));
+            assertThrows(InvalidTemperatureException.class, () -> service.convertFtoC(Double.NaN));
+        }
+
+        private double referenceCelsiusToFahrenheit(double celsius) {
+            return BigDecimal.valueOf(celsius)
+                    .multiply(BigDecimal.valueOf(9))
+                    .divide(BigDecimal.valueOf(5), 4, RoundingMode.HALF_UP)
+                    .add(BigDecimal.valueOf(32))
+                    .setScale(2, RoundingMode.HALF_UP)
+                    .doubleValue();
+        }
+
+        private double referenceFahrenheitToCelsius(double fahrenheit) {
+            return BigDecimal.valueOf(fahrenheit)
+                    .subtract(BigDecimal.valueOf(32))
+                    .multiply(BigDecimal.valueOf(5))
+                    .divide(BigDecimal.valueOf(9), 4, RoundingMode.HALF_UP)
+                    .setScale(2, RoundingMode.HALF_UP)
+                    .doubleValue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Affine Matrix Tests")
+    class AffineMatrixTests {
+
+        @ParameterizedTest
+        @CsvSource({
+                "KELVIN_TO_CELSIUS, 0.0, -273.15",
+                "KELVIN_TO_CELSIUS, 300.0, 26.85",
+                "CELSIUS_TO_KELVIN, 100.0, 373.15",
+                "RANKINE_TO_CELSIUS, 491.67, 0.0",
+                "CELSIUS_TO_RANKINE, 100.0, 671.67",
+                "FAHRENHEIT_TO_KELVIN, 32.0, 273.15",
+                "KELVIN_TO_FAHRENHEIT, 0.0, -459.67",
+                "FAHRENHEIT_TO_RANKINE, 0.0, 459.67",
+                "RANKINE_TO_FAHRENHEIT, 0.0, -459.67",
+                "KELVIN_TO_RANKINE, 373.15, 671.67",
+                "RANKINE_TO_KELVIN, 671.67, 373.15"
+        })
+        @DisplayName("Should convert reference points between every pair of units")
+        void shouldConvertReferencePoints(ConversionDirection direction, double value, double expected) {
+            assertEquals(expected, service.convert(direction, value));
+        }
+
+        @Test
+        @DisplayName("Should match the BigDecimal chain of every direction for values with 0 to 9 decimals")
+        void shouldMatchBigDecimalChainForEveryDirection() {
+            Random random = new Random(7);
+            for (ConversionDirection direction : ConversionDirection.values()) {
+                double lower = direction.getSourceUnit().getAbsoluteZero();
+                for (int i = 0; i < 20_000; i++) {
+                    double scale = Math.pow(10, i % 10);
+                    double value = Math.max(lower,
+                            Math.round((lower + random.nextDouble() * (10_000 - lower)) * scale) / scale);
+
+                    assertEquals(referenceChain(direction, value), service.convert(direction, value),
+                            direction + " " + value);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should build responses for the new units and validate their absolute zero")
+        void shouldBuildResponsesAndValidateAbsoluteZero() {
+            // When
+            TemperatureConversionResponse response =
+                    service.convertTemperature(ConversionDirection.KELVIN_TO_CELSIUS, 300.0);
+
+            // Then
+            assertEquals("Kelvin", response.getOriginalUnit());
+            assertEquals("Celsius", response.getConvertedUnit());
+            assertEquals(26.85, response.getConvertedValue());
+            assertEquals("C = K - 273.15", response.getFormula());
+            assertThrows(InvalidTemperatureException.class,
+                    () -> service.convert(ConversionDirection.KELVIN_TO_CELSIUS, -0.01));
+            assertThrows(InvalidTemperatureException.class,
+                    () -> service.convert(ConversionDirection.RANKINE_TO_KELVIN, -0.01));
+        }
+
+        @Test
+        @DisplayName("Should resolve directions from unit names, initials and symbols")
+        void shouldResolveDirections() {
+            assertEquals(ConversionDirection.KELVIN_TO_RANKINE,
+                    TemperatureConversionService.resolveDirection("K", "°R"));
+            assertEquals(ConversionDirection.CELSIUS_TO_FAHRENHEIT,
+                    TemperatureConversionService.resolveDirection("celsius", "F"));
+
+            TemperatureConversionException same = assertThrows(TemperatureConversionException.class,
+                    () -> TemperatureConversionService.resolveDirection("kelvin", "K"));
+            assertEquals(TemperatureConversionService.INVALID_UNIT, same.getErrorCode());
+            assertThrows(TemperatureConversionException.class,
+                    () -> TemperatureConversionService.resolveDirection("celsius", null));
+        }
+
+        /**
+         * Referencia independiente de la matriz: la fórmula de cada sentido con
+         * {@link BigDecimal}, redondeando HALF_UP a 4 decimales en la división (antes de sumar
+         * el desplazamiento de destino, como la cadena original de C → F) y después a 2.
+         */
+        private double referenceChain(ConversionDirection direction, double value) {
+            // {desplazamiento de origen, multiplicador, divisor, desplazamiento de destino}
+            String[] chain = switch (direction) {
+                case CELSIUS_TO_FAHRENHEIT -> new String[] {"0", "9", "5", "32"};
+                case FAHRENHEIT_TO_CELSIUS -> new String[] {"32", "5", "9", "0"};
+                case CELSIUS_TO_KELVIN -> new String[] {"0", "1", "1", "273.15"};
+                case KELVIN_TO_CELSIUS -> new String[] {"0", "1", "1", "-273.15"};
+                case CELSIUS_TO_RANKINE -> new String[] {"0", "9", "5", "491.67"};
+                case RANKINE_TO_CELSIUS -> new String[] {"0", "5", "9", "-273.15"};
+                case FAHRENHEIT_TO_KELVIN -> new String[] {"-459.67", "5", "9", "0"};
+                case KELVIN_TO_FAHRENHEIT -> new String[] {"0", "9", "5", "-459.67"};
+                case FAHRENHEIT_TO_RANKINE -> new String[] {"0", "1", "1", "459.67"};
+                case RANKINE_TO_FAHRENHEIT -> new String[] {"0", "1", "1", "-459.67"};
+                case KELVIN_TO_RANKINE -> new String[] {"0", "9", "5", "0"};
+                case RANKINE_TO_KELVIN -> new String[] {"0", "5", "9", "0"};
+            };
+            return BigDecimal.valueOf(value)
+                    .subtract(new BigDecimal(chain[0]))
+                    .multiply(new BigDecimal(chain[1]))
+                    .divide(new BigDecimal(chain[2]), 4, RoundingMode.HALF_UP)
+                    .add(new BigDecimal(chain[3]))
+                    .setScale(2, RoundingMode.HALF_UP)
+                    .doubleValue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Non-Throwing Validation Tests")
+    class ValidationResultTests {
+
+        @Test
+        @DisplayName("Should classify values without throwing")
+        void shouldClassifyValuesWithoutThrowing() {
+            assertEquals(TemperatureValidationResult.VALID, service.validate(25.0, TemperatureUnit.CELSIUS));
+            assertEquals(TemperatureValidationResult.BELOW_ABSOLUTE_ZERO,
+                    service.validate(-999.0, TemperatureUnit.CELSIUS));
+            assertEquals(TemperatureValidationResult.VALID, service.validate(-300.0, TemperatureUnit.FAHRENHEIT));
+            assertEquals(TemperatureValidationResult.ABOVE_MAXIMUM,
+                    service.validate(15000.0, TemperatureUnit.FAHRENHEIT));
+            assertEquals(TemperatureValidationResult.NOT_A_NUMBER,
+                    service.validate(Double.NaN, TemperatureUnit.CELSIUS));
+            assertEquals(TemperatureValidationResult.BELOW_ABSOLUTE_ZERO,
+                    service.validate(Double.NEGATIVE_INFINITY, TemperatureUnit.CELSIUS));
+        }
+
+        @Test
+        @DisplayName("Should build the same message as the throwing validation")
+        void shouldBuildSameMessageAsThrowingValidation() {
+            // Given
+            InvalidTemperatureException thrown = assertThrows(
+                    InvalidTemperatureException.class,
+                    () -> service.celsiusToFahrenheit(-999.0)
+            );
+
+            // When
+            InvalidTemperatureException created = service.createValidationException(
+                    TemperatureValidationResult.BELOW_ABSOLUTE_ZERO, -999.0, TemperatureUnit.CELSIUS);
+
+            // Then
+            assertEquals(thrown.getMessage(), created.getMessage());
+            assertEquals(thrown.getErrorCode(), created.getErrorCode());
+        }
+
+        @Test
+        @DisplayName("Should reject without capturing stack traces")
+        void shouldRejectWithoutCapturingStackTraces() {
+            InvalidTemperatureException belowZero = assertThrows(
+                    InvalidTemperatureException.class, () -> service.convertCtoF(-999.0));
+            InvalidTemperatureException nullValue = assertThrows(
+                    InvalidTemperatureException.class, () -> service.celsiusToFahrenheit(null));
+
+            assertEquals(0, belowZero.getStackTrace().length);
+            assertEquals(0, nullValue.getStackTrace().length);
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Conversion Tests")
+    class BatchConversionTests {
+
+        @Test
+        @DisplayName("Should convert valid values and report invalid ones by index")
+        void shouldReportInvalidValuesByIndex() {
+            // When
+            BatchConversionResponse response = service.convertBatch(
+                    ConversionDirection.CELSIUS_TO_FAHRENHEIT,
+                    Arrays.asList(25.0, -999.0, null, 100.0, Double.NaN));
+
+            // Then
+            assertEquals(5, response.getCount());
+            assertEquals(3, response.getErrorCount());
+            assertEquals(Arrays.asList(77.0, null, null, 212.0, null), response.getResults());
+            assertEquals(1, response.getErrors().get(0).getIndex());
+            assertEquals("INVALID_TEMPERATURE_VALUE", response.getErrors().get(0).getErrorCode());
+            assertEquals(2, response.getErrors().get(1).getIndex());
+            assertEquals(4, response.getErrors().get(2).getIndex());
+        }
+
+        @Test
+        @DisplayName("Should omit errors when every value is valid")
+        void shouldOmitErrorsWhenAllValuesAreValid() {
+            // When
+            BatchConversionResponse response = service.convertBatch(
+                    ConversionDirection.FAHRENHEIT_TO_CELSIUS, Arrays.asList(32.0, 212.0));
+
+            // Then
+            assertEquals(Arrays.asList(0.0, 100.0), response.getResults());
+            assertEquals(0, response.getErrorCount());
+            assertNull(response.getErrors());
+        }
+    }
+
+    @Nested
+    @DisplayName("Array Conversion Tests")
+    class ArrayConversionTests {
+
+        @Test
+        @DisplayName("Vector and scalar kernels should produce bit-identical results")
+        void shouldMatchScalarKernelExactly() {
+            // Given: lecturas con 0-4 decimales, negativas, fuera de rango y especiales
+            TemperatureConversionService vector = new TemperatureConversionService(ConversionMetrics.noop(), true);
+            TemperatureConversionService scalar = new TemperatureConversionService(ConversionMetrics.noop(), false);
+            Random random = new Random(42);
+            double[] values = new double[10_007];
+            for (int i = 0; i < values.length; i++) {
+                double raw = random.nextDouble() * 10_600.0 - 600.0;
+                double scale = Math.pow(10, i % 5);
+                values[i] = Math.round(raw * scale) / scale;
+            }
+            values[3] = Double.NaN;
+            values[5] = Double.POSITIVE_INFINITY;
+            values[7] = -0.0;
+            values[11] = 1e300;
+
+            for (ConversionDirection direction : ConversionDirection.values()) {
+                // When
+                double[] vectorResults = new double[values.length];
+                double[] scalarResults = new double[values.length];
+                int vectorInvalid = vector.convertArray(direction, values, vectorResults);
+                int scalarInvalid = scalar.convertArray(direction, values, scalarResults);
+
+                // Then
+                assertEquals(scalarInvalid, vectorInvalid);
+                for (int i = 0; i < values.length; i++) {
+                    assertEquals(Double.doubleToLongBits(scalarResults[i]), Double.doubleToLongBits(vectorResults[i]),
+                            direction + " " + values[i]);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should match the single-value conversion and flag invalid values as NaN")
+        void shouldMatchSingleValueConversion() {
+            // Given
+            double[] values = {25.0, -999.0, 37.5, Double.NaN, 0.1, 98.6, -40.0, 10_001.0, 21.123456};
+            double[] results = new double[values.length];
+
+            // When
+            int invalid = service.convertArray(ConversionDirection.CELSIUS_TO_FAHRENHEIT, values, results);
+
+            // Then
+            assertEquals(3, invalid);
+            for (int i = 0; i < values.length; i++) {
+                if (service.validate(values[i], TemperatureUnit.CELSIUS).isValid()) {
+                    assertEquals(service.convertCtoF(values[i]), results[i], 0.0);
+                } else {
+                    assertTrue(Double.isNaN(results[i]));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Little-endian buffers should be converted exactly like arrays")
+        void shouldConvertLittleEndianBuffersLikeArrays() {
+            // Given: valores con 0-3 decimales y algunos inválidos, tras cabeceras de 8 y 16 bytes
+            Random random = new Random(7);
+            double[] values = new double[200_003];
+            for (int i = 0; i < values.length; i++) {
+                double scale = Math.pow(10, i % 4);
+                values[i] = Math.round((random.nextDouble() * 1_000.0 - 600.0) * scale) / scale;
+            }
+            values[1] = Double.NaN;
+            ByteBuffer source = ByteBuffer.allocate(8 + values.length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            source.position(8);
+            source.asDoubleBuffer().put(values);
+
+            ParallelConversionPool pool = new ParallelConversionPool(4, 0, 3);
+            try {
+                for (TemperatureConversionService candidate : Arrays.asList(
+                        new TemperatureConversionService(ConversionMetrics.noop(), true),
+                        new TemperatureConversionService(ConversionMetrics.noop(), false),
+                        new TemperatureConversionService(ConversionMetrics.noop(), pool, true))) {
+                    for (ConversionDirection direction : ConversionDirection.values()) {
+                        // When
+                        double[] expected = new double[values.length];
+                        int expectedInvalid = service.convertArray(direction, values, expected);
+                        byte[] target = new byte[16 + values.length * Double.BYTES];
+                        int invalid = candidate.convertLittleEndian(direction, source.array(), 8, target, 16,
+                                values.length);
+
+                        // Then
+                        double[] results = new double[values.length];
+                        ByteBuffer.wrap(target, 16, values.length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                                .asDoubleBuffer().get(results);
+                        assertEquals(expectedInvalid, invalid, candidate.getArrayKernelName() + " " + direction);
+                        assertArrayEquals(expected, results, candidate.getArrayKernelName() + " " + direction);
+                    }
+                }
+            } finally {
+                pool.destroy();
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject buffer ranges past the end of either buffer")
+        void shouldRejectOutOfBoundsBufferRanges() {
+            assertThrows(IllegalArgumentException.class, () -> service.convertLittleEndian(
+                    ConversionDirection.CELSIUS_TO_FAHRENHEIT, new byte[16], 8, new byte[16], 0, 2));
+            assertThrows(IllegalArgumentException.class, () -> service.convertLittleEndian(
+                    ConversionDirection.CELSIUS_TO_FAHRENHEIT, new byte[16], 0, new byte[16], 8, 2));
+        }
+
+        @Test
+        @DisplayName("Should use the scalar kernel when vectorization is disabled")
+        void shouldFallBackToScalarKernel() {
+            assertEquals("scalar",
+                    new TemperatureConversionService(ConversionMetrics.noop(), false).getArrayKernelName());
+        }
+    }
+
     @Nested
     @DisplayName("Temperature Context and Utility Tests")
     class TemperatureContextTests {
@@ -0,0 +1,384 @@
+package com.temperature.api.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.temperature.api.model.TemperatureUnit;
+
+/**
+ * Pruebas unitarias para ReadingLog.
+ *
+ * Se escribe en un directorio temporal con segmentos pequeños para forzar rotaciones, y
+ * se simulan paradas inesperadas modificando los ficheros entre una apertura y otra.
+ */
+@DisplayName("ReadingLog Tests")
+class ReadingLogTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+    private static final int RECORDS_PER_SEGMENT = 10;
+    private static final DataSize SEGMENT_SIZE =
+            DataSize.ofBytes(LogSegment.HEADER_BYTES + RECORDS_PER_SEGMENT * LogSegment.RECORD_BYTES);
+
+    @TempDir
+    Path directory;
+
+    private final List<ReadingLog> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(ReadingLog::destroy);
+    }
+
+    private ReadingLog open(int maxSegments) {
+        ReadingLog readingLog = new ReadingLog(true, directory.toString(), SEGMENT_SIZE,
+                Duration.ZERO, true, maxSegments, Duration.ZERO);
+        opened.add(readingLog);
+        return readingLog;
+    }
+
+    private static ReadingBatch batch(int from, int count) {
+        ReadingBatch batch = new ReadingBatch(count);
+        for (int i = from; i < from + count; i++) {
+            batch.add("thermo-" + (i % 3), T0 + i, 50.0 + i, TemperatureUnit.FAHRENHEIT, 10.0 + i / 100.0);
+        }
+        return batch;
+    }
+
+    private static List<String> scan(ReadingLog readingLog, long fromSequence) {
+        List<String> records = new ArrayList<>();
+        readingLog.scan(fromSequence, (sequence, device, timestamp, value, unit, hundredths) -> records.add(
+                sequence + ":" + readingLog.getDeviceId(device) + ":" + (timestamp - T0) + ":" + value + ":"
+                        + unit.getSymbol() + ":" + hundredths));
+        return records;
+    }
+
+    private static String expected(int i) {
+        return i + ":thermo-" + (i % 3) + ":" + i + ":" + (50.0 + i) + ":°F:" + (1000 + i);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(LogSegment.SUFFIX)).sorted().toList();
+        }
+    }
+
+    private static Path indexFile(Path segment) {
+        return segment.resolveSibling(segment.getFileName().toString().replace(LogSegment.SUFFIX, SegmentIndex.SUFFIX));
+    }
+
+    @Nested
+    @DisplayName("Append and Scan Tests")
+    class AppendTests {
+
+        @Test
+        @DisplayName("Should assign consecutive sequences and scan readings across segments in order")
+        void shouldScanAcrossSegments() throws IOException {
+            // Given
+            ReadingLog readingLog = open(0);
+
+            // When
+            assertEquals(7, readingLog.append(batch(0, 7)));
+            assertEquals(25, readingLog.append(batch(7, 18)));
+
+            // Then
+            List<String> records = scan(readingLog, 0);
+            assertEquals(25, records.size());
+            for (int i = 0; i < records.size(); i++) {
+                assertEquals(expected(i), records.get(i));
+            }
+            assertEquals(expected(12), scan(readingLog, 12).get(0));
+            assertEquals(3, readingLog.getSegmentCount());
+            assertEquals(3, segmentFiles().size());
+            assertEquals(25, readingLog.getDurableSequence());
+            assertEquals(3 * SEGMENT_SIZE.toBytes(), readingLog.getStorageBytes());
+        }
+
+        @Test
+        @DisplayName("Should share disk syncs between concurrent writers")
+        void shouldGroupConcurrentCommits() throws Exception {
+            // Given
+            ReadingLog readingLog = new ReadingLog(true, directory.toString(), DataSize.ofMegabytes(1),
+                    Duration.ofMillis(5), true, 0, Duration.ZERO);
+            opened.add(readingLog);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // When
+            List<Future<Long>> futures = new ArrayList<>();
+            try {
+                for (int i = 0; i < 200; i++) {
+                    int from = i * 10;
+                    futures.add(executor.submit(() -> readingLog.append(batch(from, 10))));
+                }
+                for (Future<Long> future : futures) {
+                    long end = future.get();
+                    assertTrue(readingLog.getDurableSequence() >= end);
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            // Then
+            assertEquals(2000, readingLog.getNextSequence());
+            assertEquals(2000, scan(readingLog, 0).size());
+            assertTrue(readingLog.getSyncCount() < futures.size());
+        }
+
+        @Test
+        @DisplayName("Should not create any file when disabled")
+        void shouldDoNothingWhenDisabled() throws IOException {
+            ReadingLog readingLog = new ReadingLog(false, directory.resolve("disabled").toString(), SEGMENT_SIZE,
+                    Duration.ZERO, true, 0, Duration.ZERO);
+
+            assertEquals(0, readingLog.append(batch(0, 5)));
+            assertTrue(scan(readingLog, 0).isEmpty());
+            assertFalse(readingLog.isEnabled());
+            assertFalse(Files.exists(directory.resolve("disabled")));
+        }
+
+        @Test
+        @DisplayName("Should refuse a directory already in use")
+        void shouldRefuseDirectoryInUse() {
+            open(0);
+            assertThrows(UncheckedIOException.class, () -> open(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Recovery Tests")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("Should reopen the log and continue after the last reading")
+        void shouldContinueAfterReopen() {
+            // Given
+            ReadingLog first = open(0);
+            first.append(batch(0, 13));
+            first.destroy();
+
+            // When
+            ReadingLog reopened = open(0);
+            reopened.append(batch(13, 4));
+
+            // Then
+            List<String> records = scan(reopened, 0);
+            assertEquals(17, records.size());
+            for (int i = 0; i < records.size(); i++) {
+                assertEquals(expected(i), records.get(i));
+            }
+            assertEquals(0, reopened.getDeviceIndex("thermo-0"));
+            assertEquals(-1, reopened.getDeviceIndex("thermo-9"));
+        }
+
+        @Test
+        @DisplayName("Should discard a torn tail and readings written after it")
+        void shouldDiscardTornTail() throws IOException {
+            // Given: 6 lecturas en el segundo segmento; la cuarta queda a medio escribir
+            ReadingLog first = open(0);
+            first.append(batch(0, 16));
+            first.destroy();
+            Path last = segmentFiles().get(1);
+            try (RandomAccessFile file = new RandomAccessFile(last.toFile(), "rw")) {
+                file.seek(LogSegment.HEADER_BYTES + 3L * LogSegment.RECORD_BYTES + 12);
+                file.write(new byte[] {1, 2, 3, 4});
+            }
+
+            // When
+            ReadingLog reopened = open(0);
+
+            // Then
+            assertEquals(13, reopened.getNextSequence());
+            assertEquals(13, scan(reopened, 0).size());
+            byte[] tail = new byte[3 * LogSegment.RECORD_BYTES];
+            try (RandomAccessFile file = new RandomAccessFile(last.toFile(), "r")) {
+                file.seek(LogSegment.HEADER_BYTES + 3L * LogSegment.RECORD_BYTES);
+                file.readFully(tail);
+            }
+            assertArrayEquals(new byte[tail.length], tail);
+
+            reopened.append(batch(13, 1));
+            assertEquals(expected(13), scan(reopened, 13).get(0));
+        }
+
+        @Test
+        @DisplayName("Should drop an incomplete device entry and an unfinished segment")
+        void shouldDropIncompleteFiles() throws IOException {
+            // Given
+            ReadingLog first = open(0);
+            first.append(batch(0, 3));
+            first.destroy();
+            Files.write(directory.resolve(DeviceDictionary.FILE_NAME), new byte[] {42, 0, 0, 0, 7},
+                    StandardOpenOption.APPEND);
+            Files.write(directory.resolve(LogSegment.fileName(3) + ".tmp"), new byte[100]);
+
+            // When
+            ReadingLog reopened = open(0);
+            reopened.append(batch(3, 1));
+
+            // Then
+            assertEquals(4, scan(reopened, 0).size());
+            assertEquals(0, reopened.getDeviceIndex("thermo-0"));
+            assertFalse(Files.exists(directory.resolve(LogSegment.fileName(3) + ".tmp")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Retention Tests")
+    class RetentionTests {
+
+        @Test
+        @DisplayName("Should delete the oldest segments beyond the maximum")
+        void shouldDeleteOldestSegments() throws IOException {
+            // Given
+            ReadingLog readingLog = open(2);
+
+            // When
+            readingLog.append(batch(0, 35));
+
+            // Then
+            assertEquals(2, readingLog.getSegmentCount());
+            assertEquals(2, segmentFiles().size());
+            assertEquals(20, readingLog.getFirstSequence());
+            List<String> records = scan(readingLog, 0);
+            assertEquals(15, records.size());
+            assertEquals(expected(20), records.get(0));
+        }
+
+        @Test
+        @DisplayName("Should delete segments closed longer than the maximum age on reopen")
+        void shouldDeleteExpiredSegments() throws Exception {
+            // Given
+            ReadingLog first = open(0);
+            first.append(batch(0, 25));
+            first.destroy();
+            Thread.sleep(10);
+
+            // When
+            ReadingLog reopened = new ReadingLog(true, directory.toString(), SEGMENT_SIZE,
+                    Duration.ZERO, true, 0, Duration.ofMillis(1));
+            opened.add(reopened);
+
+            // Then: solo se conserva el segmento activo
+            assertEquals(1, reopened.getSegmentCount());
+            assertEquals(20, reopened.getFirstSequence());
+            assertEquals(5, scan(reopened, 0).size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Segment Index Tests")
+    class IndexTests {
+
+        /**
+         * Visitante que anota lecturas y resúmenes; acepta los resúmenes si {@code summaries} es true.
+         */
+        private final class RecordingVisitor implements DeviceRangeVisitor {
+
+            private final boolean summaries;
+            private final List<Long> timestamps = new ArrayList<>();
+            private final List<DeviceSummary> summarized = new ArrayList<>();
+
+            private RecordingVisitor(boolean summaries) {
+                this.summaries = summaries;
+            }
+
+            @Override
+            public void visit(long sequence, int deviceIndex, long timestamp, double value, TemperatureUnit unit,
+                              int celsiusHundredths) {
+                timestamps.add(timestamp - T0);
+            }
+
+            @Override
+            public boolean visitSummary(DeviceSummary summary) {
+                if (summaries) {
+                    summarized.add(summary);
+                }
+                return summaries;
+            }
+        }
+
+        @Test
+        @DisplayName("Should skip segments outside the range and summarize those fully inside")
+        void shouldSkipAndSummarizeSegments() {
+            // Given: segmentos [0, 10) y [10, 20) cerrados y [20, 25) activo
+            ReadingLog readingLog = open(0);
+            readingLog.append(batch(0, 25));
+            int device = readingLog.getDeviceIndex("thermo-0");
+
+            // When
+            RecordingVisitor visitor = new RecordingVisitor(true);
+            ScanStatistics statistics = readingLog.scanDevice(device, T0 + 10, T0 + 22, visitor);
+
+            // Then
+            assertEquals(new ScanStatistics(1, 1, 1), statistics);
+            assertEquals(List.of(new DeviceSummary(T0 + 12, T0 + 18, 3, 1012 + 1015 + 1018, 1012, 1018, 1018)),
+                    visitor.summarized);
+            assertEquals(List.of(21L), visitor.timestamps);
+        }
+
+        @Test
+        @DisplayName("Should scan a segment when the visitor declines its summary")
+        void shouldScanWhenSummaryDeclined() {
+            ReadingLog readingLog = open(0);
+            readingLog.append(batch(0, 25));
+
+            RecordingVisitor visitor = new RecordingVisitor(false);
+            ScanStatistics statistics = readingLog.scanDevice(readingLog.getDeviceIndex("thermo-1"),
+                    T0, T0 + 16, visitor);
+
+            assertEquals(new ScanStatistics(3, 0, 0), statistics);
+            assertEquals(List.of(1L, 4L, 7L, 10L, 13L), visitor.timestamps);
+        }
+
+        @Test
+        @DisplayName("Should persist indexes of closed segments and rebuild a missing one on reopen")
+        void shouldPersistAndRebuildIndexes() throws IOException {
+            // Given
+            ReadingLog first = open(0);
+            first.append(batch(0, 25));
+            first.destroy();
+            Path firstIndex = indexFile(segmentFiles().get(0));
+            assertTrue(Files.exists(firstIndex));
+            assertTrue(Files.exists(indexFile(segmentFiles().get(1))));
+            assertFalse(Files.exists(indexFile(segmentFiles().get(2))));
+            Files.delete(firstIndex);
+
+            // When
+            ReadingLog reopened = open(0);
+            RecordingVisitor visitor = new RecordingVisitor(true);
+            ScanStatistics statistics = reopened.scanDevice(reopened.getDeviceIndex("thermo-2"),
+                    T0, T0 + 20, visitor);
+
+            // Then
+            assertTrue(Files.exists(firstIndex));
+            assertEquals(new ScanStatistics(1, 2, 0), statistics);
+            assertEquals(List.of(new DeviceSummary(T0 + 2, T0 + 8, 3, 1002 + 1005 + 1008, 1002, 1008, 1008),
+                    new DeviceSummary(T0 + 11, T0 + 17, 3, 1011 + 1014 + 1017, 1011, 1017, 1017)),
+                    visitor.summarized);
+            assertTrue(visitor.timestamps.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.temperature.api.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.temperature.api.model.TemperatureUnit;
+
+/**
+ * Pruebas unitarias para RollupEngine.
+ *
+ * El hilo de resumen se configura con un intervalo largo y las pruebas llaman a
+ * {@link RollupEngine#catchUp()} directamente; los niveles se comparan con un recálculo
+ * de las lecturas escritas.
+ */
+@DisplayName("RollupEngine Tests")
+class RollupEngineTest {
+
+    private static final long DAY = RollupTier.ONE_DAY.getDurationMillis();
+    private static final long T0 = 1_700_000_000_000L / DAY * DAY;
+    private static final long STEP_MILLIS = 97_000L;
+
+    @TempDir
+    Path directory;
+
+    private ReadingLog readingLog;
+    private RollupEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        close();
+    }
+
+    private void open(Duration minuteRetention) {
+        readingLog = new ReadingLog(true, directory.toString(), DataSize.ofKilobytes(64),
+                Duration.ZERO, true, 0, Duration.ZERO);
+        engine = new RollupEngine(readingLog, true, Duration.ofHours(1), Duration.ofHours(1),
+                minuteRetention, Duration.ZERO, Duration.ZERO);
+    }
+
+    private void close() {
+        if (engine != null) {
+            engine.destroy();
+            engine = null;
+        }
+        if (readingLog != null) {
+            readingLog.destroy();
+            readingLog = null;
+        }
+    }
+
+    /**
+     * Lecturas de dos dispositivos cada {@value #STEP_MILLIS} ms, con temperaturas que
+     * dependen solo del índice para poder recalcularlas.
+     */
+    private static ReadingBatch batch(int from, int count) {
+        ReadingBatch batch = new ReadingBatch(count);
+        for (int i = from; i < from + count; i++) {
+            double celsius = ((i * 37) % 5000 - 1000) / 100.0;
+            batch.add("thermo-" + (i % 2), T0 + i * STEP_MILLIS, celsius, TemperatureUnit.CELSIUS, celsius);
+        }
+        return batch;
+    }
+
+    /**
+     * Recalcula los intervalos de un nivel para thermo-0: inicio → {count, sum, min, max}.
+     */
+    private static Map<Long, List<Long>> expected(RollupTier tier, int readings) {
+        Map<Long, List<Long>> buckets = new TreeMap<>();
+        for (int i = 0; i < readings; i += 2) {
+            long hundredths = (i * 37) % 5000 - 1000;
+            buckets.merge(tier.bucketStart(T0 + i * STEP_MILLIS), List.of(1L, hundredths, hundredths, hundredths),
+                    (a, b) -> List.of(a.get(0) + 1, a.get(1) + b.get(1),
+                            Math.min(a.get(2), b.get(2)), Math.max(a.get(3), b.get(3))));
+        }
+        return buckets;
+    }
+
+    private Map<Long, List<Long>> rollups(RollupTier tier) {
+        Map<Long, List<Long>> buckets = new TreeMap<>();
+        engine.scan(readingLog.getDeviceIndex("thermo-0"), tier, Long.MIN_VALUE / 2, Long.MAX_VALUE,
+                (start, count, sum, min, max) -> buckets.put(start,
+                        List.of((long) count, sum, (long) min, (long) max)));
+        return buckets;
+    }
+
+    @Nested
+    @DisplayName("Rollup Tests")
+    class RollupTests {
+
+        @Test
+        @DisplayName("Should build minute, hour and day tiers from the logged readings")
+        void shouldBuildAllTiers() {
+            // Given: 4 días y medio de lecturas de dos dispositivos
+            open(Duration.ZERO);
+            int readings = 4_000;
+            readingLog.append(batch(0, readings));
+
+            // When
+            long applied = engine.catchUp();
+
+            // Then
+            assertEquals(readings, applied);
+            assertEquals(0, engine.getLag());
+            assertEquals(0.0, engine.getLagSeconds());
+            for (RollupTier tier : RollupTier.values()) {
+                assertEquals(expected(tier, readings), rollups(tier), tier.getLabel());
+            }
+            assertEquals(2 * 5, engine.getBucketCount(RollupTier.ONE_DAY));
+            assertTrue(engine.getFootprintBytes(RollupTier.ONE_MINUTE)
+                    > engine.getFootprintBytes(RollupTier.ONE_DAY));
+        }
+
+        @Test
+        @DisplayName("Should merge late readings into existing intervals")
+        void shouldMergeLateReadings() {
+            // Given
+            open(Duration.ZERO);
+            readingLog.append(batch(2_000, 2_000));
+            engine.catchUp();
+
+            // When: llegan después las lecturas anteriores
+            readingLog.append(batch(0, 2_000));
+            engine.catchUp();
+
+            // Then
+            for (RollupTier tier : RollupTier.values()) {
+                assertEquals(expected(tier, 4_000), rollups(tier), tier.getLabel());
+            }
+        }
+
+        @Test
+        @DisplayName("Should only visit intervals inside the requested range")
+        void shouldScanRange() {
+            open(Duration.ZERO);
+            readingLog.append(batch(0, 4_000));
+            engine.catchUp();
+
+            List<Long> starts = new ArrayList<>();
+            engine.scan(readingLog.getDeviceIndex("thermo-0"), RollupTier.ONE_HOUR, T0 + 90 * 60_000L,
+                    T0 + 3 * 3_600_000L, (start, count, sum, min, max) -> starts.add(start - T0));
+
+            assertEquals(List.of(3_600_000L, 7_200_000L), starts);
+        }
+
+        @Test
+        @DisplayName("Should do nothing when the reading log is disabled")
+        void shouldDoNothingWhenDisabled() {
+            readingLog = new ReadingLog(false, "", DataSize.ofMegabytes(1), Duration.ZERO, false, 0, Duration.ZERO);
+            engine = new RollupEngine(readingLog, true, Duration.ofSeconds(1), Duration.ofMinutes(1),
+                    Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+            assertFalse(engine.isEnabled());
+            assertEquals(0, engine.catchUp());
+            assertEquals(0, engine.getLag());
+        }
+    }
+
+    @Nested
+    @DisplayName("Checkpoint Tests")
+    class CheckpointTests {
+
+        @Test
+        @DisplayName("Should resume from the checkpoint without counting readings twice")
+        void shouldResumeFromCheckpoint() {
+            // Given
+            open(Duration.ZERO);
+            readingLog.append(batch(0, 3_000));
+            engine.catchUp();
+            close();
+            assertTrue(Files.exists(directory.resolve(RollupEngine.CHECKPOINT_FILE)));
+
+            // When
+            open(Duration.ZERO);
+            assertEquals(3_000, engine.getAppliedSequence());
+            readingLog.append(batch(3_000, 1_000));
+            engine.catchUp();
+
+            // Then
+            for (RollupTier tier : RollupTier.values()) {
+                assertEquals(expected(tier, 4_000), rollups(tier), tier.getLabel());
+            }
+        }
+
+        @Test
+        @DisplayName("Should rebuild from the log when the checkpoint is damaged")
+        void shouldRebuildDamagedCheckpoint() throws IOException {
+            // Given
+            open(Duration.ZERO);
+            readingLog.append(batch(0, 2_000));
+            close();
+            Path checkpoint = directory.resolve(RollupEngine.CHECKPOINT_FILE);
+            byte[] content = Files.readAllBytes(checkpoint);
+            content[content.length / 2] ^= 0x5A;
+            Files.write(checkpoint, content);
+
+            // When
+            open(Duration.ZERO);
+            engine.catchUp();
+
+            // Then
+            for (RollupTier tier : RollupTier.values()) {
+                assertEquals(expected(tier, 2_000), rollups(tier), tier.getLabel());
+            }
+        }
+
+        @Test
+        @DisplayName("Should drop intervals older than the tier retention when saving")
+        void shouldApplyRetention() throws IOException {
+            // Given: las lecturas son de 2023, muy anteriores a la retención de 1 día
+            open(Duration.ofDays(1));
+            readingLog.append(batch(0, 2_000));
+            engine.catchUp();
+
+            // When
+            engine.checkpoint();
+
+            // Then
+            assertEquals(0, engine.getBucketCount(RollupTier.ONE_MINUTE));
+            assertEquals(expected(RollupTier.ONE_DAY, 2_000), rollups(RollupTier.ONE_DAY));
+        }
+    }
+}
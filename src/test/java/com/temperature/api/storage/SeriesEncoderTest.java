@@ -0,0 +1,208 @@
+package com.temperature.api.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.temperature.api.model.ConversionDirection;
+import com.temperature.api.model.TemperatureUnit;
+import com.temperature.api.service.TemperatureConversionService;
+
+/**
+ * Pruebas unitarias para SeriesEncoder y SeriesDecoder.
+ *
+ * Las series se generan convirtiendo lecturas en Celsius con
+ * {@link TemperatureConversionService#convertArray}, como llegarían al codificador.
+ */
+@DisplayName("SeriesEncoder Tests")
+class SeriesEncoderTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+
+    private final TemperatureConversionService service = new TemperatureConversionService();
+
+    private long[] timestamps;
+    private double[] fahrenheit;
+
+    /**
+     * Una lectura cada 10 s con algunos milisegundos de deriva y una temperatura que
+     * cambia despacio.
+     */
+    private void generate(int points) {
+        Random random = new Random(7);
+        timestamps = new long[points];
+        double[] celsius = new double[points];
+        double temperature = 21.0;
+        for (int i = 0; i < points; i++) {
+            timestamps[i] = T0 + i * 10_000L + (random.nextInt(10) == 0 ? random.nextInt(40) : 0);
+            temperature += random.nextGaussian() * 0.05;
+            celsius[i] = Math.round(temperature * 100.0) / 100.0;
+        }
+        fahrenheit = new double[points];
+        service.convertArray(ConversionDirection.CELSIUS_TO_FAHRENHEIT, celsius, fahrenheit);
+    }
+
+    private byte[] encode(int blockPoints) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (SeriesEncoder encoder = new SeriesEncoder(bytes, TemperatureUnit.FAHRENHEIT, blockPoints)) {
+            encoder.append(timestamps, fahrenheit, timestamps.length);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<Object> point(long timestamp, double value) {
+        return List.of(timestamp, value);
+    }
+
+    @Nested
+    @DisplayName("Round Trip Tests")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Should decode exactly the converted temperatures and timestamps")
+        void shouldRoundTrip() throws IOException {
+            // Given
+            generate(5_000);
+            byte[] encoded = encode(SeriesEncoder.DEFAULT_BLOCK_POINTS);
+
+            // When
+            List<List<Object>> decoded = new ArrayList<>();
+            SeriesDecoder decoder = new SeriesDecoder(new ByteArrayInputStream(encoded));
+            long visited = decoder.scan((timestamp, value) -> decoded.add(point(timestamp, value)));
+
+            // Then
+            assertEquals(TemperatureUnit.FAHRENHEIT, decoder.getUnit());
+            assertEquals(5_000, visited);
+            for (int i = 0; i < timestamps.length; i++) {
+                assertEquals(point(timestamps[i], fahrenheit[i]), decoded.get(i));
+            }
+            assertTrue(encoded.length < 5_000 * 3, "bytes: " + encoded.length);
+        }
+
+        @Test
+        @DisplayName("Should keep large jumps, repeated timestamps and extreme values")
+        void shouldHandleEscapes() throws IOException {
+            // Given
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (SeriesEncoder encoder = new SeriesEncoder(bytes, TemperatureUnit.KELVIN)) {
+                encoder.append(0L, 0.0);
+                encoder.append(0L, 21474836.47);
+                encoder.append(86_400_000L * 365, -21474836.48);
+                encoder.append(86_400_000L * 365 + 1, 0.01);
+            }
+
+            // When
+            List<List<Object>> decoded = new ArrayList<>();
+            new SeriesDecoder(new ByteArrayInputStream(bytes.toByteArray()))
+                    .scan((timestamp, value) -> decoded.add(point(timestamp, value)));
+
+            // Then
+            assertEquals(List.of(point(0L, 0.0), point(0L, 21474836.47),
+                    point(86_400_000L * 365, -21474836.48), point(86_400_000L * 365 + 1, 0.01)), decoded);
+        }
+
+        @Test
+        @DisplayName("Should skip the NaN positions left by convertArray")
+        void shouldSkipInvalidConversions() throws IOException {
+            // Given: -500 °C no es una temperatura válida
+            double[] celsius = {20.0, -500.0, 21.5};
+            double[] converted = new double[3];
+            service.convertArray(ConversionDirection.CELSIUS_TO_FAHRENHEIT, celsius, converted);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            // When
+            int appended;
+            try (SeriesEncoder encoder = new SeriesEncoder(bytes, TemperatureUnit.FAHRENHEIT)) {
+                appended = encoder.append(new long[] {1L, 2L, 3L}, converted, 3);
+            }
+
+            // Then
+            List<List<Object>> decoded = new ArrayList<>();
+            new SeriesDecoder(new ByteArrayInputStream(bytes.toByteArray()))
+                    .scan((timestamp, value) -> decoded.add(point(timestamp, value)));
+            assertEquals(2, appended);
+            assertEquals(List.of(point(1L, 68.0), point(3L, 70.7)), decoded);
+        }
+    }
+
+    @Nested
+    @DisplayName("Range Scan Tests")
+    class RangeScanTests {
+
+        @Test
+        @DisplayName("Should skip the blocks before the range and stop after it")
+        void shouldScanRange() throws IOException {
+            // Given: 10 bloques de 100 puntos
+            generate(1_000);
+            byte[] encoded = encode(100);
+            long from = timestamps[250];
+            long to = timestamps[420];
+
+            // When
+            List<Long> visited = new ArrayList<>();
+            SeriesDecoder decoder = new SeriesDecoder(new ByteArrayInputStream(encoded));
+            decoder.scan(from, to, (timestamp, value) -> visited.add(timestamp));
+
+            // Then
+            assertEquals(170, visited.size());
+            assertEquals(from, visited.get(0));
+            assertEquals(timestamps[419], visited.get(visited.size() - 1));
+            assertEquals(2, decoder.getBlocksSkipped());
+            assertEquals(3, decoder.getBlocksDecoded());
+        }
+
+        @Test
+        @DisplayName("Should reject a damaged block")
+        void shouldRejectDamagedBlock() throws IOException {
+            generate(500);
+            byte[] encoded = encode(100);
+            encoded[encoded.length - 10] ^= 0x5A;
+
+            SeriesDecoder decoder = new SeriesDecoder(new ByteArrayInputStream(encoded));
+
+            assertThrows(IOException.class, () -> decoder.scan((timestamp, value) -> { }));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject values with more than 2 decimals or not finite")
+        void shouldRejectInvalidValues() throws IOException {
+            SeriesEncoder encoder = new SeriesEncoder(new ByteArrayOutputStream(), TemperatureUnit.CELSIUS);
+
+            assertThrows(IllegalArgumentException.class, () -> encoder.append(T0, 21.005));
+            assertThrows(IllegalArgumentException.class, () -> encoder.append(T0, Double.NaN));
+            assertThrows(IllegalArgumentException.class, () -> encoder.append(T0, 1e12));
+        }
+
+        @Test
+        @DisplayName("Should reject timestamps going backwards")
+        void shouldRejectOutOfOrderTimestamps() throws IOException {
+            SeriesEncoder encoder = new SeriesEncoder(new ByteArrayOutputStream(), TemperatureUnit.CELSIUS);
+            encoder.append(T0, 20.0);
+
+            assertThrows(IllegalArgumentException.class, () -> encoder.append(T0 - 1, 20.0));
+        }
+
+        @Test
+        @DisplayName("Should reject a stream that is not a compressed series")
+        void shouldRejectUnknownStream() {
+            assertThrows(IOException.class,
+                    () -> new SeriesDecoder(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8})));
+        }
+    }
+}